@@ -0,0 +1,62 @@
+package seedu.expensetracker.commons.metrics.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+import seedu.expensetracker.commons.metrics.CommandFlightEvent;
+import seedu.expensetracker.commons.metrics.FlightRecorderEvents;
+
+/**
+ * The {@link CommandFlightEvent}, recorded by the Java Flight Recorder of JDK 11.
+ */
+@Name("seedu.expensetracker.Command")
+@Label("Command")
+@Category({FlightRecorderEvents.CATEGORY, "Logic"})
+@Description("A command entered by the user, which is parsed and then executed")
+@StackTrace(false)
+public class JfrCommandEvent extends Event implements CommandFlightEvent {
+    @Label("Command Word")
+    private String commandWord;
+
+    @Label("Parse Duration")
+    @Timespan(Timespan.NANOSECONDS)
+    private long parseDuration;
+
+    @Label("Result")
+    @Description("Either success, or the name of the exception thrown by the command")
+    private String result;
+
+    private final transient long startNanos;
+
+    /**
+     * Starts the event of the command entered as {@code commandText}.
+     */
+    public JfrCommandEvent(String commandText) {
+        String[] words = commandText.trim().split("\\s+", 2);
+        this.commandWord = words[0];
+        this.startNanos = System.nanoTime();
+        begin();
+    }
+
+    /**
+     * Marks the command as parsed, so that the time taken to execute it is not counted as parsing.
+     */
+    @Override
+    public void endParse() {
+        parseDuration = System.nanoTime() - startNanos;
+    }
+
+    /**
+     * Ends the event with the given {@code result} and commits it to the running recordings.
+     */
+    @Override
+    public void end(String result) {
+        this.result = result;
+        end();
+        commit();
+    }
+}
@@ -0,0 +1,32 @@
+package seedu.expensetracker.commons.metrics.jfr;
+
+import seedu.expensetracker.commons.metrics.CommandFlightEvent;
+import seedu.expensetracker.commons.metrics.FlightEventFactory;
+import seedu.expensetracker.commons.metrics.StorageFlightEvent;
+import seedu.expensetracker.commons.metrics.TrackerCryptoFlightEvent;
+import seedu.expensetracker.commons.metrics.UndoCommitFlightEvent;
+
+/**
+ * Starts the events of the app as Java Flight Recorder events. Loaded by name, as it needs JDK 11.
+ */
+public class JfrFlightEventFactory implements FlightEventFactory {
+    @Override
+    public CommandFlightEvent newCommandEvent(String commandText) {
+        return new JfrCommandEvent(commandText);
+    }
+
+    @Override
+    public UndoCommitFlightEvent newUndoCommitEvent() {
+        return new JfrUndoCommitEvent();
+    }
+
+    @Override
+    public TrackerCryptoFlightEvent newTrackerCryptoEvent(String operation) {
+        return new JfrTrackerCryptoEvent(operation);
+    }
+
+    @Override
+    public StorageFlightEvent newStorageEvent(String operation, String path) {
+        return new JfrStorageEvent(operation, path);
+    }
+}
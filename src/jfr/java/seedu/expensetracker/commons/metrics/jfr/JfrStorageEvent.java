@@ -0,0 +1,48 @@
+package seedu.expensetracker.commons.metrics.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import seedu.expensetracker.commons.metrics.FlightRecorderEvents;
+import seedu.expensetracker.commons.metrics.StorageFlightEvent;
+
+/**
+ * The {@link StorageFlightEvent}, recorded by the Java Flight Recorder of JDK 11.
+ */
+@Name("seedu.expensetracker.Storage")
+@Label("Expense Storage")
+@Category({FlightRecorderEvents.CATEGORY, "Storage"})
+@StackTrace(false)
+public class JfrStorageEvent extends Event implements StorageFlightEvent {
+    @Label("Operation")
+    private String operation;
+
+    @Label("Path")
+    private String path;
+
+    @Label("Size")
+    @DataAmount
+    private long bytes;
+
+    /**
+     * Starts the event of the given {@code operation} on the data at {@code path}.
+     */
+    public JfrStorageEvent(String operation, String path) {
+        this.operation = operation;
+        this.path = path;
+        begin();
+    }
+
+    /**
+     * Ends the event after {@code bytes} bytes were saved or loaded and commits it to the running recordings.
+     */
+    @Override
+    public void end(long bytes) {
+        this.bytes = bytes;
+        end();
+        commit();
+    }
+}
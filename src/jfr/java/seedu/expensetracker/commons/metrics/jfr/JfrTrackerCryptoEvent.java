@@ -0,0 +1,42 @@
+package seedu.expensetracker.commons.metrics.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import seedu.expensetracker.commons.metrics.FlightRecorderEvents;
+import seedu.expensetracker.commons.metrics.TrackerCryptoFlightEvent;
+
+/**
+ * The {@link TrackerCryptoFlightEvent}, recorded by the Java Flight Recorder of JDK 11.
+ */
+@Name("seedu.expensetracker.TrackerCrypto")
+@Label("Tracker Encryption")
+@Category({FlightRecorderEvents.CATEGORY, "Encryption"})
+@StackTrace(false)
+public class JfrTrackerCryptoEvent extends Event implements TrackerCryptoFlightEvent {
+    @Label("Operation")
+    private String operation;
+
+    @Label("Expense Count")
+    private int expenseCount;
+
+    /**
+     * Starts the event of the given {@code operation}.
+     */
+    public JfrTrackerCryptoEvent(String operation) {
+        this.operation = operation;
+        begin();
+    }
+
+    /**
+     * Ends the event after {@code expenseCount} expenses were handled and commits it to the running recordings.
+     */
+    @Override
+    public void end(int expenseCount) {
+        this.expenseCount = expenseCount;
+        end();
+        commit();
+    }
+}
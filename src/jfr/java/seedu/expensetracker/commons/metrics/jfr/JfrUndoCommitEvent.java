@@ -0,0 +1,40 @@
+package seedu.expensetracker.commons.metrics.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import seedu.expensetracker.commons.metrics.FlightRecorderEvents;
+import seedu.expensetracker.commons.metrics.UndoCommitFlightEvent;
+
+/**
+ * The {@link UndoCommitFlightEvent}, recorded by the Java Flight Recorder of JDK 11.
+ */
+@Name("seedu.expensetracker.UndoCommit")
+@Label("Undo Commit")
+@Category({FlightRecorderEvents.CATEGORY, "Model"})
+@StackTrace(false)
+public class JfrUndoCommitEvent extends Event implements UndoCommitFlightEvent {
+    @Label("Expense Count")
+    private int expenseCount;
+
+    @Label("State Count")
+    private int stateCount;
+
+    public JfrUndoCommitEvent() {
+        begin();
+    }
+
+    /**
+     * Ends the event after a state with {@code expenseCount} expenses was saved, leaving {@code stateCount} states,
+     * and commits it to the running recordings.
+     */
+    @Override
+    public void end(int expenseCount, int stateCount) {
+        this.expenseCount = expenseCount;
+        this.stateCount = stateCount;
+        end();
+        commit();
+    }
+}
@@ -0,0 +1,90 @@
+package seedu.expensetracker.commons.metrics;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import seedu.expensetracker.logic.LogicManager;
+import seedu.expensetracker.logic.commands.ListCommand;
+import seedu.expensetracker.model.VersionedExpenseTracker;
+import seedu.expensetracker.testutil.ModelUtil;
+import seedu.expensetracker.testutil.TypicalExpenses;
+
+public class FlightRecorderEventsTest {
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @After
+    public void tearDown() {
+        FlightRecorderEvents.setEnabled(false);
+    }
+
+    @Test
+    public void setEnabled_jdk11_enabled() {
+        assertTrue(FlightRecorderEvents.isAvailable());
+        FlightRecorderEvents.setEnabled(true);
+        assertTrue(FlightRecorderEvents.isEnabled());
+    }
+
+    @Test
+    public void enabled_commandExecuted_commandEventRecorded() throws Exception {
+        FlightRecorderEvents.setEnabled(true);
+        List<RecordedEvent> events = record("seedu.expensetracker.Command", () ->
+                new LogicManager(ModelUtil.modelWithTestUser()).execute(ListCommand.COMMAND_WORD + " extra words"));
+        assertEquals(1, events.size());
+        assertEquals(ListCommand.COMMAND_WORD, events.get(0).getString("commandWord"));
+        assertEquals(CommandFlightEvent.RESULT_SUCCESS, events.get(0).getString("result"));
+        assertTrue(events.get(0).getLong("parseDuration") > 0);
+    }
+
+    @Test
+    public void enabled_undoStateCommitted_undoCommitEventRecorded() throws Exception {
+        FlightRecorderEvents.setEnabled(true);
+        VersionedExpenseTracker tracker = new VersionedExpenseTracker(TypicalExpenses.getTypicalExpenseTracker());
+        List<RecordedEvent> events = record("seedu.expensetracker.UndoCommit", tracker::commit);
+        assertEquals(1, events.size());
+        assertEquals(tracker.getExpenseList().size(), events.get(0).getInt("expenseCount"));
+        assertEquals(2, events.get(0).getInt("stateCount"));
+    }
+
+    @Test
+    public void disabled_undoStateCommitted_nothingRecorded() throws Exception {
+        VersionedExpenseTracker tracker = new VersionedExpenseTracker(TypicalExpenses.getTypicalExpenseTracker());
+        assertTrue(record("seedu.expensetracker.UndoCommit", tracker::commit).isEmpty());
+    }
+
+    /**
+     * Runs {@code action} while recording the events called {@code eventName}, and returns the recorded events.
+     */
+    private List<RecordedEvent> record(String eventName, ThrowingRunnable action) throws Exception {
+        Path file = testFolder.getRoot().toPath().resolve("recording.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(eventName);
+            recording.start();
+            action.run();
+            recording.stop();
+            recording.dump(file);
+        }
+        return RecordingFile.readAllEvents(file).stream()
+                .filter(event -> event.getEventType().getName().equals(eventName))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * An action which may throw any exception.
+     */
+    private interface ThrowingRunnable {
+        void run() throws Exception;
+    }
+}
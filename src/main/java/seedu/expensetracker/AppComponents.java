@@ -0,0 +1,338 @@
+package seedu.expensetracker;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
+
+import seedu.expensetracker.commons.core.Config;
+import seedu.expensetracker.commons.core.EventsCenter;
+import seedu.expensetracker.commons.core.LogsCenter;
+import seedu.expensetracker.commons.events.storage.DataLoadedEvent;
+import seedu.expensetracker.commons.exceptions.DataConversionException;
+import seedu.expensetracker.commons.exceptions.IllegalValueException;
+import seedu.expensetracker.commons.metrics.FlightRecorderEvents;
+import seedu.expensetracker.commons.metrics.MetricsRegistry;
+import seedu.expensetracker.commons.metrics.StartupTimeline;
+import seedu.expensetracker.commons.util.ConfigUtil;
+import seedu.expensetracker.commons.util.StringUtil;
+import seedu.expensetracker.logic.CommandHistory;
+import seedu.expensetracker.logic.Logic;
+import seedu.expensetracker.logic.LogicManager;
+import seedu.expensetracker.model.Model;
+import seedu.expensetracker.model.ModelManager;
+import seedu.expensetracker.model.SessionManager;
+import seedu.expensetracker.model.UserPrefs;
+import seedu.expensetracker.model.encryption.EncryptedExpenseTracker;
+import seedu.expensetracker.model.encryption.EncryptionUtil;
+import seedu.expensetracker.model.notification.Tip;
+import seedu.expensetracker.model.notification.Tips;
+import seedu.expensetracker.model.user.Username;
+import seedu.expensetracker.model.util.SampleDataUtil;
+import seedu.expensetracker.storage.BinaryExpensesStorage;
+import seedu.expensetracker.storage.CommandHistoryStorage;
+import seedu.expensetracker.storage.ExpensesStorage;
+import seedu.expensetracker.storage.JsonTipsStorage;
+import seedu.expensetracker.storage.JsonUserPrefsStorage;
+import seedu.expensetracker.storage.PartitionedXmlExpensesStorage;
+import seedu.expensetracker.storage.Storage;
+import seedu.expensetracker.storage.StorageManager;
+import seedu.expensetracker.storage.TextCommandHistoryStorage;
+import seedu.expensetracker.storage.TipsStorage;
+import seedu.expensetracker.storage.UserPrefsStorage;
+import seedu.expensetracker.storage.XmlToBinaryConverter;
+
+/**
+ * The components of the application other than the ui: the config, preferences, storage, model and logic.
+ * They do not depend on JavaFX being started, so that they can also be run without a window.
+ */
+public class AppComponents {
+    private static final Logger logger = LogsCenter.getLogger(AppComponents.class);
+    private static final int STARTUP_THREADS = 3;
+    private static final AtomicInteger STARTUP_THREAD_COUNT = new AtomicInteger();
+
+    protected Logic logic;
+    protected Storage storage;
+    protected Model model;
+    /** The sessions of the users logged in at the same time as the user of the model, sharing its users. */
+    protected SessionManager sessions;
+    protected Config config;
+    protected UserPrefs userPrefs;
+    protected final StartupTimeline startupTimeline = new StartupTimeline();
+    /** Completes once the users have been loaded into the model. */
+    protected CompletableFuture<Void> dataLoaded;
+
+    /**
+     * Initialises the components from {@code appParameters}. {@code filterExecutor} finds the rest of the matches of
+     * new filters in the background, or is null to filter the expense list completely at once.
+     */
+    public void init(AppParameters appParameters, Executor filterExecutor) {
+        config = startupTimeline.time("config", () -> initConfig(appParameters.getConfigPath()));
+        FlightRecorderEvents.setEnabled(config.isFlightRecorderEventsEnabled());
+
+        UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
+        userPrefs = startupTimeline.time("prefs", () -> initPrefs(userPrefsStorage));
+        ExpensesStorage expensesStorage =
+                startupTimeline.time("expenses storage", () -> initExpensesStorage(userPrefs));
+
+        TipsStorage tipsStorage = new JsonTipsStorage();
+        CommandHistoryStorage commandHistoryStorage =
+                new TextCommandHistoryStorage(config.getCommandHistoryFilePath());
+        storage = new StorageManager(expensesStorage, userPrefsStorage, tipsStorage, commandHistoryStorage);
+
+        initLogging(config);
+
+        // the stages below do not depend on each other, so they run concurrently
+        ExecutorService startupExecutor =
+                Executors.newFixedThreadPool(STARTUP_THREADS, AppComponents::newStartupThread);
+        CompletableFuture<Tips> tips = startupTimeline.timeAsync("tips", this::initTips, startupExecutor);
+        CompletableFuture<CommandHistory> history =
+                startupTimeline.timeAsync("command history", this::initCommandHistory, startupExecutor);
+        CompletableFuture<Map<Username, EncryptedExpenseTracker>> expenseTrackers =
+                startupTimeline.timeAsync("expenses", this::readExpenseTrackers, startupExecutor);
+        CompletableFuture<EncryptedExpenseTracker> sampleUser = startupTimeline.timeAsync("sample user",
+                AppComponents::encryptSampleUser, startupExecutor);
+
+        // the ui only needs the tips and the command history, so it is shown while the users are still loading
+        ModelManager modelManager = initModelManager(userPrefs, tips.join(), filterExecutor);
+        model = modelManager;
+        sessions = new SessionManager(modelManager);
+        dataLoaded = expenseTrackers.thenCombine(sampleUser, AppComponents::addSampleUser).thenAccept(trackers -> {
+            modelManager.addExpenseTrackers(trackers);
+            EventsCenter.getInstance().post(new DataLoadedEvent(trackers.size()));
+        });
+        dataLoaded.whenComplete((unused, error) -> {
+            startupExecutor.shutdown();
+            if (error != null) {
+                logger.severe("Failed to load the expense data: " + StringUtil.getDetails(error));
+            }
+        });
+
+        logic = new LogicManager(model, history.join(), dataLoaded);
+    }
+
+    /**
+     * Returns a daemon thread for the startup stages run concurrently.
+     */
+    private static Thread newStartupThread(Runnable runnable) {
+        Thread thread = new Thread(runnable, "startup-" + STARTUP_THREAD_COUNT.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    /**
+     * Returns the {@code ExpensesStorage} for the format chosen in {@code userPrefs}. When binary snapshots are
+     * used, any user data still saved as xml is converted first.
+     */
+    protected ExpensesStorage initExpensesStorage(UserPrefs userPrefs) {
+        Path dirPath = userPrefs.getExpenseTrackerDirPath();
+        if (!userPrefs.isBinaryStorageEnabled()) {
+            return new PartitionedXmlExpensesStorage(dirPath, userPrefs.getHotPartitionMonths());
+        }
+
+        try {
+            new XmlToBinaryConverter(dirPath).convertAll();
+        } catch (DataConversionException e) {
+            logger.warning("Xml data files are not in the correct format and could not be converted.");
+        } catch (IOException e) {
+            logger.warning("Problem while converting xml data files : " + StringUtil.getDetails(e));
+        }
+        return new BinaryExpensesStorage(dirPath);
+    }
+
+    /**
+     * Returns the expense trackers of every user in {@code userPrefs}'s expense tracker directory,
+     * or no expense trackers if errors occur when reading {@code storage}'s expense trackers.
+     */
+    protected Map<Username, EncryptedExpenseTracker> readExpenseTrackers() {
+        try {
+            return storage.readAllExpenses(userPrefs.getExpenseTrackerDirPath());
+        } catch (DataConversionException e) {
+            logger.warning("Data files are not in the correct format. Will be starting with no accounts.");
+        } catch (IOException e) {
+            logger.warning("Problem while reading from the files. Will be starting with no accounts");
+        }
+        return new TreeMap<>();
+    }
+
+    /**
+     * Returns the sample ExpenseTracker, encrypted.
+     */
+    private static EncryptedExpenseTracker encryptSampleUser() {
+        try {
+            return EncryptionUtil.encryptTracker(SampleDataUtil.getSampleExpenseTracker());
+        } catch (IllegalValueException e) {
+            throw new IllegalStateException("Sample user has invalid key. ");
+        }
+    }
+
+    /**
+     * Adds the user "sample" with {@code sampleUser} to {@code expenseTrackers} if the username does not exist,
+     * and returns {@code expenseTrackers}.
+     */
+    private static Map<Username, EncryptedExpenseTracker> addSampleUser(
+            Map<Username, EncryptedExpenseTracker> expenseTrackers, EncryptedExpenseTracker sampleUser) {
+        expenseTrackers.putIfAbsent(sampleUser.getUsername(), sampleUser);
+        return expenseTrackers;
+    }
+
+    /**
+     * Returns a {@code ModelManager} with {@code userPrefs} and {@code tips} and no users yet, which filters with
+     * {@code filterExecutor}. The users are added once they are loaded from storage.
+     */
+    protected ModelManager initModelManager(UserPrefs userPrefs, Tips tips, Executor filterExecutor) {
+        ModelManager modelManager = new ModelManager(new ConcurrentSkipListMap<>(), userPrefs, tips);
+        modelManager.setFilterExecutor(filterExecutor);
+        return modelManager;
+    }
+
+    /**
+     * Returns a {@code CommandHistory} with the commands saved in {@code storage}'s command history file,
+     * or an empty {@code CommandHistory} if errors occur when reading from the file.
+     */
+    protected CommandHistory initCommandHistory() {
+        CommandHistory history = new CommandHistory();
+        try {
+            storage.readCommandHistory(history.getCapacity()).forEach(history::add);
+        } catch (IOException e) {
+            logger.warning("Problem while reading the command history. Will be starting with an empty history: "
+                    + StringUtil.getDetails(e));
+        }
+        return history;
+    }
+
+    protected void initLogging(Config config) {
+        LogsCenter.init(config);
+    }
+
+    /**
+     * Returns a {@code Config} using the file at {@code configFilePath}. <br>
+     * The default file path {@code Config#DEFAULT_CONFIG_FILE} will be used instead
+     * if {@code configFilePath} is null.
+     */
+    protected Config initConfig(Path configFilePath) {
+        Config initializedConfig;
+        Path configFilePathUsed;
+
+        configFilePathUsed = Config.DEFAULT_CONFIG_FILE;
+
+        if (configFilePath != null) {
+            logger.info("Custom Config file specified " + configFilePath);
+            configFilePathUsed = configFilePath;
+        }
+
+        logger.info("Using config file : " + configFilePathUsed);
+
+        try {
+            Optional<Config> configOptional = ConfigUtil.readConfig(configFilePathUsed);
+            initializedConfig = configOptional.orElse(new Config());
+        } catch (DataConversionException e) {
+            logger.warning("Config file at " + configFilePathUsed + " is not in the correct format. "
+                    + "Using default config properties");
+            initializedConfig = new Config();
+        }
+
+        //Update config file in case it was missing to begin with or there are new/unused fields
+        try {
+            ConfigUtil.saveConfig(initializedConfig, configFilePathUsed);
+        } catch (IOException e) {
+            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+        }
+        return initializedConfig;
+    }
+
+    /**
+     * Returns a {@code UserPrefs} using the file at {@code storage}'s user prefs file path,
+     * or a new {@code UserPrefs} with default configuration if errors occur when
+     * reading from the file.
+     */
+    protected UserPrefs initPrefs(UserPrefsStorage storage) {
+        Path prefsFilePath = storage.getUserPrefsFilePath();
+        logger.info("Using prefs file : " + prefsFilePath);
+
+        UserPrefs initializedPrefs;
+        try {
+            Optional<UserPrefs> prefsOptional = storage.readUserPrefs();
+            initializedPrefs = prefsOptional.orElse(new UserPrefs());
+        } catch (DataConversionException e) {
+            logger.warning("UserPrefs file at " + prefsFilePath + " is not in the correct format. "
+                    + "Using default user prefs");
+            initializedPrefs = new UserPrefs();
+        } catch (IOException e) {
+            logger.warning("Problem while reading from the file. Will be starting with an empty ExpenseTracker");
+            initializedPrefs = new UserPrefs();
+        }
+
+        //Update prefs file in case it was missing to begin with or there are new/unused fields
+        try {
+            storage.saveUserPrefs(initializedPrefs);
+        } catch (IOException e) {
+            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+        }
+
+        return initializedPrefs;
+    }
+
+
+    /**
+     * Returns a {@code Tips} using the file at {@code userPref}'s tips file path,
+     * or a new {@code tips} with default configuration if errors occur when
+     * reading from the file.
+     */
+    protected Tips initTips() {
+        Tips tips;
+        List<Tip> tipsList;
+        try {
+            Optional<List<Tip>> tipsOptional = storage.readTips();
+            tipsList = tipsOptional.orElse(new ArrayList<Tip>());
+            tips = new Tips(tipsList);
+
+        } catch (IOException e) {
+            logger.warning(e.getMessage());
+            tips = new Tips();
+        }
+        return tips;
+    }
+
+    /**
+     * Saves the preferences and metrics, and waits for the data and log records still being saved.
+     */
+    public void stop() {
+        if (model.hasSelectedUser()) {
+            try {
+                storage.saveUserPrefs(userPrefs);
+            } catch (IOException e) {
+                logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
+            }
+        }
+        // data is saved on the I/O thread, which has to finish before the application exits
+        EventsCenter.getInstance().shutdown();
+        saveMetrics();
+        LogsCenter.close();
+    }
+
+    /**
+     * Writes the metrics collected while the app ran to the metrics file of the config, if it has one.
+     */
+    private void saveMetrics() {
+        Path metricsFilePath = config.getMetricsFilePath();
+        if (metricsFilePath == null) {
+            return;
+        }
+        try {
+            MetricsRegistry.getInstance().saveSnapshot(metricsFilePath);
+        } catch (IOException e) {
+            logger.warning("Failed to save metrics " + StringUtil.getDetails(e));
+        }
+    }
+}
@@ -2,6 +2,7 @@ package seedu.expensetracker;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.logging.Logger;
@@ -14,9 +15,17 @@ import seedu.expensetracker.commons.util.FileUtil;
  * Represents the parsed command-line parameters given to the application.
  */
 public class AppParameters {
+    public static final String BATCH_FLAG = "--batch";
+    public static final String SERVER_FLAG = "--server";
+    public static final String HOST_FLAG = "--host";
+    private static final String CONFIG_FLAG = "--config=";
+    private static final int MAX_PORT = 65535;
     private static final Logger logger = LogsCenter.getLogger(AppParameters.class);
 
     private Path configPath;
+    private Path batchScriptPath;
+    private Integer serverPort;
+    private String serverHost;
 
     public Path getConfigPath() {
         return configPath;
@@ -26,6 +35,33 @@ public class AppParameters {
         this.configPath = configPath;
     }
 
+    public Path getBatchScriptPath() {
+        return batchScriptPath;
+    }
+
+    public void setBatchScriptPath(Path batchScriptPath) {
+        this.batchScriptPath = batchScriptPath;
+    }
+
+    public Integer getServerPort() {
+        return serverPort;
+    }
+
+    public void setServerPort(Integer serverPort) {
+        this.serverPort = serverPort;
+    }
+
+    /**
+     * Returns the host name or address the server listens on, or null to only listen on the loopback address.
+     */
+    public String getServerHost() {
+        return serverHost;
+    }
+
+    public void setServerHost(String serverHost) {
+        this.serverHost = serverHost;
+    }
+
     /**
      * Parses the application command-line parameters.
      */
@@ -33,16 +69,80 @@ public class AppParameters {
         AppParameters appParameters = new AppParameters();
         Map<String, String> namedParameters = parameters.getNamed();
 
-        String configPathParameter = namedParameters.get("config");
-        if (configPathParameter != null && !FileUtil.isValidPath(configPathParameter)) {
-            logger.warning("Invalid config path " + configPathParameter + ". Using default config path.");
-            configPathParameter = null;
-        }
-        appParameters.setConfigPath(configPathParameter != null ? Paths.get(configPathParameter) : null);
+        appParameters.setConfigPath(toConfigPath(namedParameters.get("config")));
 
         return appParameters;
     }
 
+    /**
+     * Parses the command-line arguments given to an entry point which does not start JavaFX, such as
+     * {@code --config=<path> --batch <file>} or {@code --config=<path> --server <port> [--host <address>]}. Unknown
+     * arguments are ignored.
+     */
+    public static AppParameters parse(List<String> args) {
+        AppParameters appParameters = new AppParameters();
+        for (int i = 0; i < args.size(); i++) {
+            String arg = args.get(i);
+            if (arg.startsWith(CONFIG_FLAG)) {
+                appParameters.setConfigPath(toConfigPath(arg.substring(CONFIG_FLAG.length())));
+            } else if (arg.equals(BATCH_FLAG) && i + 1 < args.size()) {
+                i++;
+                appParameters.setBatchScriptPath(toValidPath(args.get(i), "batch script"));
+            } else if (arg.equals(SERVER_FLAG) && i + 1 < args.size()) {
+                i++;
+                appParameters.setServerPort(toPort(args.get(i)));
+            } else if (arg.equals(HOST_FLAG) && i + 1 < args.size()) {
+                i++;
+                appParameters.setServerHost(args.get(i).trim().isEmpty() ? null : args.get(i).trim());
+            } else {
+                logger.warning("Ignoring unknown argument " + arg);
+            }
+        }
+        return appParameters;
+    }
+
+    /**
+     * Returns the config path {@code configPathParameter}, or null for the default config path if there is none or it
+     * is invalid.
+     */
+    private static Path toConfigPath(String configPathParameter) {
+        if (configPathParameter == null) {
+            return null;
+        }
+        Path configPath = toValidPath(configPathParameter, "config");
+        if (configPath == null) {
+            logger.warning("Using default config path.");
+        }
+        return configPath;
+    }
+
+    /**
+     * Returns {@code port} as a port number, or null if it is not a valid port number.
+     */
+    private static Integer toPort(String port) {
+        try {
+            int portNumber = Integer.parseInt(port);
+            if (portNumber >= 0 && portNumber <= MAX_PORT) {
+                return portNumber;
+            }
+        } catch (NumberFormatException e) {
+            // reported below
+        }
+        logger.warning("Invalid server port " + port + ".");
+        return null;
+    }
+
+    /**
+     * Returns {@code path} as a {@code Path}, or null if it is not a valid path for the {@code kind} of file.
+     */
+    private static Path toValidPath(String path, String kind) {
+        if (!FileUtil.isValidPath(path)) {
+            logger.warning("Invalid " + kind + " path " + path + ".");
+            return null;
+        }
+        return Paths.get(path);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -54,11 +154,14 @@ public class AppParameters {
         }
 
         AppParameters otherAppParameters = (AppParameters) other;
-        return Objects.equals(getConfigPath(), otherAppParameters.getConfigPath());
+        return Objects.equals(getConfigPath(), otherAppParameters.getConfigPath())
+                && Objects.equals(getBatchScriptPath(), otherAppParameters.getBatchScriptPath())
+                && Objects.equals(getServerPort(), otherAppParameters.getServerPort())
+                && Objects.equals(getServerHost(), otherAppParameters.getServerHost());
     }
 
     @Override
     public int hashCode() {
-        return configPath.hashCode();
+        return Objects.hash(configPath, batchScriptPath, serverPort, serverHost);
     }
 }
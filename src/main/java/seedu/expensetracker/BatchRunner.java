@@ -0,0 +1,140 @@
+package seedu.expensetracker;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import com.google.common.eventbus.Subscribe;
+
+import seedu.expensetracker.commons.core.EventsCenter;
+import seedu.expensetracker.commons.events.ui.ExitAppRequestEvent;
+import seedu.expensetracker.commons.metrics.Histogram;
+import seedu.expensetracker.logic.CommandHistory;
+import seedu.expensetracker.logic.Logic;
+import seedu.expensetracker.logic.commands.exceptions.CommandException;
+import seedu.expensetracker.logic.parser.exceptions.ParseException;
+import seedu.expensetracker.model.exceptions.InvalidDataException;
+import seedu.expensetracker.model.exceptions.NoUserSelectedException;
+import seedu.expensetracker.model.exceptions.NonExistentUserException;
+import seedu.expensetracker.model.exceptions.UserAlreadyExistsException;
+
+/**
+ * Runs a script of commands through the logic without starting JavaFX, and reports how fast they ran.
+ * Blank lines and lines starting with {@code #} are skipped, and the script ends early at an exit command.
+ * Run with {@code java seedu.expensetracker.BatchRunner [--config=<path>] --batch <file>}, or with
+ * {@code gradlew runBatch -Pscript=<file>}.
+ */
+public class BatchRunner {
+    private static final String COMMENT_MARKER = "#";
+    private static final String USAGE = "Usage: BatchRunner [--config=<path>] " + AppParameters.BATCH_FLAG + " <file>";
+
+    private final Logic logic;
+    private final PrintStream errors;
+    private volatile boolean isExitRequested;
+
+    /**
+     * Creates a runner which runs commands with {@code logic} and prints the commands which fail to {@code errors}.
+     */
+    public BatchRunner(Logic logic, PrintStream errors) {
+        requireNonNull(logic);
+        requireNonNull(errors);
+        this.logic = logic;
+        this.errors = errors;
+        EventsCenter.getInstance().registerHandler(this);
+    }
+
+    /**
+     * Runs the commands of the script {@code lines} in order, and returns how many ran and how long they took.
+     * A command which fails is reported and the script goes on.
+     */
+    public Statistics run(List<String> lines) {
+        Histogram latencies = new Histogram(Histogram.Unit.NANOSECONDS);
+        int failedCount = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < lines.size() && !isExitRequested; i++) {
+            String commandText = lines.get(i).trim();
+            if (commandText.isEmpty() || commandText.startsWith(COMMENT_MARKER)) {
+                continue;
+            }
+            long commandStart = System.nanoTime();
+            try {
+                logic.execute(commandText);
+            } catch (CommandException | ParseException | NoUserSelectedException | UserAlreadyExistsException
+                    | NonExistentUserException | InvalidDataException e) {
+                failedCount++;
+                errors.println(String.format("Line %d: %s%n  %s", i + 1, CommandHistory.redactPasswords(commandText),
+                        e.getMessage()));
+            }
+            latencies.recordSince(commandStart);
+        }
+        return new Statistics(latencies, failedCount, System.nanoTime() - start);
+    }
+
+    @Subscribe
+    public void handleExitAppRequestEvent(ExitAppRequestEvent event) {
+        isExitRequested = true;
+    }
+
+    /**
+     * Runs the script given with {@code --batch} against the data of the config, and prints the statistics of the
+     * run. The JavaFX toolkit is never started, so this runs on machines without a display.
+     */
+    public static void main(String[] args) throws IOException {
+        AppParameters appParameters = AppParameters.parse(Arrays.asList(args));
+        Path scriptPath = appParameters.getBatchScriptPath();
+        if (scriptPath == null) {
+            System.err.println(USAGE);
+            System.exit(1);
+        }
+        List<String> lines = Files.readAllLines(scriptPath);
+
+        AppComponents components = new AppComponents();
+        components.init(appParameters, null);
+        components.dataLoaded.join();
+        Statistics statistics = new BatchRunner(components.logic, System.err).run(lines);
+        components.stop();
+        System.out.println(statistics);
+        System.exit(statistics.getFailedCount() == 0 ? 0 : 1);
+    }
+
+    /**
+     * The number of commands run by a {@code BatchRunner}, how many failed, and how long they took.
+     */
+    public static class Statistics {
+        private final Histogram latencies;
+        private final int failedCount;
+        private final long elapsedNanos;
+
+        private Statistics(Histogram latencies, int failedCount, long elapsedNanos) {
+            this.latencies = latencies;
+            this.failedCount = failedCount;
+            this.elapsedNanos = elapsedNanos;
+        }
+
+        public int getCommandCount() {
+            return (int) latencies.getCount();
+        }
+
+        public int getFailedCount() {
+            return failedCount;
+        }
+
+        /**
+         * Returns the number of commands run per second, including the time spent on failed commands.
+         */
+        public double getCommandsPerSecond() {
+            return elapsedNanos == 0 ? 0 : getCommandCount() / (elapsedNanos / 1e9);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%d commands (%d failed) in %.1f ms, %.0f commands per second%nLatency: %s",
+                    getCommandCount(), failedCount, elapsedNanos / 1e6, getCommandsPerSecond(), latencies);
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package seedu.expensetracker;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.UnknownHostException;
+import java.util.Arrays;
+import java.util.logging.Logger;
+
+import seedu.expensetracker.commons.core.LogsCenter;
+import seedu.expensetracker.server.ApiServer;
+import seedu.expensetracker.server.RequestExecutors;
+
+/**
+ * Runs the expense tracker as an {@link ApiServer} without a window, so that several clients on the network can run
+ * commands on the same data. The server runs until the process is stopped, and the data still being saved is
+ * saved before the process exits. The server only listens on the loopback address unless another address is given
+ * with {@code --host}, as the passwords of the users are sent unencrypted.
+ * Run with {@code java seedu.expensetracker.ServerRunner [--config=<path>] --server <port> [--host <address>]}.
+ */
+public class ServerRunner {
+    private static final String USAGE = "Usage: ServerRunner [--config=<path>] " + AppParameters.SERVER_FLAG
+            + " <port> [" + AppParameters.HOST_FLAG + " <address>]";
+    private static final Logger logger = LogsCenter.getLogger(ServerRunner.class);
+    private static final int STOP_DELAY_SECONDS = 5;
+
+    /**
+     * Starts the server on the port given with {@code --server} and the address given with {@code --host}, with the
+     * data of the config.
+     */
+    public static void main(String[] args) throws IOException {
+        AppParameters appParameters = AppParameters.parse(Arrays.asList(args));
+        Integer port = appParameters.getServerPort();
+        if (port == null) {
+            System.err.println(USAGE);
+            System.exit(1);
+        }
+        InetAddress address = toBindAddress(appParameters.getServerHost());
+
+        AppComponents components = new AppComponents();
+        components.init(appParameters, null);
+        components.dataLoaded.join();
+        ApiServer server = new ApiServer(components.sessions, new InetSocketAddress(address, port),
+                RequestExecutors.newRequestExecutor(ApiServer.DEFAULT_REQUEST_THREADS));
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> stop(server, components), "api-shutdown"));
+        server.start();
+    }
+
+    /**
+     * Returns the address of {@code host}, or the loopback address if {@code host} is null. Exits if the host is
+     * unknown.
+     */
+    private static InetAddress toBindAddress(String host) {
+        if (host == null) {
+            return InetAddress.getLoopbackAddress();
+        }
+        try {
+            InetAddress address = InetAddress.getByName(host);
+            if (!address.isLoopbackAddress()) {
+                logger.warning("Listening on " + address.getHostAddress() + ", passwords are sent unencrypted to "
+                        + "the server, so only run it on networks you trust.");
+            }
+            return address;
+        } catch (UnknownHostException uhe) {
+            System.err.println("Unknown host: " + host);
+            System.err.println(USAGE);
+            System.exit(1);
+            throw new AssertionError("exited");
+        }
+    }
+
+    /**
+     * Stops {@code server}, and then {@code components} once the commands being run have finished.
+     */
+    private static void stop(ApiServer server, AppComponents components) {
+        server.stop(STOP_DELAY_SECONDS);
+        components.stop();
+    }
+}
@@ -0,0 +1,162 @@
+package seedu.expensetracker.commons.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+/**
+ * A log handler which hands records to other handlers on a background thread, so that formatting and writing log
+ * records does not slow down the thread that logs them. Records wait in a ring buffer of fixed capacity. When the
+ * buffer is full, new records are dropped and counted, and a warning with the number of records dropped is written
+ * once there is room again.
+ */
+public class AsyncLogHandler extends Handler {
+    public static final int DEFAULT_CAPACITY = 8192;
+    public static final String MESSAGE_RECORDS_DROPPED = "%d log records were dropped as the log buffer was full";
+
+    private final List<Handler> delegates;
+    private final LogRecord[] buffer;
+    private final Thread writer;
+    private int head;
+    private int size;
+    private boolean isWriting;
+    private boolean isClosed;
+    private long droppedCount;
+    private long unreportedDroppedCount;
+
+    /**
+     * Creates a handler which buffers up to {@code capacity} records for the given {@code delegates}, and starts its
+     * background thread.
+     */
+    public AsyncLogHandler(int capacity, List<Handler> delegates) {
+        assert capacity > 0;
+        requireNonNull(delegates);
+        this.delegates = new ArrayList<>(delegates);
+        this.buffer = new LogRecord[capacity];
+        this.writer = new Thread(this::writeRecords, "log-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    /**
+     * Adds {@code record} to the buffer. The caller of the logger is looked up before the record is buffered, as it
+     * cannot be found from the background thread.
+     */
+    @Override
+    public void publish(LogRecord record) {
+        if (!isLoggable(record)) {
+            return;
+        }
+        record.getSourceClassName();
+        synchronized (this) {
+            if (isClosed) {
+                return;
+            }
+            if (size == buffer.length) {
+                droppedCount++;
+                unreportedDroppedCount++;
+                return;
+            }
+            buffer[(head + size) % buffer.length] = record;
+            size++;
+            notifyAll();
+        }
+    }
+
+    /**
+     * Waits until every buffered record has been written, then flushes the other handlers.
+     */
+    @Override
+    public void flush() {
+        synchronized (this) {
+            while ((size > 0 || isWriting) && writer.isAlive()) {
+                try {
+                    wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+        delegates.forEach(Handler::flush);
+    }
+
+    /**
+     * Writes the records still in the buffer, stops the background thread and closes the other handlers.
+     */
+    @Override
+    public void close() {
+        synchronized (this) {
+            if (isClosed) {
+                return;
+            }
+            isClosed = true;
+            notifyAll();
+        }
+        try {
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        delegates.forEach(Handler::close);
+    }
+
+    /**
+     * Returns the number of records dropped so far because the buffer was full.
+     */
+    public synchronized long getDroppedCount() {
+        return droppedCount;
+    }
+
+    /**
+     * Returns the number of records waiting in the buffer.
+     */
+    public synchronized int getBufferedCount() {
+        return size;
+    }
+
+    /**
+     * Hands the buffered records to the other handlers until the handler is closed and the buffer is empty.
+     */
+    private void writeRecords() {
+        List<LogRecord> batch = new ArrayList<>();
+        while (true) {
+            long dropped;
+            synchronized (this) {
+                isWriting = false;
+                notifyAll();
+                while (size == 0 && !isClosed) {
+                    try {
+                        wait();
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                }
+                if (size == 0) {
+                    return;
+                }
+                for (; size > 0; size--) {
+                    batch.add(buffer[head]);
+                    buffer[head] = null;
+                    head = (head + 1) % buffer.length;
+                }
+                dropped = unreportedDroppedCount;
+                unreportedDroppedCount = 0;
+                isWriting = true;
+            }
+            if (dropped > 0) {
+                batch.add(new LogRecord(Level.WARNING, String.format(MESSAGE_RECORDS_DROPPED, dropped)));
+            }
+            for (LogRecord record : batch) {
+                for (Handler delegate : delegates) {
+                    delegate.publish(record);
+                }
+            }
+            batch.clear();
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package seedu.expensetracker.commons.core;
 
+import java.util.concurrent.Executor;
+
 import seedu.expensetracker.commons.events.BaseEvent;
 
 /**
@@ -18,8 +20,15 @@ public abstract class ComponentManager {
     }
 
     public ComponentManager(EventsCenter eventsCenter) {
+        this(eventsCenter, EventsCenter.POSTING_THREAD);
+    }
+
+    /**
+     * Uses the given {@link EventsCenter}, running the class' event handlers with {@code handlerExecutor}
+     */
+    public ComponentManager(EventsCenter eventsCenter, Executor handlerExecutor) {
         this.eventsCenter = eventsCenter;
-        eventsCenter.registerHandler(this);
+        eventsCenter.registerHandler(this, handlerExecutor);
     }
 
     protected void raise(BaseEvent event) {
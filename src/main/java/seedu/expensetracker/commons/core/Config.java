@@ -16,6 +16,13 @@ public class Config {
     private String appTitle = "Expense Tracker";
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private Path commandHistoryFilePath = Paths.get("commandHistory.txt");
+    /** The file the metrics are written to when the app exits, or null if they are not written. */
+    private Path metricsFilePath = null;
+    /** Whether the app emits its own Java Flight Recorder events. */
+    private boolean flightRecorderEventsEnabled = false;
+    /** How long the JavaFX thread may be blocked before it is reported as stalled, or 0 to not watch it. */
+    private long fxStallThresholdMillis = 50;
 
     public String getAppTitle() {
         return appTitle;
@@ -41,6 +48,38 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    public Path getCommandHistoryFilePath() {
+        return commandHistoryFilePath;
+    }
+
+    public void setCommandHistoryFilePath(Path commandHistoryFilePath) {
+        this.commandHistoryFilePath = commandHistoryFilePath;
+    }
+
+    public Path getMetricsFilePath() {
+        return metricsFilePath;
+    }
+
+    public void setMetricsFilePath(Path metricsFilePath) {
+        this.metricsFilePath = metricsFilePath;
+    }
+
+    public boolean isFlightRecorderEventsEnabled() {
+        return flightRecorderEventsEnabled;
+    }
+
+    public void setFlightRecorderEventsEnabled(boolean flightRecorderEventsEnabled) {
+        this.flightRecorderEventsEnabled = flightRecorderEventsEnabled;
+    }
+
+    public long getFxStallThresholdMillis() {
+        return fxStallThresholdMillis;
+    }
+
+    public void setFxStallThresholdMillis(long fxStallThresholdMillis) {
+        this.fxStallThresholdMillis = fxStallThresholdMillis;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -54,12 +93,17 @@ public class Config {
 
         return Objects.equals(appTitle, o.appTitle)
                 && Objects.equals(logLevel, o.logLevel)
-                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath)
+                && Objects.equals(commandHistoryFilePath, o.commandHistoryFilePath)
+                && Objects.equals(metricsFilePath, o.metricsFilePath)
+                && flightRecorderEventsEnabled == o.flightRecorderEventsEnabled
+                && fxStallThresholdMillis == o.fxStallThresholdMillis;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(appTitle, logLevel, userPrefsFilePath);
+        return Objects.hash(appTitle, logLevel, userPrefsFilePath, commandHistoryFilePath, metricsFilePath,
+                flightRecorderEventsEnabled, fxStallThresholdMillis);
     }
 
     @Override
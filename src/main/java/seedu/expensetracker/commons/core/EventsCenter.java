@@ -1,45 +1,377 @@
 package seedu.expensetracker.commons.core;
 
+import static java.util.Objects.requireNonNull;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.logging.Logger;
 
-import com.google.common.eventbus.EventBus;
+import com.google.common.eventbus.Subscribe;
 
 import seedu.expensetracker.commons.events.BaseEvent;
+import seedu.expensetracker.commons.events.CoalescingEvent;
+import seedu.expensetracker.commons.metrics.Profiler;
+import seedu.expensetracker.commons.util.StringUtil;
 
 /**
  * Manages the event dispatching of the app.
+ * Handlers are the methods of a registered object annotated with {@link Subscribe}, which take a single event. Each
+ * object is registered with the executor its handlers run with, so that handlers can run on the posting thread, on
+ * the I/O thread or on the JavaFX thread. A handler also receives the events of the subclasses of its event type.
+ * The handlers of an event class are looked up once and kept in a table, and handlers are invoked through method
+ * handles instead of reflection.
+ * Events posted while another event is being dispatched on the same thread are dispatched after it, in the order
+ * they were posted.
  */
 public class EventsCenter {
+    /** Runs handlers on the thread the event is posted from. */
+    public static final Executor POSTING_THREAD = Runnable::run;
+
     private static final Logger logger = LogsCenter.getLogger(EventsCenter.class);
+    private static final long IO_SHUTDOWN_TIMEOUT_SECONDS = 10;
     private static EventsCenter instance;
-    private final EventBus eventBus;
 
-    private EventsCenter() {
-        eventBus = new EventBus();
-    }
+    private final List<Handler> handlers = new CopyOnWriteArrayList<>();
+    private final Map<Class<?>, List<Handler>> handlerTable = new ConcurrentHashMap<>();
+    private final Map<Class<?>, DispatchLatency> latencies = new ConcurrentHashMap<>();
+    private final ThreadLocal<Queue<BaseEvent>> queuedEvents = ThreadLocal.withInitial(ArrayDeque::new);
+    private final ThreadLocal<Boolean> isDispatching = ThreadLocal.withInitial(() -> false);
+    private ExecutorService ioExecutor;
 
-    public static EventsCenter getInstance() {
+    private EventsCenter() {}
+
+    public static synchronized EventsCenter getInstance() {
         if (instance == null) {
             instance = new EventsCenter();
         }
         return instance;
     }
 
-    public static void clearSubscribers() {
+    /**
+     * Removes every handler. Events waiting to be handled on the I/O thread are still handled.
+     */
+    public static synchronized void clearSubscribers() {
+        if (instance != null && instance.ioExecutor != null) {
+            instance.ioExecutor.shutdown();
+        }
         instance = null;
     }
 
+    /**
+     * Registers the handlers of {@code handler} to run on the thread the events are posted from.
+     */
     public void registerHandler(Object handler) {
-        eventBus.register(handler);
+        registerHandler(handler, POSTING_THREAD);
+    }
+
+    /**
+     * Registers the handlers of {@code handler} to run with the given {@code executor}.
+     */
+    public void registerHandler(Object handler, Executor executor) {
+        requireNonNull(handler);
+        requireNonNull(executor);
+        for (Class<?> type = handler.getClass(); type != Object.class; type = type.getSuperclass()) {
+            for (Method method : type.getDeclaredMethods()) {
+                if (method.isAnnotationPresent(Subscribe.class)) {
+                    handlers.add(createHandler(handler, method, executor));
+                }
+            }
+        }
+        handlerTable.clear();
+    }
+
+    /**
+     * Returns the executor which runs handlers one at a time on a background thread for I/O.
+     */
+    public synchronized Executor getIoExecutor() {
+        if (ioExecutor == null) {
+            ioExecutor = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "event-io");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return ioExecutor;
+    }
+
+    /**
+     * Waits for the events queued for the I/O thread to be handled, and stops the thread.
+     */
+    public void shutdown() {
+        ExecutorService executor;
+        synchronized (this) {
+            executor = ioExecutor;
+            ioExecutor = null;
+        }
+        if (executor == null) {
+            return;
+        }
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(IO_SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                logger.warning("Timed out waiting for events to be handled on the I/O thread");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        logger.info("Event dispatch latencies: " + latencies);
     }
 
     /**
      * Posts an event to the event bus.
      */
     public <E extends BaseEvent> EventsCenter post(E event) {
-        logger.info("------[Event Posted] " + event.getClass().getCanonicalName() + ": " + event.toString());
-        eventBus.post(event);
+        requireNonNull(event);
+        logger.fine(() -> "------[Event Posted] " + event.getClass().getCanonicalName() + ": " + event.toString());
+        queuedEvents.get().add(event);
+        if (isDispatching.get()) {
+            return this;
+        }
+        isDispatching.set(true);
+        Profiler.enter(Profiler.Phase.EVENTS);
+        try {
+            BaseEvent next;
+            while ((next = queuedEvents.get().poll()) != null) {
+                dispatch(next);
+            }
+        } finally {
+            Profiler.exit();
+            isDispatching.set(false);
+        }
         return this;
     }
 
+    /**
+     * Waits for the events queued for the I/O thread so far to be handled. Must not be called from the I/O thread.
+     */
+    public void awaitIoEvents() {
+        ExecutorService executor;
+        synchronized (this) {
+            executor = ioExecutor;
+        }
+        if (executor == null) {
+            return;
+        }
+        try {
+            executor.submit(() -> { }).get(IO_SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException | RejectedExecutionException e) {
+            logger.warning("Could not wait for events to be handled on the I/O thread: " + e);
+        }
+    }
+
+    /**
+     * Returns the dispatch latencies of each event class posted so far, from the time an event is posted until a
+     * handler has finished handling it.
+     */
+    public Map<Class<?>, DispatchLatency> getDispatchLatencies() {
+        return Collections.unmodifiableMap(new HashMap<>(latencies));
+    }
+
+    /**
+     * Hands {@code event} to each of its handlers.
+     */
+    private void dispatch(BaseEvent event) {
+        long postedAt = System.nanoTime();
+        DispatchLatency latency = latencies.computeIfAbsent(event.getClass(), unused -> new DispatchLatency());
+        for (Handler handler : handlerTable.computeIfAbsent(event.getClass(), this::findHandlers)) {
+            if (handler.executor == POSTING_THREAD) {
+                handler.handle(event);
+                latency.record(System.nanoTime() - postedAt);
+            } else {
+                handler.schedule(event, postedAt, latency);
+            }
+        }
+    }
+
+    /**
+     * Returns the handlers of events of the given class, including the handlers of its superclasses and interfaces.
+     */
+    private List<Handler> findHandlers(Class<?> eventClass) {
+        Set<Class<?>> eventTypes = new LinkedHashSet<>();
+        collectTypes(eventClass, eventTypes);
+        List<Handler> found = new ArrayList<>();
+        for (Handler handler : handlers) {
+            if (eventTypes.contains(handler.eventType)) {
+                found.add(handler);
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Adds {@code type} and all of its supertypes to {@code types}.
+     */
+    private static void collectTypes(Class<?> type, Set<Class<?>> types) {
+        if (type == null || !types.add(type)) {
+            return;
+        }
+        collectTypes(type.getSuperclass(), types);
+        for (Class<?> implemented : type.getInterfaces()) {
+            collectTypes(implemented, types);
+        }
+    }
+
+    /**
+     * Creates the handler for a method annotated with {@link Subscribe}, which must take a single event.
+     */
+    private static Handler createHandler(Object subscriber, Method method, Executor executor) {
+        Class<?>[] parameterTypes = method.getParameterTypes();
+        if (parameterTypes.length != 1 || !BaseEvent.class.isAssignableFrom(parameterTypes[0])) {
+            throw new IllegalArgumentException("Event handler " + method + " must take a single event");
+        }
+        try {
+            method.setAccessible(true);
+            MethodHandle methodHandle = MethodHandles.lookup().unreflect(method)
+                    .asType(MethodType.methodType(void.class, Object.class, BaseEvent.class));
+            return new Handler(subscriber, parameterTypes[0], methodHandle, executor);
+        } catch (IllegalAccessException e) {
+            throw new IllegalArgumentException("Event handler " + method + " is not accessible", e);
+        }
+    }
+
+    /**
+     * A single handler method of a registered object.
+     */
+    private static class Handler {
+        private final Object subscriber;
+        private final Class<?> eventType;
+        private final MethodHandle methodHandle;
+        private final Executor executor;
+        private final Map<Class<?>, PendingEvent> pendingEvents = new HashMap<>();
+
+        private Handler(Object subscriber, Class<?> eventType, MethodHandle methodHandle, Executor executor) {
+            this.subscriber = subscriber;
+            this.eventType = eventType;
+            this.methodHandle = methodHandle;
+            this.executor = executor;
+        }
+
+        /**
+         * Handles {@code event} on the current thread. Exceptions thrown by the handler are logged, so that the
+         * other handlers still receive the event.
+         */
+        private void handle(BaseEvent event) {
+            try {
+                methodHandle.invokeExact(subscriber, event);
+            } catch (Throwable t) {
+                logger.severe("Exception thrown by event handler " + subscriber.getClass().getSimpleName()
+                        + " for " + event.getClass().getSimpleName() + ": " + StringUtil.getDetails(t));
+            }
+        }
+
+        /**
+         * Handles {@code event} with the executor of this handler. A {@link CoalescingEvent} replaces the event of
+         * the same class that is still waiting to be handled, if there is one.
+         */
+        private void schedule(BaseEvent event, long postedAt, DispatchLatency latency) {
+            if (!(event instanceof CoalescingEvent)) {
+                executor.execute(Profiler.propagate(() -> {
+                    handle(event);
+                    latency.record(System.nanoTime() - postedAt);
+                }));
+                return;
+            }
+            synchronized (pendingEvents) {
+                PendingEvent replaced = pendingEvents.put(event.getClass(), new PendingEvent(event, postedAt));
+                if (replaced != null) {
+                    latency.recordCoalesced();
+                    return;
+                }
+            }
+            executor.execute(Profiler.propagate(() -> {
+                PendingEvent pending;
+                synchronized (pendingEvents) {
+                    pending = pendingEvents.remove(event.getClass());
+                }
+                handle(pending.event);
+                latency.record(System.nanoTime() - pending.postedAt);
+            }));
+        }
+    }
+
+    /**
+     * An event waiting to be handled, with the time it was posted.
+     */
+    private static class PendingEvent {
+        private final BaseEvent event;
+        private final long postedAt;
+
+        private PendingEvent(BaseEvent event, long postedAt) {
+            this.event = event;
+            this.postedAt = postedAt;
+        }
+    }
+
+    /**
+     * The dispatch latencies of the events of a single class.
+     */
+    public static class DispatchLatency {
+        private long count;
+        private long coalescedCount;
+        private long totalNanos;
+        private long maxNanos;
+
+        private synchronized void record(long nanos) {
+            count++;
+            totalNanos += nanos;
+            maxNanos = Math.max(maxNanos, nanos);
+        }
+
+        private synchronized void recordCoalesced() {
+            coalescedCount++;
+        }
+
+        /**
+         * Returns the number of times an event was handled.
+         */
+        public synchronized long getCount() {
+            return count;
+        }
+
+        /**
+         * Returns the number of events which were replaced by a newer event before being handled.
+         */
+        public synchronized long getCoalescedCount() {
+            return coalescedCount;
+        }
+
+        public synchronized long getMaxNanos() {
+            return maxNanos;
+        }
+
+        /**
+         * Returns the average latency in nanoseconds, or 0 if no event has been handled.
+         */
+        public synchronized double getAverageNanos() {
+            return count == 0 ? 0 : (double) totalNanos / count;
+        }
+
+        @Override
+        public synchronized String toString() {
+            return String.format("%d handled, %d coalesced, avg %.3f ms, max %.3f ms", count, coalescedCount,
+                    getAverageNanos() / 1e6, maxNanos / 1e6);
+        }
+    }
 }
@@ -1,14 +1,18 @@
 package seedu.expensetracker.commons.core;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.logging.ConsoleHandler;
 import java.util.logging.FileHandler;
+import java.util.logging.Handler;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.logging.SimpleFormatter;
 
 import seedu.expensetracker.commons.events.BaseEvent;
+import seedu.expensetracker.commons.metrics.MetricsRegistry;
 
 /**
  * Configures and manages loggers and handlers, including their logging level
@@ -16,15 +20,21 @@ import seedu.expensetracker.commons.events.BaseEvent;
  * These loggers have been configured to output messages to the console and a {@code .log} file by default,
  *   at the {@code INFO} level. A new {@code .log} file with a new numbering will be created after the log
  *   file reaches 5MB big, up to a maximum of 5 files.<br>
+ * Records are written by an {@link AsyncLogHandler} on a background thread, so logging does not wait for the
+ *   console or the file. Loggers are set to the logging level, so that a message below it costs no more than a level
+ *   check, especially when it is given as a {@code Supplier<String>}, e.g.
+ *   {@code logger.fine(() -> "Edited " + expense)}.<br>
  */
 public class LogsCenter {
+    /** The name of the gauge of the log records dropped because the log buffer was full. */
+    public static final String METRIC_DROPPED_LOGS = "logging.dropped";
+
     private static final int MAX_FILE_COUNT = 5;
     private static final int MAX_FILE_SIZE_IN_BYTES = (int) (Math.pow(2, 20) * 5); // 5MB
     private static final String LOG_FILE = "expensetracker.log";
     private static Level currentLogLevel = Level.INFO;
     private static final Logger logger = LogsCenter.getLogger(LogsCenter.class);
-    private static FileHandler fileHandler;
-    private static ConsoleHandler consoleHandler;
+    private static AsyncLogHandler asyncHandler;
 
     /**
      * Initializes with a custom log level (specified in the {@code config} object)
@@ -35,6 +45,7 @@ public class LogsCenter {
     public static void init(Config config) {
         currentLogLevel = config.getLogLevel();
         logger.info("currentLogLevel: " + currentLogLevel);
+        MetricsRegistry.getInstance().gauge(METRIC_DROPPED_LOGS, LogsCenter::getDroppedLogCount);
     }
 
     /**
@@ -44,9 +55,10 @@ public class LogsCenter {
         Logger logger = Logger.getLogger(name);
         logger.setUseParentHandlers(false);
 
+        logger.setLevel(currentLogLevel);
+
         removeHandlers(logger);
-        addConsoleHandler(logger);
-        addFileHandler(logger);
+        addAsyncHandler(logger);
 
         return Logger.getLogger(name);
     }
@@ -62,39 +74,50 @@ public class LogsCenter {
     }
 
     /**
-     * Adds the {@code consoleHandler} to the {@code logger}. <br>
-     * Creates the {@code consoleHandler} if it is null.
+     * Adds the {@code asyncHandler} to the {@code logger}. <br>
+     * Creates the {@code asyncHandler}, which writes to the console and the log file, if it is null.
      */
-    private static void addConsoleHandler(Logger logger) {
-        if (consoleHandler == null) {
-            consoleHandler = createConsoleHandler();
+    private static synchronized void addAsyncHandler(Logger logger) {
+        if (asyncHandler == null) {
+            List<Handler> handlers = new ArrayList<>();
+            handlers.add(createConsoleHandler());
+            try {
+                handlers.add(createFileHandler());
+            } catch (IOException e) {
+                logger.warning("Error adding file handler for logger.");
+            }
+            asyncHandler = new AsyncLogHandler(AsyncLogHandler.DEFAULT_CAPACITY, handlers);
+            asyncHandler.setLevel(Level.ALL);
         }
-        logger.addHandler(consoleHandler);
+        logger.addHandler(asyncHandler);
     }
 
     /**
-     * Remove all the handlers from {@code logger}.
+     * Returns the number of log records dropped so far because they were logged faster than they could be written.
      */
-    private static void removeHandlers(Logger logger) {
-        Arrays.stream(logger.getHandlers())
-                .forEach(logger::removeHandler);
+    public static synchronized long getDroppedLogCount() {
+        return asyncHandler == null ? 0 : asyncHandler.getDroppedCount();
     }
 
     /**
-     * Adds the {@code fileHandler} to the {@code logger}. <br>
-     * Creates {@code fileHandler} if it is null.
+     * Writes the log records still buffered and closes the console and file handlers. The background thread which
+     * writes the records does not keep the app running, so this is called before the app exits, after which records
+     * are no longer written.
      */
-    private static void addFileHandler(Logger logger) {
-        try {
-            if (fileHandler == null) {
-                fileHandler = createFileHandler();
-            }
-            logger.addHandler(fileHandler);
-        } catch (IOException e) {
-            logger.warning("Error adding file handler for logger.");
+    public static synchronized void close() {
+        if (asyncHandler != null) {
+            asyncHandler.close();
         }
     }
 
+    /**
+     * Remove all the handlers from {@code logger}.
+     */
+    private static void removeHandlers(Logger logger) {
+        Arrays.stream(logger.getHandlers())
+                .forEach(logger::removeHandler);
+    }
+
     /**
      * Creates a {@code FileHandler} for the log file.
      * @throws IOException if there are problems opening the file.
@@ -0,0 +1,9 @@
+package seedu.expensetracker.commons.events;
+
+/**
+ * Marks an event which only has to be handled once for its latest instance. If an event of the same class is
+ * still waiting to be handled by a handler that runs on another thread, it is replaced by the newer event instead
+ * of being handled twice.
+ */
+public interface CoalescingEvent {
+}
@@ -0,0 +1,19 @@
+package seedu.expensetracker.commons.events.logic;
+
+import seedu.expensetracker.commons.events.BaseEvent;
+
+/** Indicates a command has been entered and added to the command history */
+public class CommandEnteredEvent extends BaseEvent {
+
+    /** The command entered, with its passwords redacted. */
+    public final String command;
+
+    public CommandEnteredEvent(String command) {
+        this.command = command;
+    }
+
+    @Override
+    public String toString() {
+        return "command entered: " + command;
+    }
+}
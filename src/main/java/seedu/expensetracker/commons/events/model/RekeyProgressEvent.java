@@ -0,0 +1,25 @@
+package seedu.expensetracker.commons.events.model;
+
+import seedu.expensetracker.commons.events.BaseEvent;
+import seedu.expensetracker.commons.events.CoalescingEvent;
+
+/** Indicates the progress of re-encrypting the expenses of the current user with a new key */
+public class RekeyProgressEvent extends BaseEvent implements CoalescingEvent {
+
+    public final int rekeyedCount;
+    public final int totalCount;
+
+    public RekeyProgressEvent(int rekeyedCount, int totalCount) {
+        this.rekeyedCount = rekeyedCount;
+        this.totalCount = totalCount;
+    }
+
+    public boolean isFinished() {
+        return rekeyedCount >= totalCount;
+    }
+
+    @Override
+    public String toString() {
+        return "re-encrypted " + rekeyedCount + " of " + totalCount + " expenses";
+    }
+}
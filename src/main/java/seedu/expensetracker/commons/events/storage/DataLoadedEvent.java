@@ -0,0 +1,21 @@
+package seedu.expensetracker.commons.events.storage;
+
+import seedu.expensetracker.commons.events.BaseEvent;
+
+/**
+ * Indicates the expense data of every user has been loaded from the files after the app started
+ */
+public class DataLoadedEvent extends BaseEvent {
+
+    public final int userCount;
+
+    public DataLoadedEvent(int userCount) {
+        this.userCount = userCount;
+    }
+
+    @Override
+    public String toString() {
+        return "loaded the expense data of " + userCount + " users";
+    }
+
+}
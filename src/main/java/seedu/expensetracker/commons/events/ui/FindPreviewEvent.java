@@ -0,0 +1,29 @@
+package seedu.expensetracker.commons.events.ui;
+
+import java.util.List;
+
+import seedu.expensetracker.commons.events.BaseEvent;
+import seedu.expensetracker.commons.events.CoalescingEvent;
+import seedu.expensetracker.model.expense.Expense;
+
+/**
+ * Indicates that the results of the find command being typed are available, or that the preview has ended.
+ */
+public class FindPreviewEvent extends BaseEvent implements CoalescingEvent {
+
+    /** The expenses found by the command being typed, or null if the preview has ended. */
+    public final List<Expense> matches;
+
+    public FindPreviewEvent(List<Expense> matches) {
+        this.matches = matches;
+    }
+
+    public boolean isPreviewEnded() {
+        return matches == null;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + (isPreviewEnded() ? ": ended" : ": " + matches.size() + " matches");
+    }
+}
@@ -1,12 +1,13 @@
 package seedu.expensetracker.commons.events.ui;
 
 import seedu.expensetracker.commons.events.BaseEvent;
+import seedu.expensetracker.commons.events.CoalescingEvent;
 
 //@@author snookerballs
 /**
  * An event requesting a panel swap.
  */
-public class SwapLeftPanelEvent extends BaseEvent {
+public class SwapLeftPanelEvent extends BaseEvent implements CoalescingEvent {
 
     /**
      * Represents the two types of panels to swap to.
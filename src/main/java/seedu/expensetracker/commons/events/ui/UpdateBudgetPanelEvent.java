@@ -1,13 +1,14 @@
 package seedu.expensetracker.commons.events.ui;
 
 import seedu.expensetracker.commons.events.BaseEvent;
+import seedu.expensetracker.commons.events.CoalescingEvent;
 import seedu.expensetracker.model.budget.TotalBudget;
 
 //@@author snookerballs
 /**
  * An event requesting an update in totalBudget display.
  */
-public class UpdateBudgetPanelEvent extends BaseEvent {
+public class UpdateBudgetPanelEvent extends BaseEvent implements CoalescingEvent {
 
     public final TotalBudget totalBudget;
 
@@ -3,13 +3,14 @@ package seedu.expensetracker.commons.events.ui;
 import java.util.Iterator;
 
 import seedu.expensetracker.commons.events.BaseEvent;
+import seedu.expensetracker.commons.events.CoalescingEvent;
 import seedu.expensetracker.model.budget.CategoryBudget;
 
 //@@author snookerballs
 /**
  * An event requesting an update in categories display.
  */
-public class UpdateCategoriesPanelEvent extends BaseEvent {
+public class UpdateCategoriesPanelEvent extends BaseEvent implements CoalescingEvent {
 
     public final Iterator<CategoryBudget> categoryBudgets;
 
@@ -0,0 +1,19 @@
+package seedu.expensetracker.commons.metrics;
+
+/**
+ * A Java Flight Recorder event for a single command, from parsing it until it has been executed. Only the command
+ * word is recorded, as the rest of the command may hold a password.
+ */
+public interface CommandFlightEvent {
+    String RESULT_SUCCESS = "success";
+
+    /**
+     * Marks the command as parsed, so that the time taken to execute it is not counted as parsing.
+     */
+    void endParse();
+
+    /**
+     * Ends the event with the given {@code result} and commits it to the running recordings.
+     */
+    void end(String result);
+}
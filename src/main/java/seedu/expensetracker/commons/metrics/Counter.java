@@ -0,0 +1,32 @@
+package seedu.expensetracker.commons.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A count which only goes up, and can be incremented from many threads without contention.
+ */
+public class Counter implements CounterMxBean {
+    private final LongAdder count = new LongAdder();
+
+    public void increment() {
+        count.increment();
+    }
+
+    /**
+     * Adds {@code amount}, which must not be negative, to the count.
+     */
+    public void add(long amount) {
+        assert amount >= 0;
+        count.add(amount);
+    }
+
+    @Override
+    public long getCount() {
+        return count.sum();
+    }
+
+    @Override
+    public String toString() {
+        return "count " + getCount();
+    }
+}
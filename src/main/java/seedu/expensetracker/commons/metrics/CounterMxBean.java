@@ -0,0 +1,11 @@
+package seedu.expensetracker.commons.metrics;
+
+import javax.management.MXBean;
+
+/**
+ * The JMX view of a {@link Counter}.
+ */
+@MXBean
+public interface CounterMxBean {
+    long getCount();
+}
@@ -0,0 +1,15 @@
+package seedu.expensetracker.commons.metrics;
+
+/**
+ * Starts the Java Flight Recorder events of the app. The events extend {@code jdk.jfr.Event}, which needs JDK 11, so
+ * the implementation is compiled separately and loaded by {@link FlightRecorderEvents} only when it is available.
+ */
+public interface FlightEventFactory {
+    CommandFlightEvent newCommandEvent(String commandText);
+
+    UndoCommitFlightEvent newUndoCommitEvent();
+
+    TrackerCryptoFlightEvent newTrackerCryptoEvent(String operation);
+
+    StorageFlightEvent newStorageEvent(String operation, String path);
+}
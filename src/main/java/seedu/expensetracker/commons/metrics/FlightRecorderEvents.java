@@ -0,0 +1,90 @@
+package seedu.expensetracker.commons.metrics;
+
+import java.util.logging.Logger;
+
+import seedu.expensetracker.commons.core.LogsCenter;
+
+/**
+ * Decides whether the app emits its own Java Flight Recorder events, e.g. {@link CommandFlightEvent}. The events are
+ * only created when enabled, so the event classes are not even loaded otherwise. When enabled, the events are only
+ * recorded while a recording which enables them is running, such as one started with
+ * {@code -XX:StartFlightRecording} or from JDK Mission Control.
+ *
+ * The events need the {@code jdk.jfr} module of JDK 11, while the app is built for JDK 9, so they are compiled
+ * separately and found by name. On older JDKs, or when they were not built, the events cannot be enabled.
+ */
+public class FlightRecorderEvents {
+    /** The category the events of the app are listed under in recordings. */
+    public static final String CATEGORY = "Expense Tracker";
+
+    private static final String FACTORY_CLASS_NAME = "seedu.expensetracker.commons.metrics.jfr.JfrFlightEventFactory";
+    private static final Logger logger = LogsCenter.getLogger(FlightRecorderEvents.class);
+    private static final FlightEventFactory factory = loadFactory();
+
+    private static volatile boolean isEnabled = false;
+
+    private FlightRecorderEvents() {}
+
+    /**
+     * Returns the factory of the events, or null if the JDK or the app has no Java Flight Recorder events.
+     */
+    private static FlightEventFactory loadFactory() {
+        try {
+            Class.forName("jdk.jfr.Event");
+            return (FlightEventFactory) Class.forName(FACTORY_CLASS_NAME).getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return null;
+        }
+    }
+
+    /**
+     * Returns true if the events can be enabled, which needs JDK 11 or later.
+     */
+    public static boolean isAvailable() {
+        return factory != null;
+    }
+
+    public static boolean isEnabled() {
+        return isEnabled;
+    }
+
+    /**
+     * Enables or disables the events. The events stay disabled if they are not available.
+     */
+    public static void setEnabled(boolean isEnabled) {
+        if (isEnabled && !isAvailable()) {
+            logger.warning("Java Flight Recorder events need JDK 11 or later, so they are not emitted.");
+        }
+        FlightRecorderEvents.isEnabled = isEnabled && isAvailable();
+    }
+
+    /**
+     * Starts the event of the command entered as {@code commandText}. Must only be called while enabled.
+     */
+    public static CommandFlightEvent newCommandEvent(String commandText) {
+        return factory.newCommandEvent(commandText);
+    }
+
+    /**
+     * Starts the event of saving a state for undoing. Must only be called while enabled.
+     */
+    public static UndoCommitFlightEvent newUndoCommitEvent() {
+        return factory.newUndoCommitEvent();
+    }
+
+    /**
+     * Starts the event of encrypting or decrypting a tracker, as given by {@code operation}. Must only be called
+     * while enabled.
+     */
+    public static TrackerCryptoFlightEvent newTrackerCryptoEvent(String operation) {
+        return factory.newTrackerCryptoEvent(operation);
+    }
+
+    /**
+     * Starts the event of saving or loading the data at {@code path}, as given by {@code operation}. Must only be
+     * called while enabled.
+     */
+    public static StorageFlightEvent newStorageEvent(String operation, String path) {
+        return factory.newStorageEvent(operation, path);
+    }
+}
@@ -0,0 +1,27 @@
+package seedu.expensetracker.commons.metrics;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.function.DoubleSupplier;
+
+/**
+ * A value which is read from its source whenever it is looked at, e.g. the hit rate of a cache.
+ */
+public class Gauge implements GaugeMxBean {
+    private final DoubleSupplier source;
+
+    public Gauge(DoubleSupplier source) {
+        requireNonNull(source);
+        this.source = source;
+    }
+
+    @Override
+    public double getValue() {
+        return source.getAsDouble();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("value %.3f", getValue());
+    }
+}
@@ -0,0 +1,11 @@
+package seedu.expensetracker.commons.metrics;
+
+import javax.management.MXBean;
+
+/**
+ * The JMX view of a {@link Gauge}.
+ */
+@MXBean
+public interface GaugeMxBean {
+    double getValue();
+}
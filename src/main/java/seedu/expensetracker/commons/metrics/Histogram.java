@@ -0,0 +1,157 @@
+package seedu.expensetracker.commons.metrics;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Records the distribution of non-negative values, such as latencies, without locks. Values are counted in
+ * log-linear buckets as in HDR histograms: each power of two is split into 16 buckets of equal width, so
+ * percentiles are accurate to about 6% whatever the magnitude of the values, and values below 16 are exact.
+ * Memory use is fixed, however many values are recorded.
+ */
+public class Histogram implements HistogramMxBean {
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKET_COUNT = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKET_COUNT;
+
+    /**
+     * The unit of the values recorded by a histogram, which decides how they are displayed.
+     */
+    public enum Unit {
+        NANOSECONDS, BYTES;
+
+        /**
+         * Returns {@code value} as displayed to users, i.e. durations in milliseconds.
+         */
+        public String format(double value) {
+            if (this == NANOSECONDS) {
+                return String.format("%.3f ms", value / 1e6);
+            }
+            return String.format("%.0f B", value);
+        }
+    }
+
+    private final Unit unit;
+    private final AtomicLongArray bucketCounts = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+    public Histogram(Unit unit) {
+        requireNonNull(unit);
+        this.unit = unit;
+    }
+
+    /**
+     * Records a single value. Negative values are recorded as 0.
+     */
+    public void record(long value) {
+        long recorded = Math.max(value, 0);
+        bucketCounts.incrementAndGet(getBucketIndex(recorded));
+        count.increment();
+        sum.add(recorded);
+        max.accumulate(recorded);
+    }
+
+    /**
+     * Records the time elapsed since {@code startNanos}, as given by {@link System#nanoTime()}.
+     */
+    public void recordSince(long startNanos) {
+        record(System.nanoTime() - startNanos);
+    }
+
+    /**
+     * Returns the smallest value which at least {@code percentile} percent of the recorded values are not greater
+     * than, rounded up to the end of its bucket, or 0 if no value has been recorded.
+     */
+    public long getValueAtPercentile(double percentile) {
+        assert percentile >= 0 && percentile <= 100;
+        long total = count.sum();
+        if (total == 0) {
+            return 0;
+        }
+        long target = Math.max(1, (long) Math.ceil(percentile / 100 * total));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += bucketCounts.get(i);
+            if (seen >= target) {
+                return Math.min(getBucketUpperBound(i), getMax());
+            }
+        }
+        // values recorded while scanning may not have been counted in their bucket yet
+        return getMax();
+    }
+
+    @Override
+    public String getUnit() {
+        return unit.name();
+    }
+
+    public Unit getValueUnit() {
+        return unit;
+    }
+
+    @Override
+    public long getCount() {
+        return count.sum();
+    }
+
+    @Override
+    public double getMean() {
+        long total = count.sum();
+        return total == 0 ? 0 : (double) sum.sum() / total;
+    }
+
+    @Override
+    public long getMax() {
+        return max.get();
+    }
+
+    @Override
+    public long getP50() {
+        return getValueAtPercentile(50);
+    }
+
+    @Override
+    public long getP90() {
+        return getValueAtPercentile(90);
+    }
+
+    @Override
+    public long getP99() {
+        return getValueAtPercentile(99);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("count %d, p50 %s, p90 %s, p99 %s, max %s", getCount(), unit.format(getP50()),
+                unit.format(getP90()), unit.format(getP99()), unit.format(getMax()));
+    }
+
+    /**
+     * Returns the index of the bucket that {@code value} is counted in.
+     */
+    static int getBucketIndex(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        int shift = Long.SIZE - 1 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        int subBucket = (int) (value >>> shift) & (SUB_BUCKET_COUNT - 1);
+        return (shift + 1) * SUB_BUCKET_COUNT + subBucket;
+    }
+
+    /**
+     * Returns the largest value counted in the bucket at {@code index}.
+     */
+    static long getBucketUpperBound(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int shift = index / SUB_BUCKET_COUNT - 1;
+        long lowerBound = (long) (SUB_BUCKET_COUNT + index % SUB_BUCKET_COUNT) << shift;
+        return lowerBound + (1L << shift) - 1;
+    }
+}
@@ -0,0 +1,24 @@
+package seedu.expensetracker.commons.metrics;
+
+import javax.management.MXBean;
+
+/**
+ * The JMX view of a {@link Histogram}. Values are in the unit of the histogram.
+ * It is annotated as an MXBean since JMX would otherwise expect it to be named after the class.
+ */
+@MXBean
+public interface HistogramMxBean {
+    String getUnit();
+
+    long getCount();
+
+    double getMean();
+
+    long getMax();
+
+    long getP50();
+
+    long getP90();
+
+    long getP99();
+}
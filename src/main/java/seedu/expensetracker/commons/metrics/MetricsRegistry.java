@@ -0,0 +1,178 @@
+package seedu.expensetracker.commons.metrics;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.DoubleSupplier;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import seedu.expensetracker.commons.core.LogsCenter;
+import seedu.expensetracker.commons.util.JsonUtil;
+
+/**
+ * Keeps the named counters, gauges and histograms which measure the app, e.g. the latency of each command.
+ * Metrics are created the first time they are asked for and then shared, so code only has to know the name of a
+ * metric to feed it. The registry of the app also publishes every metric as an MBean for JMX clients.
+ */
+public class MetricsRegistry {
+    public static final String JMX_DOMAIN = "seedu.expensetracker";
+
+    private static final Logger logger = LogsCenter.getLogger(MetricsRegistry.class);
+    private static MetricsRegistry instance;
+
+    private final Map<String, Object> metrics = new ConcurrentSkipListMap<>();
+    private final boolean isJmxEnabled;
+
+    /**
+     * Creates an empty registry, which publishes its metrics through JMX if {@code isJmxEnabled} is true.
+     */
+    public MetricsRegistry(boolean isJmxEnabled) {
+        this.isJmxEnabled = isJmxEnabled;
+    }
+
+    /**
+     * Returns the registry of the app, whose metrics are published through JMX.
+     */
+    public static synchronized MetricsRegistry getInstance() {
+        if (instance == null) {
+            instance = new MetricsRegistry(true);
+        }
+        return instance;
+    }
+
+    /**
+     * Returns the counter called {@code name}, creating it if there is none.
+     *
+     * @throws IllegalArgumentException if another kind of metric is called {@code name}.
+     */
+    public Counter counter(String name) {
+        return getOrCreate(name, Counter.class, Counter::new);
+    }
+
+    /**
+     * Returns the histogram called {@code name}, creating it with the given {@code unit} if there is none.
+     *
+     * @throws IllegalArgumentException if another kind of metric is called {@code name}.
+     */
+    public Histogram histogram(String name, Histogram.Unit unit) {
+        return getOrCreate(name, Histogram.class, () -> new Histogram(unit));
+    }
+
+    /**
+     * Registers a gauge called {@code name} which reads its value from {@code source}, replacing any gauge of the same
+     * name.
+     *
+     * @throws IllegalArgumentException if another kind of metric is called {@code name}.
+     */
+    public Gauge gauge(String name, DoubleSupplier source) {
+        requireNonNull(name);
+        Gauge gauge = new Gauge(source);
+        Object replaced = metrics.put(name, gauge);
+        if (replaced != null && !(replaced instanceof Gauge)) {
+            metrics.put(name, replaced);
+            throw new IllegalArgumentException("Metric " + name + " is not a gauge");
+        }
+        registerMBean(name, gauge);
+        return gauge;
+    }
+
+    /**
+     * Returns every metric by name, in the order of their names.
+     */
+    public Map<String, Object> getMetrics() {
+        return Collections.unmodifiableMap(new LinkedHashMap<>(metrics));
+    }
+
+    /**
+     * Returns the current values of every metric by name, in a form that can be written as JSON.
+     */
+    public Map<String, Map<String, Object>> getSnapshot() {
+        Map<String, Map<String, Object>> snapshot = new TreeMap<>();
+        metrics.forEach((name, metric) -> snapshot.put(name, toValues(metric)));
+        return snapshot;
+    }
+
+    /**
+     * Writes the current values of every metric to {@code filePath} as JSON.
+     */
+    public void saveSnapshot(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        JsonUtil.saveJsonFile(getSnapshot(), filePath);
+    }
+
+    /**
+     * Returns the metric called {@code name}, creating it with {@code factory} if there is none.
+     */
+    private <T> T getOrCreate(String name, Class<T> type, Supplier<T> factory) {
+        requireNonNull(name);
+        Object metric = metrics.get(name);
+        if (metric == null) {
+            boolean[] isCreated = new boolean[1];
+            metric = metrics.computeIfAbsent(name, unused -> {
+                isCreated[0] = true;
+                return factory.get();
+            });
+            if (isCreated[0]) {
+                registerMBean(name, metric);
+            }
+        }
+        if (!type.isInstance(metric)) {
+            throw new IllegalArgumentException("Metric " + name + " is not a " + type.getSimpleName().toLowerCase());
+        }
+        return type.cast(metric);
+    }
+
+    /**
+     * Publishes {@code metric} as an MBean if JMX is enabled, replacing the MBean of the same name. Failures are
+     * logged, as the metric is still usable without JMX.
+     */
+    private void registerMBean(String name, Object metric) {
+        if (!isJmxEnabled) {
+            return;
+        }
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName objectName = new ObjectName(JMX_DOMAIN + ":type=" + metric.getClass().getSimpleName()
+                    + ",name=" + ObjectName.quote(name));
+            if (server.isRegistered(objectName)) {
+                server.unregisterMBean(objectName);
+            }
+            server.registerMBean(metric, objectName);
+        } catch (JMException e) {
+            logger.warning("Could not publish metric " + name + " through JMX: " + e);
+        }
+    }
+
+    /**
+     * Returns the current values of {@code metric} by name.
+     */
+    private static Map<String, Object> toValues(Object metric) {
+        Map<String, Object> values = new LinkedHashMap<>();
+        if (metric instanceof Counter) {
+            values.put("count", ((Counter) metric).getCount());
+        } else if (metric instanceof Gauge) {
+            values.put("value", ((Gauge) metric).getValue());
+        } else {
+            Histogram histogram = (Histogram) metric;
+            values.put("unit", histogram.getUnit());
+            values.put("count", histogram.getCount());
+            values.put("mean", histogram.getMean());
+            values.put("p50", histogram.getP50());
+            values.put("p90", histogram.getP90());
+            values.put("p99", histogram.getP99());
+            values.put("max", histogram.getMax());
+        }
+        return values;
+    }
+}
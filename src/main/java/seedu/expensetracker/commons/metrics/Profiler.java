@@ -0,0 +1,250 @@
+package seedu.expensetracker.commons.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Breaks down the cost of a piece of work, such as a command, into phases. Code which does the work of a phase marks
+ * it with {@link #enter(Phase)} and {@link #exit()}, and the wall time and bytes allocated by the thread in between
+ * are charged to that phase while the thread is being profiled. A phase entered inside another phase is charged
+ * instead of the outer phase, so each phase only holds its own cost.
+ * Marking phases costs a single read of a shared counter while nothing is being profiled.
+ */
+public class Profiler {
+    /**
+     * The phases that the cost of a command is split into.
+     */
+    public enum Phase {
+        PARSE("Parse"),
+        MODEL("Model mutation"),
+        BUDGET("Budget recomputation"),
+        ENCRYPTION("Encryption"),
+        PERSISTENCE("Persistence"),
+        EVENTS("UI event dispatch");
+
+        private final String label;
+
+        Phase(String label) {
+            this.label = label;
+        }
+
+        public String getLabel() {
+            return label;
+        }
+    }
+
+    private static final AtomicInteger activeCount = new AtomicInteger();
+    private static final ThreadLocal<ThreadState> threadState = new ThreadLocal<>();
+
+    private Profiler() {}
+
+    /**
+     * Starts profiling the current thread and returns the profile which its phases are charged to.
+     *
+     * @throws IllegalStateException if the current thread is already being profiled.
+     */
+    public static Profile start() {
+        if (threadState.get() != null) {
+            throw new IllegalStateException("The current thread is already being profiled");
+        }
+        Profile profile = new Profile();
+        threadState.set(new ThreadState(profile));
+        activeCount.incrementAndGet();
+        return profile;
+    }
+
+    /**
+     * Stops profiling the current thread. Phases which are still entered are charged up to now.
+     */
+    public static void stop() {
+        ThreadState state = threadState.get();
+        if (state == null) {
+            return;
+        }
+        while (!state.frames.isEmpty()) {
+            exit();
+        }
+        state.profile.finish();
+        threadState.remove();
+        activeCount.decrementAndGet();
+    }
+
+    /**
+     * Charges the current thread's cost to {@code phase} from now until the matching {@link #exit()}.
+     */
+    public static void enter(Phase phase) {
+        if (activeCount.get() == 0) {
+            return;
+        }
+        ThreadState state = threadState.get();
+        if (state == null) {
+            return;
+        }
+        Frame outer = state.frames.peek();
+        long now = System.nanoTime();
+        long allocated = getAllocatedBytes();
+        if (outer != null) {
+            outer.charge(state.profile, now, allocated);
+        }
+        state.frames.push(new Frame(phase, now, allocated));
+    }
+
+    /**
+     * Ends the phase entered last by the current thread, and resumes charging the phase it was entered in.
+     */
+    public static void exit() {
+        if (activeCount.get() == 0) {
+            return;
+        }
+        ThreadState state = threadState.get();
+        if (state == null || state.frames.isEmpty()) {
+            return;
+        }
+        long now = System.nanoTime();
+        long allocated = getAllocatedBytes();
+        state.frames.pop().charge(state.profile, now, allocated);
+        Frame outer = state.frames.peek();
+        if (outer != null) {
+            outer.startNanos = now;
+            outer.startBytes = allocated;
+        }
+    }
+
+    /**
+     * Returns {@code task} wrapped so that it is profiled with the profile of the current thread when it runs on
+     * another thread, or {@code task} itself if the current thread is not being profiled.
+     */
+    public static Runnable propagate(Runnable task) {
+        if (activeCount.get() == 0) {
+            return task;
+        }
+        ThreadState state = threadState.get();
+        if (state == null) {
+            return task;
+        }
+        Profile profile = state.profile;
+        return () -> {
+            if (threadState.get() != null || profile.isFinished()) {
+                task.run();
+                return;
+            }
+            threadState.set(new ThreadState(profile));
+            activeCount.incrementAndGet();
+            try {
+                task.run();
+            } finally {
+                threadState.remove();
+                activeCount.decrementAndGet();
+            }
+        };
+    }
+
+    /**
+     * Returns the number of bytes allocated by the current thread so far, or 0 if the JVM cannot tell.
+     */
+    private static long getAllocatedBytes() {
+        ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+        if (threadBean instanceof com.sun.management.ThreadMXBean) {
+            long allocated = ((com.sun.management.ThreadMXBean) threadBean)
+                    .getThreadAllocatedBytes(Thread.currentThread().getId());
+            return Math.max(allocated, 0);
+        }
+        return 0;
+    }
+
+    /**
+     * The cost of each phase of a piece of work.
+     */
+    public static class Profile {
+        private final Map<Phase, LongAdder> nanos = new EnumMap<>(Phase.class);
+        private final Map<Phase, LongAdder> bytes = new EnumMap<>(Phase.class);
+        private final long startNanos = System.nanoTime();
+        private volatile long endNanos;
+
+        private Profile() {
+            for (Phase phase : Phase.values()) {
+                nanos.put(phase, new LongAdder());
+                bytes.put(phase, new LongAdder());
+            }
+        }
+
+        public long getNanos(Phase phase) {
+            return nanos.get(phase).sum();
+        }
+
+        public long getAllocatedBytes(Phase phase) {
+            return bytes.get(phase).sum();
+        }
+
+        /**
+         * Returns the wall time from the start of profiling until it was stopped, or until now if it has not.
+         */
+        public long getTotalNanos() {
+            return (isFinished() ? endNanos : System.nanoTime()) - startNanos;
+        }
+
+        /**
+         * Returns the part of the total wall time which was not charged to any phase.
+         */
+        public long getUnattributedNanos() {
+            long attributed = 0;
+            for (Phase phase : Phase.values()) {
+                attributed += getNanos(phase);
+            }
+            return Math.max(getTotalNanos() - attributed, 0);
+        }
+
+        public boolean isFinished() {
+            return endNanos != 0;
+        }
+
+        private void finish() {
+            endNanos = System.nanoTime();
+        }
+
+        private void charge(Phase phase, long phaseNanos, long phaseBytes) {
+            nanos.get(phase).add(phaseNanos);
+            bytes.get(phase).add(phaseBytes);
+        }
+    }
+
+    /**
+     * The profile of a thread and the phases it has entered, innermost first.
+     */
+    private static class ThreadState {
+        private final Profile profile;
+        private final Deque<Frame> frames = new ArrayDeque<>();
+
+        private ThreadState(Profile profile) {
+            this.profile = profile;
+        }
+    }
+
+    /**
+     * A phase entered by a thread, with the time and allocated bytes since it was last charged.
+     */
+    private static class Frame {
+        private final Phase phase;
+        private long startNanos;
+        private long startBytes;
+
+        private Frame(Phase phase, long startNanos, long startBytes) {
+            this.phase = phase;
+            this.startNanos = startNanos;
+            this.startBytes = startBytes;
+        }
+
+        /**
+         * Charges the cost from the start of this frame until now to its phase.
+         */
+        private void charge(Profile profile, long now, long allocated) {
+            profile.charge(phase, now - startNanos, allocated - startBytes);
+        }
+    }
+}
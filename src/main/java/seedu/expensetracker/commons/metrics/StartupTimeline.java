@@ -0,0 +1,87 @@
+package seedu.expensetracker.commons.metrics;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+/**
+ * Records when each stage of the startup of the app began and how long it took, and on which thread, so that stages
+ * run concurrently can be told apart. Milestones such as the first frame being shown are recorded with the time
+ * since the JVM started, which includes the time spent before the app was initialised.
+ */
+public class StartupTimeline {
+    private final long startNanos = System.nanoTime();
+    private final List<Stage> stages = new ArrayList<>();
+
+    /**
+     * Runs {@code supplier} as the stage {@code name} on the current thread, and returns its result.
+     */
+    public <T> T time(String name, Supplier<T> supplier) {
+        requireNonNull(supplier);
+        long start = System.nanoTime();
+        try {
+            return supplier.get();
+        } finally {
+            record(new Stage(name, Thread.currentThread().getName(), start - startNanos, System.nanoTime() - start));
+        }
+    }
+
+    /**
+     * Runs {@code supplier} as the stage {@code name} with {@code executor}, and returns the future of its result.
+     */
+    public <T> CompletableFuture<T> timeAsync(String name, Supplier<T> supplier, Executor executor) {
+        return CompletableFuture.supplyAsync(() -> time(name, supplier), executor);
+    }
+
+    /**
+     * Records that the milestone {@code name} has been reached now.
+     */
+    public void mark(String name) {
+        long uptimeMillis = ManagementFactory.getRuntimeMXBean().getUptime();
+        record(new Stage(name + " (" + uptimeMillis + " ms since JVM start)", Thread.currentThread().getName(),
+                System.nanoTime() - startNanos, 0));
+    }
+
+    private synchronized void record(Stage stage) {
+        stages.add(stage);
+    }
+
+    /**
+     * Returns the stages recorded so far, in the order they began, with their start offset from the creation of this
+     * timeline and their duration in milliseconds.
+     */
+    public synchronized String getReport() {
+        List<Stage> sortedStages = new ArrayList<>(stages);
+        sortedStages.sort(Comparator.comparingLong(stage -> stage.startOffsetNanos));
+        StringBuilder report = new StringBuilder("Startup timing:");
+        report.append(String.format("%n  %9s %9s  %-16s %s", "start ms", "took ms", "thread", "stage"));
+        for (Stage stage : sortedStages) {
+            report.append(String.format("%n  %9.1f %9.1f  %-16s %s", stage.startOffsetNanos / 1e6,
+                    stage.durationNanos / 1e6, stage.threadName, stage.name));
+        }
+        return report.toString();
+    }
+
+    /**
+     * A stage of the startup, or a milestone if it took no time.
+     */
+    private static class Stage {
+        private final String name;
+        private final String threadName;
+        private final long startOffsetNanos;
+        private final long durationNanos;
+
+        private Stage(String name, String threadName, long startOffsetNanos, long durationNanos) {
+            this.name = name;
+            this.threadName = threadName;
+            this.startOffsetNanos = startOffsetNanos;
+            this.durationNanos = durationNanos;
+        }
+    }
+}
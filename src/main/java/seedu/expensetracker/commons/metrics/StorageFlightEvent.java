@@ -0,0 +1,14 @@
+package seedu.expensetracker.commons.metrics;
+
+/**
+ * A Java Flight Recorder event for saving or loading the data of a user.
+ */
+public interface StorageFlightEvent {
+    String OPERATION_SAVE = "save";
+    String OPERATION_LOAD = "load";
+
+    /**
+     * Ends the event after {@code bytes} bytes were saved or loaded and commits it to the running recordings.
+     */
+    void end(long bytes);
+}
@@ -0,0 +1,14 @@
+package seedu.expensetracker.commons.metrics;
+
+/**
+ * A Java Flight Recorder event for encrypting or decrypting the expenses of a whole tracker.
+ */
+public interface TrackerCryptoFlightEvent {
+    String OPERATION_ENCRYPT = "encrypt";
+    String OPERATION_DECRYPT = "decrypt";
+
+    /**
+     * Ends the event after {@code expenseCount} expenses were handled and commits it to the running recordings.
+     */
+    void end(int expenseCount);
+}
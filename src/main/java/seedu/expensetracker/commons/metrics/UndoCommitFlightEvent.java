@@ -0,0 +1,12 @@
+package seedu.expensetracker.commons.metrics;
+
+/**
+ * A Java Flight Recorder event for saving a state of the expense tracker for undoing, which copies every expense.
+ */
+public interface UndoCommitFlightEvent {
+    /**
+     * Ends the event after a state with {@code expenseCount} expenses was saved, leaving {@code stateCount} states,
+     * and commits it to the running recordings.
+     */
+    void end(int expenseCount, int stateCount);
+}
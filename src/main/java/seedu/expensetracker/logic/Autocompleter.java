@@ -0,0 +1,196 @@
+package seedu.expensetracker.logic;
+
+import static seedu.expensetracker.logic.parser.CliSyntax.PREFIX_CATEGORY;
+import static seedu.expensetracker.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.expensetracker.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.expensetracker.logic.parser.CliSyntax;
+import seedu.expensetracker.logic.parser.ExpenseTrackerParser;
+import seedu.expensetracker.logic.parser.Prefix;
+import seedu.expensetracker.model.expense.Expense;
+import seedu.expensetracker.model.tag.Tag;
+
+/**
+ * Completes the command text typed by the user with command words, prefixes, and the names, categories and tags of
+ * the expenses of the current user. Each kind of word is kept in its own {@link PrefixTrie}, weighted by how often
+ * it is used. The expense vocabularies follow the changes to the expense list, so that only the changed expenses are
+ * added or removed.
+ */
+public class Autocompleter {
+    /** The largest number of completions returned. */
+    public static final int MAX_COMPLETIONS = 10;
+
+    private final PrefixTrie commandWords = new PrefixTrie();
+    private final PrefixTrie prefixes = new PrefixTrie();
+    private final PrefixTrie names = new PrefixTrie();
+    private final PrefixTrie categories = new PrefixTrie();
+    private final PrefixTrie tags = new PrefixTrie();
+    private final Map<String, PrefixTrie> valuesOfPrefix = new HashMap<>();
+    private final ListChangeListener<Expense> expenseListener = this::expensesChanged;
+    private ObservableList<Expense> expenses;
+
+    public Autocompleter() {
+        ExpenseTrackerParser.COMMAND_WORDS.forEach(commandWords::add);
+        CliSyntax.ALL_PREFIXES.forEach(prefix -> prefixes.add(prefix.getPrefix()));
+        valuesOfPrefix.put(PREFIX_NAME.getPrefix(), names);
+        valuesOfPrefix.put(PREFIX_CATEGORY.getPrefix(), categories);
+        valuesOfPrefix.put(PREFIX_TAG.getPrefix(), tags);
+    }
+
+    /**
+     * Completes the names, categories and tags of {@code expenses} from now on, following the changes to the list,
+     * or of no expenses if {@code expenses} is null. The list must be kept referenced by this object, as an
+     * unmodifiable view only forwards changes while it is referenced.
+     */
+    public synchronized void setExpenses(ObservableList<Expense> expenses) {
+        if (this.expenses != null) {
+            this.expenses.removeListener(expenseListener);
+        }
+        names.clear();
+        categories.clear();
+        tags.clear();
+        this.expenses = expenses;
+        if (expenses != null) {
+            expenses.forEach(this::addExpense);
+            expenses.addListener(expenseListener);
+        }
+    }
+
+    public synchronized ObservableList<Expense> getExpenses() {
+        return expenses;
+    }
+
+    /**
+     * Counts one more use of the command word and the prefixes of {@code commandText}, so that they are suggested
+     * before the ones used less often. The values of the arguments are not kept.
+     */
+    public synchronized void recordCommand(String commandText) {
+        String[] words = commandText.trim().split("\\s+");
+        if (commandWords.getCount(words[0]) > 0) {
+            commandWords.add(words[0]);
+        }
+        for (int i = 1; i < words.length; i++) {
+            String word = words[i];
+            for (Prefix prefix : CliSyntax.ALL_PREFIXES) {
+                if (word.startsWith(prefix.getPrefix())) {
+                    prefixes.add(prefix.getPrefix());
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the ways {@code commandText} can be completed, the most frequently used first. The first word is
+     * completed with a command word. The value after the last prefix is completed with the names, categories or tags
+     * of the expenses, and other words are completed with prefixes.
+     */
+    public synchronized List<String> getCompletions(String commandText) {
+        int textStart = 0;
+        while (textStart < commandText.length() && Character.isWhitespace(commandText.charAt(textStart))) {
+            textStart++;
+        }
+        int tokenStart = lastIndexOfWhitespace(commandText) + 1;
+        if (tokenStart <= textStart) {
+            return complete(commandText, textStart, commandWords);
+        }
+
+        int prefixStart = findLastPrefixStart(commandText, textStart);
+        if (prefixStart >= 0) {
+            String prefix = commandText.substring(prefixStart, commandText.indexOf('/', prefixStart) + 1);
+            PrefixTrie values = valuesOfPrefix.get(prefix);
+            if (values != null) {
+                List<String> completions = complete(commandText, prefixStart + prefix.length(), values);
+                if (!completions.isEmpty()) {
+                    return completions;
+                }
+            }
+        }
+        if (tokenStart == commandText.length()) {
+            return Collections.emptyList();
+        }
+        return complete(commandText, tokenStart, prefixes);
+    }
+
+    /**
+     * Returns the completions of the part of {@code commandText} from {@code start} with the words of {@code trie},
+     * each with the text before {@code start} in front of it.
+     */
+    private static List<String> complete(String commandText, int start, PrefixTrie trie) {
+        String head = commandText.substring(0, start);
+        List<String> completions = new ArrayList<>();
+        for (String word : trie.getCompletions(commandText.substring(start), MAX_COMPLETIONS)) {
+            completions.add(head + word);
+        }
+        return completions;
+    }
+
+    /**
+     * Returns the index of the last prefix in {@code commandText} which begins a word after the command word, or -1
+     * if there is none.
+     */
+    private static int findLastPrefixStart(String commandText, int textStart) {
+        int prefixStart = -1;
+        for (Prefix prefix : CliSyntax.ALL_PREFIXES) {
+            int index = commandText.lastIndexOf(" " + prefix.getPrefix());
+            if (index >= textStart) {
+                prefixStart = Math.max(prefixStart, index + 1);
+            }
+        }
+        return prefixStart;
+    }
+
+    /**
+     * Returns the index of the last whitespace in {@code text}, or -1 if there is none.
+     */
+    private static int lastIndexOfWhitespace(String text) {
+        for (int i = text.length() - 1; i >= 0; i--) {
+            if (Character.isWhitespace(text.charAt(i))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Updates the vocabularies with the expenses added to and removed from the expense list.
+     */
+    private synchronized void expensesChanged(ListChangeListener.Change<? extends Expense> change) {
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                continue;
+            }
+            change.getRemoved().forEach(this::removeExpense);
+            change.getAddedSubList().forEach(this::addExpense);
+        }
+    }
+
+    /**
+     * Adds the name, category and tags of {@code expense} to the vocabularies.
+     */
+    private void addExpense(Expense expense) {
+        names.add(expense.getName().expenseName);
+        categories.add(expense.getCategory().categoryName);
+        for (Tag tag : expense.getTags()) {
+            tags.add(tag.tagName);
+        }
+    }
+
+    /**
+     * Removes one occurrence of the name, category and tags of {@code expense} from the vocabularies.
+     */
+    private void removeExpense(Expense expense) {
+        names.remove(expense.getName().expenseName);
+        categories.remove(expense.getCategory().categoryName);
+        for (Tag tag : expense.getTags()) {
+            tags.remove(tag.tagName);
+        }
+    }
+}
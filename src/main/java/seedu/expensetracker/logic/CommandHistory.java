@@ -1,37 +1,136 @@
 package seedu.expensetracker.logic;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.expensetracker.logic.parser.CliSyntax.PREFIX_NEW_PASSWORD;
+import static seedu.expensetracker.logic.parser.CliSyntax.PREFIX_OLD_PASSWORD;
+import static seedu.expensetracker.logic.parser.CliSyntax.PREFIX_PASSWORD;
 
-import java.util.LinkedList;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
 import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import seedu.expensetracker.logic.commands.LoginCommand;
+import seedu.expensetracker.logic.commands.SetPasswordCommand;
+import seedu.expensetracker.logic.commands.SignUpCommand;
 
 /**
- * Stores the history of commands executed.
+ * Stores the history of commands executed, up to a fixed number of the most recent commands.
+ * The commands are kept in a ring buffer, so that adding a command takes constant time and overwrites the oldest
+ * command once the history is full.
  */
 public class CommandHistory {
-    private LinkedList<String> userInputHistory;
+    /** The number of commands kept when no capacity is given. */
+    public static final int DEFAULT_CAPACITY = 1000;
+    /** The text replacing the passwords in redacted commands. */
+    public static final String REDACTED = "****";
+
+    private static final Set<String> PASSWORD_COMMAND_WORDS = Set.of(
+            LoginCommand.COMMAND_WORD, LoginCommand.COMMAND_ALIAS,
+            SignUpCommand.COMMAND_WORD, SignUpCommand.COMMAND_ALIAS,
+            SetPasswordCommand.COMMAND_WORD, SetPasswordCommand.COMMAND_ALIAS);
+    private static final Pattern PASSWORD_ARGUMENT = Pattern.compile("(\\s(?:" + PREFIX_PASSWORD.getPrefix() + "|"
+            + PREFIX_OLD_PASSWORD.getPrefix() + "|" + PREFIX_NEW_PASSWORD.getPrefix() + "))\\S*");
+
+    private final String[] userInputHistory;
+    /** The number of commands ever added, so that the command at absolute position i is at i % capacity. */
+    private long added;
 
     public CommandHistory() {
-        userInputHistory = new LinkedList<>();
+        this(DEFAULT_CAPACITY);
+    }
+
+    public CommandHistory(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("The capacity of the command history must be positive");
+        }
+        userInputHistory = new String[capacity];
     }
 
     public CommandHistory(CommandHistory commandHistory) {
-        userInputHistory = new LinkedList<>(commandHistory.userInputHistory);
+        this(commandHistory.getCapacity());
+        commandHistory.getSnapshot().forEach(this::add);
     }
 
     /**
-     * Appends {@code userInput} to the list of user input entered.
+     * Appends {@code userInput} to the list of user input entered, dropping the oldest input if the history is full.
      */
-    public void add(String userInput) {
+    public synchronized void add(String userInput) {
         requireNonNull(userInput);
-        userInputHistory.add(userInput);
+        userInputHistory[(int) (added % userInputHistory.length)] = userInput;
+        added++;
+    }
+
+    public int getCapacity() {
+        return userInputHistory.length;
     }
 
     /**
-     * Returns a defensive copy of {@code userInputHistory}.
+     * Returns the number of commands in the history.
+     */
+    public synchronized int size() {
+        return (int) Math.min(added, userInputHistory.length);
+    }
+
+    /**
+     * Returns a defensive copy of the commands in the history, from the earliest to the most recent.
      */
     public List<String> getHistory() {
-        return new LinkedList<>(userInputHistory);
+        return new ArrayList<>(getSnapshot());
+    }
+
+    /**
+     * Returns a read-only view of the commands in the history at the time of the call, from the earliest to the most
+     * recent, without copying them. Commands added later do not appear in the view.
+     * Reading a command of the view after it has been overwritten by a later command throws
+     * {@code ConcurrentModificationException}.
+     */
+    public synchronized List<String> getSnapshot() {
+        long start = added - size();
+        int size = size();
+        return new AbstractList<String>() {
+            @Override
+            public String get(int index) {
+                if (index < 0 || index >= size) {
+                    throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+                }
+                return getAbsolute(start + index);
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    /**
+     * Returns the command which was the {@code position}-th command ever added.
+     * @throws ConcurrentModificationException if the command has been overwritten.
+     */
+    private synchronized String getAbsolute(long position) {
+        if (position < added - userInputHistory.length) {
+            throw new ConcurrentModificationException("The command has been dropped from the history");
+        }
+        return userInputHistory[(int) (position % userInputHistory.length)];
+    }
+
+    /**
+     * Returns {@code userInput} with the values of its password arguments replaced by {@link #REDACTED} if it is a
+     * command which takes passwords, or {@code userInput} itself otherwise.
+     */
+    public static String redactPasswords(String userInput) {
+        String trimmedInput = userInput.trim();
+        int commandWordEnd = 0;
+        while (commandWordEnd < trimmedInput.length() && !Character.isWhitespace(trimmedInput.charAt(commandWordEnd))) {
+            commandWordEnd++;
+        }
+        if (!PASSWORD_COMMAND_WORDS.contains(trimmedInput.substring(0, commandWordEnd))) {
+            return userInput;
+        }
+        return PASSWORD_ARGUMENT.matcher(userInput).replaceAll("$1" + REDACTED);
     }
 
     @Override
@@ -48,11 +147,11 @@ public class CommandHistory {
 
         // state check
         CommandHistory other = (CommandHistory) obj;
-        return userInputHistory.equals(other.userInputHistory);
+        return getHistory().equals(other.getHistory());
     }
 
     @Override
     public int hashCode() {
-        return userInputHistory.hashCode();
+        return getHistory().hashCode();
     }
 }
@@ -0,0 +1,111 @@
+package seedu.expensetracker.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+import seedu.expensetracker.model.expense.Expense;
+
+/**
+ * Evaluates the query of a find command while it is being typed, to preview its results.
+ * Each query is evaluated on a background thread against an immutable snapshot of the expenses. A newer query
+ * cancels the evaluation of the older ones, which stop at their next check and are never published, so that only the
+ * results of the latest query are handed to the publisher.
+ */
+public class FindPreview {
+    /** Number of expenses tested between two checks for a newer query. */
+    public static final int CANCELLATION_CHECK_INTERVAL = 1024;
+
+    private final Executor publisher;
+    private final AtomicInteger generation = new AtomicInteger();
+    private Executor evaluator;
+
+    /**
+     * Creates a preview which evaluates queries on its own background thread and publishes the results with
+     * {@code publisher}.
+     */
+    public FindPreview(Executor publisher) {
+        this(null, publisher);
+    }
+
+    /**
+     * Creates a preview which evaluates queries with {@code evaluator} and publishes the results with
+     * {@code publisher}, or evaluates them on its own background thread if {@code evaluator} is null.
+     */
+    public FindPreview(Executor evaluator, Executor publisher) {
+        this.evaluator = evaluator;
+        this.publisher = requireNonNull(publisher);
+    }
+
+    /**
+     * Cancels the query being evaluated, and evaluates {@code predicate} against {@code snapshot}. The matching
+     * expenses are handed to {@code onResult} with the publisher, unless a newer query was given by then.
+     */
+    public void update(Predicate<Expense> predicate, List<Expense> snapshot, Consumer<List<Expense>> onResult) {
+        requireNonNull(predicate);
+        requireNonNull(snapshot);
+        requireNonNull(onResult);
+        int queryGeneration = generation.incrementAndGet();
+        getEvaluator().execute(() -> {
+            List<Expense> matches = evaluate(predicate, snapshot, queryGeneration);
+            if (matches == null) {
+                return;
+            }
+            publisher.execute(() -> {
+                if (isLatest(queryGeneration)) {
+                    onResult.accept(matches);
+                }
+            });
+        });
+    }
+
+    /**
+     * Cancels the query being evaluated, so that its results are not published.
+     */
+    public void cancel() {
+        generation.incrementAndGet();
+    }
+
+    /**
+     * Returns the expenses of {@code snapshot} matching {@code predicate}, or null if a newer query was given before
+     * the evaluation finished.
+     */
+    private List<Expense> evaluate(Predicate<Expense> predicate, List<Expense> snapshot, int queryGeneration) {
+        List<Expense> matches = new ArrayList<>();
+        for (int i = 0; i < snapshot.size(); i++) {
+            if (i % CANCELLATION_CHECK_INTERVAL == 0 && !isLatest(queryGeneration)) {
+                return null;
+            }
+            Expense expense = snapshot.get(i);
+            if (predicate.test(expense)) {
+                matches.add(expense);
+            }
+        }
+        return isLatest(queryGeneration) ? Collections.unmodifiableList(matches) : null;
+    }
+
+    private boolean isLatest(int queryGeneration) {
+        return generation.get() == queryGeneration;
+    }
+
+    /**
+     * Returns the executor which evaluates the queries, starting the background thread the first time it is needed.
+     */
+    private synchronized Executor getEvaluator() {
+        if (evaluator == null) {
+            evaluator = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "find-preview");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return evaluator;
+    }
+}
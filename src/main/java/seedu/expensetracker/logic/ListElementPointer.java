@@ -13,7 +13,9 @@ import java.util.NoSuchElementException;
  * {@code next()} and {@code previous()}, the next and previous elements are returned respectively.
  */
 public class ListElementPointer {
-    private List<String> list;
+    private final List<String> list;
+    /** The elements appended to the end of {@code list}, which is never modified. */
+    private final List<String> appended = new ArrayList<>();
     private int index;
 
     /**
@@ -21,15 +23,31 @@ public class ListElementPointer {
      * The cursor points to the last element in {@code list}.
      */
     public ListElementPointer(List<String> list) {
-        this.list = new ArrayList<>(list);
-        index = this.list.size() - 1;
+        this(new ArrayList<>(list), list.size() - 1);
+    }
+
+    /**
+     * Constructs {@code ListElementPointer} which is backed by {@code list} itself, with the cursor at {@code index}.
+     */
+    private ListElementPointer(List<String> list, int index) {
+        this.list = list;
+        this.index = index;
+    }
+
+    /**
+     * Returns a {@code ListElementPointer} which is backed by {@code list} itself rather than a copy of it, so that it
+     * is created in constant time. {@code list} must not be modified while the pointer is in use.
+     * The cursor points to the last element in {@code list}.
+     */
+    public static ListElementPointer over(List<String> list) {
+        return new ListElementPointer(list, list.size() - 1);
     }
 
     /**
      * Appends {@code element} to the end of the list.
      */
     public void add(String element) {
-        list.add(element);
+        appended.add(element);
     }
 
     /**
@@ -56,7 +74,18 @@ public class ListElementPointer {
     }
 
     private boolean isWithinBounds(int index) {
-        return index >= 0 && index < list.size();
+        return index >= 0 && index < size();
+    }
+
+    private int size() {
+        return list.size() + appended.size();
+    }
+
+    /**
+     * Returns the element at {@code index}, which is either in the backing list or appended to it.
+     */
+    private String get(int index) {
+        return index < list.size() ? list.get(index) : appended.get(index - list.size());
     }
 
     /**
@@ -67,7 +96,7 @@ public class ListElementPointer {
         if (!hasNext()) {
             throw new NoSuchElementException();
         }
-        return list.get(++index);
+        return get(++index);
     }
 
     /**
@@ -78,7 +107,7 @@ public class ListElementPointer {
         if (!hasPrevious()) {
             throw new NoSuchElementException();
         }
-        return list.get(--index);
+        return get(--index);
     }
 
     /**
@@ -89,7 +118,7 @@ public class ListElementPointer {
         if (!hasCurrent()) {
             throw new NoSuchElementException();
         }
-        return list.get(index);
+        return get(index);
     }
 
     @Override
@@ -106,6 +135,15 @@ public class ListElementPointer {
 
         // state check
         ListElementPointer iterator = (ListElementPointer) other;
-        return list.equals(iterator.list) && index == iterator.index;
+        return index == iterator.index && toList().equals(iterator.toList());
+    }
+
+    /**
+     * Returns a copy of the elements of the backing list followed by the appended elements.
+     */
+    private List<String> toList() {
+        List<String> elements = new ArrayList<>(list);
+        elements.addAll(appended);
+        return elements;
     }
 }
@@ -1,7 +1,9 @@
 package seedu.expensetracker.logic;
 
 import java.util.Iterator;
-import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 
@@ -33,6 +35,26 @@ public interface Logic {
     CommandResult execute(String commandText) throws CommandException, ParseException, NoUserSelectedException,
             UserAlreadyExistsException, NonExistentUserException, InvalidDataException;
 
+    /**
+     * Parses {@code commandText} without executing it, and returns the predicate of the expenses it finds if it is a
+     * valid find command.
+     * @return the predicate of the find command, or an empty Optional if {@code commandText} is not a valid find
+     *     command.
+     */
+    Optional<Predicate<Expense>> parseFindPredicate(String commandText);
+
+    /**
+     * Returns an immutable copy of the expenses loaded for the current user, which can be read from any thread.
+     * @throws NoUserSelectedException
+     */
+    List<Expense> getExpenseSnapshot() throws NoUserSelectedException;
+
+    /**
+     * Returns the ways {@code commandText} can be completed with command words, prefixes, and the names, categories
+     * and tags of the expenses of the current user, the most frequently used first.
+     */
+    List<String> getCompletions(String commandText);
+
     TotalBudget getMaximumBudget() throws NoUserSelectedException;
 
     /**
@@ -42,11 +64,11 @@ public interface Logic {
     ObservableList<Expense> getFilteredExpenseList() throws NoUserSelectedException;
 
     /**
-     * Returns a map of expenses with key and value pair representing data for the statistics chart
-     * @return a LinkedHashMap of expenses for the bar chart
+     * Returns a series of expenses with key and value pair representing data for the statistics chart
+     * @return a StatsSeries of expenses for the chart
      * @throws NoUserSelectedException
      */
-    LinkedHashMap<String, Double> getExpenseStats() throws NoUserSelectedException;
+    StatsSeries getExpenseStats() throws NoUserSelectedException;
 
     /**
      * @return a {@code StatsMode} representing the current mode of statistics
@@ -66,6 +88,9 @@ public interface Logic {
      */
     int getPeriodAmount() throws NoUserSelectedException;
 
+    /** Returns true if the expense data of every user has been loaded, which is not yet the case at startup. */
+    boolean isDataLoaded();
+
     /** Returns the list of input entered by the user, encapsulated in a {@code ListElementPointer} object */
     ListElementPointer getHistorySnapshot();
 
@@ -1,21 +1,39 @@
 package seedu.expensetracker.logic;
 
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Iterator;
-import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.function.Predicate;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
 import seedu.expensetracker.commons.core.ComponentManager;
 import seedu.expensetracker.commons.core.LogsCenter;
+import seedu.expensetracker.commons.events.logic.CommandEnteredEvent;
+import seedu.expensetracker.commons.metrics.CommandFlightEvent;
+import seedu.expensetracker.commons.metrics.FlightRecorderEvents;
+import seedu.expensetracker.commons.metrics.Histogram;
+import seedu.expensetracker.commons.metrics.MetricsRegistry;
+import seedu.expensetracker.commons.metrics.Profiler;
+import seedu.expensetracker.commons.metrics.Profiler.Phase;
+import seedu.expensetracker.commons.util.StringUtil;
 import seedu.expensetracker.logic.commands.Command;
 import seedu.expensetracker.logic.commands.CommandResult;
+import seedu.expensetracker.logic.commands.FindCommand;
+import seedu.expensetracker.logic.commands.ProfileCommand;
 import seedu.expensetracker.logic.commands.StatsCommand.StatsMode;
 import seedu.expensetracker.logic.commands.StatsCommand.StatsPeriod;
 import seedu.expensetracker.logic.commands.exceptions.CommandException;
 import seedu.expensetracker.logic.parser.ExpenseTrackerParser;
 import seedu.expensetracker.logic.parser.exceptions.ParseException;
 import seedu.expensetracker.model.Model;
+import seedu.expensetracker.model.ReadOnlyExpenseTracker;
 import seedu.expensetracker.model.budget.CategoryBudget;
 import seedu.expensetracker.model.budget.TotalBudget;
 import seedu.expensetracker.model.exceptions.InvalidDataException;
@@ -29,30 +47,196 @@ import seedu.expensetracker.model.notification.Notification;
  * The main LogicManager of the app.
  */
 public class LogicManager extends ComponentManager implements Logic {
+    /** The name of the latency histogram of command texts which could not be parsed. */
+    public static final String METRIC_INVALID_COMMAND = "command.invalid";
+    /** The name of the counter of commands which could not be parsed or executed. */
+    public static final String METRIC_FAILED_COMMANDS = "command.failed";
+
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
     private final CommandHistory history;
     private final ExpenseTrackerParser expenseTrackerParser;
+    private final Autocompleter autocompleter = new Autocompleter();
+    private final Future<?> dataLoaded;
+    private final boolean isHistorySaved;
+    private ReadOnlyExpenseTracker completedTracker;
 
     public LogicManager(Model model) {
+        this(model, new CommandHistory());
+    }
+
+    public LogicManager(Model model, CommandHistory history) {
+        this(model, history, CompletableFuture.completedFuture(null));
+    }
+
+    /**
+     * Creates a {@code LogicManager} whose entered commands are only saved to the command history file if
+     * {@code isHistorySaved}, e.g. not for the commands of the clients of a server, which would all be saved to the
+     * same file.
+     */
+    public LogicManager(Model model, boolean isHistorySaved) {
+        this(model, new CommandHistory(), CompletableFuture.completedFuture(null), isHistorySaved);
+    }
+
+    /**
+     * Creates a {@code LogicManager} whose commands wait until {@code dataLoaded} is done, for the users of the model
+     * to be loaded while the app starts up.
+     */
+    public LogicManager(Model model, CommandHistory history, Future<?> dataLoaded) {
+        this(model, history, dataLoaded, true);
+    }
+
+    private LogicManager(Model model, CommandHistory history, Future<?> dataLoaded, boolean isHistorySaved) {
         this.model = model;
-        history = new CommandHistory();
+        this.history = history;
+        this.dataLoaded = dataLoaded;
+        this.isHistorySaved = isHistorySaved;
         expenseTrackerParser = new ExpenseTrackerParser();
     }
 
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException, NoUserSelectedException,
             UserAlreadyExistsException, NonExistentUserException, InvalidDataException {
-        logger.info("----------------[USER COMMAND][" + commandText + "]");
+        logger.info(() -> "----------------[USER COMMAND][" + commandText + "]");
+        awaitDataLoaded();
+        return run(commandText, commandText);
+    }
+
+    /**
+     * Parses and executes {@code commandText}, and records {@code enteredText} as the command entered. A profiled
+     * command is run with this method too, with the text of the profile command entered, so that its profile holds
+     * the same work as entering the command.
+     */
+    private CommandResult run(String commandText, String enteredText) throws CommandException, ParseException,
+            NoUserSelectedException, UserAlreadyExistsException, NonExistentUserException, InvalidDataException {
+        long start = System.nanoTime();
+        String metricName = METRIC_INVALID_COMMAND;
+        String failure = null;
+        boolean isRecorded = true;
+        CommandFlightEvent flightEvent =
+                FlightRecorderEvents.isEnabled() ? FlightRecorderEvents.newCommandEvent(commandText) : null;
         try {
-            Command command = expenseTrackerParser.parseCommand(commandText);
-            return command.execute(model, history);
+            Command command;
+            Profiler.enter(Phase.PARSE);
+            try {
+                command = expenseTrackerParser.parseCommand(commandText);
+            } finally {
+                Profiler.exit();
+            }
+            if (command instanceof ProfileCommand) {
+                // the profiled command is recorded instead, so the profile includes recording it
+                isRecorded = false;
+                return ((ProfileCommand) command).profile(profiledText -> run(profiledText, enteredText));
+            }
+            autocompleter.recordCommand(commandText);
+            metricName = getMetricName(command);
+            if (flightEvent != null) {
+                flightEvent.endParse();
+            }
+            Profiler.enter(Phase.MODEL);
+            try {
+                return command.execute(model, history);
+            } finally {
+                Profiler.exit();
+            }
+        } catch (Exception e) {
+            failure = e.getClass().getSimpleName();
+            throw e;
         } finally {
-            history.add(commandText);
+            if (isRecorded) {
+                record(enteredText, start, metricName, failure, flightEvent);
+            }
+        }
+    }
+
+    /**
+     * Records {@code enteredText} in the history, and the latency of the command started at {@code start} in its
+     * metric and flight event. {@code failure} is the simple name of the exception the command failed with, or null
+     * if it succeeded.
+     */
+    private void record(String enteredText, long start, String metricName, String failure,
+            CommandFlightEvent flightEvent) {
+        history.add(enteredText);
+        if (isHistorySaved) {
+            raise(new CommandEnteredEvent(CommandHistory.redactPasswords(enteredText)));
+        }
+        MetricsRegistry metrics = MetricsRegistry.getInstance();
+        metrics.histogram(metricName, Histogram.Unit.NANOSECONDS).recordSince(start);
+        if (failure != null) {
+            metrics.counter(METRIC_FAILED_COMMANDS).increment();
+        }
+        if (flightEvent != null) {
+            flightEvent.end(failure == null ? CommandFlightEvent.RESULT_SUCCESS : failure);
         }
     }
 
+    /**
+     * Waits until the users of the model are loaded. A command entered while the app is still starting up is only
+     * executed once all the users are known.
+     */
+    private void awaitDataLoaded() {
+        if (dataLoaded.isDone()) {
+            return;
+        }
+        logger.info("Waiting for the expense data to be loaded");
+        try {
+            dataLoaded.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            logger.warning("Failed to load the expense data: " + StringUtil.getDetails(e.getCause()));
+        }
+    }
+
+    @Override
+    public boolean isDataLoaded() {
+        return dataLoaded.isDone();
+    }
+
+    /**
+     * Returns the name of the latency histogram of {@code command}, which is named after its class, e.g.
+     * {@code command.setCategoryBudget} for {@code SetCategoryBudgetCommand}.
+     */
+    static String getMetricName(Command command) {
+        String name = command.getClass().getSimpleName().replaceFirst("Command$", "");
+        return "command." + Character.toLowerCase(name.charAt(0)) + name.substring(1);
+    }
+
+    @Override
+    public Optional<Predicate<Expense>> parseFindPredicate(String commandText) {
+        try {
+            Command command = expenseTrackerParser.parseCommand(commandText);
+            if (command instanceof FindCommand) {
+                return Optional.of(((FindCommand) command).getPredicate());
+            }
+        } catch (ParseException pe) {
+            logger.finer("Command text is not a valid command yet");
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public List<String> getCompletions(String commandText) {
+        ReadOnlyExpenseTracker tracker = null;
+        try {
+            tracker = model.hasSelectedUser() ? model.getExpenseTracker() : null;
+        } catch (NoUserSelectedException nuse) {
+            // only command words and prefixes are completed before a user logs in
+        }
+        if (tracker != completedTracker) {
+            // the vocabularies are rebuilt when another user logs in, and kept up to date after that
+            completedTracker = tracker;
+            autocompleter.setExpenses(tracker == null ? null : tracker.getExpenseList());
+        }
+        return autocompleter.getCompletions(commandText);
+    }
+
+    @Override
+    public List<Expense> getExpenseSnapshot() throws NoUserSelectedException {
+        return Collections.unmodifiableList(new ArrayList<>(model.getExpenseTracker().getExpenseList()));
+    }
+
     @Override
     public ObservableList<Expense> getFilteredExpenseList() throws NoUserSelectedException {
         return model.getFilteredExpenseList();
@@ -67,14 +251,14 @@ public class LogicManager extends ComponentManager implements Logic {
     //@@author jonathantjm
 
     /**
-     * Returns a map of expenses with key and value pair representing data for the statistics chart.
+     * Returns a series of expenses with key and value pair representing data for the statistics chart.
      * The method will get the expense stats from {@code Model} then, depending on {@code statsMode},
-     * the method will call helper functions which will return the relevant map data.
+     * the method will call helper functions which will return the relevant series data.
      *
-     * @return LinkedHashMap of String key and Double value
+     * @return StatsSeries of String key and double value
      * @throws NoUserSelectedException
      */
-    public LinkedHashMap<String, Double> getExpenseStats() throws NoUserSelectedException {
+    public StatsSeries getExpenseStats() throws NoUserSelectedException {
         ObservableList<Expense> expenseList = model.getExpenseStats();
         StatsPeriod statsPeriod = model.getStatsPeriod();
         StatsMode statsMode = model.getStatsMode();
@@ -86,20 +270,17 @@ public class LogicManager extends ComponentManager implements Logic {
     }
 
     /**
-     * Returns a map of expenses with key and value pair representing data for the statistics chart.
+     * Returns a series of expenses with key and value pair representing data for the statistics chart.
      * If {@code statsPeriod} is set to month, the key will be the different months in the period. Otherwise,
      * the key will be the different days in the period.
      * The value represents the cumulative cost for that day or month.
      *
      * @param expenseList a list of expenses
      * @param statsPeriod a {@code StatsPeriod} enum representing the period
-     * @return the map of data used for the statistics
+     * @return the series of data used for the statistics
      */
-    private LinkedHashMap<String, Double> getTimeBasedStats(
-        ObservableList<Expense> expenseList,
-        StatsPeriod statsPeriod
-    ) {
-        LinkedHashMap<String, Double> stats = new LinkedHashMap<>();
+    private StatsSeries getTimeBasedStats(ObservableList<Expense> expenseList, StatsPeriod statsPeriod) {
+        StatsSeries stats = new StatsSeries();
         for (Expense e : expenseList) {
             String period;
             if (statsPeriod == statsPeriod.DAY) {
@@ -107,41 +288,23 @@ public class LogicManager extends ComponentManager implements Logic {
             } else {
                 period = e.getDate().getFullDate().format(DateTimeFormatter.ofPattern("dd-MM-yyyy"));
             }
-
-            if (stats.containsKey(period)) {
-                stats.put(
-                        period,
-                        stats.get(period) + e.getCost().getCostValue()
-                );
-            } else {
-                stats.put(period, e.getCost().getCostValue());
-            }
+            stats.add(period, e.getCost().getCostValue());
         }
         return stats;
     }
 
     /**
-     * Returns a map of expenses with key and value pair representing data for the statistics chart.
+     * Returns a series of expenses with key and value pair representing data for the statistics chart.
      * The key represents the different categories.
      * The value represents the cumulative cost for that day or month.
      *
      * @param expenseList a list of expenses
-     * @return the map of data used for the statistics
+     * @return the series of data used for the statistics
      */
-    private LinkedHashMap<String, Double> getCategoryBasedStats(ObservableList<Expense> expenseList) {
-        LinkedHashMap<String, Double> stats = new LinkedHashMap<>();
+    private StatsSeries getCategoryBasedStats(ObservableList<Expense> expenseList) {
+        StatsSeries stats = new StatsSeries();
         for (Expense e : expenseList) {
-            String category;
-            category = e.getCategory().categoryName;
-
-            if (stats.containsKey(category)) {
-                stats.put(
-                        category,
-                        stats.get(category) + e.getCost().getCostValue()
-                );
-            } else {
-                stats.put(category, e.getCost().getCostValue());
-            }
+            stats.add(e.getCategory().categoryName, e.getCost().getCostValue());
         }
         return stats;
     }
@@ -168,7 +331,7 @@ public class LogicManager extends ComponentManager implements Logic {
     }
 
     public ListElementPointer getHistorySnapshot() {
-        return new ListElementPointer(history.getHistory());
+        return ListElementPointer.over(history.getSnapshot());
     }
 
     public Iterator<CategoryBudget> getCategoryBudgets() throws NoUserSelectedException {
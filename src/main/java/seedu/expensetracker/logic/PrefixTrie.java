@@ -0,0 +1,202 @@
+package seedu.expensetracker.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * A set of words with a count for each, which finds the most frequent words starting with a prefix.
+ * Words are matched case-insensitively, and are returned as they were last added.
+ * Each node keeps the largest count of the words below it, so that the most frequent completions are found by
+ * visiting the nodes in order of that count, without visiting every word which starts with the prefix.
+ */
+public class PrefixTrie {
+    private static final Comparator<Candidate> BY_COUNT_THEN_KEY = Comparator
+            .comparingInt((Candidate candidate) -> -candidate.count)
+            .thenComparing(candidate -> candidate.key);
+
+    private final Node root = new Node();
+    private int size;
+
+    /**
+     * Adds one occurrence of {@code word}.
+     */
+    public void add(String word) {
+        add(word, 1);
+    }
+
+    /**
+     * Adds {@code count} occurrences of {@code word}.
+     */
+    public void add(String word, int count) {
+        requireNonNull(word);
+        assert count > 0;
+        List<Node> path = getPath(word, true);
+        Node node = path.get(path.size() - 1);
+        if (node.count == 0) {
+            size++;
+        }
+        node.count += count;
+        node.word = word;
+        updateMaxCounts(path);
+    }
+
+    /**
+     * Removes one occurrence of {@code word}, and the word itself once it has no occurrences left.
+     * Does nothing if {@code word} is not in the trie.
+     */
+    public void remove(String word) {
+        requireNonNull(word);
+        List<Node> path = getPath(word, false);
+        if (path == null || path.get(path.size() - 1).count == 0) {
+            return;
+        }
+        Node node = path.get(path.size() - 1);
+        node.count--;
+        if (node.count == 0) {
+            node.word = null;
+            size--;
+        }
+        updateMaxCounts(path);
+    }
+
+    /**
+     * Returns the number of occurrences of {@code word}.
+     */
+    public int getCount(String word) {
+        List<Node> path = getPath(word, false);
+        return path == null ? 0 : path.get(path.size() - 1).count;
+    }
+
+    /**
+     * Returns the number of distinct words.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Removes every word.
+     */
+    public void clear() {
+        root.children.clear();
+        root.count = 0;
+        root.maxCount = 0;
+        root.word = null;
+        size = 0;
+    }
+
+    /**
+     * Returns at most {@code limit} words starting with {@code prefix}, the most frequent first. Words with the same
+     * count are in alphabetical order.
+     */
+    public List<String> getCompletions(String prefix, int limit) {
+        requireNonNull(prefix);
+        List<String> completions = new ArrayList<>();
+        List<Node> path = getPath(prefix, false);
+        if (path == null || limit <= 0) {
+            return completions;
+        }
+        Node start = path.get(path.size() - 1);
+        PriorityQueue<Candidate> candidates = new PriorityQueue<>(BY_COUNT_THEN_KEY);
+        candidates.add(new Candidate(start, toKey(prefix), start.maxCount, false));
+        while (!candidates.isEmpty() && completions.size() < limit) {
+            Candidate candidate = candidates.poll();
+            if (candidate.count == 0) {
+                break;
+            }
+            if (candidate.isWord) {
+                completions.add(candidate.node.word);
+                continue;
+            }
+            Node node = candidate.node;
+            if (node.count > 0) {
+                candidates.add(new Candidate(node, candidate.key, node.count, true));
+            }
+            for (Map.Entry<Character, Node> child : node.children.entrySet()) {
+                candidates.add(new Candidate(child.getValue(), candidate.key + child.getKey(),
+                        child.getValue().maxCount, false));
+            }
+        }
+        return completions;
+    }
+
+    /**
+     * Returns the nodes from the root to the node of {@code word}. Missing nodes are created if {@code create} is
+     * true, otherwise null is returned if the node of {@code word} does not exist.
+     */
+    private List<Node> getPath(String word, boolean create) {
+        String key = toKey(word);
+        List<Node> path = new ArrayList<>(key.length() + 1);
+        Node node = root;
+        path.add(node);
+        for (int i = 0; i < key.length(); i++) {
+            Node child = node.children.get(key.charAt(i));
+            if (child == null) {
+                if (!create) {
+                    return null;
+                }
+                child = new Node();
+                node.children.put(key.charAt(i), child);
+            }
+            node = child;
+            path.add(node);
+        }
+        return path;
+    }
+
+    /**
+     * Recomputes the largest counts of the nodes on {@code path} from the bottom up, after the count of its last node
+     * was changed. Nodes left without words are removed.
+     */
+    private static void updateMaxCounts(List<Node> path) {
+        for (int i = path.size() - 1; i >= 0; i--) {
+            Node node = path.get(i);
+            int maxCount = node.count;
+            for (Node child : node.children.values()) {
+                maxCount = Math.max(maxCount, child.maxCount);
+            }
+            node.maxCount = maxCount;
+            if (maxCount == 0 && i > 0) {
+                path.get(i - 1).children.values().remove(node);
+            }
+        }
+    }
+
+    private static String toKey(String word) {
+        return word.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * A node of the trie, for the word made of the characters on the path to it.
+     */
+    private static class Node {
+        private final Map<Character, Node> children = new HashMap<>(4);
+        private String word;
+        private int count;
+        private int maxCount;
+    }
+
+    /**
+     * A node waiting to be visited, or a word waiting to be returned, while completions are being found.
+     */
+    private static class Candidate {
+        private final Node node;
+        private final String key;
+        private final int count;
+        private final boolean isWord;
+
+        private Candidate(Node node, String key, int count, boolean isWord) {
+            this.node = node;
+            this.key = key;
+            this.count = count;
+            this.isWord = isWord;
+        }
+    }
+}
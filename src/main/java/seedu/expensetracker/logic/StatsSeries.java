@@ -0,0 +1,168 @@
+package seedu.expensetracker.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A series of labelled amounts for the statistics chart, such as the amount spent on each day or in each category.
+ * Amounts are kept in a primitive array, in the order their labels were first added.
+ */
+public class StatsSeries {
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final Map<String, Integer> indexOfLabel = new HashMap<>();
+    private String[] labels = new String[INITIAL_CAPACITY];
+    private double[] values = new double[INITIAL_CAPACITY];
+    private int size;
+
+    /**
+     * Adds {@code amount} to the value of {@code label}, which is added to the end of the series if it is not in the
+     * series yet.
+     */
+    public void add(String label, double amount) {
+        requireNonNull(label);
+        Integer index = indexOfLabel.get(label);
+        if (index != null) {
+            values[index] += amount;
+            return;
+        }
+        if (size == labels.length) {
+            labels = Arrays.copyOf(labels, size * 2);
+            values = Arrays.copyOf(values, size * 2);
+        }
+        indexOfLabel.put(label, size);
+        labels[size] = label;
+        values[size] = amount;
+        size++;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public String getLabel(int index) {
+        checkIndex(index);
+        return labels[index];
+    }
+
+    public double getValue(int index) {
+        checkIndex(index);
+        return values[index];
+    }
+
+    /**
+     * Returns the value of {@code label}, or 0 if it is not in the series.
+     */
+    public double getValue(String label) {
+        Integer index = indexOfLabel.get(label);
+        return index == null ? 0 : values[index];
+    }
+
+    public boolean containsLabel(String label) {
+        return indexOfLabel.containsKey(label);
+    }
+
+    /**
+     * Returns the largest value in the series, or 0 if the series is empty.
+     */
+    public double getMaxValue() {
+        double max = 0;
+        for (int i = 0; i < size; i++) {
+            max = Math.max(max, values[i]);
+        }
+        return max;
+    }
+
+    /**
+     * Returns the indices of at most {@code threshold} points which keep the shape of the series when it is drawn as
+     * a line, using the largest-triangle-three-buckets algorithm. The first and last points are always kept, and the
+     * points in between are split into buckets, keeping the point of each bucket which forms the largest triangle
+     * with the point kept before it and the average of the next bucket.
+     * Every index is returned if the series has at most {@code threshold} points, or if {@code threshold} is below 3.
+     */
+    public int[] getDownsampledIndices(int threshold) {
+        if (threshold >= size || threshold < 3) {
+            int[] all = new int[size];
+            Arrays.setAll(all, i -> i);
+            return all;
+        }
+        int[] sampled = new int[threshold];
+        double bucketSize = (double) (size - 2) / (threshold - 2);
+        int previous = 0;
+        for (int bucket = 0; bucket < threshold - 2; bucket++) {
+            int nextStart = (int) ((bucket + 1) * bucketSize) + 1;
+            int nextEnd = Math.min((int) ((bucket + 2) * bucketSize) + 1, size);
+            double averageX = 0;
+            double averageY = 0;
+            for (int i = nextStart; i < nextEnd; i++) {
+                averageX += i;
+                averageY += values[i];
+            }
+            averageX /= nextEnd - nextStart;
+            averageY /= nextEnd - nextStart;
+
+            int start = (int) (bucket * bucketSize) + 1;
+            int end = nextStart;
+            double maxArea = -1;
+            int chosen = start;
+            for (int i = start; i < end; i++) {
+                double area = Math.abs((previous - averageX) * (values[i] - values[previous])
+                        - (previous - i) * (averageY - values[previous]));
+                if (area > maxArea) {
+                    maxArea = area;
+                    chosen = i;
+                }
+            }
+            sampled[bucket + 1] = chosen;
+            previous = chosen;
+        }
+        sampled[threshold - 1] = size - 1;
+        return sampled;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof StatsSeries)) {
+            return false;
+        }
+        StatsSeries otherSeries = (StatsSeries) other;
+        return size == otherSeries.size
+                && Arrays.equals(labels, 0, size, otherSeries.labels, 0, size)
+                && Arrays.equals(values, 0, size, otherSeries.values, 0, size);
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 1;
+        for (int i = 0; i < size; i++) {
+            hash = 31 * hash + labels[i].hashCode();
+            hash = 31 * hash + Double.hashCode(values[i]);
+        }
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("[");
+        for (int i = 0; i < size; i++) {
+            builder.append(i == 0 ? "" : ", ").append(labels[i]).append('=').append(values[i]);
+        }
+        return builder.append(']').toString();
+    }
+}
@@ -2,12 +2,15 @@ package seedu.expensetracker.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Optional;
+
 import seedu.expensetracker.commons.core.EventsCenter;
 import seedu.expensetracker.commons.core.Messages;
 import seedu.expensetracker.commons.events.ui.SwapLeftPanelEvent;
 import seedu.expensetracker.logic.CommandHistory;
 import seedu.expensetracker.model.Model;
 import seedu.expensetracker.model.exceptions.NoUserSelectedException;
+import seedu.expensetracker.model.expense.Date;
 import seedu.expensetracker.model.expense.ExpenseContainsKeywordsPredicate;
 
 /**
@@ -41,13 +44,25 @@ public class FindCommand extends Command {
         this.predicate = predicate;
     }
 
+    public ExpenseContainsKeywordsPredicate getPredicate() {
+        return predicate;
+    }
+
     @Override
     public CommandResult execute(Model model, CommandHistory history) throws NoUserSelectedException {
         requireNonNull(model);
         EventsCenter.getInstance().post(new SwapLeftPanelEvent(SwapLeftPanelEvent.PanelType.LIST));
+        Optional<Date> earliestDate = predicate.getEarliestDate();
+        if (earliestDate.isPresent()) {
+            model.loadExpensesSince(earliestDate.get().getFullDate());
+        } else {
+            model.loadAllExpenses();
+        }
         model.updateFilteredExpenseList(predicate);
-        return new CommandResult(
-                String.format(Messages.MESSAGE_EXPENSES_LISTED_OVERVIEW, model.getFilteredExpenseList().size()));
+        String message = model.isFilteredExpenseListComplete()
+                ? Messages.MESSAGE_EXPENSES_LISTED_OVERVIEW
+                : Messages.MESSAGE_EXPENSES_LISTED_SO_FAR;
+        return new CommandResult(String.format(message, model.getFilteredExpenseList().size()));
     }
 
     @Override
@@ -93,7 +93,7 @@ public class MassEditCommand extends Command {
         for (int i = 0; i < storeList.size(); i++) {
             Expense toEdit = storeList.get(i);
             Expense editedExpense = createEditedExpense(toEdit, editExpenseDescriptor);
-            logger.log(Level.INFO,
+            logger.log(Level.FINE, () ->
                     "Original expense:[" + toEdit + "] -> Edited expense: [" + editedExpense + "]");
             model.updateExpense(toEdit, editedExpense);
             editedList.add(editedExpense);
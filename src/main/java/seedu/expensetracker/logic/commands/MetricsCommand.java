@@ -0,0 +1,45 @@
+package seedu.expensetracker.logic.commands;
+
+import java.util.Map;
+import java.util.StringJoiner;
+
+import seedu.expensetracker.commons.metrics.MetricsRegistry;
+import seedu.expensetracker.logic.CommandHistory;
+import seedu.expensetracker.model.Model;
+
+/**
+ * Shows the metrics collected since the app was launched, such as the latency percentiles of each command.
+ */
+public class MetricsCommand extends Command {
+
+    public static final String COMMAND_WORD = "metrics";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Shows the latency of each command, and of encrypting,"
+            + " saving and loading data, since the app was launched.\n"
+            + "Example: " + COMMAND_WORD;
+
+    public static final String MESSAGE_SUCCESS = "Metrics since launch:\n%1$s";
+    public static final String MESSAGE_NO_METRICS = "No metrics have been collected yet.";
+
+    private final MetricsRegistry registry;
+
+    public MetricsCommand() {
+        this(MetricsRegistry.getInstance());
+    }
+
+    public MetricsCommand(MetricsRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public CommandResult execute(Model model, CommandHistory history) {
+        Map<String, Object> metrics = registry.getMetrics();
+        if (metrics.isEmpty()) {
+            return new CommandResult(MESSAGE_NO_METRICS);
+        }
+        StringJoiner lines = new StringJoiner("\n");
+        metrics.forEach((name, metric) -> lines.add(name + ": " + metric));
+        return new CommandResult(String.format(MESSAGE_SUCCESS, lines));
+    }
+
+}
@@ -0,0 +1,126 @@
+package seedu.expensetracker.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.expensetracker.commons.core.EventsCenter;
+import seedu.expensetracker.commons.metrics.Profiler;
+import seedu.expensetracker.commons.metrics.Profiler.Phase;
+import seedu.expensetracker.commons.metrics.Profiler.Profile;
+import seedu.expensetracker.logic.CommandHistory;
+import seedu.expensetracker.logic.LogicManager;
+import seedu.expensetracker.logic.commands.exceptions.CommandException;
+import seedu.expensetracker.logic.parser.exceptions.ParseException;
+import seedu.expensetracker.model.Model;
+import seedu.expensetracker.model.exceptions.InvalidDataException;
+import seedu.expensetracker.model.exceptions.NoUserSelectedException;
+import seedu.expensetracker.model.exceptions.NonExistentUserException;
+import seedu.expensetracker.model.exceptions.UserAlreadyExistsException;
+
+/**
+ * Runs another command and shows where the time it took was spent, and how many bytes were allocated in each phase.
+ * The time taken to save the data changed by the command is included, so the profile is only shown after it is saved.
+ * The command is run by {@link LogicManager}, which parses, executes and records it the same way as any command
+ * entered, so that the profile matches the cost of entering the command itself.
+ */
+public class ProfileCommand extends Command {
+
+    public static final String COMMAND_WORD = "profile";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Runs a command and shows the time it took to parse,"
+            + " change the expenses, recompute budgets, encrypt, save and update the display.\n"
+            + "Parameters: COMMAND\n"
+            + "Example: " + COMMAND_WORD + " add n/Lunch $/4.50 c/Food";
+
+    public static final String MESSAGE_PROFILE = "%1$s\n\nProfile (%2$s in total):\n%3$s";
+    public static final String MESSAGE_PHASE = "%1$s: %2$s, %3$s allocated";
+    public static final String MESSAGE_UNATTRIBUTED = "Other: %1$s";
+    public static final String MESSAGE_NO_LOGIC = "Commands can only be profiled when entered.";
+
+    private final String commandText;
+
+    public ProfileCommand(String commandText) {
+        requireNonNull(commandText);
+        this.commandText = commandText;
+    }
+
+    public String getCommandText() {
+        return commandText;
+    }
+
+    /**
+     * Profiles are run by {@link LogicManager} with {@link #profile(CommandRunner)}, as the profiled command must be
+     * run the same way as any command entered.
+     */
+    @Override
+    public CommandResult execute(Model model, CommandHistory history) throws CommandException {
+        throw new CommandException(MESSAGE_NO_LOGIC);
+    }
+
+    /**
+     * Runs the profiled command with {@code runner} and returns its result followed by its profile.
+     */
+    public CommandResult profile(CommandRunner runner) throws CommandException, ParseException,
+            NoUserSelectedException, NonExistentUserException, UserAlreadyExistsException, InvalidDataException {
+        requireNonNull(runner);
+        Profile profile = Profiler.start();
+        CommandResult result;
+        try {
+            result = runner.run(commandText);
+            EventsCenter.getInstance().awaitIoEvents();
+        } finally {
+            Profiler.stop();
+        }
+        return new CommandResult(String.format(MESSAGE_PROFILE, result.feedbackToUser,
+                formatNanos(profile.getTotalNanos()), formatPhases(profile)));
+    }
+
+    /**
+     * Returns a line for each phase of {@code profile} with its cost.
+     */
+    private static String formatPhases(Profile profile) {
+        StringBuilder builder = new StringBuilder();
+        for (Phase phase : Phase.values()) {
+            builder.append(String.format(MESSAGE_PHASE, phase.getLabel(), formatNanos(profile.getNanos(phase)),
+                    formatBytes(profile.getAllocatedBytes(phase)))).append('\n');
+        }
+        builder.append(String.format(MESSAGE_UNATTRIBUTED, formatNanos(profile.getUnattributedNanos())));
+        return builder.toString();
+    }
+
+    private static String formatNanos(long nanos) {
+        return String.format("%.3f ms", nanos / 1e6);
+    }
+
+    /**
+     * Returns {@code bytes} in bytes, kilobytes or megabytes, whichever is the largest unit it holds one of.
+     */
+    private static String formatBytes(long bytes) {
+        if (bytes < 1024) {
+            return bytes + " B";
+        } else if (bytes < 1024 * 1024) {
+            return String.format("%.1f KB", bytes / 1024.0);
+        }
+        return String.format("%.1f MB", bytes / (1024.0 * 1024));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ProfileCommand // instanceof handles nulls
+                && commandText.equals(((ProfileCommand) other).commandText));
+    }
+
+    @Override
+    public int hashCode() {
+        return commandText.hashCode();
+    }
+
+    /**
+     * Parses, executes and records a command the same way as a command entered.
+     */
+    @FunctionalInterface
+    public interface CommandRunner {
+        CommandResult run(String commandText) throws CommandException, ParseException, NoUserSelectedException,
+                NonExistentUserException, UserAlreadyExistsException, InvalidDataException;
+    }
+}
@@ -130,7 +130,9 @@ public class StatsCommand extends Command {
     @Override
     public CommandResult execute(Model model, CommandHistory history) throws NoUserSelectedException {
         requireNonNull(model);
-        model.updateExpenseStatsPredicate(getStatsPredicate());
+        LocalDateTime startDate = getStartDate();
+        model.loadExpensesSince(startDate);
+        model.updateExpenseStatsPredicate(getStatsPredicate(startDate));
         model.updateStatsMode(mode);
         model.updateStatsPeriod(period);
         model.updatePeriodAmount(periodAmount);
@@ -144,16 +146,25 @@ public class StatsCommand extends Command {
     }
 
     /**
-     * Returns Predicate used for FilteredList based on the current {@code period} and {@code periodAmount}
-     * @return Predicate with correct predicate properties
+     * Returns the date after which expenses are included in the statistics, based on the current {@code period} and
+     * {@code periodAmount}
+     * @return the start date of the statistics
      */
-    private Predicate<Expense> getStatsPredicate() {
+    private LocalDateTime getStartDate() {
         LocalDateTime date;
         if (period == StatsPeriod.DAY) {
             date = LocalDateTime.now().minusDays((long) periodAmount);
         } else {
             date = LocalDateTime.now().minusDays((long) periodAmount);
         }
+        return date;
+    }
+
+    /**
+     * Returns Predicate used for FilteredList which accepts expenses after {@code date}
+     * @return Predicate with correct predicate properties
+     */
+    private Predicate<Expense> getStatsPredicate(LocalDateTime date) {
         return e -> e.getDate().getFullDate().isAfter(date);
     }
 
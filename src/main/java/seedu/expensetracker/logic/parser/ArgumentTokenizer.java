@@ -1,9 +1,7 @@
 package seedu.expensetracker.logic.parser;
 
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * Tokenizes arguments string of the form: {@code preamble <prefix>value <prefix>value ...}<br>
@@ -14,6 +12,8 @@ import java.util.stream.Collectors;
  *    in the above example.<br>
  */
 public class ArgumentTokenizer {
+    /** The prefix the preamble is mapped to. */
+    static final Prefix PREAMBLE = new Prefix("");
 
     /**
      * Tokenizes an arguments string and returns an {@code ArgumentMultimap} object that maps prefixes to their
@@ -29,50 +29,46 @@ public class ArgumentTokenizer {
     }
 
     /**
-     * Finds all zero-based prefix positions in the given arguments string.
+     * Finds all zero-based prefix positions in the given arguments string, in the order they appear.
+     * The arguments string is scanned once, and the prefixes are only compared against the text after each space,
+     * as an occurrence of a prefix is valid only if there is a space before it.
+     *
+     * E.g if {@code argsString} = "e/hip/900" and {@code prefixes} = "p/", no positions are returned as there are no
+     * valid occurrences of "p/" with a space before it. However, if {@code argsString} = "e/hi p/900", the position
+     * 5 is returned.
      *
      * @param argsString Arguments string of the form: {@code preamble <prefix>value <prefix>value ...}
      * @param prefixes   Prefixes to find in the arguments string
      * @return           List of zero-based prefix positions in the given arguments string
      */
     private static List<PrefixPosition> findAllPrefixPositions(String argsString, Prefix... prefixes) {
-        return Arrays.stream(prefixes)
-                .flatMap(prefix -> findPrefixPositions(argsString, prefix).stream())
-                .collect(Collectors.toList());
-    }
-
-    /**
-     * {@see findAllPrefixPositions}
-     */
-    private static List<PrefixPosition> findPrefixPositions(String argsString, Prefix prefix) {
         List<PrefixPosition> positions = new ArrayList<>();
-
-        int prefixPosition = findPrefixPosition(argsString, prefix.getPrefix(), 0);
-        while (prefixPosition != -1) {
-            PrefixPosition extendedPrefix = new PrefixPosition(prefix, prefixPosition);
-            positions.add(extendedPrefix);
-            prefixPosition = findPrefixPosition(argsString, prefix.getPrefix(), prefixPosition);
+        int spaceIndex = argsString.indexOf(' ');
+        while (spaceIndex != -1) {
+            int prefixStart = spaceIndex + 1;
+            Prefix prefix = findPrefixAt(argsString, prefixStart, prefixes);
+            if (prefix != null) {
+                positions.add(new PrefixPosition(prefix, prefixStart));
+            }
+            spaceIndex = argsString.indexOf(' ', prefixStart);
         }
-
         return positions;
     }
 
     /**
-     * Returns the index of the first occurrence of {@code prefix} in
-     * {@code argsString} starting from index {@code fromIndex}. An occurrence
-     * is valid if there is a whitespace before {@code prefix}. Returns -1 if no
-     * such occurrence can be found.
-     *
-     * E.g if {@code argsString} = "e/hip/900", {@code prefix} = "p/" and
-     * {@code fromIndex} = 0, this method returns -1 as there are no valid
-     * occurrences of "p/" with whitespace before it. However, if
-     * {@code argsString} = "e/hi p/900", {@code prefix} = "p/" and
-     * {@code fromIndex} = 0, this method returns 5.
+     * Returns the longest of {@code prefixes} which occurs in {@code argsString} at {@code index}, or null if none
+     * of them does.
      */
-    private static int findPrefixPosition(String argsString, String prefix, int fromIndex) {
-        int prefixIndex = argsString.indexOf(" " + prefix, fromIndex);
-        return prefixIndex == -1 ? -1
-                : prefixIndex + 1; // +1 as offset for whitespace
+    private static Prefix findPrefixAt(String argsString, int index, Prefix... prefixes) {
+        Prefix found = null;
+        for (Prefix prefix : prefixes) {
+            String prefixString = prefix.getPrefix();
+            if (argsString.startsWith(prefixString, index)
+                    && (found == null || prefixString.length() > found.getPrefix().length())) {
+                found = prefix;
+            }
+        }
+        return found;
     }
 
     /**
@@ -86,15 +82,12 @@ public class ArgumentTokenizer {
      */
     private static ArgumentMultimap extractArguments(String argsString, List<PrefixPosition> prefixPositions) {
 
-        // Sort by start position
-        prefixPositions.sort((prefix1, prefix2) -> prefix1.getStartPosition() - prefix2.getStartPosition());
-
         // Insert a PrefixPosition to represent the preamble
-        PrefixPosition preambleMarker = new PrefixPosition(new Prefix(""), 0);
+        PrefixPosition preambleMarker = new PrefixPosition(PREAMBLE, 0);
         prefixPositions.add(0, preambleMarker);
 
         // Add a dummy PrefixPosition to represent the end of the string
-        PrefixPosition endPositionMarker = new PrefixPosition(new Prefix(""), argsString.length());
+        PrefixPosition endPositionMarker = new PrefixPosition(PREAMBLE, argsString.length());
         prefixPositions.add(endPositionMarker);
 
         // Map prefixes to their argument values (if any)
@@ -1,5 +1,7 @@
 package seedu.expensetracker.logic.parser;
 
+import java.util.List;
+
 /**
  * Contains Command Line Interface (CLI) syntax definitions common to multiple commands
  */
@@ -25,4 +27,9 @@ public class CliSyntax {
     public static final Prefix PREFIX_TOGGLE = new Prefix("t/");
     public static final Prefix PREFIX_BUDGET = new Prefix("b/");
 
+    /** Every distinct prefix, for completing the prefixes typed by the user. */
+    public static final List<Prefix> ALL_PREFIXES = List.of(PREFIX_NAME, PREFIX_CATEGORY, PREFIX_COST, PREFIX_TAG,
+            PREFIX_DATE, PREFIX_USERNAME, PREFIX_PASSWORD, PREFIX_OLD_PASSWORD, PREFIX_MODE, PREFIX_HOURS,
+            PREFIX_MINUTES, PREFIX_SECONDS, PREFIX_BUDGET);
+
 }
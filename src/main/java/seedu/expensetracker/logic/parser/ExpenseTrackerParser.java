@@ -3,8 +3,7 @@ package seedu.expensetracker.logic.parser;
 import static seedu.expensetracker.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.expensetracker.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.List;
 
 import seedu.expensetracker.logic.commands.AddCommand;
 import seedu.expensetracker.logic.commands.ClearCommand;
@@ -20,7 +19,9 @@ import seedu.expensetracker.logic.commands.HistoryCommand;
 import seedu.expensetracker.logic.commands.ListCommand;
 import seedu.expensetracker.logic.commands.LoginCommand;
 import seedu.expensetracker.logic.commands.MassEditCommand;
+import seedu.expensetracker.logic.commands.MetricsCommand;
 import seedu.expensetracker.logic.commands.NotificationCommand;
+import seedu.expensetracker.logic.commands.ProfileCommand;
 import seedu.expensetracker.logic.commands.RedoCommand;
 import seedu.expensetracker.logic.commands.SelectCommand;
 import seedu.expensetracker.logic.commands.SetBudgetCommand;
@@ -37,10 +38,57 @@ import seedu.expensetracker.logic.parser.exceptions.ParseException;
  */
 public class ExpenseTrackerParser {
 
-    /**
-     * Used for initial separation of command word and args.
-     */
-    private static final Pattern BASIC_COMMAND_FORMAT = Pattern.compile("(?<commandWord>\\S+)(?<arguments>.*)");
+    /** The command words and aliases of every command, for completing the command word typed by the user. */
+    public static final List<String> COMMAND_WORDS = List.of(
+            AddCommand.COMMAND_WORD, AddCommand.COMMAND_ALIAS,
+            EditCommand.COMMAND_WORD, EditCommand.COMMAND_ALIAS,
+            MassEditCommand.COMMAND_WORD, MassEditCommand.COMMAND_ALIAS,
+            SelectCommand.COMMAND_WORD, SelectCommand.COMMAND_ALIAS,
+            DeleteCommand.COMMAND_WORD, DeleteCommand.COMMAND_ALIAS,
+            ClearCommand.COMMAND_WORD, ClearCommand.COMMAND_ALIAS,
+            FindCommand.COMMAND_WORD, FindCommand.COMMAND_ALIAS,
+            ListCommand.COMMAND_WORD, ListCommand.COMMAND_ALIAS,
+            HistoryCommand.COMMAND_WORD, HistoryCommand.COMMAND_ALIAS,
+            ExitCommand.COMMAND_WORD, ExitCommand.COMMAND_ALIAS,
+            HelpCommand.COMMAND_WORD,
+            MetricsCommand.COMMAND_WORD,
+            ProfileCommand.COMMAND_WORD,
+            UndoCommand.COMMAND_WORD, UndoCommand.COMMAND_ALIAS,
+            RedoCommand.COMMAND_WORD, RedoCommand.COMMAND_ALIAS,
+            LoginCommand.COMMAND_WORD, LoginCommand.COMMAND_ALIAS,
+            SignUpCommand.COMMAND_WORD, SignUpCommand.COMMAND_ALIAS,
+            SetBudgetCommand.COMMAND_WORD, SetBudgetCommand.COMMAND_ALIAS,
+            StatsCommand.COMMAND_WORD, StatsCommand.COMMAND_ALIAS,
+            SetRecurringBudgetCommand.COMMAND_WORD, SetRecurringBudgetCommand.COMMAND_ALIAS,
+            SetCategoryBudgetCommand.COMMAND_WORD, SetCategoryBudgetCommand.COMMAND_ALIAS,
+            SetPasswordCommand.COMMAND_WORD, SetPasswordCommand.COMMAND_ALIAS,
+            NotificationCommand.COMMAND_WORD, NotificationCommand.COMMAND_ALIAS,
+            EncryptCommand.COMMAND_WORD, EncryptCommand.COMMAND_ALIAS,
+            DecryptCommand.COMMAND_WORD, DecryptCommand.COMMAND_ALIAS);
+
+    /** The characters matched by {@code \\s}, which separate the command word from the arguments. */
+    private static final String WHITESPACE = " \t\n\u000B\f\r";
+
+    // the parsers are stateless, so each is created once and reused for every command
+    private static final AddCommandParser ADD_COMMAND_PARSER = new AddCommandParser();
+    private static final EditCommandParser EDIT_COMMAND_PARSER = new EditCommandParser();
+    private static final MassEditCommandParser MASS_EDIT_COMMAND_PARSER = new MassEditCommandParser();
+    private static final SelectCommandParser SELECT_COMMAND_PARSER = new SelectCommandParser();
+    private static final DeleteCommandParser DELETE_COMMAND_PARSER = new DeleteCommandParser();
+    private static final FindCommandParser FIND_COMMAND_PARSER = new FindCommandParser();
+    private static final ProfileCommandParser PROFILE_COMMAND_PARSER = new ProfileCommandParser();
+    private static final LoginCommandParser LOGIN_COMMAND_PARSER = new LoginCommandParser();
+    private static final SignUpCommandParser SIGN_UP_COMMAND_PARSER = new SignUpCommandParser();
+    private static final SetBudgetCommandParser SET_BUDGET_COMMAND_PARSER = new SetBudgetCommandParser();
+    private static final StatsCommandParser STATS_COMMAND_PARSER = new StatsCommandParser();
+    private static final SetRecurringBudgetCommandParser SET_RECURRING_BUDGET_COMMAND_PARSER =
+            new SetRecurringBudgetCommandParser();
+    private static final SetCategoryBudgetCommandParser SET_CATEGORY_BUDGET_COMMAND_PARSER =
+            new SetCategoryBudgetCommandParser();
+    private static final SetPasswordCommandParser SET_PASSWORD_COMMAND_PARSER = new SetPasswordCommandParser();
+    private static final NotificationCommandParser NOTIFICATION_COMMAND_PARSER = new NotificationCommandParser();
+    private static final EncryptCommandParser ENCRYPT_COMMAND_PARSER = new EncryptCommandParser();
+    private static final DecryptCommandParser DECRYPT_COMMAND_PARSER = new DecryptCommandParser();
 
     /**
      * Parses user input into command for execution.
@@ -50,39 +98,43 @@ public class ExpenseTrackerParser {
      * @throws ParseException if the user input does not conform the expected format
      */
     public Command parseCommand(String userInput) throws ParseException {
-        final Matcher matcher = BASIC_COMMAND_FORMAT.matcher(userInput.trim());
-        if (!matcher.matches()) {
+        final String trimmedInput = userInput.trim();
+        if (trimmedInput.isEmpty()) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE));
         }
 
-        final String commandWord = matcher.group("commandWord");
-        final String arguments = matcher.group("arguments");
+        int commandWordEnd = 0;
+        while (commandWordEnd < trimmedInput.length() && WHITESPACE.indexOf(trimmedInput.charAt(commandWordEnd)) < 0) {
+            commandWordEnd++;
+        }
+        final String commandWord = trimmedInput.substring(0, commandWordEnd);
+        final String arguments = trimmedInput.substring(commandWordEnd);
         switch (commandWord) {
 
         case AddCommand.COMMAND_ALIAS:
             //Fallthrough
         case AddCommand.COMMAND_WORD:
-            return new AddCommandParser().parse(arguments);
+            return ADD_COMMAND_PARSER.parse(arguments);
 
         case EditCommand.COMMAND_ALIAS:
             //Fallthrough
         case EditCommand.COMMAND_WORD:
-            return new EditCommandParser().parse(arguments);
+            return EDIT_COMMAND_PARSER.parse(arguments);
 
         case MassEditCommand.COMMAND_ALIAS:
             //Fallthrough
         case MassEditCommand.COMMAND_WORD:
-            return new MassEditCommandParser().parse(arguments);
+            return MASS_EDIT_COMMAND_PARSER.parse(arguments);
 
         case SelectCommand.COMMAND_ALIAS:
             //Fallthrough
         case SelectCommand.COMMAND_WORD:
-            return new SelectCommandParser().parse(arguments);
+            return SELECT_COMMAND_PARSER.parse(arguments);
 
         case DeleteCommand.COMMAND_ALIAS:
             //Fallthrough
         case DeleteCommand.COMMAND_WORD:
-            return new DeleteCommandParser().parse(arguments);
+            return DELETE_COMMAND_PARSER.parse(arguments);
 
         case ClearCommand.COMMAND_ALIAS:
             //Fallthrough
@@ -92,7 +144,7 @@ public class ExpenseTrackerParser {
         case FindCommand.COMMAND_ALIAS:
             //Fallthrough
         case FindCommand.COMMAND_WORD:
-            return new FindCommandParser().parse(arguments);
+            return FIND_COMMAND_PARSER.parse(arguments);
 
         case ListCommand.COMMAND_ALIAS:
             //Fallthrough
@@ -112,6 +164,12 @@ public class ExpenseTrackerParser {
         case HelpCommand.COMMAND_WORD:
             return new HelpCommand();
 
+        case MetricsCommand.COMMAND_WORD:
+            return new MetricsCommand();
+
+        case ProfileCommand.COMMAND_WORD:
+            return PROFILE_COMMAND_PARSER.parse(arguments);
+
         case UndoCommand.COMMAND_ALIAS:
             //Fallthrough
         case UndoCommand.COMMAND_WORD:
@@ -125,52 +183,52 @@ public class ExpenseTrackerParser {
         case LoginCommand.COMMAND_ALIAS:
             //Fallthrough
         case LoginCommand.COMMAND_WORD:
-            return new LoginCommandParser().parse(arguments);
+            return LOGIN_COMMAND_PARSER.parse(arguments);
 
         case SignUpCommand.COMMAND_ALIAS:
             //Fallthrough
         case SignUpCommand.COMMAND_WORD:
-            return new SignUpCommandParser().parse(arguments);
+            return SIGN_UP_COMMAND_PARSER.parse(arguments);
 
         case SetBudgetCommand.COMMAND_ALIAS:
             //Fallthrough
         case SetBudgetCommand.COMMAND_WORD:
-            return new SetBudgetCommandParser().parse(arguments);
+            return SET_BUDGET_COMMAND_PARSER.parse(arguments);
 
         case StatsCommand.COMMAND_ALIAS:
             //Fallthrough
         case StatsCommand.COMMAND_WORD:
-            return new StatsCommandParser().parse(arguments);
+            return STATS_COMMAND_PARSER.parse(arguments);
 
         case SetRecurringBudgetCommand.COMMAND_ALIAS:
             //Fallthrough
         case SetRecurringBudgetCommand.COMMAND_WORD:
-            return new SetRecurringBudgetCommandParser().parse(arguments);
+            return SET_RECURRING_BUDGET_COMMAND_PARSER.parse(arguments);
 
         case SetCategoryBudgetCommand.COMMAND_ALIAS:
             //Fallthrough
         case SetCategoryBudgetCommand.COMMAND_WORD:
-            return new SetCategoryBudgetCommandParser().parse(arguments);
+            return SET_CATEGORY_BUDGET_COMMAND_PARSER.parse(arguments);
 
         case SetPasswordCommand.COMMAND_ALIAS:
             //Fallthrough
         case SetPasswordCommand.COMMAND_WORD:
-            return new SetPasswordCommandParser().parse(arguments);
+            return SET_PASSWORD_COMMAND_PARSER.parse(arguments);
 
         case NotificationCommand.COMMAND_ALIAS:
             //Fallthrough
         case NotificationCommand.COMMAND_WORD:
-            return new NotificationCommandParser().parse(arguments);
+            return NOTIFICATION_COMMAND_PARSER.parse(arguments);
 
         case EncryptCommand.COMMAND_ALIAS:
             //Fallthrough
         case EncryptCommand.COMMAND_WORD:
-            return new EncryptCommandParser().parse(arguments);
+            return ENCRYPT_COMMAND_PARSER.parse(arguments);
 
         case DecryptCommand.COMMAND_ALIAS:
             //Fallthrough
         case DecryptCommand.COMMAND_WORD:
-            return new DecryptCommandParser().parse(arguments);
+            return DECRYPT_COMMAND_PARSER.parse(arguments);
 
         default:
             throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
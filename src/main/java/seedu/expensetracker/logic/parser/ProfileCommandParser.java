@@ -0,0 +1,26 @@
+package seedu.expensetracker.logic.parser;
+
+import static seedu.expensetracker.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.expensetracker.logic.commands.ProfileCommand;
+import seedu.expensetracker.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new ProfileCommand object
+ */
+public class ProfileCommandParser implements Parser<ProfileCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ProfileCommand
+     * and returns a ProfileCommand object for execution. The arguments are the command to profile, which is only
+     * parsed when it is executed, so that parsing it is profiled as well.
+     * @throws ParseException if no command to profile is given, or it is another profile command
+     */
+    public ProfileCommand parse(String args) throws ParseException {
+        String commandText = args.trim();
+        if (commandText.isEmpty() || commandText.split("\\s+")[0].equals(ProfileCommand.COMMAND_WORD)) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ProfileCommand.MESSAGE_USAGE));
+        }
+        return new ProfileCommand(commandText);
+    }
+}
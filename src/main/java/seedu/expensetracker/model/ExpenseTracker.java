@@ -9,6 +9,7 @@ import java.util.Objects;
 import java.util.Optional;
 
 import javafx.collections.ObservableList;
+import seedu.expensetracker.commons.metrics.Profiler;
 
 import seedu.expensetracker.model.budget.CategoryBudget;
 import seedu.expensetracker.model.budget.TotalBudget;
@@ -117,7 +118,12 @@ public class ExpenseTracker implements ReadOnlyExpenseTracker {
      */
     public void setExpenses(List<Expense> expenses) {
         this.expenses.setExpenses(expenses);
-        expenses.forEach(expense -> this.maximumTotalBudget.addExpense(expense));
+        Profiler.enter(Profiler.Phase.BUDGET);
+        try {
+            expenses.forEach(expense -> this.maximumTotalBudget.addExpense(expense));
+        } finally {
+            Profiler.exit();
+        }
     }
 
     /**
@@ -130,6 +136,18 @@ public class ExpenseTracker implements ReadOnlyExpenseTracker {
         this.setNotificationHandler(newData.getNotificationHandler());
     }
 
+    /**
+     * Restores the data of this {@code ExpenseTracker} to {@code state}, which was copied from it earlier. Only the
+     * expenses which differ from {@code state} are changed in the expense list, and the budget is copied from
+     * {@code state} instead of adding up every expense again.
+     */
+    protected void restoreData(ReadOnlyExpenseTracker state) {
+        requireNonNull(state);
+        this.expenses.setExpensesIncrementally(state.getExpenseList());
+        this.maximumTotalBudget = state.getMaximumTotalBudget();
+        this.setNotificationHandler(state.getNotificationHandler());
+    }
+
     /// notification-level operations
     /**
      * Clears the {@code internalList} of the NotificationHandler.
@@ -217,7 +235,26 @@ public class ExpenseTracker implements ReadOnlyExpenseTracker {
      */
     public boolean addExpense(Expense p) {
         this.expenses.add(p);
-        return this.maximumTotalBudget.addExpense(p);
+        Profiler.enter(Profiler.Phase.BUDGET);
+        try {
+            return this.maximumTotalBudget.addExpense(p);
+        } finally {
+            Profiler.exit();
+        }
+    }
+
+    /**
+     * Adds expenses that were read from storage after this tracker was created, such as expenses from older months.
+     * They are placed before the existing expenses and counted towards the budget.
+     */
+    public void addLoadedExpenses(List<Expense> loaded) {
+        this.expenses.addAllToFront(loaded);
+        Profiler.enter(Profiler.Phase.BUDGET);
+        try {
+            loaded.forEach(expense -> this.maximumTotalBudget.addExpense(expense));
+        } finally {
+            Profiler.exit();
+        }
     }
 
     /**
@@ -230,7 +267,12 @@ public class ExpenseTracker implements ReadOnlyExpenseTracker {
         requireNonNull(editedExpense);
 
         this.expenses.setExpense(target, editedExpense);
-        this.maximumTotalBudget.alterSpending(target, editedExpense);
+        Profiler.enter(Profiler.Phase.BUDGET);
+        try {
+            this.maximumTotalBudget.alterSpending(target, editedExpense);
+        } finally {
+            Profiler.exit();
+        }
 
     }
 
@@ -244,7 +286,12 @@ public class ExpenseTracker implements ReadOnlyExpenseTracker {
         LocalDateTime previousResetDateObject = this.maximumTotalBudget.getPreviousRecurrence();
 
         if (previousResetDateObject == null || expenseDate.isAfter(previousResetDateObject)) {
-            this.maximumTotalBudget.removeExpense(key);
+            Profiler.enter(Profiler.Phase.BUDGET);
+            try {
+                this.maximumTotalBudget.removeExpense(key);
+            } finally {
+                Profiler.exit();
+            }
         }
     }
 
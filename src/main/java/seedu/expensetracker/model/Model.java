@@ -71,6 +71,26 @@ public interface Model {
      */
     void updateFilteredExpenseList(Predicate<Expense> predicate) throws NoUserSelectedException;
 
+    /**
+     * Returns true if the filtered expense list holds every expense matching its filter, or false if the rest of the
+     * matches are still being found in the background.
+     * @throws NoUserSelectedException if there is no user selected in this Model
+     */
+    boolean isFilteredExpenseListComplete() throws NoUserSelectedException;
+
+    /**
+     * Reads the current user's expenses made on or after {@code since} that are still in storage, so that they are
+     * included in searches and statistics.
+     * @throws NoUserSelectedException if there is no user selected in this Model
+     */
+    void loadExpensesSince(LocalDateTime since) throws NoUserSelectedException;
+
+    /**
+     * Reads all of the current user's expenses that are still in storage.
+     * @throws NoUserSelectedException if there is no user selected in this Model
+     */
+    void loadAllExpenses() throws NoUserSelectedException;
+
     /**
      * Updates statsPeriod to the given {@code period}.
      */
@@ -7,13 +7,19 @@ import static seedu.expensetracker.model.budget.TotalBudget.SPENDING_RESET;
 import static seedu.expensetracker.model.encryption.EncryptionUtil.DEFAULT_ENCRYPTION_KEY;
 import static seedu.expensetracker.model.encryption.EncryptionUtil.createEncryptionKey;
 
+import java.io.IOException;
 import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
 import java.util.Comparator;
-import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.TreeMap;
+import java.util.SortedSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.Executor;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
@@ -25,16 +31,22 @@ import seedu.expensetracker.commons.core.ComponentManager;
 import seedu.expensetracker.commons.core.EventsCenter;
 import seedu.expensetracker.commons.core.LogsCenter;
 import seedu.expensetracker.commons.events.model.ExpenseTrackerChangedEvent;
+import seedu.expensetracker.commons.events.model.RekeyProgressEvent;
 import seedu.expensetracker.commons.events.model.UserLoggedInEvent;
 import seedu.expensetracker.commons.events.ui.UpdateBudgetPanelEvent;
+import seedu.expensetracker.commons.exceptions.DataConversionException;
 import seedu.expensetracker.commons.exceptions.IllegalValueException;
+import seedu.expensetracker.commons.metrics.Histogram;
+import seedu.expensetracker.commons.metrics.MetricsRegistry;
 import seedu.expensetracker.logic.LoginCredentials;
 import seedu.expensetracker.logic.commands.StatsCommand.StatsMode;
 import seedu.expensetracker.logic.commands.StatsCommand.StatsPeriod;
 import seedu.expensetracker.model.budget.CategoryBudget;
 import seedu.expensetracker.model.budget.TotalBudget;
+import seedu.expensetracker.model.encryption.EncryptedExpense;
 import seedu.expensetracker.model.encryption.EncryptedExpenseTracker;
 import seedu.expensetracker.model.encryption.EncryptionUtil;
+import seedu.expensetracker.model.encryption.FieldCipherCache;
 import seedu.expensetracker.model.exceptions.CategoryBudgetExceedTotalBudgetException;
 import seedu.expensetracker.model.exceptions.InvalidDataException;
 import seedu.expensetracker.model.exceptions.NoUserSelectedException;
@@ -56,10 +68,15 @@ import seedu.expensetracker.model.user.Username;
  */
 public class ModelManager extends ComponentManager implements Model {
     private static final Logger LOGGER = LogsCenter.getLogger(ModelManager.class);
+    private static final Histogram LOAD_TIMES =
+            MetricsRegistry.getInstance().histogram("model.loadUserData", Histogram.Unit.NANOSECONDS);
+    /** Number of matches found before a new filter returns, when the rest are found in the background. */
+    private static final int FILTER_PAGE_SIZE = 200;
     private static Tips tips;
 
     private VersionedExpenseTracker versionedExpenseTracker;
-    private FilteredList<Expense> filteredExpenses;
+    private PagedFilteredList<Expense> filteredExpenses;
+    private Executor filterExecutor;
 
 
     //Stats related variables
@@ -69,8 +86,13 @@ public class ModelManager extends ComponentManager implements Model {
     private int periodAmount;
     private final Map<Username, EncryptedExpenseTracker> expenseTrackers;
 
+    // Re-encryption of the expenses of the current user with a new key
+    private RekeyJob rekeyJob;
+    private Executor rekeyExecutor = ModelManager::startDaemonThread;
+
     /**
-     * Initializes a ModelManager with the given expenseTrackers and userPrefs.
+     * Initializes a ModelManager with the given expenseTrackers and userPrefs. The map of expenseTrackers is shared
+     * with the sessions of other users, so it must be safe to use concurrently.
      */
     public ModelManager(Map<Username, EncryptedExpenseTracker> expenseTrackers, UserPrefs userPrefs, Tips tips) {
         super();
@@ -95,7 +117,7 @@ public class ModelManager extends ComponentManager implements Model {
     public ModelManager(ReadOnlyExpenseTracker expenseTracker, UserPrefs userPrefs, String password) {
         super();
         requireAllNonNull(expenseTracker, userPrefs);
-        Map<Username, EncryptedExpenseTracker> expenseTrackers = new TreeMap<>();
+        Map<Username, EncryptedExpenseTracker> expenseTrackers = new ConcurrentSkipListMap<>();
         LOGGER.fine("Initializing with expense tracker: " + expenseTrackers + " and user prefs " + userPrefs);
         this.expenseTrackers = expenseTrackers;
 
@@ -117,15 +139,24 @@ public class ModelManager extends ComponentManager implements Model {
     }
 
     public ModelManager() {
-        this(new HashMap<>(), new UserPrefs(), new Tips());
+        this(new ConcurrentHashMap<>(), new UserPrefs(), new Tips());
+    }
+
+    /**
+     * Adds the users of {@code loadedTrackers} which are not already known, so that users can be loaded after the
+     * model is created. Users added in the meantime are kept.
+     */
+    public synchronized void addExpenseTrackers(Map<Username, EncryptedExpenseTracker> loadedTrackers) {
+        requireNonNull(loadedTrackers);
+        loadedTrackers.forEach(expenseTrackers::putIfAbsent);
     }
 
     @Override
-    public void resetData(ReadOnlyExpenseTracker newData) throws NoUserSelectedException {
+    public synchronized void resetData(ReadOnlyExpenseTracker newData) throws NoUserSelectedException {
+        loadAllExpenses();
         versionedExpenseTracker.resetData(newData);
         try {
-            expenseTrackers.replace(this.versionedExpenseTracker.getUsername(),
-                    EncryptionUtil.encryptTracker(this.versionedExpenseTracker));
+            expenseTrackers.replace(this.versionedExpenseTracker.getUsername(), encryptCurrentTracker());
         } catch (IllegalValueException e) {
             throw new IllegalStateException("Illegal values in reset Expense Tracker");
         }
@@ -139,10 +170,13 @@ public class ModelManager extends ComponentManager implements Model {
     }
 
     /** Raises an event to indicate the model has changed */
-    protected void indicateExpenseTrackerChanged() throws NoUserSelectedException {
+    protected synchronized void indicateExpenseTrackerChanged() throws NoUserSelectedException {
         requireUserSelected();
         try {
-            raise(new ExpenseTrackerChangedEvent(EncryptionUtil.encryptTracker(versionedExpenseTracker)));
+            EncryptedExpenseTracker encryptedTracker = encryptCurrentTracker();
+            // keep the latest records so that unchanged expenses are not encrypted again on the next change
+            expenseTrackers.replace(versionedExpenseTracker.getUsername(), encryptedTracker);
+            raise(new ExpenseTrackerChangedEvent(encryptedTracker));
         } catch (IllegalValueException e) {
             throw new IllegalStateException("Illegal value in expense tracker");
         }
@@ -197,6 +231,80 @@ public class ModelManager extends ComponentManager implements Model {
         filteredExpenses.setPredicate(predicate);
     }
 
+    @Override
+    public boolean isFilteredExpenseListComplete() throws NoUserSelectedException {
+        requireUserSelected();
+        return filteredExpenses.isComplete();
+    }
+
+    /**
+     * Sets the executor which finds the rest of the matches of a new filter in the background, after the first page
+     * of the filtered expense list is found. The executor must run its tasks on the thread which changes this model.
+     * Without an executor, the filtered expense list is filtered completely before a filter is returned from.
+     * Takes effect from the next time user data is loaded.
+     */
+    public void setFilterExecutor(Executor filterExecutor) {
+        this.filterExecutor = filterExecutor;
+    }
+
+    /**
+     * Returns a filtered view of {@code expenses} showing every expense.
+     */
+    private PagedFilteredList<Expense> createFilteredExpenseList(ObservableList<Expense> expenses) {
+        if (filterExecutor == null) {
+            return new PagedFilteredList<>(expenses);
+        }
+        return new PagedFilteredList<>(expenses, FILTER_PAGE_SIZE, filterExecutor);
+    }
+
+    @Override
+    public void loadExpensesSince(LocalDateTime since) throws NoUserSelectedException {
+        requireNonNull(since);
+        requireUserSelected();
+        loadPartitions(expenseTrackers.get(versionedExpenseTracker.getUsername())
+                .getUnloadedPartitionsSince(YearMonth.from(since)));
+    }
+
+    @Override
+    public void loadAllExpenses() throws NoUserSelectedException {
+        requireUserSelected();
+        loadPartitions(expenseTrackers.get(versionedExpenseTracker.getUsername()).getUnloadedPartitions());
+    }
+
+    /**
+     * Reads the given unloaded partitions of the current user from storage and adds their expenses to the current
+     * expense tracker. Partitions are read from the latest to the earliest so that the loaded expenses stay in
+     * chronological order. A partition that cannot be read is left unloaded so that it is not overwritten.
+     * The encrypted expenses read are kept in the stored data of the user, so that they are not encrypted again,
+     * and re-encrypted in the background if they are still encrypted with a previous key.
+     */
+    private synchronized void loadPartitions(SortedSet<YearMonth> partitions) {
+        EncryptedExpenseTracker storedTracker = expenseTrackers.get(versionedExpenseTracker.getUsername());
+        List<YearMonth> toLoad = new ArrayList<>(partitions);
+        for (int i = toLoad.size() - 1; i >= 0; i--) {
+            YearMonth partition = toLoad.get(i);
+            try {
+                List<Expense> loaded = new ArrayList<>();
+                synchronized (storedTracker) {
+                    List<EncryptedExpense> read = storedTracker.readPartition(partition);
+                    for (EncryptedExpense expense : read) {
+                        loaded.add(storedTracker.decryptExpense(expense, versionedExpenseTracker.getEncryptionKey()));
+                    }
+                    read.forEach(storedTracker::addExpense);
+                    storedTracker.markPartitionLoaded(partition);
+                }
+                versionedExpenseTracker.addLoadedExpenses(loaded);
+                LOGGER.fine("Loaded " + loaded.size() + " expenses from partition " + partition);
+            } catch (DataConversionException | IOException | IllegalValueException e) {
+                LOGGER.warning("Failed to load expenses from partition " + partition + ": " + e.getMessage());
+            }
+        }
+        if (!toLoad.isEmpty() && rekeyJob == null) {
+            // expenses of the partitions may still be encrypted with a previous key
+            resumeRekeying();
+        }
+    }
+
     //@@author Snookerballs
     //=========== Notification =================================================================================
     @Override
@@ -448,10 +556,11 @@ public class ModelManager extends ComponentManager implements Model {
     //@@author JasonChong96
     //=========== Login =================================================================================
     @Override
-    public boolean loadUserData(LoginCredentials loginCredentials)
+    public synchronized boolean loadUserData(LoginCredentials loginCredentials)
             throws NonExistentUserException, InvalidDataException {
         requireAllNonNull(loginCredentials);
         LOGGER.fine("Attempting to load user data...");
+        long start = System.nanoTime();
         Username username = loginCredentials.getUsername();
         Optional<Password> password = loginCredentials.getPassword();
         Optional<String> plainPassword = loginCredentials.getPlainPassword();
@@ -466,13 +575,16 @@ public class ModelManager extends ComponentManager implements Model {
         }
 
         saveCurrentUserToMapIfExists();
+        cancelRekeying();
+        clearFieldCipherCache();
         String encryptionKey = getEncryptionKeyForData(encryptedTracker, plainPassword.orElse(null));
         ExpenseTracker decryptedTrackerData = getDecryptedTrackerData(username, encryptionKey);
         this.versionedExpenseTracker = new VersionedExpenseTracker(decryptedTrackerData);
-        this.filteredExpenses = new FilteredList<>(versionedExpenseTracker.getExpenseList());
+        this.filteredExpenses = createFilteredExpenseList(versionedExpenseTracker.getExpenseList());
 
         try {
             indicateUserLoggedIn();
+            resumeRekeying();
             indicateExpenseTrackerChanged();
             String budgetStatus = checkBudgetRestart();
             if (budgetStatus.equals(NOT_SET)) {
@@ -488,6 +600,7 @@ public class ModelManager extends ComponentManager implements Model {
             LOGGER.severe("NoUserSelectedException thrown after loading user data");
             throw new IllegalStateException("NoUserSelectedException thrown after loading user data");
         }
+        LOAD_TIMES.recordSince(start);
         LOGGER.fine("User data loaded: " + username);
         return true;
     }
@@ -501,13 +614,29 @@ public class ModelManager extends ComponentManager implements Model {
             return;
         }
         try {
-            expenseTrackers.replace(versionedExpenseTracker.getUsername(),
-                    EncryptionUtil.encryptTracker(this.versionedExpenseTracker));
+            expenseTrackers.replace(versionedExpenseTracker.getUsername(), encryptCurrentTracker());
         } catch (IllegalValueException e) {
             throw new IllegalStateException("Illegal value in old expense tracker.");
         }
     }
 
+    /**
+     * Encrypts the data of the currently logged in user. Partitions which have not been read from storage are carried
+     * over from the stored data of the user so that they are not lost when the result is saved, and records of
+     * expenses which have not changed since they were decrypted are reused.
+     * @return the encrypted data of the current user
+     * @throws IllegalValueException if the encryption key of the current user is invalid
+     */
+    private EncryptedExpenseTracker encryptCurrentTracker() throws IllegalValueException {
+        EncryptedExpenseTracker storedTracker = expenseTrackers.get(versionedExpenseTracker.getUsername());
+        EncryptedExpenseTracker encryptedTracker = EncryptionUtil.encryptTracker(versionedExpenseTracker,
+                storedTracker);
+        if (storedTracker != null) {
+            encryptedTracker.inheritUnloadedPartitions(storedTracker);
+        }
+        return encryptedTracker;
+    }
+
     private void requireUserSelected() throws NoUserSelectedException {
         if (!hasSelectedUser()) {
             throw new NoUserSelectedException();
@@ -554,9 +683,20 @@ public class ModelManager extends ComponentManager implements Model {
     }
 
     @Override
-    public void unloadUserData() {
+    public synchronized void unloadUserData() {
+        cancelRekeying();
         this.versionedExpenseTracker = null;
         this.filteredExpenses = null;
+        clearFieldCipherCache();
+    }
+
+    /**
+     * Empties the cache of encrypted expense fields, so that values of a key which is no longer used are not kept.
+     */
+    private void clearFieldCipherCache() {
+        FieldCipherCache cache = EncryptionUtil.getFieldCipherCache();
+        LOGGER.fine("Clearing field cipher cache: " + cache);
+        cache.clear();
     }
 
     @Override
@@ -610,12 +750,23 @@ public class ModelManager extends ComponentManager implements Model {
 
         ModelManager copy = new ModelManager(expenseTrackers, userPrefs, tips);
         copy.versionedExpenseTracker = new VersionedExpenseTracker(this.getExpenseTracker());
-        copy.filteredExpenses = new FilteredList<>(copy.versionedExpenseTracker.getExpenseList());
+        copy.filteredExpenses = copy.createFilteredExpenseList(copy.versionedExpenseTracker.getExpenseList());
         return copy;
     }
 
+    /**
+     * Returns a model with no user logged in which shares the users of this model, so that another user can be logged
+     * in at the same time as the user of this model.
+     */
+    public ModelManager createSession() {
+        ModelManager session = new ModelManager(expenseTrackers, new UserPrefs(), tips);
+        session.setFilterExecutor(filterExecutor);
+        session.setRekeyExecutor(rekeyExecutor);
+        return session;
+    }
+
     @Override
-    public void addUser(Username newUsername) throws UserAlreadyExistsException {
+    public synchronized void addUser(Username newUsername) throws UserAlreadyExistsException {
         if (expenseTrackers.putIfAbsent(newUsername,
                 new EncryptedExpenseTracker(newUsername, null)) != null) {
             throw new UserAlreadyExistsException(newUsername);
@@ -628,18 +779,144 @@ public class ModelManager extends ComponentManager implements Model {
     }
 
     @Override
-    public void setPassword(Password password, String plainPassword) throws NoUserSelectedException {
+    public synchronized void setPassword(Password password, String plainPassword) throws NoUserSelectedException {
         requireUserSelected();
+        String previousKey = versionedExpenseTracker.getEncryptionKey();
+        String key = createEncryptionKey(plainPassword);
         versionedExpenseTracker.setPassword(password);
-        versionedExpenseTracker.setEncryptionKey(createEncryptionKey(plainPassword));
-        indicateExpenseTrackerChanged();
+        versionedExpenseTracker.setEncryptionKey(key);
+        clearFieldCipherCache();
+        if (key.equals(previousKey)) {
+            indicateExpenseTrackerChanged();
+            return;
+        }
+        EncryptedExpenseTracker storedTracker = expenseTrackers.get(versionedExpenseTracker.getUsername());
+        List<String> previousKeys = new ArrayList<>();
+        previousKeys.add(previousKey);
         try {
-            expenseTrackers.replace(this.versionedExpenseTracker.getUsername(),
-                    EncryptionUtil.encryptTracker(this.versionedExpenseTracker));
+            synchronized (storedTracker) {
+                // Expenses still encrypted with an older key, including those in storage, are kept decryptable and
+                // re-encrypted by the new job as well.
+                storedTracker.getPreviousKeys(previousKey).stream()
+                        .filter(olderKey -> !olderKey.equals(key) && !previousKeys.contains(olderKey))
+                        .forEach(previousKeys::add);
+                storedTracker.setPreviousKeys(previousKeys, key);
+            }
         } catch (IllegalValueException e) {
             LOGGER.severe("Illegal key created for current expense tracker.");
             throw new IllegalStateException("Illegal key created for current expense tracker.");
         }
+        cancelRekeying();
+        // Expenses keep their records with the previous keys until the job re-encrypts them.
+        indicateExpenseTrackerChanged();
+        startRekeying(new RekeyJob(this, previousKeys, key));
+    }
+
+    //=========== Re-keying ==================================================================================
+
+    /**
+     * Sets the executor that re-encryption jobs are run with. Jobs are run in a new background thread by default.
+     */
+    public void setRekeyExecutor(Executor rekeyExecutor) {
+        requireNonNull(rekeyExecutor);
+        this.rekeyExecutor = rekeyExecutor;
+    }
+
+    /**
+     * Starts re-encrypting the expenses of the current user with {@code job}.
+     */
+    private void startRekeying(RekeyJob job) {
+        rekeyJob = job;
+        rekeyExecutor.execute(job);
+    }
+
+    /**
+     * Resumes the re-encryption of the expenses of the current user, if it was interrupted before it finished or
+     * some of the expenses were still in storage when it finished.
+     */
+    private void resumeRekeying() {
+        String key = versionedExpenseTracker.getEncryptionKey();
+        List<String> previousKeys;
+        try {
+            previousKeys = expenseTrackers.get(versionedExpenseTracker.getUsername()).getPreviousKeys(key);
+        } catch (IllegalValueException e) {
+            LOGGER.warning("Previous encryption key of the current user is invalid: " + e.getMessage());
+            return;
+        }
+        if (!previousKeys.isEmpty()) {
+            LOGGER.info("Resuming re-encryption of expenses");
+            startRekeying(new RekeyJob(this, previousKeys, key));
+        }
+    }
+
+    /**
+     * Stops the re-encryption of the expenses of the current user, if any. Its progress so far has been saved.
+     */
+    private void cancelRekeying() {
+        if (rekeyJob != null) {
+            rekeyJob.cancel();
+            rekeyJob = null;
+        }
+    }
+
+    /**
+     * Returns up to {@code limit} expenses of the current user that {@code job} has yet to re-encrypt, or an empty
+     * list if {@code job} is no longer running.
+     */
+    synchronized List<EncryptedExpense> getExpensesToRekey(RekeyJob job, int limit) {
+        if (job != rekeyJob) {
+            return new ArrayList<>();
+        }
+        return expenseTrackers.get(versionedExpenseTracker.getUsername()).getExpensesToRekey(job.getKey(), limit);
+    }
+
+    /**
+     * Puts the expenses re-encrypted by {@code job} in place of their previous records, unless {@code job} is no
+     * longer running. The expenses are saved if {@code isSaved} is true, and otherwise with the next change.
+     */
+    synchronized void putRekeyedExpenses(RekeyJob job, Map<EncryptedExpense, EncryptedExpense> rekeyed,
+            boolean isSaved) {
+        if (job != rekeyJob) {
+            return;
+        }
+        EncryptedExpenseTracker storedTracker = expenseTrackers.get(versionedExpenseTracker.getUsername());
+        synchronized (storedTracker) {
+            storedTracker.replaceExpenses(rekeyed);
+        }
+        if (isSaved) {
+            raise(new ExpenseTrackerChangedEvent(storedTracker));
+        }
+        raise(new RekeyProgressEvent(job.getRekeyedCount(), job.getTotalCount()));
+    }
+
+    /**
+     * Marks the expenses of the current user as no longer being re-encrypted and saves them, unless {@code job} is
+     * no longer running. Expenses which are still in storage keep the previous keys, and are re-encrypted after they
+     * are loaded.
+     */
+    synchronized void finishRekeyJob(RekeyJob job) {
+        if (job != rekeyJob) {
+            return;
+        }
+        rekeyJob = null;
+        EncryptedExpenseTracker storedTracker = expenseTrackers.get(versionedExpenseTracker.getUsername());
+        synchronized (storedTracker) {
+            if (storedTracker.getUnloadedPartitions().isEmpty()) {
+                storedTracker.clearPreviousKey();
+            }
+        }
+        raise(new ExpenseTrackerChangedEvent(storedTracker));
+        raise(new RekeyProgressEvent(job.getTotalCount(), job.getTotalCount()));
+        LOGGER.info("Finished re-encrypting " + job.getTotalCount() + " expenses");
+    }
+
+    /**
+     * Runs {@code runnable} in a new daemon thread, so that it does not keep the application running.
+     */
+    private static void startDaemonThread(Runnable runnable) {
+        Thread thread = new Thread(runnable, "rekey");
+        thread.setDaemon(true);
+        thread.start();
     }
 
     @Override
@@ -0,0 +1,362 @@
+package seedu.expensetracker.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.function.Predicate;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.TransformationList;
+
+/**
+ * A view of the elements of a source list which match a predicate, in the order of the source list.
+ * The source indices of the matching elements are kept in a sorted array, so that a change to a few elements of the
+ * source list only tests those elements against the predicate, and setting the current predicate again does nothing.
+ * When a scan executor is given, setting a new predicate only looks for the first page of matches before returning.
+ * The rest of the source list is scanned in chunks run by the executor, and the matches are added to the view as they
+ * are found. Until the scan is complete, {@link #size()} is the number of matches found so far.
+ */
+public class PagedFilteredList<E> extends TransformationList<E, E> {
+    /** Number of source elements tested against the predicate by each chunk of a scan. */
+    public static final int SCAN_CHUNK_SIZE = 4096;
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final int pageSize;
+    private final Executor scanExecutor;
+    private Predicate<? super E> predicate;
+    private int[] matches = new int[INITIAL_CAPACITY];
+    private int size;
+    private int scannedCount;
+    private int generation;
+    private boolean isScanScheduled;
+
+    /**
+     * Creates a view of every element of {@code source}, which is filtered completely whenever its predicate is set.
+     */
+    public PagedFilteredList(ObservableList<E> source) {
+        this(source, Integer.MAX_VALUE, null);
+    }
+
+    /**
+     * Creates a view of every element of {@code source}. A new predicate finds the first {@code pageSize} matches at
+     * once, and the rest with chunks run by {@code scanExecutor}. The executor must run the chunks on the thread
+     * which changes the source list.
+     */
+    public PagedFilteredList(ObservableList<E> source, int pageSize, Executor scanExecutor) {
+        super(source);
+        assert pageSize > 0;
+        this.pageSize = pageSize;
+        this.scanExecutor = scanExecutor;
+        refilter();
+    }
+
+    public Predicate<? super E> getPredicate() {
+        return predicate;
+    }
+
+    /**
+     * Shows the elements matching {@code predicate}, or every element if it is null. Nothing is evaluated again if
+     * {@code predicate} is the current predicate, as the view is kept up to date with the source list.
+     */
+    public void setPredicate(Predicate<? super E> predicate) {
+        if (predicate == this.predicate) {
+            return;
+        }
+        this.predicate = predicate;
+        refilter();
+    }
+
+    /**
+     * Returns true if every element of the source list has been tested against the predicate.
+     */
+    public boolean isComplete() {
+        return scannedCount == getSource().size();
+    }
+
+    /**
+     * Tests the rest of the source list against the predicate at once, instead of waiting for the scan executor.
+     */
+    public void finishScan() {
+        beginChange();
+        scan(Integer.MAX_VALUE, getSource().size());
+        endChange();
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public E get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        return getSource().get(matches[index]);
+    }
+
+    @Override
+    public int getSourceIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        return matches[index];
+    }
+
+    @Override
+    public int getViewIndex(int index) {
+        int viewIndex = lowerBound(index);
+        return viewIndex < size && matches[viewIndex] == index ? viewIndex : -1;
+    }
+
+    @Override
+    protected void sourceChanged(ListChangeListener.Change<? extends E> c) {
+        beginChange();
+        while (c.next()) {
+            if (c.wasPermutated()) {
+                permute(c);
+            } else if (c.wasUpdated()) {
+                update(c.getFrom(), c.getTo());
+            } else {
+                addRemove(c);
+            }
+        }
+        endChange();
+        scheduleScan();
+    }
+
+    /**
+     * Drops every match and scans the source list again from the start.
+     */
+    private void refilter() {
+        generation++;
+        isScanScheduled = false;
+        beginChange();
+        if (size > 0) {
+            nextRemove(0, getElements(0, size));
+        }
+        size = 0;
+        scannedCount = 0;
+        scan(scanExecutor == null ? Integer.MAX_VALUE : pageSize, getSource().size());
+        endChange();
+        scheduleScan();
+    }
+
+    /**
+     * Runs the next chunk of the scan with the scan executor, unless the scan is complete or a chunk is waiting to
+     * run already. The scan is finished at once if there is no scan executor.
+     */
+    private void scheduleScan() {
+        if (isComplete() || isScanScheduled) {
+            return;
+        }
+        if (scanExecutor == null) {
+            finishScan();
+            return;
+        }
+        isScanScheduled = true;
+        int scanGeneration = generation;
+        scanExecutor.execute(() -> scanChunk(scanGeneration));
+    }
+
+    /**
+     * Tests the next {@link #SCAN_CHUNK_SIZE} source elements, unless the scan was restarted after this chunk was
+     * scheduled.
+     */
+    private void scanChunk(int scanGeneration) {
+        if (scanGeneration != generation) {
+            return;
+        }
+        isScanScheduled = false;
+        beginChange();
+        scan(Integer.MAX_VALUE, (int) Math.min(getSource().size(), (long) scannedCount + SCAN_CHUNK_SIZE));
+        endChange();
+        scheduleScan();
+    }
+
+    /**
+     * Tests the source elements after the scanned part against the predicate and adds the matches to the end of the
+     * view, until {@code maxSize} elements match or the element at {@code sourceEnd} is reached.
+     */
+    private void scan(int maxSize, int sourceEnd) {
+        int from = size;
+        List<? extends E> source = getSource();
+        for (; scannedCount < sourceEnd && size < maxSize; scannedCount++) {
+            if (matches(source.get(scannedCount))) {
+                ensureCapacity(size + 1);
+                matches[size++] = scannedCount;
+            }
+        }
+        if (size > from) {
+            nextAdd(from, size);
+        }
+    }
+
+    /**
+     * Applies a permutation of the source elements. The permuted elements are tested again from the start of the
+     * permutation if some of them have not been scanned yet.
+     */
+    private void permute(ListChangeListener.Change<? extends E> c) {
+        int from = c.getFrom();
+        if (from >= scannedCount) {
+            return;
+        }
+        int lo = lowerBound(from);
+        if (c.getTo() <= scannedCount) {
+            int hi = lowerBound(c.getTo());
+            List<E> removed = new ArrayList<>(hi - lo);
+            for (int i = lo; i < hi; i++) {
+                matches[i] = c.getPermutation(matches[i]);
+                removed.add(getSource().get(matches[i]));
+            }
+            Arrays.sort(matches, lo, hi);
+            if (hi > lo) {
+                nextRemove(lo, removed);
+                nextAdd(lo, hi);
+            }
+            return;
+        }
+        List<E> removed = new ArrayList<>(size - lo);
+        for (int i = lo; i < size; i++) {
+            removed.add(getSource().get(c.getPermutation(matches[i])));
+        }
+        size = lo;
+        scannedCount = from;
+        if (!removed.isEmpty()) {
+            nextRemove(lo, removed);
+        }
+    }
+
+    /**
+     * Tests the scanned source elements from {@code from} to {@code to} again, as they were changed in place.
+     */
+    private void update(int from, int to) {
+        int end = Math.min(to, scannedCount);
+        if (from >= end) {
+            return;
+        }
+        int lo = lowerBound(from);
+        int hi = lowerBound(end);
+        if (hi > lo) {
+            nextRemove(lo, getElements(lo, hi));
+            removeMatches(lo, hi);
+        }
+        int inserted = insertMatches(lo, from, end);
+        if (inserted > 0) {
+            nextAdd(lo, lo + inserted);
+        }
+    }
+
+    /**
+     * Applies the removal and addition of source elements. Only the added elements which are next to the scanned part
+     * of the source list are tested against the predicate, the others are tested by the rest of the scan.
+     */
+    private void addRemove(ListChangeListener.Change<? extends E> c) {
+        int from = c.getFrom();
+        int lo = lowerBound(from);
+        if (c.wasRemoved()) {
+            int removedSize = c.getRemovedSize();
+            int hi = lowerBound(from + removedSize);
+            if (hi > lo) {
+                List<E> removed = new ArrayList<>(hi - lo);
+                for (int i = lo; i < hi; i++) {
+                    removed.add(c.getRemoved().get(matches[i] - from));
+                }
+                removeMatches(lo, hi);
+                nextRemove(lo, removed);
+            }
+            shiftMatches(lo, -removedSize);
+            if (scannedCount > from) {
+                scannedCount = Math.max(from, scannedCount - removedSize);
+            }
+        }
+        if (c.wasAdded()) {
+            int addedSize = c.getAddedSize();
+            shiftMatches(lo, addedSize);
+            if (from <= scannedCount) {
+                scannedCount += addedSize;
+                int inserted = insertMatches(lo, from, from + addedSize);
+                if (inserted > 0) {
+                    nextAdd(lo, lo + inserted);
+                }
+            }
+        }
+    }
+
+    /**
+     * Inserts the source indices from {@code sourceFrom} to {@code sourceTo} whose elements match the predicate at
+     * {@code viewIndex}, and returns the number of indices inserted.
+     */
+    private int insertMatches(int viewIndex, int sourceFrom, int sourceTo) {
+        int[] inserted = new int[sourceTo - sourceFrom];
+        int count = 0;
+        for (int i = sourceFrom; i < sourceTo; i++) {
+            if (matches(getSource().get(i))) {
+                inserted[count++] = i;
+            }
+        }
+        ensureCapacity(size + count);
+        System.arraycopy(matches, viewIndex, matches, viewIndex + count, size - viewIndex);
+        System.arraycopy(inserted, 0, matches, viewIndex, count);
+        size += count;
+        return count;
+    }
+
+    /**
+     * Removes the matches from {@code lo} to {@code hi} in the view.
+     */
+    private void removeMatches(int lo, int hi) {
+        System.arraycopy(matches, hi, matches, lo, size - hi);
+        size -= hi - lo;
+    }
+
+    /**
+     * Adds {@code delta} to the source indices of the matches from {@code viewIndex} onwards.
+     */
+    private void shiftMatches(int viewIndex, int delta) {
+        for (int i = viewIndex; i < size; i++) {
+            matches[i] += delta;
+        }
+    }
+
+    /**
+     * Returns the first position in the view whose source index is at least {@code sourceIndex}.
+     */
+    private int lowerBound(int sourceIndex) {
+        int lo = 0;
+        int hi = size;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (matches[mid] < sourceIndex) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    /**
+     * Returns the elements in the view from {@code lo} to {@code hi}.
+     */
+    private List<E> getElements(int lo, int hi) {
+        List<E> elements = new ArrayList<>(hi - lo);
+        for (int i = lo; i < hi; i++) {
+            elements.add(getSource().get(matches[i]));
+        }
+        return elements;
+    }
+
+    private boolean matches(E element) {
+        return predicate == null || predicate.test(element);
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > matches.length) {
+            matches = Arrays.copyOf(matches, Math.max(capacity, matches.length * 2));
+        }
+    }
+}
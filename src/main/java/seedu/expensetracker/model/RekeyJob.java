@@ -0,0 +1,101 @@
+package seedu.expensetracker.model;
+
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Logger;
+
+import seedu.expensetracker.commons.core.LogsCenter;
+import seedu.expensetracker.commons.exceptions.IllegalValueException;
+import seedu.expensetracker.model.encryption.EncryptedExpense;
+import seedu.expensetracker.model.encryption.EncryptedExpenseTracker;
+import seedu.expensetracker.model.encryption.EncryptionUtil;
+import seedu.expensetracker.model.expense.Expense;
+
+/**
+ * Re-encrypts the expenses of the current user with a new key, a chunk of expenses at a time. Only taking the next
+ * chunk and putting back its re-encrypted expenses go through the model, so the model keeps serving commands while
+ * the expenses are encrypted. The model saves the expenses every few chunks, so a job that is interrupted can be
+ * resumed from about where it stopped.
+ */
+public class RekeyJob implements Runnable {
+    public static final int CHUNK_SIZE = 100;
+    public static final int CHUNKS_PER_SAVE = 10;
+
+    private static final Logger LOGGER = LogsCenter.getLogger(RekeyJob.class);
+
+    private final ModelManager model;
+    private final List<String> previousKeys;
+    private final String key;
+    private volatile boolean isCancelled;
+    private int totalCount;
+    private int rekeyedCount;
+
+    /**
+     * Creates a job that re-encrypts the expenses in {@code model} from {@code previousKeys}, the most recent first,
+     * to {@code key}.
+     */
+    RekeyJob(ModelManager model, List<String> previousKeys, String key) {
+        this.model = model;
+        this.previousKeys = previousKeys;
+        this.key = key;
+    }
+
+    @Override
+    public void run() {
+        LOGGER.fine("Re-encrypting expenses with a new key");
+        // counted once, as expenses added while the job runs are already encrypted with the new key
+        totalCount = model.getExpensesToRekey(this, Integer.MAX_VALUE).size();
+        int chunkCount = 0;
+        while (!isCancelled) {
+            List<EncryptedExpense> chunk = model.getExpensesToRekey(this, CHUNK_SIZE);
+            if (chunk.isEmpty()) {
+                model.finishRekeyJob(this);
+                return;
+            }
+            Map<EncryptedExpense, EncryptedExpense> rekeyed = new IdentityHashMap<>();
+            try {
+                for (EncryptedExpense expense : chunk) {
+                    Expense decrypted = EncryptedExpenseTracker.decryptExpense(expense, key, previousKeys);
+                    rekeyed.put(expense, EncryptionUtil.encryptExpense(decrypted, key));
+                }
+            } catch (IllegalValueException ive) {
+                // the remaining expenses are left with the previous keys, and the job is tried again on next login
+                LOGGER.warning("Failed to re-encrypt expenses: " + ive.getMessage());
+                return;
+            }
+            rekeyedCount = Math.min(rekeyedCount + rekeyed.size(), totalCount);
+            chunkCount++;
+            model.putRekeyedExpenses(this, rekeyed, chunkCount % CHUNKS_PER_SAVE == 0);
+        }
+    }
+
+    /**
+     * Stops the job after the chunk it is currently re-encrypting. Re-encrypted expenses of that chunk are discarded.
+     */
+    public void cancel() {
+        isCancelled = true;
+    }
+
+    public boolean isCancelled() {
+        return isCancelled;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    /**
+     * Returns the number of expenses that had to be re-encrypted when the job started.
+     */
+    public int getTotalCount() {
+        return totalCount;
+    }
+
+    /**
+     * Returns the number of expenses the job has re-encrypted so far.
+     */
+    public int getRekeyedCount() {
+        return rekeyedCount;
+    }
+}
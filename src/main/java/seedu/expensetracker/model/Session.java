@@ -0,0 +1,151 @@
+package seedu.expensetracker.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.locks.ReadWriteLock;
+
+import seedu.expensetracker.model.exceptions.NoUserSelectedException;
+import seedu.expensetracker.model.expense.Expense;
+import seedu.expensetracker.model.user.Password;
+import seedu.expensetracker.model.user.Username;
+
+/**
+ * A user who is logged in, with a model of their own holding their decrypted expenses, the expenses listed to them
+ * and the changes they can undo. The model is changed while holding the write lock of the user, so the commands of a
+ * user run one at a time while the commands of other users run at the same time. After each change, the expenses and
+ * password of the user are published as an immutable {@link Snapshot}, which is read without locking. The session
+ * also records when it was last used, so that {@link SessionManager} can close the sessions no longer used.
+ */
+public class Session {
+    private final Username username;
+    private final Model model;
+    private final ReadWriteLock lock;
+    private volatile Snapshot snapshot;
+    private volatile long lastUsedNanos = System.nanoTime();
+
+    /**
+     * Creates the session of the user logged in to {@code model}, whose changes are guarded by {@code lock}.
+     */
+    Session(Model model, ReadWriteLock lock) throws NoUserSelectedException {
+        requireNonNull(lock);
+        this.username = model.getExpenseTracker().getUsername();
+        this.model = model;
+        this.lock = lock;
+        this.snapshot = takeSnapshot();
+    }
+
+    public Username getUsername() {
+        return username;
+    }
+
+    /**
+     * Returns the result of {@code action} on the model of the user, which it may change. No other action runs on
+     * the model meanwhile, and the snapshot of the user is published again afterwards.
+     */
+    public <T, E extends Exception> T write(ModelAction<T, E> action) throws E {
+        lock.writeLock().lock();
+        try {
+            return action.apply(model);
+        } finally {
+            publishSnapshot();
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the result of {@code action} on the model of the user, which must not change it. Other reading actions
+     * may run on the model meanwhile.
+     */
+    public <T, E extends Exception> T read(ModelAction<T, E> action) throws E {
+        lock.readLock().lock();
+        try {
+            return action.apply(model);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns every loaded expense of the user as of the last change, without waiting for a change being made.
+     */
+    public List<Expense> getExpenses() {
+        return snapshot.expenses;
+    }
+
+    /**
+     * Returns true if {@code toCheck} is the password of the user as of the last change, without waiting for a
+     * change being made.
+     */
+    public boolean isMatchPassword(Password toCheck) {
+        Password password = snapshot.password;
+        return password == null || password.equals(toCheck);
+    }
+
+    /**
+     * Records that the user has just used the session.
+     */
+    void markUsed() {
+        lastUsedNanos = System.nanoTime();
+    }
+
+    /**
+     * Returns true if the user has not used the session for at least {@code nanos} nanoseconds.
+     */
+    boolean isIdleFor(long nanos) {
+        return System.nanoTime() - lastUsedNanos >= nanos;
+    }
+
+    /**
+     * Logs the user out of the model, once the action running on it has finished.
+     */
+    void close() {
+        lock.writeLock().lock();
+        try {
+            model.unloadUserData();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Replaces the snapshot of the user with their current expenses and password. The snapshot is kept if the user
+     * has been logged out. Must be called while holding the write lock.
+     */
+    private void publishSnapshot() {
+        try {
+            snapshot = takeSnapshot();
+        } catch (NoUserSelectedException nuse) {
+            // the session was closed, so its last snapshot stays
+        }
+    }
+
+    private Snapshot takeSnapshot() throws NoUserSelectedException {
+        ReadOnlyExpenseTracker tracker = model.getExpenseTracker();
+        List<Expense> expenses = Collections.unmodifiableList(new ArrayList<>(tracker.getExpenseList()));
+        return new Snapshot(tracker.getPassword().orElse(null), expenses);
+    }
+
+    /**
+     * An action on the model of a user, which returns a {@code T} or throws an {@code E}.
+     */
+    @FunctionalInterface
+    public interface ModelAction<T, E extends Exception> {
+        T apply(Model model) throws E;
+    }
+
+    /**
+     * The expenses and password of a user after a change.
+     */
+    private static class Snapshot {
+        private final Password password;
+        private final List<Expense> expenses;
+
+        private Snapshot(Password password, List<Expense> expenses) {
+            this.password = password;
+            this.expenses = expenses;
+        }
+    }
+}
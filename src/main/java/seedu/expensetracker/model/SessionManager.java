@@ -0,0 +1,137 @@
+package seedu.expensetracker.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.logging.Logger;
+
+import seedu.expensetracker.commons.core.LogsCenter;
+import seedu.expensetracker.logic.LoginCredentials;
+import seedu.expensetracker.model.exceptions.InvalidDataException;
+import seedu.expensetracker.model.exceptions.NoUserSelectedException;
+import seedu.expensetracker.model.exceptions.NonExistentUserException;
+import seedu.expensetracker.model.user.Username;
+
+/**
+ * Keeps the {@link Session}s of the users who are logged in at the same time. Every session has a model of its own
+ * which shares the users of the model the sessions are created from, and each user has a read-write lock of their own,
+ * so that logging in and the changes of one user do not wait for other users. A session stays open until its user is
+ * logged out, or until it has not been used for a while if {@link #logOutIdle(Duration)} is called regularly.
+ */
+public class SessionManager {
+    private static final Logger logger = LogsCenter.getLogger(SessionManager.class);
+
+    private final ModelManager users;
+    private final ConcurrentMap<Username, ReadWriteLock> locks = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Username, Session> sessions = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a {@code SessionManager} whose sessions log in to the users of {@code users}.
+     */
+    public SessionManager(ModelManager users) {
+        requireNonNull(users);
+        this.users = users;
+    }
+
+    /**
+     * Returns the session of the user of {@code credentials}, logging them in if they have none yet, or an empty
+     * optional if the password does not match. Every expense of the user is loaded when they log in, so that their
+     * snapshots hold every expense. The session is marked as used.
+     */
+    public Optional<Session> logIn(LoginCredentials credentials) throws NonExistentUserException,
+            InvalidDataException {
+        Username username = credentials.getUsername();
+        Session session = sessions.get(username);
+        if (session == null) {
+            ReadWriteLock lock = locks.computeIfAbsent(username, unused -> new ReentrantReadWriteLock());
+            lock.writeLock().lock();
+            try {
+                session = sessions.get(username);
+                if (session == null) {
+                    return Optional.ofNullable(openSession(credentials, lock));
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+        if (!session.isMatchPassword(credentials.getPassword().orElse(null))) {
+            return Optional.empty();
+        }
+        session.markUsed();
+        return Optional.of(session);
+    }
+
+    /**
+     * Logs the user of {@code credentials} in to a new model and returns their session, or null if the password does
+     * not match. Must be called while holding the write lock of the user.
+     */
+    private Session openSession(LoginCredentials credentials, ReadWriteLock lock) throws NonExistentUserException,
+            InvalidDataException {
+        ModelManager model = users.createSession();
+        if (!model.loadUserData(credentials)) {
+            return null;
+        }
+        try {
+            model.loadAllExpenses();
+            Session session = new Session(model, lock);
+            sessions.put(credentials.getUsername(), session);
+            logger.info("Opened a session for " + credentials.getUsername() + ", " + sessions.size() + " open");
+            return session;
+        } catch (NoUserSelectedException nuse) {
+            throw new IllegalStateException("No user selected after logging in.");
+        }
+    }
+
+    /**
+     * Returns the session of the user with {@code username}, if they are logged in.
+     */
+    public Optional<Session> getSession(Username username) {
+        return Optional.ofNullable(sessions.get(username));
+    }
+
+    /**
+     * Logs the user with {@code username} out, if they are logged in, and returns their closed session.
+     */
+    public Optional<Session> logOut(Username username) {
+        Session session = sessions.remove(username);
+        if (session != null) {
+            close(username, session);
+        }
+        return Optional.ofNullable(session);
+    }
+
+    /**
+     * Logs out the users whose sessions have not been used for at least {@code maxIdle}, and returns their closed
+     * sessions.
+     */
+    public List<Session> logOutIdle(Duration maxIdle) {
+        long maxIdleNanos = maxIdle.toNanos();
+        List<Session> closed = new ArrayList<>();
+        for (Map.Entry<Username, Session> entry : sessions.entrySet()) {
+            Session session = entry.getValue();
+            // the session is only removed if it was not replaced by a new session meanwhile
+            if (session.isIdleFor(maxIdleNanos) && sessions.remove(entry.getKey(), session)) {
+                close(entry.getKey(), session);
+                closed.add(session);
+            }
+        }
+        return closed;
+    }
+
+    private void close(Username username, Session session) {
+        session.close();
+        logger.info("Closed the session of " + username + ", " + sessions.size() + " open");
+    }
+
+    public int getSessionCount() {
+        return sessions.size();
+    }
+}
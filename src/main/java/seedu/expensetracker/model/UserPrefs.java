@@ -13,6 +13,8 @@ public class UserPrefs {
 
     private GuiSettings guiSettings;
     private Path expenseTrackerDirPath = Paths.get("data");
+    private int hotPartitionMonths = 12;
+    private boolean binaryStorageEnabled = false;
 
     public UserPrefs() {
         setGuiSettings(800, 800, 0, 0);
@@ -38,6 +40,29 @@ public class UserPrefs {
         this.expenseTrackerDirPath = expenseTrackerDirPath;
     }
 
+    /**
+     * Returns the number of most recent months whose expenses are read when a user logs in. Expenses from earlier
+     * months are only read when they are needed.
+     */
+    public int getHotPartitionMonths() {
+        return hotPartitionMonths;
+    }
+
+    public void setHotPartitionMonths(int hotPartitionMonths) {
+        this.hotPartitionMonths = hotPartitionMonths;
+    }
+
+    /**
+     * Returns true if expenses are saved as binary snapshots instead of xml files.
+     */
+    public boolean isBinaryStorageEnabled() {
+        return binaryStorageEnabled;
+    }
+
+    public void setBinaryStorageEnabled(boolean binaryStorageEnabled) {
+        this.binaryStorageEnabled = binaryStorageEnabled;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -50,12 +75,14 @@ public class UserPrefs {
         UserPrefs o = (UserPrefs) other;
 
         return Objects.equals(guiSettings, o.guiSettings)
-                && Objects.equals(expenseTrackerDirPath, o.expenseTrackerDirPath);
+                && Objects.equals(expenseTrackerDirPath, o.expenseTrackerDirPath)
+                && hotPartitionMonths == o.hotPartitionMonths
+                && binaryStorageEnabled == o.binaryStorageEnabled;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, expenseTrackerDirPath);
+        return Objects.hash(guiSettings, expenseTrackerDirPath, hotPartitionMonths, binaryStorageEnabled);
     }
 
     @Override
@@ -63,6 +90,8 @@ public class UserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings.toString());
         sb.append("\nLocal data file location : " + expenseTrackerDirPath);
+        sb.append("\nMonths loaded on login : " + hotPartitionMonths);
+        sb.append("\nBinary storage enabled : " + binaryStorageEnabled);
         return sb.toString();
     }
 
@@ -3,12 +3,16 @@ package seedu.expensetracker.model;
 import java.util.ArrayList;
 import java.util.List;
 
+import seedu.expensetracker.commons.metrics.FlightRecorderEvents;
+import seedu.expensetracker.commons.metrics.UndoCommitFlightEvent;
+import seedu.expensetracker.model.expense.Expense;
+
 /**
  * {@code ExpenseTracker} that keeps track of its own history.
  */
 public class VersionedExpenseTracker extends ExpenseTracker {
 
-    private final List<ReadOnlyExpenseTracker> expenseTrackerStateList;
+    private final List<ExpenseTracker> expenseTrackerStateList;
     private int currentStatePointer;
 
     public VersionedExpenseTracker(ReadOnlyExpenseTracker initialState) {
@@ -24,16 +28,31 @@ public class VersionedExpenseTracker extends ExpenseTracker {
      * Undone states are removed from the state list.
      */
     public void commit() {
+        UndoCommitFlightEvent flightEvent =
+                FlightRecorderEvents.isEnabled() ? FlightRecorderEvents.newUndoCommitEvent() : null;
         removeStatesAfterCurrentPointer();
 
         expenseTrackerStateList.add(new ExpenseTracker(this));
         currentStatePointer++;
+        if (flightEvent != null) {
+            flightEvent.end(getExpenseList().size(), expenseTrackerStateList.size());
+        }
     }
 
     private void removeStatesAfterCurrentPointer() {
         expenseTrackerStateList.subList(currentStatePointer + 1, expenseTrackerStateList.size()).clear();
     }
 
+    /**
+     * Adds expenses that were read from storage after this tracker was created to the current state and to every
+     * saved state, so that undoing or redoing does not drop them.
+     */
+    @Override
+    public void addLoadedExpenses(List<Expense> loaded) {
+        super.addLoadedExpenses(loaded);
+        expenseTrackerStateList.forEach(state -> state.addLoadedExpenses(loaded));
+    }
+
     /**
      * Restores the expense tracker to its previous state.
      */
@@ -42,7 +61,7 @@ public class VersionedExpenseTracker extends ExpenseTracker {
             throw new NoUndoableStateException();
         }
         currentStatePointer--;
-        resetData(expenseTrackerStateList.get(currentStatePointer));
+        restoreData(expenseTrackerStateList.get(currentStatePointer));
     }
 
     /**
@@ -53,7 +72,7 @@ public class VersionedExpenseTracker extends ExpenseTracker {
             throw new NoRedoableStateException();
         }
         currentStatePointer++;
-        resetData(expenseTrackerStateList.get(currentStatePointer));
+        restoreData(expenseTrackerStateList.get(currentStatePointer));
     }
 
     /**
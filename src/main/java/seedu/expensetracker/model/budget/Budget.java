@@ -5,6 +5,7 @@ import static java.util.Objects.requireNonNull;
 import static seedu.expensetracker.commons.util.AppUtil.checkArgument;
 
 import java.util.logging.Logger;
+import java.util.regex.Pattern;
 
 import seedu.expensetracker.commons.core.LogsCenter;
 import seedu.expensetracker.model.Model;
@@ -25,6 +26,7 @@ public class Budget {
     public static final String BUDGET_VALIDATION_REGEX = "(\\d+)\\.(\\d)(\\d)";
 
     protected static final Logger LOGGER = LogsCenter.getLogger(StorageManager.class);
+    private static final Pattern BUDGET_VALIDATION_PATTERN = Pattern.compile(BUDGET_VALIDATION_REGEX);
 
 
     protected double budgetCap;
@@ -78,7 +80,7 @@ public class Budget {
      * Returns true if a given string is a valid totalBudget.
      */
     public static boolean isValidBudget(String test) {
-        return test.matches(BUDGET_VALIDATION_REGEX);
+        return BUDGET_VALIDATION_PATTERN.matcher(test).matches();
     }
 
     /**
@@ -147,10 +149,10 @@ public class Budget {
     */
     public double getBudgetRatio() {
         if (budgetCap == 0) {
-            LOGGER.info("current Expenses" + currentExpenses);
+            LOGGER.fine(() -> "current Expenses" + currentExpenses);
             return currentExpenses;
         }
-        LOGGER.info("current Expenses" + currentExpenses / budgetCap);
+        LOGGER.fine(() -> "current Expenses" + currentExpenses / budgetCap);
         return currentExpenses / budgetCap;
     }
 
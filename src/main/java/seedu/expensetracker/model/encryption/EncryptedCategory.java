@@ -25,11 +25,11 @@ public class EncryptedCategory extends EncryptedExpenseField<Category> {
      * @throws IllegalValueException when the input encryption key is invalid
      */
     public EncryptedCategory(Category src, String key) throws IllegalValueException {
-        super(src, key);
+        super(EncryptionUtil.getFieldCipherCache().encrypt(src.toString(), key));
     }
 
     @Override
     public Category getDecrypted(String key) throws IllegalValueException {
-        return new Category(EncryptionUtil.decryptString(getEncryptedString(), key));
+        return new Category(EncryptionUtil.getFieldCipherCache().decrypt(getEncryptedString(), key));
     }
 }
@@ -25,11 +25,11 @@ public class EncryptedDate extends EncryptedExpenseField<Date> {
      * @throws IllegalValueException when the input encryption key is invalid
      */
     public EncryptedDate(Date src, String key) throws IllegalValueException {
-        super(src, key);
+        super(EncryptionUtil.getFieldCipherCache().encrypt(src.toString(), key));
     }
 
     @Override
     public Date getDecrypted(String key) throws IllegalValueException {
-        return new Date(EncryptionUtil.decryptString(getEncryptedString(), key));
+        return new Date(EncryptionUtil.getFieldCipherCache().decrypt(getEncryptedString(), key));
     }
 }
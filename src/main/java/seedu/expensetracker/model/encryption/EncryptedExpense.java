@@ -1,46 +1,158 @@
 package seedu.expensetracker.model.encryption;
 
+import static java.util.Objects.requireNonNull;
 import static seedu.expensetracker.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.time.YearMonth;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 
 import seedu.expensetracker.commons.exceptions.IllegalValueException;
+import seedu.expensetracker.model.expense.Category;
+import seedu.expensetracker.model.expense.Cost;
+import seedu.expensetracker.model.expense.Date;
 import seedu.expensetracker.model.expense.Expense;
+import seedu.expensetracker.model.expense.Name;
 import seedu.expensetracker.model.tag.Tag;
 
 //@@author JasonChong96
 /**
  * Represents an expense in Expense Tracker in it's encrypted form.
+ * An expense is either a sealed record, where the whole expense is encrypted at once with AES-GCM, or it is in the
+ * field layout used by earlier versions, where each field is encrypted separately. Expenses in the field layout are
+ * only read from old data, and are sealed when they are next encrypted.
+ * An expense is decrypted when it is first needed, and the result is kept for later use with the same key.
  * Guarantees: immutable;
  */
 public class EncryptedExpense {
-    // Identity fields
+    /** The version of records whose tag count is an int. Records of version 1 have a byte, read as unsigned. */
+    private static final byte RECORD_FORMAT_VERSION = 2;
+    private static final byte BYTE_TAG_COUNT_FORMAT_VERSION = 1;
+
+    // Field layout, only used by expenses which are not sealed records
     private final EncryptedName name;
     private final EncryptedDate date;
     private final EncryptedCategory category;
-
-    // Data fields
     private final EncryptedCost cost;
     private final Set<EncryptedTag> tags = new HashSet<>();
 
+    // Sealed record
+    private final byte[] record;
+
+    // Storage fields
+    private final YearMonth partition;
+
+    private DecryptedExpense decrypted;
+
     /**
      * Every field must be present and not null.
      */
 
     public EncryptedExpense(EncryptedName name, EncryptedCategory category, EncryptedCost cost, EncryptedDate date,
                             Set<EncryptedTag> tags) {
+        this(name, category, cost, date, tags, null);
+    }
+
+    /**
+     * Every field except {@code partition} must be present and not null. {@code partition} is the month the
+     * expense was made in, which is stored in plain text so that expenses can be stored in monthly partitions.
+     */
+    public EncryptedExpense(EncryptedName name, EncryptedCategory category, EncryptedCost cost, EncryptedDate date,
+                            Set<EncryptedTag> tags, YearMonth partition) {
         requireAllNonNull(name, category, cost, date, tags);
         this.name = name;
         this.category = category;
         this.cost = cost;
         this.date = date;
         this.tags.addAll(tags);
+        this.record = null;
+        this.partition = partition;
     }
 
-    public Expense getDecryptedExpense(String key) throws IllegalValueException {
+    /**
+     * A constructor for a sealed record that has already been encrypted.
+     * @param record the nonce followed by the AES-GCM ciphertext of the expense, must not be null
+     * @param partition the month the expense was made in, or null if it is unknown
+     */
+    public EncryptedExpense(byte[] record, YearMonth partition) {
+        requireNonNull(record);
+        this.name = null;
+        this.category = null;
+        this.cost = null;
+        this.date = null;
+        this.record = record.clone();
+        this.partition = partition;
+    }
+
+    /**
+     * A constructor that seals the unencrypted {@code src} into a single record with the given key.
+     * @param src the unencrypted expense
+     * @param key the encryption key to use
+     * @throws IllegalValueException when the input encryption key is invalid
+     */
+    public EncryptedExpense(Expense src, String key) throws IllegalValueException {
+        requireAllNonNull(src, key);
+        this.name = null;
+        this.category = null;
+        this.cost = null;
+        this.date = null;
+        this.record = EncryptionUtil.encryptBytes(toRecordBytes(src), key);
+        this.partition = YearMonth.from(src.getDate().getFullDate());
+        this.decrypted = new DecryptedExpense(src, key);
+    }
+
+    /**
+     * Private constructor used to copy an expense into another partition, keeping its decrypted form.
+     */
+    private EncryptedExpense(EncryptedExpense src, YearMonth partition) {
+        this.name = src.name;
+        this.category = src.category;
+        this.cost = src.cost;
+        this.date = src.date;
+        this.tags.addAll(src.tags);
+        this.record = src.record;
+        this.partition = partition;
+        this.decrypted = src.decrypted;
+    }
+
+    /**
+     * Returns the decrypted form of this expense. The expense is only decrypted the first time this is called with
+     * a given key.
+     * @param key the encryption key to use
+     * @throws IllegalValueException if the key is not the key used to encrypt this expense, or the decrypted data
+     * is invalid
+     */
+    public synchronized Expense getDecryptedExpense(String key) throws IllegalValueException {
+        requireNonNull(key);
+        if (decrypted != null && decrypted.key.equals(key)) {
+            return decrypted.expense;
+        }
+        Expense expense = isSealed() ? fromRecordBytes(EncryptionUtil.decryptBytes(record, key)) : decryptFields(key);
+        decrypted = new DecryptedExpense(expense, key);
+        return expense;
+    }
+
+    /**
+     * Returns the decrypted form of this expense if it has already been decrypted with {@code key}, or null if it
+     * has not.
+     */
+    synchronized Expense getDecryptedExpenseIfPresent(String key) {
+        return decrypted != null && decrypted.key.equals(key) ? decrypted.expense : null;
+    }
+
+    /**
+     * Decrypts each field of an expense in the field layout.
+     */
+    private Expense decryptFields(String key) throws IllegalValueException {
         Set<Tag> decryptedTags = new HashSet<>();
         for (EncryptedTag tag : tags) {
             decryptedTags.add(tag.getDecrypted(key));
@@ -49,48 +161,99 @@ public class EncryptedExpense {
                 date.getDecrypted(key), decryptedTags);
     }
 
+    /**
+     * Returns true if this expense is a sealed record, or false if it is in the field layout.
+     */
+    public boolean isSealed() {
+        return record != null;
+    }
+
+    /**
+     * Returns a copy of the sealed record of this expense.
+     * @throws IllegalStateException if this expense is not a sealed record
+     */
+    public byte[] getRecord() {
+        if (!isSealed()) {
+            throw new IllegalStateException("Expense is in the field layout.");
+        }
+        return record.clone();
+    }
+
+    /**
+     * Returns the encrypted name of this expense, or null if this expense is a sealed record.
+     */
     public EncryptedName getName() {
         return name;
     }
 
+    /**
+     * Returns the encrypted date of this expense, or null if this expense is a sealed record.
+     */
     public EncryptedDate getDate() {
         return date;
     }
 
+    /**
+     * Returns the encrypted category of this expense, or null if this expense is a sealed record.
+     */
     public EncryptedCategory getCategory() {
         return category;
     }
 
+    /**
+     * Returns the encrypted cost of this expense, or null if this expense is a sealed record.
+     */
     public EncryptedCost getCost() {
         return cost;
     }
 
     /**
      * Returns an immutable tag set, which throws {@code UnsupportedOperationException}
-     * if modification is attempted.
+     * if modification is attempted. The set is empty if this expense is a sealed record.
      * @return an immutable tag set
      */
     public Set<EncryptedTag> getTags() {
         return Collections.unmodifiableSet(tags);
     }
 
+    /**
+     * Returns the month this expense is stored under, if known.
+     * @return the storage partition of this expense
+     */
+    public Optional<YearMonth> getPartition() {
+        return Optional.ofNullable(partition);
+    }
+
+    /**
+     * Returns a copy of this expense that is stored under the given {@code partition}.
+     * @param partition the month the expense was made in
+     * @return a copy of this expense with its partition set
+     */
+    public EncryptedExpense inPartition(YearMonth partition) {
+        return new EncryptedExpense(this, partition);
+    }
+
     /**
      * Returns true if both expenses of the same name have at least one other identity field that is the same.
      * This defines a weaker notion of equality between two expenses.
+     * Sealed records do not reveal their fields, so they are only the same expense as an equal record.
      */
     public boolean isSameExpense(EncryptedExpense otherExpense) {
         if (otherExpense == this) {
             return true;
         }
 
-        return otherExpense != null
-                && otherExpense.name.equals(this.name)
+        if (otherExpense == null || isSealed() || otherExpense.isSealed()) {
+            return equals(otherExpense);
+        }
+
+        return otherExpense.name.equals(this.name)
                 && (otherExpense.category.equals(category)
                 || otherExpense.cost.equals(cost));
     }
 
     /**
-     * Returns true if both expenses have the same identity and data fields.
+     * Returns true if both expenses have the same identity and data fields, or are the same sealed record.
      * This defines a stronger notion of equality between two expenses.
      */
     @Override
@@ -104,6 +267,9 @@ public class EncryptedExpense {
         }
 
         EncryptedExpense otherExpense = (EncryptedExpense) other;
+        if (isSealed() || otherExpense.isSealed()) {
+            return Arrays.equals(record, otherExpense.record);
+        }
         return otherExpense.getName().equals(getName())
                 && otherExpense.getCategory().equals(getCategory())
                 && otherExpense.getCost().equals(getCost())
@@ -113,7 +279,72 @@ public class EncryptedExpense {
 
     @Override
     public int hashCode() {
+        if (isSealed()) {
+            return Arrays.hashCode(record);
+        }
         // use this method for custom fields hashing instead of implementing your own
         return Objects.hash(name, category, cost, date, tags);
     }
+
+    /**
+     * Serialises {@code expense} into the plain text of a sealed record.
+     */
+    private static byte[] toRecordBytes(Expense expense) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(RECORD_FORMAT_VERSION);
+            out.writeUTF(expense.getName().toString());
+            out.writeUTF(expense.getCategory().toString());
+            out.writeUTF(expense.getCost().toString());
+            out.writeUTF(expense.getDate().toString());
+            out.writeInt(expense.getTags().size());
+            for (Tag tag : expense.getTags()) {
+                out.writeUTF(tag.tagName);
+            }
+        } catch (IOException e) {
+            throw new AssertionError("Writing to memory should not fail", e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Reads an expense from the decrypted plain text of a sealed record.
+     * @throws IllegalValueException if the plain text is not a valid expense
+     */
+    private static Expense fromRecordBytes(byte[] bytes) throws IllegalValueException {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes))) {
+            byte version = in.readByte();
+            if (version != RECORD_FORMAT_VERSION && version != BYTE_TAG_COUNT_FORMAT_VERSION) {
+                throw new IllegalValueException(String.format("Unsupported expense record version: %d", version));
+            }
+            Name name = new Name(in.readUTF());
+            Category category = new Category(in.readUTF());
+            Cost cost = new Cost(in.readUTF());
+            Date date = new Date(in.readUTF());
+            int tagCount = version == BYTE_TAG_COUNT_FORMAT_VERSION ? in.readUnsignedByte() : in.readInt();
+            if (tagCount < 0) {
+                throw new IllegalValueException("Invalid tag count in expense record: " + tagCount);
+            }
+            Set<Tag> tags = new HashSet<>();
+            for (int i = 0; i < tagCount; i++) {
+                tags.add(new Tag(in.readUTF()));
+            }
+            return new Expense(name, category, cost, date, tags);
+        } catch (IOException | IllegalArgumentException e) {
+            throw new IllegalValueException("Invalid expense record", e);
+        }
+    }
+
+    /**
+     * An expense together with the key it was decrypted with.
+     */
+    private static class DecryptedExpense {
+        private final Expense expense;
+        private final String key;
+
+        private DecryptedExpense(Expense expense, String key) {
+            this.expense = expense;
+            this.key = key;
+        }
+    }
 }
@@ -2,9 +2,12 @@ package seedu.expensetracker.model.encryption;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.ListIterator;
+import java.util.Map;
 import java.util.stream.Stream;
 
 //@@author JasonChong96
@@ -34,6 +37,26 @@ public class EncryptedExpenseList implements Iterable<EncryptedExpense> {
         internalList.add(toAdd);
     }
 
+    /**
+     * Replaces each expense in the list which is a key of {@code replacements} with its value. Expenses are matched
+     * by identity.
+     * @return the number of expenses replaced
+     */
+    public int replaceAll(Map<EncryptedExpense, EncryptedExpense> replacements) {
+        requireNonNull(replacements);
+        Map<EncryptedExpense, EncryptedExpense> byIdentity = new IdentityHashMap<>(replacements);
+        int replacedCount = 0;
+        ListIterator<EncryptedExpense> iterator = internalList.listIterator();
+        while (iterator.hasNext()) {
+            EncryptedExpense replacement = byIdentity.get(iterator.next());
+            if (replacement != null) {
+                iterator.set(replacement);
+                replacedCount++;
+            }
+        }
+        return replacedCount;
+    }
+
     @Override
     public Iterator<EncryptedExpense> iterator() {
         return internalList.iterator();
@@ -2,13 +2,29 @@ package seedu.expensetracker.model.encryption;
 
 import static java.util.Objects.requireNonNull;
 
+import java.io.IOException;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
 
 import javafx.collections.ObservableList;
+import seedu.expensetracker.commons.exceptions.DataConversionException;
 import seedu.expensetracker.commons.exceptions.IllegalValueException;
+import seedu.expensetracker.commons.metrics.FlightRecorderEvents;
+import seedu.expensetracker.commons.metrics.Profiler;
+import seedu.expensetracker.commons.metrics.TrackerCryptoFlightEvent;
 import seedu.expensetracker.model.ExpenseTracker;
 import seedu.expensetracker.model.budget.TotalBudget;
+import seedu.expensetracker.model.expense.Expense;
 import seedu.expensetracker.model.notification.Notification;
 import seedu.expensetracker.model.notification.NotificationHandler;
 import seedu.expensetracker.model.user.Password;
@@ -19,11 +35,16 @@ import seedu.expensetracker.model.user.Username;
  * Represents a user's Expense Tracker data in it's encrypted form.
  */
 public class EncryptedExpenseTracker {
+    private static final String PREVIOUS_KEY_SEPARATOR = ",";
+
     private Username username;
     private final Password password;
     private final EncryptedExpenseList expenses;
     private final TotalBudget maximumTotalBudget;
     private final NotificationHandler notificationHandler;
+    private final SortedSet<YearMonth> unloadedPartitions = new TreeSet<>();
+    private PartitionLoader partitionLoader;
+    private String encryptedPreviousKey;
 
     /**
      * Creates an empty EncryptedExpenseTracker with the given username.
@@ -44,19 +65,34 @@ public class EncryptedExpenseTracker {
 
     /**
      * Decrypts the Expense Tracker represented in this instance and returns its decrypted form as a
-     * ExpenseTracker instance.
+     * ExpenseTracker instance. Expenses in unloaded partitions are not included. If the expenses are being
+     * re-encrypted with {@code key}, expenses which are still encrypted with a previous key are decrypted with it.
+     * Every loaded expense is decrypted here, as the expense list, budgets and filters of the result all read each
+     * expense. Decryption is only deferred per partition: expenses of unloaded partitions are decrypted when their
+     * partition is loaded. Each record keeps its decrypted form, so it is not decrypted again when it is saved.
      *
      * @param key the encryption key needed to decrypt this Expense Tracker data
      * @return a decrypted ExpenseTracker
      * @throws IllegalValueException if the key is invalid or an illegal field value is detected in the data
      */
     public ExpenseTracker decryptTracker(String key) throws IllegalValueException {
+        TrackerCryptoFlightEvent flightEvent = FlightRecorderEvents.isEnabled()
+                ? FlightRecorderEvents.newTrackerCryptoEvent(TrackerCryptoFlightEvent.OPERATION_DECRYPT) : null;
         ExpenseTracker result = new ExpenseTracker(username, password, key);
-        for (EncryptedExpense expense : expenses) {
-            result.addExpense(expense.getDecryptedExpense(key));
+        List<String> previousKeys = getPreviousKeys(key);
+        Profiler.enter(Profiler.Phase.ENCRYPTION);
+        try {
+            for (EncryptedExpense expense : expenses) {
+                result.addExpense(decryptExpense(expense, key, previousKeys));
+            }
+        } finally {
+            Profiler.exit();
         }
         result.modifyMaximumBudget(maximumTotalBudget);
-        result.setNotificationHandler(notificationHandler);
+        result.setNotificationHandler(new NotificationHandler(notificationHandler));
+        if (flightEvent != null) {
+            flightEvent.end(result.getExpenseList().size());
+        }
         return result;
     }
 
@@ -111,6 +147,188 @@ public class EncryptedExpenseTracker {
         return expenses;
     }
 
+    //// partition-level operations
+
+    /**
+     * Marks the expenses of {@code partition} as still in storage. They are only read when requested through
+     * {@link #readPartition(YearMonth)}, using the given {@code loader}.
+     */
+    public void addUnloadedPartition(YearMonth partition, PartitionLoader loader) {
+        requireNonNull(partition);
+        requireNonNull(loader);
+        unloadedPartitions.add(partition);
+        partitionLoader = loader;
+    }
+
+    /**
+     * Returns an unmodifiable view of the months whose expenses have not been read from storage.
+     */
+    public SortedSet<YearMonth> getUnloadedPartitions() {
+        return Collections.unmodifiableSortedSet(unloadedPartitions);
+    }
+
+    /**
+     * Returns an unmodifiable view of the months from {@code since} onwards whose expenses have not been read from
+     * storage.
+     */
+    public SortedSet<YearMonth> getUnloadedPartitionsSince(YearMonth since) {
+        requireNonNull(since);
+        return Collections.unmodifiableSortedSet(unloadedPartitions.tailSet(since));
+    }
+
+    /**
+     * Reads the expenses of an unloaded partition from storage. The partition stays unloaded until
+     * {@link #markPartitionLoaded(YearMonth)} is called.
+     * @throws DataConversionException if the data in storage is not in the expected format.
+     * @throws IOException if there was any problem when reading from the storage.
+     */
+    public List<EncryptedExpense> readPartition(YearMonth partition) throws DataConversionException, IOException {
+        assert unloadedPartitions.contains(partition) : "Partition has already been loaded.";
+        return partitionLoader.loadPartition(partition);
+    }
+
+    /**
+     * Marks the expenses of {@code partition} as loaded into memory.
+     */
+    public void markPartitionLoaded(YearMonth partition) {
+        unloadedPartitions.remove(partition);
+    }
+
+    /**
+     * Copies the unloaded partitions of {@code other} into this tracker, so that expenses which were never read
+     * from storage are kept when this tracker is saved.
+     */
+    public void inheritUnloadedPartitions(EncryptedExpenseTracker other) {
+        requireNonNull(other);
+        unloadedPartitions.addAll(other.unloadedPartitions);
+        if (other.partitionLoader != null) {
+            partitionLoader = other.partitionLoader;
+        }
+    }
+
+    //// re-keying operations
+
+    /**
+     * Marks the expenses of this tracker as being re-encrypted to {@code key} from {@code previousKeys}, the most
+     * recent first. More than one key is kept when the password is changed again before the expenses were all
+     * re-encrypted. The previous keys are kept encrypted with the new key, so that expenses which have not been
+     * re-encrypted yet can still be decrypted after the tracker is saved and read again.
+     * @throws IllegalValueException if {@code key} is invalid
+     */
+    public void setPreviousKeys(List<String> previousKeys, String key) throws IllegalValueException {
+        requireNonNull(previousKeys);
+        requireNonNull(key);
+        assert !previousKeys.isEmpty() : "Expenses cannot be re-encrypted without a previous key.";
+        encryptedPreviousKey = Base64.getEncoder().encodeToString(EncryptionUtil.encryptBytes(
+                String.join(PREVIOUS_KEY_SEPARATOR, previousKeys).getBytes(EncryptionUtil.DEFAULT_CHARSET), key));
+    }
+
+    /**
+     * Returns the previous keys of the expenses being re-encrypted with {@code key}, the most recent first, or an
+     * empty list if they are not being re-encrypted.
+     * @throws IllegalValueException if {@code key} is not the key the expenses are being re-encrypted with
+     */
+    public List<String> getPreviousKeys(String key) throws IllegalValueException {
+        requireNonNull(key);
+        if (encryptedPreviousKey == null) {
+            return Collections.emptyList();
+        }
+        try {
+            byte[] previousKeys = EncryptionUtil.decryptBytes(Base64.getDecoder().decode(encryptedPreviousKey), key);
+            return Arrays.asList(new String(previousKeys, EncryptionUtil.DEFAULT_CHARSET)
+                    .split(PREVIOUS_KEY_SEPARATOR));
+        } catch (IllegalArgumentException iae) {
+            throw new IllegalValueException("Previous encryption key is not valid Base64", iae);
+        }
+    }
+
+    /**
+     * Returns the previous keys of the expenses in their encrypted form, as they are stored, if the expenses are
+     * being re-encrypted.
+     */
+    public Optional<String> getEncryptedPreviousKey() {
+        return Optional.ofNullable(encryptedPreviousKey);
+    }
+
+    /**
+     * Sets the previous keys of the expenses in their encrypted form, as they are stored.
+     * @param encryptedPreviousKey the encrypted previous keys, or null if the expenses are not being re-encrypted
+     */
+    public void setEncryptedPreviousKey(String encryptedPreviousKey) {
+        this.encryptedPreviousKey = encryptedPreviousKey;
+    }
+
+    /**
+     * Marks the expenses of this tracker as no longer being re-encrypted.
+     */
+    public void clearPreviousKey() {
+        encryptedPreviousKey = null;
+    }
+
+    /**
+     * Decrypts a single expense of this tracker. If the expenses are being re-encrypted with {@code key}, an expense
+     * which is still encrypted with a previous key is decrypted with it.
+     * @throws IllegalValueException if the expense cannot be decrypted with any of the keys
+     */
+    public Expense decryptExpense(EncryptedExpense expense, String key) throws IllegalValueException {
+        return decryptExpense(expense, key, getPreviousKeys(key));
+    }
+
+    /**
+     * Decrypts {@code expense} with {@code key}, falling back to each of {@code previousKeys} in turn. A key the
+     * expense has already been decrypted with is tried first. Re-encryption only creates sealed records, so an
+     * expense in the field layout is always encrypted with the earliest previous key.
+     * @throws IllegalValueException if the expense cannot be decrypted with any of the keys
+     */
+    public static Expense decryptExpense(EncryptedExpense expense, String key, List<String> previousKeys)
+            throws IllegalValueException {
+        if (previousKeys.isEmpty()) {
+            return expense.getDecryptedExpense(key);
+        }
+        if (!expense.isSealed()) {
+            return expense.getDecryptedExpense(previousKeys.get(previousKeys.size() - 1));
+        }
+        List<String> keys = new ArrayList<>();
+        keys.add(key);
+        keys.addAll(previousKeys);
+        for (String candidate : keys) {
+            Expense decrypted = expense.getDecryptedExpenseIfPresent(candidate);
+            if (decrypted != null) {
+                return decrypted;
+            }
+        }
+        for (String candidate : keys.subList(0, keys.size() - 1)) {
+            try {
+                return expense.getDecryptedExpense(candidate);
+            } catch (IllegalValueException ive) {
+                // the expense is encrypted with one of the keys after this one
+            }
+        }
+        return expense.getDecryptedExpense(keys.get(keys.size() - 1));
+    }
+
+    /**
+     * Returns up to {@code limit} expenses which have not been decrypted or encrypted with {@code key} yet, in the
+     * order they are stored in.
+     */
+    public List<EncryptedExpense> getExpensesToRekey(String key, int limit) {
+        requireNonNull(key);
+        return expenses.stream()
+                .filter(expense -> expense.getDecryptedExpenseIfPresent(key) == null)
+                .limit(limit)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Replaces each expense of this tracker which is a key of {@code replacements} with its value. Expenses are
+     * matched by identity, as different records of the same expense are not equal.
+     * @return the number of expenses replaced
+     */
+    public int replaceExpenses(Map<EncryptedExpense, EncryptedExpense> replacements) {
+        requireNonNull(replacements);
+        return expenses.replaceAll(replacements);
+    }
+
     public NotificationHandler getNotificationHandler() {
         return notificationHandler;
     }
@@ -31,7 +31,7 @@ public class EncryptedTag {
      */
     public EncryptedTag(Tag src, String key) throws IllegalValueException {
         requireAllNonNull(src, key);
-        this.encryptedString = EncryptionUtil.encryptString(src.tagName, key);
+        this.encryptedString = EncryptionUtil.getFieldCipherCache().encrypt(src.tagName, key);
     }
 
     /**
@@ -41,7 +41,7 @@ public class EncryptedTag {
      * @throws IllegalValueException when the encryption key is invalid
      */
     public Tag getDecrypted(String key) throws IllegalValueException {
-        return new Tag(EncryptionUtil.decryptString(encryptedString, key));
+        return new Tag(EncryptionUtil.getFieldCipherCache().decrypt(encryptedString, key));
     }
 
     /**
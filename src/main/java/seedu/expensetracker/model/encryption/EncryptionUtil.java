@@ -6,21 +6,38 @@ import static seedu.expensetracker.commons.util.CollectionUtil.requireAllNonNull
 
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.InvalidAlgorithmParameterException;
 import java.security.InvalidKeyException;
 import java.security.Key;
 import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.YearMonth;
+import java.util.Arrays;
 import java.util.Base64;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import javax.crypto.BadPaddingException;
 import javax.crypto.Cipher;
 import javax.crypto.IllegalBlockSizeException;
 import javax.crypto.NoSuchPaddingException;
+import javax.crypto.spec.GCMParameterSpec;
 import javax.crypto.spec.SecretKeySpec;
 
 import seedu.expensetracker.commons.exceptions.IllegalValueException;
+import seedu.expensetracker.commons.metrics.FlightRecorderEvents;
+import seedu.expensetracker.commons.metrics.Histogram;
+import seedu.expensetracker.commons.metrics.MetricsRegistry;
+import seedu.expensetracker.commons.metrics.Profiler;
+import seedu.expensetracker.commons.metrics.TrackerCryptoFlightEvent;
 import seedu.expensetracker.model.ReadOnlyExpenseTracker;
 import seedu.expensetracker.model.expense.Expense;
+import seedu.expensetracker.model.notification.NotificationHandler;
 import seedu.expensetracker.model.tag.Tag;
 
 //@@author JasonChong96
@@ -34,7 +51,21 @@ public class EncryptionUtil {
 
     private static final String CIPHER_TRANSFORMATION = "AES/ECB/PKCS5PADDING";
     private static final String KEY_ALGORITHM = "AES";
+    private static final String RECORD_CIPHER_TRANSFORMATION = "AES/GCM/NoPadding";
     private static final int KEY_LENGTH = 32;
+    private static final int NONCE_LENGTH = 12;
+    private static final int TAG_LENGTH_BITS = 128;
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+    private static final FieldCipherCache FIELD_CIPHER_CACHE = new FieldCipherCache(FieldCipherCache.DEFAULT_CAPACITY);
+    private static final Histogram ENCRYPT_TIMES =
+            MetricsRegistry.getInstance().histogram("encryption.encrypt", Histogram.Unit.NANOSECONDS);
+    private static final Histogram DECRYPT_TIMES =
+            MetricsRegistry.getInstance().histogram("encryption.decrypt", Histogram.Unit.NANOSECONDS);
+
+    static {
+        MetricsRegistry.getInstance().gauge("encryption.fieldCache.hitRate", FIELD_CIPHER_CACHE::getHitRate);
+    }
 
     /**
      * Decrypts a String with by using the input encryption key
@@ -48,6 +79,7 @@ public class EncryptionUtil {
         requireAllNonNull(toDecrypt, encryptionKey);
         assert encryptionKey.length() == KEY_LENGTH;
         Key key = new SecretKeySpec(encryptionKey.getBytes(), KEY_ALGORITHM);
+        long start = System.nanoTime();
         try {
             Cipher cipher = Cipher.getInstance(CIPHER_TRANSFORMATION);
             cipher.init(Cipher.DECRYPT_MODE, key);
@@ -57,6 +89,8 @@ public class EncryptionUtil {
             throw new IllegalStateException(e.getMessage());
         } catch (BadPaddingException | IllegalBlockSizeException | IllegalArgumentException e) {
             throw new IllegalValueException(String.format("Error decrypting String: %s", toDecrypt), e);
+        } finally {
+            DECRYPT_TIMES.recordSince(start);
         }
     }
 
@@ -74,6 +108,7 @@ public class EncryptionUtil {
         requireAllNonNull(toEncrypt, encryptionKey);
         assert encryptionKey.length() == KEY_LENGTH;
         Key key = new SecretKeySpec(encryptionKey.getBytes(), KEY_ALGORITHM);
+        long start = System.nanoTime();
         try {
             Cipher cipher = Cipher.getInstance(CIPHER_TRANSFORMATION);
             cipher.init(Cipher.ENCRYPT_MODE, key);
@@ -83,9 +118,19 @@ public class EncryptionUtil {
             throw new IllegalStateException(e.getMessage());
         } catch (BadPaddingException | IllegalBlockSizeException e) {
             throw new IllegalValueException(String.format("Error encrypting String: %s", toEncrypt), e);
+        } finally {
+            ENCRYPT_TIMES.recordSince(start);
         }
     }
 
+    /**
+     * Returns the cache used to encrypt and decrypt expense fields which take few distinct values, i.e categories,
+     * tags and dates.
+     */
+    public static FieldCipherCache getFieldCipherCache() {
+        return FIELD_CIPHER_CACHE;
+    }
+
     /**
      * Creates a 128-bit encryption key using the input password String. Equivalent passwords will always map to
      * equivalent keys.
@@ -98,14 +143,88 @@ public class EncryptionUtil {
     }
 
     /**
-     * Creates an EncryptedExpense instance of the given Expense by encrypting its data using the given encryption key.
+     * Encrypts the input bytes with the input encryption key using AES-GCM and a random nonce. The output is the
+     * nonce followed by the ciphertext, so encrypting the same bytes twice gives different outputs.
+     * @param toEncrypt the bytes to be encrypted
+     * @param encryptionKey the encryption key to be used, must be 128-bits long
+     * @return the nonce followed by the encrypted bytes
+     * @throws IllegalValueException if the given encryption key is not valid
+     */
+    public static byte[] encryptBytes(byte[] toEncrypt, String encryptionKey) throws IllegalValueException {
+        requireAllNonNull(toEncrypt, encryptionKey);
+        assert encryptionKey.length() == KEY_LENGTH;
+        Key key = new SecretKeySpec(encryptionKey.getBytes(), KEY_ALGORITHM);
+        byte[] nonce = new byte[NONCE_LENGTH];
+        RANDOM.nextBytes(nonce);
+        long start = System.nanoTime();
+        try {
+            Cipher cipher = Cipher.getInstance(RECORD_CIPHER_TRANSFORMATION);
+            cipher.init(Cipher.ENCRYPT_MODE, key, new GCMParameterSpec(TAG_LENGTH_BITS, nonce));
+            byte[] result = Arrays.copyOf(nonce, NONCE_LENGTH + cipher.getOutputSize(toEncrypt.length));
+            cipher.doFinal(toEncrypt, 0, toEncrypt.length, result, NONCE_LENGTH);
+            return result;
+        } catch (NoSuchPaddingException | NoSuchAlgorithmException | InvalidAlgorithmParameterException e) {
+            throw new IllegalStateException(e.getMessage());
+        } catch (GeneralSecurityException e) {
+            throw new IllegalValueException("Error encrypting bytes", e);
+        } finally {
+            ENCRYPT_TIMES.recordSince(start);
+        }
+    }
+
+    /**
+     * Decrypts bytes encrypted by {@link #encryptBytes(byte[], String)} with the input encryption key.
+     * @param toDecrypt the nonce followed by the encrypted bytes
+     * @param encryptionKey the encryption key to be used
+     * @return the decrypted bytes
+     * @throws IllegalValueException if the given encryption key is not the encryption key used to encrypt the
+     * input bytes, or the input bytes have been modified
+     */
+    public static byte[] decryptBytes(byte[] toDecrypt, String encryptionKey) throws IllegalValueException {
+        requireAllNonNull(toDecrypt, encryptionKey);
+        assert encryptionKey.length() == KEY_LENGTH;
+        if (toDecrypt.length < NONCE_LENGTH + TAG_LENGTH_BITS / Byte.SIZE) {
+            throw new IllegalValueException("Error decrypting bytes: input is too short");
+        }
+        Key key = new SecretKeySpec(encryptionKey.getBytes(), KEY_ALGORITHM);
+        long start = System.nanoTime();
+        try {
+            Cipher cipher = Cipher.getInstance(RECORD_CIPHER_TRANSFORMATION);
+            cipher.init(Cipher.DECRYPT_MODE, key, new GCMParameterSpec(TAG_LENGTH_BITS, toDecrypt, 0, NONCE_LENGTH));
+            return cipher.doFinal(toDecrypt, NONCE_LENGTH, toDecrypt.length - NONCE_LENGTH);
+        } catch (NoSuchPaddingException | NoSuchAlgorithmException | InvalidAlgorithmParameterException e) {
+            throw new IllegalStateException(e.getMessage());
+        } catch (GeneralSecurityException e) {
+            throw new IllegalValueException("Error decrypting bytes", e);
+        } finally {
+            DECRYPT_TIMES.recordSince(start);
+        }
+    }
+
+    /**
+     * Creates an EncryptedExpense instance of the given Expense by encrypting it as a single record using the given
+     * encryption key.
      * @param src the Expense to encrypt
      * @param key the encryption key to use
      * @return an EncryptedExpense instance
      * @throws IllegalValueException if the given key is invalid
      */
     public static EncryptedExpense encryptExpense(Expense src, String key) throws IllegalValueException {
-        requireNonNull(src, key);
+        requireAllNonNull(src, key);
+        assert key.length() == KEY_LENGTH;
+        return new EncryptedExpense(src, key);
+    }
+
+    /**
+     * Creates an EncryptedExpense instance of the given Expense in the field layout, where each field is encrypted
+     * separately. This layout is only kept to read data saved by earlier versions.
+     * @param src the Expense to encrypt
+     * @param key the encryption key to use
+     * @return an EncryptedExpense instance in the field layout
+     * @throws IllegalValueException if the given key is invalid
+     */
+    public static EncryptedExpense encryptExpenseFields(Expense src, String key) throws IllegalValueException {
+        requireAllNonNull(src, key);
         assert key.length() == KEY_LENGTH;
         Set<EncryptedTag> encryptedTags = new HashSet<>();
         for (Tag tag : src.getTags()) {
@@ -115,7 +234,8 @@ public class EncryptionUtil {
                 new EncryptedCategory(src.getCategory(), key),
                 new EncryptedCost(src.getCost(), key),
                 new EncryptedDate(src.getDate(), key),
-                encryptedTags);
+                encryptedTags,
+                YearMonth.from(src.getDate().getFullDate()));
     }
 
     /**
@@ -126,10 +246,67 @@ public class EncryptionUtil {
      * @throws IllegalValueException if the ExpenseTracker's encryption key is invalid
      */
     public static EncryptedExpenseTracker encryptTracker(ReadOnlyExpenseTracker src) throws IllegalValueException {
+        return encryptTracker(src, null);
+    }
+
+    /**
+     * Creates an EncryptedExpenseTracker instance of the given ExpenseTracker by encrypting it using its encryption
+     * key. Sealed records in {@code previous} which have already been decrypted to an expense in {@code src} with the
+     * same key are reused instead of being encrypted again. Expenses in the field layout are never reused, so they
+     * are sealed whenever a tracker containing them is encrypted again.
+     * If the expenses of {@code previous} are being re-encrypted with the key of {@code src}, records which are still
+     * encrypted with the previous key are reused as well, and are left to be re-encrypted later.
+     * @param src the ExpenseTracker to encrypt
+     * @param previous an earlier encrypted form of the ExpenseTracker, or null if there is none
+     * @return an EncryptedExpenseTracker instance
+     * @throws IllegalValueException if the ExpenseTracker's encryption key is invalid
+     */
+    public static EncryptedExpenseTracker encryptTracker(ReadOnlyExpenseTracker src, EncryptedExpenseTracker previous)
+            throws IllegalValueException {
+        TrackerCryptoFlightEvent flightEvent = FlightRecorderEvents.isEnabled()
+                ? FlightRecorderEvents.newTrackerCryptoEvent(TrackerCryptoFlightEvent.OPERATION_ENCRYPT) : null;
+        Profiler.enter(Profiler.Phase.ENCRYPTION);
+        try {
+            return encryptTrackerReusing(src, previous);
+        } finally {
+            Profiler.exit();
+            if (flightEvent != null) {
+                flightEvent.end(src.getExpenseList().size());
+            }
+        }
+    }
+
+    /**
+     * Encrypts {@code src} as described in {@link #encryptTracker(ReadOnlyExpenseTracker, EncryptedExpenseTracker)}.
+     */
+    private static EncryptedExpenseTracker encryptTrackerReusing(ReadOnlyExpenseTracker src,
+            EncryptedExpenseTracker previous) throws IllegalValueException {
+        String key = src.getEncryptionKey();
+        List<String> previousKeys = previous == null ? Collections.emptyList() : previous.getPreviousKeys(key);
+        Map<Expense, List<EncryptedExpense>> reusable = new HashMap<>();
+        if (previous != null) {
+            for (EncryptedExpense encrypted : previous.getEncryptedExpenses()) {
+                Expense decrypted = encrypted.getDecryptedExpenseIfPresent(key);
+                for (int i = 0; decrypted == null && i < previousKeys.size(); i++) {
+                    decrypted = encrypted.getDecryptedExpenseIfPresent(previousKeys.get(i));
+                }
+                if (encrypted.isSealed() && decrypted != null) {
+                    reusable.computeIfAbsent(decrypted, unused -> new LinkedList<>()).add(encrypted);
+                }
+            }
+        }
+
+        // the result is saved in another thread while the notifications of src keep changing, so they are copied
         EncryptedExpenseTracker result = new EncryptedExpenseTracker(src.getUsername(), src.getPassword().orElse(null),
-                src.getMaximumTotalBudget(), src.getNotificationHandler());
+                src.getMaximumTotalBudget(), new NotificationHandler(src.getNotificationHandler()));
         for (Expense expense : src.getExpenseList()) {
-            result.addExpense(encryptExpense(expense, src.getEncryptionKey()));
+            List<EncryptedExpense> candidates = reusable.get(expense);
+            result.addExpense(candidates == null || candidates.isEmpty()
+                    ? encryptExpense(expense, key)
+                    : candidates.remove(0));
+        }
+        if (!previousKeys.isEmpty()) {
+            result.setEncryptedPreviousKey(previous.getEncryptedPreviousKey().get());
         }
         return result;
     }
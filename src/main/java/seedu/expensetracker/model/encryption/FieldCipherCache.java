@@ -0,0 +1,139 @@
+package seedu.expensetracker.model.encryption;
+
+import static seedu.expensetracker.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import seedu.expensetracker.commons.exceptions.IllegalValueException;
+
+/**
+ * A bounded cache of the encrypted and decrypted forms of expense fields which take few distinct values, such as
+ * categories, tags and dates. Field encryption is deterministic, so a value only has to be encrypted or decrypted
+ * once for each key. The cache only holds values for the last key it was used with, and is emptied when it is used
+ * with another key.
+ */
+public class FieldCipherCache {
+    public static final int DEFAULT_CAPACITY = 512;
+
+    private final Map<String, String> ciphertexts;
+    private final Map<String, String> plaintexts;
+    private String key;
+    private long hitCount;
+    private long missCount;
+
+    /**
+     * Creates an empty cache which holds up to {@code capacity} values in each direction. The least recently used
+     * value is dropped when the cache is full.
+     */
+    public FieldCipherCache(int capacity) {
+        assert capacity > 0;
+        this.ciphertexts = createLruMap(capacity);
+        this.plaintexts = createLruMap(capacity);
+    }
+
+    /**
+     * Returns the encrypted form of {@code plaintext} with {@code key}, encrypting it only if it is not cached.
+     * @throws IllegalValueException if the given encryption key is not valid
+     */
+    public String encrypt(String plaintext, String key) throws IllegalValueException {
+        requireAllNonNull(plaintext, key);
+        String ciphertext = lookUp(ciphertexts, plaintext, key);
+        if (ciphertext == null) {
+            ciphertext = EncryptionUtil.encryptString(plaintext, key);
+            store(plaintext, ciphertext, key);
+        }
+        return ciphertext;
+    }
+
+    /**
+     * Returns the decrypted form of {@code ciphertext} with {@code key}, decrypting it only if it is not cached.
+     * @throws IllegalValueException if the given encryption key is not the encryption key used to encrypt
+     * {@code ciphertext}
+     */
+    public String decrypt(String ciphertext, String key) throws IllegalValueException {
+        requireAllNonNull(ciphertext, key);
+        String plaintext = lookUp(plaintexts, ciphertext, key);
+        if (plaintext == null) {
+            plaintext = EncryptionUtil.decryptString(ciphertext, key);
+            store(plaintext, ciphertext, key);
+        }
+        return plaintext;
+    }
+
+    /**
+     * Returns the value cached for {@code input} with {@code key}, or null if there is none. The cache is emptied
+     * if it holds values of another key.
+     */
+    private synchronized String lookUp(Map<String, String> values, String input, String key) {
+        if (!key.equals(this.key)) {
+            ciphertexts.clear();
+            plaintexts.clear();
+            this.key = key;
+        }
+        String value = values.get(input);
+        if (value == null) {
+            missCount++;
+        } else {
+            hitCount++;
+        }
+        return value;
+    }
+
+    /**
+     * Caches both directions of a value, unless the cache has moved on to another key in the meantime.
+     */
+    private synchronized void store(String plaintext, String ciphertext, String key) {
+        if (key.equals(this.key)) {
+            ciphertexts.put(plaintext, ciphertext);
+            plaintexts.put(ciphertext, plaintext);
+        }
+    }
+
+    /**
+     * Removes every cached value. The hit and miss counts are kept.
+     */
+    public synchronized void clear() {
+        ciphertexts.clear();
+        plaintexts.clear();
+        key = null;
+    }
+
+    public synchronized int size() {
+        return ciphertexts.size();
+    }
+
+    public synchronized long getHitCount() {
+        return hitCount;
+    }
+
+    public synchronized long getMissCount() {
+        return missCount;
+    }
+
+    /**
+     * Returns the fraction of look ups which were found in the cache, or 0 if there has been none.
+     */
+    public synchronized double getHitRate() {
+        long lookUpCount = hitCount + missCount;
+        return lookUpCount == 0 ? 0 : (double) hitCount / lookUpCount;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return String.format("%d hits, %d misses (%.1f%% hit rate), %d values cached", hitCount, missCount,
+                getHitRate() * 100, ciphertexts.size());
+    }
+
+    /**
+     * Creates a map which drops its least recently used entry once it holds more than {@code capacity} entries.
+     */
+    private static Map<String, String> createLruMap(int capacity) {
+        return new LinkedHashMap<String, String>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+}
@@ -0,0 +1,23 @@
+package seedu.expensetracker.model.encryption;
+
+import java.io.IOException;
+import java.time.YearMonth;
+import java.util.List;
+
+import seedu.expensetracker.commons.exceptions.DataConversionException;
+
+/**
+ * Loads the encrypted expenses of a monthly partition that has not been read from storage yet.
+ */
+@FunctionalInterface
+public interface PartitionLoader {
+
+    /**
+     * Reads the expenses stored under the given {@code partition}.
+     * @param partition the month whose expenses are to be read
+     * @return the encrypted expenses made in that month
+     * @throws DataConversionException if the data in storage is not in the expected format.
+     * @throws IOException if there was any problem when reading from the storage.
+     */
+    List<EncryptedExpense> loadPartition(YearMonth partition) throws DataConversionException, IOException;
+}
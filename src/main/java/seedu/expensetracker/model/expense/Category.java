@@ -2,6 +2,8 @@ package seedu.expensetracker.model.expense;
 
 import static seedu.expensetracker.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents a Expense's category in the expense tracker.
  * Guarantees: immutable; is valid as declared in {@link #isValidCategory(String)}
@@ -13,6 +15,7 @@ public class Category extends ExpenseField {
             "Category name should not be blank. It should be alphanumeric.";
     public static final String CATEGORY_VALIDATION_REGEX = "^[a-zA-Z0-9][a-zA-Z0-9 ]*$";
     public static final String[] INITIAL_CATEGORIES = {"Food", "Transport", "Stationary", "Printing"};
+    private static final Pattern CATEGORY_VALIDATION_PATTERN = Pattern.compile(CATEGORY_VALIDATION_REGEX);
     public final String categoryName;
 
 
@@ -32,7 +35,7 @@ public class Category extends ExpenseField {
      * Returns true if a given string is a valid category.
      */
     public static boolean isValidCategory(String test) {
-        return test.matches(CATEGORY_VALIDATION_REGEX);
+        return CATEGORY_VALIDATION_PATTERN.matcher(test).matches();
     }
 
     @Override
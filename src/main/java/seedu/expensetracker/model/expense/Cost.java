@@ -2,6 +2,8 @@ package seedu.expensetracker.model.expense;
 
 import static seedu.expensetracker.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
 
 /**
  * Represents a Expense's cost in the expense tracker.
@@ -17,6 +19,7 @@ public class Cost extends ExpenseField {
      * otherwise " " (a blank string) becomes a valid input.
      */
     public static final String COST_VALIDATION_REGEX = "(\\d+)\\.(\\d)(\\d)";
+    private static final Pattern COST_VALIDATION_PATTERN = Pattern.compile(COST_VALIDATION_REGEX);
 
     public final String value;
 
@@ -34,7 +37,7 @@ public class Cost extends ExpenseField {
      * Returns true if a given string is a valid cost.
      */
     public static boolean isValidCost(String test) {
-        return test.matches(COST_VALIDATION_REGEX);
+        return COST_VALIDATION_PATTERN.matcher(test).matches();
     }
 
     public double getCostValue() {
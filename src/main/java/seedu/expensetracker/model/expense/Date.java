@@ -4,6 +4,8 @@ import static seedu.expensetracker.commons.util.AppUtil.checkArgument;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 //@@author jonathantjm
 /**
@@ -22,6 +24,7 @@ public class Date extends ExpenseField {
      * Regex for a valid date.
      */
     public static final String DATE_VALIDATION_REGEX = "(\\d{1,2})(\\-)(\\d{1,2})(\\-)(\\d{4})";
+    private static final Pattern DATE_VALIDATION_PATTERN = Pattern.compile(DATE_VALIDATION_REGEX);
 
     /**
      * The date to be stored
@@ -87,12 +90,12 @@ public class Date extends ExpenseField {
      * @return true if the date is valid and false if the date is in valid
      */
     public static boolean isValidDate(String test) {
-        if (test.matches(DATE_VALIDATION_REGEX)) {
-            String [] parsedDate = test.split("-");
+        Matcher matcher = DATE_VALIDATION_PATTERN.matcher(test);
+        if (matcher.matches()) {
             try {
-                LocalDateTime date = LocalDateTime.of(Integer.parseInt(parsedDate[2]),
-                        Integer.parseInt(parsedDate[1]),
-                        Integer.parseInt(parsedDate[0]),
+                LocalDateTime date = LocalDateTime.of(Integer.parseInt(matcher.group(5)),
+                        Integer.parseInt(matcher.group(3)),
+                        Integer.parseInt(matcher.group(1)),
                         0,
                         0
                 );
@@ -9,6 +9,7 @@ import static seedu.expensetracker.logic.parser.CliSyntax.PREFIX_TAG;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 import java.util.function.Predicate;
 
 import seedu.expensetracker.commons.util.StringUtil;
@@ -131,6 +132,14 @@ public class ExpenseContainsKeywordsPredicate implements Predicate<Expense> {
         return result;
     }
 
+    /**
+     * Returns the earliest date an expense can have to match this predicate, or an empty Optional if expenses of any
+     * date can match.
+     * */
+    public Optional<Date> getEarliestDate() {
+        return keywords.getValue(PREFIX_DATE).map(dateKeywords -> new Date(dateKeywords.split(":")[0]));
+    }
+
     /**
      * Return true if any of the {@code Tag} of {@code expense} contains any element of {@code tagKeywords}.
      * */
@@ -3,8 +3,13 @@ package seedu.expensetracker.model.expense;
 import static java.util.Objects.requireNonNull;
 import static seedu.expensetracker.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -35,6 +40,14 @@ public class ExpenseList implements Iterable<Expense> {
         internalList.add(toAdd);
     }
 
+    /**
+     * Adds all of {@code toAdd} to the front of the list, keeping their order.
+     */
+    public void addAllToFront(List<Expense> toAdd) {
+        requireAllNonNull(toAdd);
+        internalList.addAll(0, toAdd);
+    }
+
     /**
      * Replaces the expense {@code target} in the list with {@code editedExpense}.
      * {@code target} must exist in the list.
@@ -74,6 +87,73 @@ public class ExpenseList implements Iterable<Expense> {
         internalList.setAll(expenses);
     }
 
+    /**
+     * Replaces the contents of this list with {@code expenses}, by only removing, adding and replacing the expenses
+     * which differ, so that listeners of the list are only told about the expenses which changed. Expenses are told
+     * apart by identity, as the expenses of earlier states of a list are the same objects.
+     */
+    public void setExpensesIncrementally(List<Expense> expenses) {
+        requireAllNonNull(expenses);
+        int prefix = 0;
+        int currentEnd = internalList.size();
+        int targetEnd = expenses.size();
+        while (prefix < currentEnd && prefix < targetEnd && internalList.get(prefix) == expenses.get(prefix)) {
+            prefix++;
+        }
+        while (currentEnd > prefix && targetEnd > prefix
+                && internalList.get(currentEnd - 1) == expenses.get(targetEnd - 1)) {
+            currentEnd--;
+            targetEnd--;
+        }
+        List<Expense> current = new ArrayList<>(internalList.subList(prefix, currentEnd));
+        List<Expense> target = expenses.subList(prefix, targetEnd);
+        if (current.size() == 1 && target.size() == 1) {
+            internalList.set(prefix, target.get(0));
+        } else if (!current.isEmpty() || !target.isEmpty()) {
+            applyDifference(prefix, current, target);
+        }
+    }
+
+    /**
+     * Turns the expenses {@code current} starting at {@code offset} into {@code target}, by removing the runs of
+     * expenses which are not in {@code target} and adding the runs of expenses which are not in {@code current}.
+     * The whole range is replaced if the expenses in both were reordered.
+     */
+    private void applyDifference(int offset, List<Expense> current, List<Expense> target) {
+        Set<Expense> currentSet = Collections.newSetFromMap(new IdentityHashMap<>());
+        currentSet.addAll(current);
+        Set<Expense> targetSet = Collections.newSetFromMap(new IdentityHashMap<>());
+        targetSet.addAll(target);
+        List<Expense> kept = current.stream().filter(targetSet::contains).collect(Collectors.toList());
+        if (!kept.equals(target.stream().filter(currentSet::contains).collect(Collectors.toList()))) {
+            internalList.remove(offset, offset + current.size());
+            internalList.addAll(offset, target);
+            return;
+        }
+
+        for (int end = current.size(); end > 0;) {
+            int start = end;
+            while (start > 0 && !targetSet.contains(current.get(start - 1))) {
+                start--;
+            }
+            if (start < end) {
+                internalList.remove(offset + start, offset + end);
+            }
+            end = start - 1;
+        }
+        for (int i = 0; i < target.size();) {
+            int start = i;
+            while (i < target.size() && !currentSet.contains(target.get(i))) {
+                i++;
+            }
+            if (i > start) {
+                internalList.addAll(offset + start, target.subList(start, i));
+            } else {
+                i++;
+            }
+        }
+    }
+
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
      */
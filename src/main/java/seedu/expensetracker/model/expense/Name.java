@@ -2,6 +2,8 @@ package seedu.expensetracker.model.expense;
 
 import static seedu.expensetracker.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents a Expense's name in the expense tracker.
  * Guarantees: immutable; is valid as declared in {@link #isValidName(String)}
@@ -16,6 +18,7 @@ public class Name extends ExpenseField {
      * otherwise " " (a blank string) becomes a valid input.
      */
     public static final String NAME_VALIDATION_REGEX = "[a-zA-Z0-9][a-zA-Z0-9 ]*";
+    private static final Pattern NAME_VALIDATION_PATTERN = Pattern.compile(NAME_VALIDATION_REGEX);
 
     public final String expenseName;
 
@@ -34,7 +37,7 @@ public class Name extends ExpenseField {
      * Returns true if a given string is a valid name.
      */
     public static boolean isValidName(String test) {
-        return test.matches(NAME_VALIDATION_REGEX);
+        return NAME_VALIDATION_PATTERN.matcher(test).matches();
     }
 
     @Override
@@ -43,6 +43,14 @@ public class NotificationHandler implements Iterable<Notification> {
         this.internalList = FXCollections.observableArrayList(internalList);
     }
 
+    /**
+     * Creates a copy of {@code toBeCopied}, so that the copy can be read while the original is being changed.
+     */
+    public NotificationHandler(NotificationHandler toBeCopied) {
+        this(toBeCopied.lastTipSentOn, toBeCopied.isTipEnabled, toBeCopied.isWarningEnabled);
+        this.internalList = FXCollections.observableArrayList(toBeCopied.internalList);
+    }
+
     /**
      * Set the {@code internalList} based on {@code notifications}
      * @param notifications The list of {@code Notification} to set to.
@@ -53,7 +53,7 @@ public class Tips {
 
         Random rand = new Random();
         int index = rand.nextInt(tips.size());
-        LOGGER.info("Tip:" + tips.get(index));
+        LOGGER.fine(() -> "Tip:" + tips.get(index));
         return tips.get(index);
     }
 
@@ -3,6 +3,8 @@ package seedu.expensetracker.model.tag;
 import static java.util.Objects.requireNonNull;
 import static seedu.expensetracker.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents a Tag in the expense tracker.
  * Guarantees: immutable; name is valid as declared in {@link #isValidTagName(String)}
@@ -11,6 +13,7 @@ public class Tag {
 
     public static final String MESSAGE_TAG_CONSTRAINTS = "Tags names should be alphanumeric";
     public static final String TAG_VALIDATION_REGEX = "\\p{Alnum}+";
+    private static final Pattern TAG_VALIDATION_PATTERN = Pattern.compile(TAG_VALIDATION_REGEX);
 
     public final String tagName;
 
@@ -29,7 +32,7 @@ public class Tag {
      * Returns true if a given string is a valid tag name.
      */
     public static boolean isValidTagName(String test) {
-        return test.matches(TAG_VALIDATION_REGEX);
+        return TAG_VALIDATION_PATTERN.matcher(test).matches();
     }
 
     @Override
@@ -5,6 +5,8 @@ import static java.util.Objects.requireNonNull;
 import static seedu.expensetracker.commons.util.AppUtil.checkArgument;
 import static seedu.expensetracker.model.encryption.EncryptionUtil.DEFAULT_CHARSET;
 
+import java.util.regex.Pattern;
+
 //@@author JasonChong96
 /**
  * Represents the Password of a user.
@@ -19,6 +21,7 @@ public class Password {
      * otherwise " " (a blank string) becomes a valid input.
      */
     private static final String PASSWORD_VALIDATION_REGEX = "[^\\s]{6,100}+$";
+    private static final Pattern PASSWORD_VALIDATION_PATTERN = Pattern.compile(PASSWORD_VALIDATION_REGEX);
 
     private final String passwordHash;
 
@@ -42,7 +45,7 @@ public class Password {
      * Returns true if a given string is a valid name.
      */
     public static boolean isValidPassword(String test) {
-        return !test.isEmpty() && test.matches(PASSWORD_VALIDATION_REGEX);
+        return !test.isEmpty() && PASSWORD_VALIDATION_PATTERN.matcher(test).matches();
     }
 
     @Override
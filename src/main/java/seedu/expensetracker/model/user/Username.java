@@ -3,6 +3,8 @@ package seedu.expensetracker.model.user;
 import static java.util.Objects.requireNonNull;
 import static seedu.expensetracker.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
 //@@author JasonChong96
 /**
  * Represents the Username of a user.
@@ -16,7 +18,7 @@ public class Username implements Comparable<Username> {
     /*
      * Username cannot contain any of the following characters : " > < : \ / | ? *
      */
-    private static final String USERNAME_VALIDATION_REGEX = ".*[/\\\\:*?\"<>|\\s].*";
+    private static final Pattern INVALID_CHARACTER_PATTERN = Pattern.compile("[/\\\\:*?\"<>|\\s]");
 
     private final String name;
 
@@ -35,7 +37,7 @@ public class Username implements Comparable<Username> {
      * Returns true if a given string is a valid name.
      */
     public static boolean isValidName(String test) {
-        return !test.isEmpty() && !test.matches(USERNAME_VALIDATION_REGEX) && test.length() <= 250;
+        return !test.isEmpty() && !INVALID_CHARACTER_PATTERN.matcher(test).find() && test.length() <= 250;
     }
 
 
@@ -0,0 +1,414 @@
+package seedu.expensetracker.server;
+
+import static java.net.HttpURLConnection.HTTP_BAD_METHOD;
+import static java.net.HttpURLConnection.HTTP_BAD_REQUEST;
+import static java.net.HttpURLConnection.HTTP_ENTITY_TOO_LARGE;
+import static java.net.HttpURLConnection.HTTP_INTERNAL_ERROR;
+import static java.net.HttpURLConnection.HTTP_NOT_FOUND;
+import static java.net.HttpURLConnection.HTTP_OK;
+import static java.net.HttpURLConnection.HTTP_UNAUTHORIZED;
+import static seedu.expensetracker.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import com.google.common.io.ByteStreams;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+import seedu.expensetracker.commons.core.LogsCenter;
+import seedu.expensetracker.commons.util.JsonUtil;
+import seedu.expensetracker.commons.util.StringUtil;
+import seedu.expensetracker.logic.Logic;
+import seedu.expensetracker.logic.LogicManager;
+import seedu.expensetracker.logic.LoginCredentials;
+import seedu.expensetracker.logic.commands.CommandResult;
+import seedu.expensetracker.logic.commands.ExitCommand;
+import seedu.expensetracker.logic.commands.HistoryCommand;
+import seedu.expensetracker.logic.commands.LoginCommand;
+import seedu.expensetracker.logic.commands.SignUpCommand;
+import seedu.expensetracker.logic.commands.exceptions.CommandException;
+import seedu.expensetracker.logic.parser.ParserUtil;
+import seedu.expensetracker.logic.parser.exceptions.ParseException;
+import seedu.expensetracker.model.Model;
+import seedu.expensetracker.model.Session;
+import seedu.expensetracker.model.SessionManager;
+import seedu.expensetracker.model.exceptions.InvalidDataException;
+import seedu.expensetracker.model.exceptions.NoUserSelectedException;
+import seedu.expensetracker.model.exceptions.NonExistentUserException;
+import seedu.expensetracker.model.exceptions.UserAlreadyExistsException;
+import seedu.expensetracker.model.expense.Expense;
+import seedu.expensetracker.model.user.Username;
+import seedu.expensetracker.server.exceptions.ApiException;
+
+/**
+ * An HTTP server which lets several clients run commands on the expense data, each as a user authenticated with HTTP
+ * basic authentication. {@code POST /api/commands} with a body of {@code {"command": "..."}} runs a command and
+ * answers with its feedback and the listed expenses, {@code GET /api/expenses} answers with every expense of the
+ * user, and {@code POST /api/logout} closes the session of the user.
+ *
+ * Each user is logged in to a {@link Session} of their own, so the commands of different users run at the same
+ * time, while the commands of one user run one at a time. The expense listings of a user are answered from the
+ * snapshot of their session, without waiting for the commands of any client. The sessions which have not been used
+ * for the session timeout are closed, together with the logic running their commands. The commands are not saved to
+ * the command history file, as the file is shared by every user.
+ */
+public class ApiServer {
+    public static final String COMMANDS_PATH = "/api/commands";
+    public static final String EXPENSES_PATH = "/api/expenses";
+    public static final String LOGOUT_PATH = "/api/logout";
+    public static final int DEFAULT_REQUEST_THREADS = 16;
+    public static final Duration DEFAULT_SESSION_TIMEOUT = Duration.ofMinutes(30);
+    /** The first words of the commands which change the logged in user or act on the state shared by every client. */
+    public static final Set<String> UNSUPPORTED_COMMAND_WORDS = Set.of(
+            LoginCommand.COMMAND_WORD, LoginCommand.COMMAND_ALIAS,
+            SignUpCommand.COMMAND_WORD, SignUpCommand.COMMAND_ALIAS,
+            HistoryCommand.COMMAND_WORD, HistoryCommand.COMMAND_ALIAS,
+            ExitCommand.COMMAND_WORD, ExitCommand.COMMAND_ALIAS);
+    public static final String MESSAGE_UNSUPPORTED_COMMAND = "The %1$s command cannot be run through the API.";
+    public static final String MESSAGE_MISSING_COMMAND = "The request must have a \"command\".";
+    public static final String MESSAGE_UNAUTHORIZED = "Log in with the username and password of an existing user.";
+    public static final String MESSAGE_LOGGED_OUT = "Logged out %1$s.";
+
+    private static final Logger logger = LogsCenter.getLogger(ApiServer.class);
+    private static final String AUTHORIZATION_HEADER = "Authorization";
+    private static final String BASIC_SCHEME = "Basic ";
+    private static final String CHALLENGE = "Basic realm=\"ExpenseTracker\", charset=\"UTF-8\"";
+    private static final int MAX_REQUEST_BYTES = 64 * 1024;
+    private static final Duration MAX_IDLE_CHECK_INTERVAL = Duration.ofMinutes(1);
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final SessionManager sessions;
+    private final Duration sessionTimeout;
+    private final ScheduledExecutorService idleChecker;
+    /**
+     * The logic running the commands of each open session, on the model of the session. The logic of a session is
+     * removed when the session is closed.
+     */
+    private final ConcurrentMap<Session, Logic> logics = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a server bound to {@code address} which runs commands in the sessions of {@code sessions}, and handles
+     * requests with {@code executor}. The executor is shut down when the server stops.
+     */
+    public ApiServer(SessionManager sessions, InetSocketAddress address, ExecutorService executor)
+            throws IOException {
+        this(sessions, address, executor, DEFAULT_SESSION_TIMEOUT);
+    }
+
+    /**
+     * Creates a server like {@link #ApiServer(SessionManager, InetSocketAddress, ExecutorService)}, which closes the
+     * sessions that have not been used for {@code sessionTimeout}.
+     */
+    public ApiServer(SessionManager sessions, InetSocketAddress address, ExecutorService executor,
+            Duration sessionTimeout) throws IOException {
+        requireAllNonNull(sessions, address, executor, sessionTimeout);
+        if (sessionTimeout.isNegative() || sessionTimeout.isZero()) {
+            throw new IllegalArgumentException("The session timeout must be positive.");
+        }
+        this.sessions = sessions;
+        this.executor = executor;
+        this.sessionTimeout = sessionTimeout;
+        idleChecker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "api-idle-sessions");
+            thread.setDaemon(true);
+            return thread;
+        });
+        server = HttpServer.create(address, 0);
+        server.setExecutor(executor);
+        server.createContext(COMMANDS_PATH, new Endpoint(COMMANDS_PATH, "POST", this::runCommand));
+        server.createContext(EXPENSES_PATH, new Endpoint(EXPENSES_PATH, "GET", this::listExpenses));
+        server.createContext(LOGOUT_PATH, new Endpoint(LOGOUT_PATH, "POST", this::logOut));
+    }
+
+    /**
+     * Starts answering requests, and closing the sessions which are no longer used.
+     */
+    public void start() {
+        server.start();
+        long checkIntervalMillis = Math.max(1, Math.min(sessionTimeout.toMillis(),
+                MAX_IDLE_CHECK_INTERVAL.toMillis()));
+        idleChecker.scheduleWithFixedDelay(this::closeIdleSessions, checkIntervalMillis, checkIntervalMillis,
+                TimeUnit.MILLISECONDS);
+        logger.info("API server listening on " + getAddress());
+    }
+
+    /**
+     * Stops answering requests, waiting up to {@code delaySeconds} for the requests being handled to finish.
+     */
+    public void stop(int delaySeconds) {
+        server.stop(delaySeconds);
+        idleChecker.shutdownNow();
+        executor.shutdown();
+        logger.info("API server stopped");
+    }
+
+    /**
+     * Closes the sessions which have not been used for the session timeout, and drops their logic.
+     */
+    private void closeIdleSessions() {
+        try {
+            sessions.logOutIdle(sessionTimeout).forEach(logics::remove);
+        } catch (RuntimeException e) {
+            // an exception would stop the checks from being scheduled again
+            logger.warning("Failed to close the idle sessions: " + StringUtil.getDetails(e));
+        }
+    }
+
+    public InetSocketAddress getAddress() {
+        return server.getAddress();
+    }
+
+    /**
+     * Runs the command in the body of {@code exchange} as the user of {@code credentials}.
+     */
+    private CommandResponse runCommand(LoginCredentials credentials, HttpExchange exchange)
+            throws ApiException, IOException {
+        CommandRequest request = readJson(exchange, CommandRequest.class);
+        String commandText = request == null ? null : request.command;
+        if (commandText == null || commandText.trim().isEmpty()) {
+            throw new ApiException(HTTP_BAD_REQUEST, MESSAGE_MISSING_COMMAND);
+        }
+        String commandWord = commandText.trim().split("\\s+", 2)[0];
+        if (UNSUPPORTED_COMMAND_WORDS.contains(commandWord)) {
+            throw new ApiException(HTTP_BAD_REQUEST, String.format(MESSAGE_UNSUPPORTED_COMMAND, commandWord));
+        }
+
+        while (true) {
+            Session session = logIn(credentials);
+            Optional<CommandResponse> response = session.write(model -> execute(session, model, commandText));
+            if (response.isPresent()) {
+                return response.get();
+            }
+            // the session was closed before the command could run, so it runs in a new session
+        }
+    }
+
+    /**
+     * Runs {@code commandText} on {@code model}, the model of {@code session}, or returns an empty optional if the
+     * session has been closed. Must be called while holding the write lock of the session.
+     */
+    private Optional<CommandResponse> execute(Session session, Model model, String commandText)
+            throws ApiException {
+        if (!model.hasSelectedUser()) {
+            return Optional.empty();
+        }
+        Logic logic = logics.computeIfAbsent(session, unused -> new LogicManager(model, false));
+        try {
+            CommandResult result = logic.execute(commandText);
+            return Optional.of(new CommandResponse(result.feedbackToUser,
+                    toJsonAdapted(model.getFilteredExpenseList())));
+        } catch (CommandException | ParseException | NoUserSelectedException | UserAlreadyExistsException
+                | NonExistentUserException | InvalidDataException e) {
+            throw new ApiException(HTTP_BAD_REQUEST, e.getMessage());
+        }
+    }
+
+    /**
+     * Returns every expense of the user of {@code credentials}, from the snapshot of their session, without waiting
+     * for the commands being run.
+     */
+    private ExpensesResponse listExpenses(LoginCredentials credentials, HttpExchange exchange) throws ApiException {
+        return new ExpensesResponse(toJsonAdapted(logIn(credentials).getExpenses()));
+    }
+
+    /**
+     * Closes the session of the user of {@code credentials}, together with the logic running their commands.
+     */
+    private FeedbackResponse logOut(LoginCredentials credentials, HttpExchange exchange) throws ApiException {
+        // the credentials are checked by logging in, so that other clients cannot close the session of the user
+        logIn(credentials);
+        sessions.logOut(credentials.getUsername()).ifPresent(logics::remove);
+        return new FeedbackResponse(String.format(MESSAGE_LOGGED_OUT, credentials.getUsername()));
+    }
+
+    /**
+     * Returns the session of the user of {@code credentials}, logging them in if they have none yet.
+     */
+    private Session logIn(LoginCredentials credentials) throws ApiException {
+        Optional<Session> session;
+        try {
+            session = sessions.logIn(credentials);
+        } catch (NonExistentUserException neue) {
+            throw new ApiException(HTTP_UNAUTHORIZED, MESSAGE_UNAUTHORIZED);
+        } catch (InvalidDataException ide) {
+            throw new ApiException(HTTP_INTERNAL_ERROR, ide.getMessage());
+        }
+        if (!session.isPresent()) {
+            throw new ApiException(HTTP_UNAUTHORIZED, MESSAGE_UNAUTHORIZED);
+        }
+        return session.get();
+    }
+
+    private static List<JsonAdaptedExpense> toJsonAdapted(List<Expense> expenses) {
+        return expenses.stream().map(JsonAdaptedExpense::new).collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the credentials in the basic authorization header of {@code exchange}.
+     */
+    private static LoginCredentials readCredentials(HttpExchange exchange) throws ApiException {
+        String authorization = exchange.getRequestHeaders().getFirst(AUTHORIZATION_HEADER);
+        if (authorization == null || !authorization.startsWith(BASIC_SCHEME)) {
+            throw new ApiException(HTTP_UNAUTHORIZED, MESSAGE_UNAUTHORIZED);
+        }
+        try {
+            String userPass = new String(Base64.getDecoder().decode(authorization.substring(BASIC_SCHEME.length())),
+                    StandardCharsets.UTF_8);
+            int separator = userPass.indexOf(':');
+            if (separator < 0) {
+                throw new ApiException(HTTP_UNAUTHORIZED, MESSAGE_UNAUTHORIZED);
+            }
+            Username username = ParserUtil.parseUsername(userPass.substring(0, separator));
+            String plainPassword = userPass.substring(separator + 1);
+            return new LoginCredentials(username, plainPassword.isEmpty() ? null : plainPassword);
+        } catch (IllegalArgumentException | ParseException e) {
+            throw new ApiException(HTTP_UNAUTHORIZED, MESSAGE_UNAUTHORIZED);
+        }
+    }
+
+    /**
+     * Returns the json body of {@code exchange} as an instance of {@code type}.
+     */
+    private static <T> T readJson(HttpExchange exchange, Class<T> type) throws ApiException, IOException {
+        byte[] body = ByteStreams.toByteArray(ByteStreams.limit(exchange.getRequestBody(), MAX_REQUEST_BYTES + 1));
+        if (body.length > MAX_REQUEST_BYTES) {
+            throw new ApiException(HTTP_ENTITY_TOO_LARGE, "Requests must be at most " + MAX_REQUEST_BYTES + " bytes.");
+        }
+        try {
+            return JsonUtil.fromJsonString(new String(body, StandardCharsets.UTF_8), type);
+        } catch (IOException e) {
+            throw new ApiException(HTTP_BAD_REQUEST, "The request is not valid json.");
+        }
+    }
+
+    /**
+     * Sends {@code body} as json with the response {@code status}.
+     */
+    private static void sendJson(HttpExchange exchange, int status, Object body) throws IOException {
+        byte[] bytes = JsonUtil.toJsonString(body).getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    /**
+     * Answers a request to an endpoint made by an authenticated user.
+     */
+    @FunctionalInterface
+    private interface Action {
+        Object handle(LoginCredentials credentials, HttpExchange exchange) throws ApiException, IOException;
+    }
+
+    /**
+     * Handles the requests to the path of an endpoint, answering the requests with the wrong path, method or
+     * credentials with an error.
+     */
+    private static class Endpoint implements HttpHandler {
+        private final String path;
+        private final String method;
+        private final Action action;
+
+        private Endpoint(String path, String method, Action action) {
+            this.path = path;
+            this.method = method;
+            this.action = action;
+        }
+
+        @Override
+        public void handle(HttpExchange exchange) throws IOException {
+            try {
+                if (!exchange.getRequestURI().getPath().equals(path)) {
+                    throw new ApiException(HTTP_NOT_FOUND, "There is no endpoint at " + exchange.getRequestURI());
+                }
+                if (!exchange.getRequestMethod().equals(method)) {
+                    exchange.getResponseHeaders().set("Allow", method);
+                    throw new ApiException(HTTP_BAD_METHOD, "Only " + method + " requests are supported here.");
+                }
+                sendJson(exchange, HTTP_OK, action.handle(readCredentials(exchange), exchange));
+            } catch (ApiException e) {
+                if (e.getStatus() == HTTP_UNAUTHORIZED) {
+                    exchange.getResponseHeaders().set("WWW-Authenticate", CHALLENGE);
+                }
+                sendJson(exchange, e.getStatus(), new ErrorResponse(e.getMessage()));
+            } catch (RuntimeException e) {
+                logger.severe("Failed to handle a request to " + path + ": " + StringUtil.getDetails(e));
+                sendJson(exchange, HTTP_INTERNAL_ERROR, new ErrorResponse("The server failed to handle the request."));
+            } finally {
+                exchange.close();
+            }
+        }
+    }
+
+    /**
+     * The body of a request to run a command.
+     */
+    private static class CommandRequest {
+        private String command;
+    }
+
+    /**
+     * The body of the response to a command which ran.
+     */
+    private static class CommandResponse {
+        private final String feedback;
+        private final List<JsonAdaptedExpense> expenses;
+
+        private CommandResponse(String feedback, List<JsonAdaptedExpense> expenses) {
+            this.feedback = feedback;
+            this.expenses = expenses;
+        }
+    }
+
+    /**
+     * The body of the response to a request which succeeded without listing expenses.
+     */
+    private static class FeedbackResponse {
+        private final String feedback;
+
+        private FeedbackResponse(String feedback) {
+            this.feedback = feedback;
+        }
+    }
+
+    /**
+     * The body of the response listing the expenses of a user.
+     */
+    private static class ExpensesResponse {
+        private final List<JsonAdaptedExpense> expenses;
+
+        private ExpensesResponse(List<JsonAdaptedExpense> expenses) {
+            this.expenses = expenses;
+        }
+    }
+
+    /**
+     * The body of the response to a request which failed.
+     */
+    private static class ErrorResponse {
+        private final String error;
+
+        private ErrorResponse(String error) {
+            this.error = error;
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package seedu.expensetracker.server;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.expensetracker.model.expense.Expense;
+
+/**
+ * Json-friendly version of an {@link Expense}, as returned by the {@link ApiServer}.
+ */
+public class JsonAdaptedExpense {
+    private String name;
+    private String category;
+    private String cost;
+    private String date;
+    private List<String> tags;
+
+    /**
+     * Constructs a {@code JsonAdaptedExpense}.
+     * This is the no-arg constructor that is required by Jackson.
+     */
+    public JsonAdaptedExpense() {}
+
+    /**
+     * Converts {@code source} into this class for Jackson use.
+     */
+    public JsonAdaptedExpense(Expense source) {
+        name = source.getName().expenseName;
+        category = source.getCategory().categoryName;
+        cost = source.getCost().value;
+        date = source.getDate().toString();
+        tags = source.getTags().stream().map(tag -> tag.tagName).sorted().collect(Collectors.toList());
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getCategory() {
+        return category;
+    }
+
+    public String getCost() {
+        return cost;
+    }
+
+    public String getDate() {
+        return date;
+    }
+
+    public List<String> getTags() {
+        return tags;
+    }
+}
@@ -0,0 +1,45 @@
+package seedu.expensetracker.server;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
+
+import seedu.expensetracker.commons.core.LogsCenter;
+
+/**
+ * Creates the executors which handle the requests to an {@link ApiServer}.
+ */
+public class RequestExecutors {
+    private static final Logger logger = LogsCenter.getLogger(RequestExecutors.class);
+    private static final AtomicInteger THREAD_COUNT = new AtomicInteger();
+
+    /**
+     * Returns an executor which handles each request on a new virtual thread if the JDK has them, or else on one of
+     * at most {@code maxThreads} daemon threads. Virtual threads are looked up reflectively, as the app is also built
+     * for JDKs without them.
+     */
+    public static ExecutorService newRequestExecutor(int maxThreads) {
+        if (maxThreads <= 0) {
+            throw new IllegalArgumentException("The number of request threads must be positive.");
+        }
+        try {
+            Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            logger.info("Handling requests with virtual threads");
+            return (ExecutorService) factory.invoke(null);
+        } catch (ReflectiveOperationException | UnsupportedOperationException e) {
+            logger.info("Virtual threads are not available, handling requests with " + maxThreads + " threads");
+            return Executors.newFixedThreadPool(maxThreads, RequestExecutors::newRequestThread);
+        }
+    }
+
+    /**
+     * Returns a daemon thread for handling requests.
+     */
+    private static Thread newRequestThread(Runnable runnable) {
+        Thread thread = new Thread(runnable, "api-" + THREAD_COUNT.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+    }
+}
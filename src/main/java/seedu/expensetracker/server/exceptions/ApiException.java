@@ -0,0 +1,23 @@
+package seedu.expensetracker.server.exceptions;
+
+/**
+ * Signals that a request to the API server cannot be answered, with the HTTP status to answer it with instead.
+ */
+public class ApiException extends Exception {
+    private static final long serialVersionUID = 1L;
+
+    private final int status;
+
+    /**
+     * @param status the HTTP status code of the response
+     * @param message should explain to the client why the request failed
+     */
+    public ApiException(int status, String message) {
+        super(message);
+        this.status = status;
+    }
+
+    public int getStatus() {
+        return status;
+    }
+}
@@ -0,0 +1,106 @@
+package seedu.expensetracker.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.expensetracker.commons.core.LogsCenter;
+import seedu.expensetracker.commons.exceptions.DataConversionException;
+import seedu.expensetracker.commons.exceptions.IllegalValueException;
+import seedu.expensetracker.commons.util.FileUtil;
+import seedu.expensetracker.model.encryption.EncryptedExpenseTracker;
+import seedu.expensetracker.model.user.Username;
+
+/**
+ * A class to access ExpenseTracker data stored as binary snapshots on the hard disk, one file per user.
+ * Files are memory-mapped when read, so the data is decoded straight from the page cache.
+ * @see BinarySnapshot
+ */
+public class BinaryExpensesStorage implements ExpensesStorage {
+
+    public static final String BINARY_FILE_EXTENSION = ".bin";
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryExpensesStorage.class);
+
+    private final Path dirPath;
+
+    public BinaryExpensesStorage(Path dirPath) {
+        this.dirPath = dirPath;
+    }
+
+    @Override
+    public Path getExpensesDirPath() {
+        return dirPath;
+    }
+
+    @Override
+    public Path getUserDataPath(Path dirPath, Username username) {
+        return dirPath.resolve(username.toString() + BINARY_FILE_EXTENSION);
+    }
+
+    @Override
+    public Optional<EncryptedExpenseTracker> readExpenses() throws DataConversionException, IOException {
+        return readExpenses(dirPath);
+    }
+
+    /**
+     * Similar to {@link #readExpenses()}
+     * @param filePath location of the data. Cannot be null. Files which are not binary snapshots are ignored.
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    @Override
+    public Optional<EncryptedExpenseTracker> readExpenses(Path filePath) throws DataConversionException,
+            IOException {
+        requireNonNull(filePath);
+        if (!FileUtil.isFileExists(filePath) || !filePath.toString().endsWith(BINARY_FILE_EXTENSION)) {
+            logger.info("ExpenseTracker snapshot " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        EncryptedExpenseTracker expenseTracker;
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            expenseTracker = BinarySnapshot.fromBytes(buffer);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+
+        Username fileName = new Username(filePath.getFileName().toString().replace(BINARY_FILE_EXTENSION, ""));
+        if (!fileName.equals(expenseTracker.getUsername())) {
+            logger.info("File name does not match username. Changing username to \"" + fileName + "\"");
+            expenseTracker.setUsername(fileName);
+        }
+        return Optional.of(expenseTracker);
+    }
+
+    @Override
+    public void saveExpenses(EncryptedExpenseTracker expenseTracker) throws IOException {
+        saveExpenses(expenseTracker, getUserDataPath(dirPath, expenseTracker.getUsername()));
+    }
+
+    /**
+     * Similar to {@link #saveExpenses(EncryptedExpenseTracker)}
+     * The snapshot is written to a temporary file first, so the previous snapshot is kept if writing fails.
+     * @param filePath location of the data. Cannot be null
+     */
+    @Override
+    public void saveExpenses(EncryptedExpenseTracker expenseTracker, Path filePath) throws IOException {
+        requireNonNull(expenseTracker);
+        requireNonNull(filePath);
+
+        FileUtil.createParentDirsOfFile(filePath);
+        Path tempFilePath = Paths.get(filePath.toString() + ".tmp");
+        Files.write(tempFilePath, BinarySnapshot.toBytes(expenseTracker));
+        Files.move(tempFilePath, filePath, StandardCopyOption.REPLACE_EXISTING);
+    }
+}
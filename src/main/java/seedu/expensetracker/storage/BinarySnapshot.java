@@ -0,0 +1,417 @@
+package seedu.expensetracker.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.expensetracker.commons.exceptions.IllegalValueException;
+import seedu.expensetracker.model.budget.CategoryBudget;
+import seedu.expensetracker.model.budget.TotalBudget;
+import seedu.expensetracker.model.encryption.EncryptedCategory;
+import seedu.expensetracker.model.encryption.EncryptedCost;
+import seedu.expensetracker.model.encryption.EncryptedDate;
+import seedu.expensetracker.model.encryption.EncryptedExpense;
+import seedu.expensetracker.model.encryption.EncryptedExpenseTracker;
+import seedu.expensetracker.model.encryption.EncryptedName;
+import seedu.expensetracker.model.encryption.EncryptedTag;
+import seedu.expensetracker.model.notification.Notification;
+import seedu.expensetracker.model.notification.Notification.NotificationType;
+import seedu.expensetracker.model.notification.NotificationHandler;
+import seedu.expensetracker.model.notification.TipNotification;
+import seedu.expensetracker.model.notification.WarningNotification;
+import seedu.expensetracker.model.user.Password;
+import seedu.expensetracker.model.user.Username;
+
+/**
+ * Converts an {@code EncryptedExpenseTracker} to and from a compact binary snapshot. A snapshot consists of
+ * <ol>
+ *     <li>a header with the magic number and format version,</li>
+ *     <li>a string table holding every distinct string once, with encrypted strings stored as raw bytes instead of
+ *     Base64,</li>
+ *     <li>the rest of the user's data, referring to strings by their index in the table, and</li>
+ *     <li>the expenses, each as a length-prefixed record holding either the sealed AES-GCM record of the expense, or
+ *     the string table indices of its separately encrypted fields.</li>
+ * </ol>
+ * All numbers are big-endian. Snapshots of version 1 only hold expenses with separately encrypted fields, and
+ * snapshots of versions 1 and 2 do not hold the previous key of expenses being re-encrypted. Both can still be read.
+ */
+public class BinarySnapshot {
+
+    public static final int MAGIC_NUMBER = 0x45545342; // "ETSB"
+    public static final short FORMAT_VERSION = 3;
+
+    public static final String MESSAGE_NOT_A_SNAPSHOT = "Data is not an expense tracker snapshot";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Snapshot format version %d is not supported";
+    public static final String MESSAGE_CORRUPTED = "Snapshot data is corrupted";
+
+    private static final int NO_STRING = -1;
+    private static final int NO_PARTITION = -1;
+    private static final byte ENTRY_TEXT = 0;
+    private static final byte ENTRY_CIPHERTEXT = 1;
+    private static final short FIELDS_ONLY_FORMAT_VERSION = 1;
+    private static final short NO_PREVIOUS_KEY_FORMAT_VERSION = 2;
+    private static final byte LAYOUT_FIELDS = 0;
+    private static final byte LAYOUT_SEALED = 1;
+
+    private BinarySnapshot() {}
+
+    /**
+     * Returns the binary snapshot of the given {@code expenseTracker}.
+     */
+    public static byte[] toBytes(EncryptedExpenseTracker expenseTracker) {
+        requireNonNull(expenseTracker);
+        assert expenseTracker.getUnloadedPartitions().isEmpty() : "All expenses must be loaded to take a snapshot.";
+        try {
+            return new Writer().write(expenseTracker);
+        } catch (IOException e) {
+            throw new AssertionError("Writing to memory should not fail", e);
+        }
+    }
+
+    /**
+     * Reads the expense tracker in the binary snapshot held by {@code buffer}, starting from its current position.
+     * @throws IllegalValueException if the buffer does not hold a valid snapshot
+     */
+    public static EncryptedExpenseTracker fromBytes(ByteBuffer buffer) throws IllegalValueException {
+        requireNonNull(buffer);
+        try {
+            return new Reader(buffer).read();
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | NegativeArraySizeException
+                | IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED);
+        }
+    }
+
+    /**
+     * Writes a single snapshot. The string table is collected while the body is written, so the body is written to
+     * a separate buffer and appended after the table.
+     */
+    private static class Writer {
+        private final List<String> strings = new ArrayList<>();
+        private final Map<String, Integer> stringIndices = new HashMap<>();
+
+        /**
+         * Returns the snapshot of {@code expenseTracker}.
+         */
+        private byte[] write(EncryptedExpenseTracker expenseTracker) throws IOException {
+            ByteArrayOutputStream bodyBytes = new ByteArrayOutputStream();
+            DataOutputStream body = new DataOutputStream(bodyBytes);
+            writeUserData(body, expenseTracker);
+            writeExpenses(body, expenseTracker.getEncryptedExpenses());
+            body.flush();
+
+            ByteArrayOutputStream snapshotBytes = new ByteArrayOutputStream(bodyBytes.size() * 2);
+            DataOutputStream snapshot = new DataOutputStream(snapshotBytes);
+            snapshot.writeInt(MAGIC_NUMBER);
+            snapshot.writeShort(FORMAT_VERSION);
+            writeStringTable(snapshot);
+            bodyBytes.writeTo(snapshot);
+            snapshot.flush();
+            return snapshotBytes.toByteArray();
+        }
+
+        /**
+         * Writes the data of the user other than the expenses.
+         */
+        private void writeUserData(DataOutputStream out, EncryptedExpenseTracker expenseTracker) throws IOException {
+            out.writeInt(indexOf(expenseTracker.getUsername().toString()));
+            out.writeInt(indexOf(expenseTracker.getPassword().map(Password::toString).orElse(null)));
+
+            TotalBudget budget = expenseTracker.getMaximumTotalBudget();
+            out.writeDouble(budget.getBudgetCap());
+            out.writeDouble(budget.getCurrentExpenses());
+            out.writeInt(indexOf(budget.getNextRecurrence() == null ? null : budget.getNextRecurrence().toString()));
+            out.writeLong(budget.getNumberOfSecondsToRecurAgain());
+            out.writeInt(budget.getCategoryBudgets().size());
+            for (CategoryBudget categoryBudget : budget.getCategoryBudgets()) {
+                out.writeInt(indexOf(categoryBudget.getCategory().categoryName));
+                out.writeDouble(categoryBudget.getBudgetCap());
+                out.writeDouble(categoryBudget.getCurrentExpenses());
+            }
+
+            NotificationHandler notificationHandler = expenseTracker.getNotificationHandler();
+            out.writeInt(indexOf(notificationHandler.getLastTipSentOn().toString()));
+            out.writeBoolean(notificationHandler.isTipEnabled());
+            out.writeBoolean(notificationHandler.isWarningEnabled());
+            out.writeInt(notificationHandler.size());
+            for (Notification notification : notificationHandler) {
+                out.writeByte(notification.getNotificationType().ordinal());
+                out.writeInt(indexOf(notification.getHeader()));
+                out.writeInt(indexOf(notification.getBody()));
+            }
+            out.writeInt(indexOf(expenseTracker.getEncryptedPreviousKey().orElse(null)));
+        }
+
+        /**
+         * Writes the expenses as length-prefixed records, preceded by their number.
+         */
+        private void writeExpenses(DataOutputStream out, Iterable<EncryptedExpense> expenses) throws IOException {
+            ByteArrayOutputStream recordBytes = new ByteArrayOutputStream();
+            DataOutputStream record = new DataOutputStream(recordBytes);
+            List<byte[]> records = new ArrayList<>();
+            for (EncryptedExpense expense : expenses) {
+                recordBytes.reset();
+                record.writeInt(expense.getPartition().map(month -> month.getYear() * 12 + month.getMonthValue() - 1)
+                        .orElse(NO_PARTITION));
+                if (expense.isSealed()) {
+                    record.writeByte(LAYOUT_SEALED);
+                    record.write(expense.getRecord());
+                    record.flush();
+                    records.add(recordBytes.toByteArray());
+                    continue;
+                }
+                record.writeByte(LAYOUT_FIELDS);
+                record.writeInt(indexOf(expense.getName().getEncryptedString()));
+                record.writeInt(indexOf(expense.getCategory().getEncryptedString()));
+                record.writeInt(indexOf(expense.getCost().getEncryptedString()));
+                record.writeInt(indexOf(expense.getDate().getEncryptedString()));
+                record.writeShort(expense.getTags().size());
+                for (EncryptedTag tag : expense.getTags()) {
+                    record.writeInt(indexOf(tag.getEncryptedString()));
+                }
+                record.flush();
+                records.add(recordBytes.toByteArray());
+            }
+
+            out.writeInt(records.size());
+            for (byte[] bytes : records) {
+                out.writeInt(bytes.length);
+                out.write(bytes);
+            }
+        }
+
+        /**
+         * Writes every string collected so far, in the order of their indices.
+         */
+        private void writeStringTable(DataOutputStream out) throws IOException {
+            out.writeInt(strings.size());
+            for (String string : strings) {
+                byte[] ciphertext = decodeCiphertext(string);
+                byte[] bytes = ciphertext == null ? string.getBytes(StandardCharsets.UTF_8) : ciphertext;
+                out.writeByte(ciphertext == null ? ENTRY_TEXT : ENTRY_CIPHERTEXT);
+                out.writeInt(bytes.length);
+                out.write(bytes);
+            }
+        }
+
+        /**
+         * Returns the index of {@code string} in the string table, adding it to the table if it is not there yet.
+         */
+        private int indexOf(String string) {
+            if (string == null) {
+                return NO_STRING;
+            }
+            return stringIndices.computeIfAbsent(string, unused -> {
+                strings.add(string);
+                return strings.size() - 1;
+            });
+        }
+
+        /**
+         * Returns the bytes represented by {@code string} if it is in Base64, as produced by the encryption of
+         * the expense fields, or null if it is not.
+         */
+        private static byte[] decodeCiphertext(String string) {
+            if (string.isEmpty()) {
+                return null;
+            }
+            try {
+                byte[] bytes = Base64.getDecoder().decode(string);
+                return Base64.getEncoder().encodeToString(bytes).equals(string) ? bytes : null;
+            } catch (IllegalArgumentException iae) {
+                return null;
+            }
+        }
+    }
+
+    /**
+     * Reads a single snapshot. Each string is only decoded from the buffer when it is first used.
+     */
+    private static class Reader {
+        private final ByteBuffer buffer;
+        private short version;
+        private int[] stringOffsets;
+        private String[] strings;
+
+        private Reader(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        /**
+         * Reads the whole snapshot, checking its header first.
+         */
+        private EncryptedExpenseTracker read() throws IllegalValueException {
+            if (buffer.getInt() != MAGIC_NUMBER) {
+                throw new IllegalValueException(MESSAGE_NOT_A_SNAPSHOT);
+            }
+            version = buffer.getShort();
+            if (version < FIELDS_ONLY_FORMAT_VERSION || version > FORMAT_VERSION) {
+                throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+            }
+            readStringTable();
+
+            Username username = new Username(readRequiredString());
+            String password = readString();
+            TotalBudget budget = readTotalBudget();
+            NotificationHandler notificationHandler = new NotificationHandler(
+                    LocalDateTime.parse(readRequiredString()), buffer.get() != 0, buffer.get() != 0);
+            EncryptedExpenseTracker expenseTracker = new EncryptedExpenseTracker(username,
+                    password == null ? null : new Password(password, false), budget, notificationHandler);
+
+            int notificationCount = buffer.getInt();
+            for (int i = 0; i < notificationCount; i++) {
+                expenseTracker.addNotification(readNotification());
+            }
+            if (version > NO_PREVIOUS_KEY_FORMAT_VERSION) {
+                expenseTracker.setEncryptedPreviousKey(readString());
+            }
+            int expenseCount = buffer.getInt();
+            for (int i = 0; i < expenseCount; i++) {
+                expenseTracker.addExpense(readExpense());
+            }
+            return expenseTracker;
+        }
+
+        /**
+         * Records where each string in the string table starts, without decoding any of them.
+         */
+        private void readStringTable() throws IllegalValueException {
+            int count = buffer.getInt();
+            if (count < 0 || count > buffer.remaining()) {
+                throw new IllegalValueException(MESSAGE_CORRUPTED);
+            }
+            stringOffsets = new int[count];
+            strings = new String[count];
+            for (int i = 0; i < count; i++) {
+                stringOffsets[i] = buffer.position();
+                buffer.get();
+                int length = buffer.getInt();
+                buffer.position(buffer.position() + length);
+            }
+        }
+
+        /**
+         * Reads the total budget of the user, along with the category budgets.
+         */
+        private TotalBudget readTotalBudget() throws IllegalValueException {
+            double budgetCap = buffer.getDouble();
+            double currentExpenses = buffer.getDouble();
+            String nextRecurrence = readString();
+            long numberOfSecondsToRecurAgain = buffer.getLong();
+            int categoryBudgetCount = buffer.getInt();
+            HashSet<CategoryBudget> categoryBudgets = new HashSet<>();
+            for (int i = 0; i < categoryBudgetCount; i++) {
+                String category = readRequiredString();
+                String categoryBudgetCap = String.format(Locale.ROOT, "%.2f", buffer.getDouble());
+                String categoryCurrentExpenses = String.format(Locale.ROOT, "%.2f", buffer.getDouble());
+                categoryBudgets.add(new CategoryBudget(category, categoryBudgetCap, categoryCurrentExpenses));
+            }
+            return new TotalBudget(budgetCap, currentExpenses,
+                    nextRecurrence == null ? null : LocalDateTime.parse(nextRecurrence),
+                    numberOfSecondsToRecurAgain, categoryBudgets);
+        }
+
+        /**
+         * Reads a single notification.
+         */
+        private Notification readNotification() throws IllegalValueException {
+            byte type = buffer.get();
+            String header = readRequiredString();
+            String body = readRequiredString();
+            if (type == NotificationType.TIP.ordinal()) {
+                return new TipNotification(header, body);
+            }
+            return new WarningNotification(header, body);
+        }
+
+        /**
+         * Reads a single expense record, checking that it ends where its length says it does.
+         * A sealed record takes up the rest of the expense record.
+         */
+        private EncryptedExpense readExpense() throws IllegalValueException {
+            int length = buffer.getInt();
+            int recordEnd = buffer.position() + length;
+            int partitionIndex = buffer.getInt();
+            YearMonth partition = partitionIndex == NO_PARTITION
+                    ? null
+                    : YearMonth.of(partitionIndex / 12, partitionIndex % 12 + 1);
+            byte layout = version == FIELDS_ONLY_FORMAT_VERSION ? LAYOUT_FIELDS : buffer.get();
+            if (layout == LAYOUT_SEALED) {
+                byte[] record = new byte[recordEnd - buffer.position()];
+                buffer.get(record);
+                return new EncryptedExpense(record, partition);
+            }
+            if (layout != LAYOUT_FIELDS) {
+                throw new IllegalValueException(MESSAGE_CORRUPTED);
+            }
+            EncryptedName name = new EncryptedName(readRequiredString());
+            EncryptedCategory category = new EncryptedCategory(readRequiredString());
+            EncryptedCost cost = new EncryptedCost(readRequiredString());
+            EncryptedDate date = new EncryptedDate(readRequiredString());
+            int tagCount = buffer.getShort();
+            Set<EncryptedTag> tags = new HashSet<>();
+            for (int i = 0; i < tagCount; i++) {
+                tags.add(new EncryptedTag(readRequiredString()));
+            }
+            if (buffer.position() != recordEnd) {
+                throw new IllegalValueException(MESSAGE_CORRUPTED);
+            }
+            return new EncryptedExpense(name, category, cost, date, tags, partition);
+        }
+
+        /**
+         * Returns the string whose index is next in the buffer, which must be present.
+         */
+        private String readRequiredString() throws IllegalValueException {
+            String string = readString();
+            if (string == null) {
+                throw new IllegalValueException(MESSAGE_CORRUPTED);
+            }
+            return string;
+        }
+
+        /**
+         * Returns the string whose index is next in the buffer, or null if there is no string.
+         */
+        private String readString() {
+            int index = buffer.getInt();
+            if (index == NO_STRING) {
+                return null;
+            }
+            if (strings[index] == null) {
+                strings[index] = decodeString(stringOffsets[index]);
+            }
+            return strings[index];
+        }
+
+        /**
+         * Decodes the string table entry which starts at {@code offset}.
+         */
+        private String decodeString(int offset) {
+            ByteBuffer entry = buffer.duplicate();
+            entry.position(offset);
+            byte type = entry.get();
+            byte[] bytes = new byte[entry.getInt()];
+            entry.get(bytes);
+            return type == ENTRY_CIPHERTEXT
+                    ? Base64.getEncoder().encodeToString(bytes)
+                    : new String(bytes, StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package seedu.expensetracker.storage;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Represents a storage for the commands of {@link seedu.expensetracker.logic.CommandHistory}.
+ */
+public interface CommandHistoryStorage {
+
+    /**
+     * Returns the file path of the command history file.
+     */
+    Path getCommandHistoryFilePath();
+
+    /**
+     * Returns at most {@code limit} of the most recent commands in storage, from the earliest to the most recent.
+     *   Returns an empty list if the storage file is not found.
+     * @throws IOException if there was any problem when reading from the storage.
+     */
+    List<String> readCommandHistory(int limit) throws IOException;
+
+    /**
+     * Appends {@code command} to the commands in storage.
+     *   Creates the storage file if it is missing.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void appendCommand(String command) throws IOException;
+
+}
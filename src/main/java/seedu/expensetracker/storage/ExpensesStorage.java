@@ -8,6 +8,7 @@ import seedu.expensetracker.commons.exceptions.DataConversionException;
 import seedu.expensetracker.model.ExpenseTracker;
 import seedu.expensetracker.model.ReadOnlyExpenseTracker;
 import seedu.expensetracker.model.encryption.EncryptedExpenseTracker;
+import seedu.expensetracker.model.user.Username;
 
 /**
  * Represents a storage for {@link ExpenseTracker}.
@@ -19,6 +20,12 @@ public interface ExpensesStorage {
      */
     Path getExpensesDirPath();
 
+    /**
+     * Returns the path that the data of the user with the given {@code username} is saved to within the
+     * directory at {@code dirPath}.
+     */
+    Path getUserDataPath(Path dirPath, Username username);
+
     /**
      * Returns ExpenseTracker data as a {@link ReadOnlyExpenseTracker}.
      *   Returns {@code Optional.empty()} if storage file is not found.
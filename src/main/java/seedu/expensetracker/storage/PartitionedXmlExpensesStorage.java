@@ -0,0 +1,257 @@
+package seedu.expensetracker.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.expensetracker.storage.XmlExpensesStorage.XML_FILE_EXTENSION;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Logger;
+
+import javax.xml.bind.JAXBException;
+
+import seedu.expensetracker.commons.core.LogsCenter;
+import seedu.expensetracker.commons.exceptions.DataConversionException;
+import seedu.expensetracker.commons.exceptions.IllegalValueException;
+import seedu.expensetracker.commons.util.FileUtil;
+import seedu.expensetracker.commons.util.XmlUtil;
+import seedu.expensetracker.model.encryption.EncryptedExpense;
+import seedu.expensetracker.model.encryption.EncryptedExpenseTracker;
+import seedu.expensetracker.model.user.Username;
+
+/**
+ * A class to access ExpenseTracker data stored as a directory of xml files on the hard disk. The expenses of each
+ * user are split into one file per month (e.g. {@code data/<username>/2018-09.xml}), and the rest of the user's data
+ * is kept in a manifest file that lists the months. Only the months that changed are rewritten on save, and months
+ * older than a given number of months are only read when they are needed.
+ * Data saved by {@link XmlExpensesStorage} as a single xml file per user can still be read.
+ */
+public class PartitionedXmlExpensesStorage implements ExpensesStorage {
+
+    public static final String MANIFEST_FILE_NAME = "manifest.xml";
+    public static final String UNDATED_PARTITION = "undated";
+
+    private static final Logger logger = LogsCenter.getLogger(PartitionedXmlExpensesStorage.class);
+
+    private final Path dirPath;
+    private final int hotPartitionMonths;
+    private final XmlExpensesStorage singleFileStorage;
+
+    /**
+     * The expenses last written to or read from each partition file, used to skip unchanged partitions. Partitions
+     * are read on the thread of the model while they are saved on the storage thread, so the map is concurrent.
+     */
+    private final Map<Path, List<EncryptedExpense>> savedPartitions = new ConcurrentHashMap<>();
+
+    /**
+     * @param dirPath the directory containing the data of all users
+     * @param hotPartitionMonths the number of most recent months whose expenses are read along with the manifest
+     */
+    public PartitionedXmlExpensesStorage(Path dirPath, int hotPartitionMonths) {
+        this.dirPath = dirPath;
+        this.hotPartitionMonths = hotPartitionMonths;
+        this.singleFileStorage = new XmlExpensesStorage(dirPath);
+    }
+
+    @Override
+    public Path getExpensesDirPath() {
+        return dirPath;
+    }
+
+    @Override
+    public Path getUserDataPath(Path dirPath, Username username) {
+        return dirPath.resolve(username.toString());
+    }
+
+    @Override
+    public Optional<EncryptedExpenseTracker> readExpenses() throws DataConversionException, IOException {
+        return readExpenses(dirPath);
+    }
+
+    /**
+     * Similar to {@link #readExpenses()}
+     * @param userPath the directory containing the data of a user, or a single xml file saved by
+     *                 {@link XmlExpensesStorage}. Cannot be null. Other files, such as binary snapshots, are ignored.
+     * @throws DataConversionException if the data is not in the correct format.
+     */
+    @Override
+    public Optional<EncryptedExpenseTracker> readExpenses(Path userPath) throws DataConversionException,
+            IOException {
+        requireNonNull(userPath);
+        if (!Files.isDirectory(userPath)) {
+            if (!userPath.toString().endsWith(XML_FILE_EXTENSION)) {
+                return Optional.empty();
+            }
+            return singleFileStorage.readExpenses(userPath);
+        }
+
+        Path manifestPath = userPath.resolve(MANIFEST_FILE_NAME);
+        if (!FileUtil.isFileExists(manifestPath)) {
+            logger.info("Manifest file " + manifestPath + " not found");
+            return Optional.empty();
+        }
+
+        XmlSerializableExpenseManifest manifest = loadData(manifestPath, XmlSerializableExpenseManifest.class);
+        EncryptedExpenseTracker expenseTracker;
+        try {
+            expenseTracker = manifest.toModelType();
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + manifestPath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+        expenseTracker.setUsername(new Username(userPath.getFileName().toString()));
+
+        YearMonth earliestHotPartition = YearMonth.now().minusMonths(hotPartitionMonths - 1);
+        for (String partitionName : manifest.getPartitions()) {
+            Optional<YearMonth> partition = parsePartitionName(partitionName);
+            if (partition.isPresent() && partition.get().isBefore(earliestHotPartition)) {
+                expenseTracker.addUnloadedPartition(partition.get(),
+                    unloadedPartition -> readPartition(userPath, unloadedPartition));
+            } else {
+                readPartition(userPath, partition.orElse(null)).forEach(expenseTracker::addExpense);
+            }
+        }
+        logger.fine("Read " + userPath + " with " + expenseTracker.getUnloadedPartitions().size()
+                + " partitions left unloaded");
+        return Optional.of(expenseTracker);
+    }
+
+    /**
+     * Reads the expenses of a single partition of the user whose data is at {@code userPath}.
+     * @param partition the month of the partition, or null for expenses whose month is unknown
+     */
+    private List<EncryptedExpense> readPartition(Path userPath, YearMonth partition) throws DataConversionException,
+            IOException {
+        Path partitionPath = getPartitionPath(userPath, getPartitionName(partition));
+        XmlSerializableExpensePartition xmlPartition = loadData(partitionPath, XmlSerializableExpensePartition.class);
+        try {
+            List<EncryptedExpense> expenses = xmlPartition.toModelType(partition);
+            savedPartitions.put(partitionPath, expenses);
+            return expenses;
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + partitionPath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    @Override
+    public void saveExpenses(EncryptedExpenseTracker expenseTracker) throws IOException {
+        saveExpenses(expenseTracker, getUserDataPath(dirPath, expenseTracker.getUsername()));
+    }
+
+    /**
+     * Similar to {@link #saveExpenses(EncryptedExpenseTracker)}
+     * Partitions which have not changed since they were last read or written are not rewritten. Partitions which
+     * are no longer used are deleted, except those which were never read from the disk.
+     * @param userPath the directory to save the data of the user in. Cannot be null
+     */
+    @Override
+    public void saveExpenses(EncryptedExpenseTracker expenseTracker, Path userPath) throws IOException {
+        requireNonNull(expenseTracker);
+        requireNonNull(userPath);
+
+        Map<String, List<EncryptedExpense>> partitions = new TreeMap<>();
+        for (EncryptedExpense expense : expenseTracker.getEncryptedExpenses()) {
+            partitions.computeIfAbsent(getPartitionName(expense.getPartition().orElse(null)),
+                unused -> new ArrayList<>()).add(expense);
+        }
+
+        int writtenCount = 0;
+        for (Map.Entry<String, List<EncryptedExpense>> partition : partitions.entrySet()) {
+            Path partitionPath = getPartitionPath(userPath, partition.getKey());
+            if (partition.getValue().equals(savedPartitions.get(partitionPath))
+                    && FileUtil.isFileExists(partitionPath)) {
+                continue;
+            }
+            saveData(partitionPath, new XmlSerializableExpensePartition(partition.getValue()));
+            savedPartitions.put(partitionPath, partition.getValue());
+            writtenCount++;
+        }
+
+        TreeSet<String> partitionNames = new TreeSet<>(partitions.keySet());
+        expenseTracker.getUnloadedPartitions().forEach(partition -> partitionNames.add(getPartitionName(partition)));
+        saveData(userPath.resolve(MANIFEST_FILE_NAME),
+                new XmlSerializableExpenseManifest(expenseTracker, partitionNames));
+
+        deleteUnusedPartitions(userPath, partitionNames);
+        Files.deleteIfExists(Paths.get(userPath.toString() + XML_FILE_EXTENSION));
+        logger.fine("Saved " + writtenCount + " of " + partitions.size() + " partitions to " + userPath);
+    }
+
+    /**
+     * Deletes the partition files in {@code userPath} that were previously read or written by this storage but are
+     * not in {@code partitionNames}.
+     */
+    private void deleteUnusedPartitions(Path userPath, TreeSet<String> partitionNames) throws IOException {
+        Iterator<Map.Entry<Path, List<EncryptedExpense>>> iterator = savedPartitions.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Path partitionPath = iterator.next().getKey();
+            String fileName = partitionPath.getFileName().toString();
+            if (userPath.equals(partitionPath.getParent())
+                    && !partitionNames.contains(fileName.replace(XML_FILE_EXTENSION, ""))) {
+                Files.deleteIfExists(partitionPath);
+                iterator.remove();
+            }
+        }
+    }
+
+    private static Path getPartitionPath(Path userPath, String partitionName) {
+        return userPath.resolve(partitionName + XML_FILE_EXTENSION);
+    }
+
+    private static String getPartitionName(YearMonth partition) {
+        return partition == null ? UNDATED_PARTITION : partition.toString();
+    }
+
+    /**
+     * Parses the name of a partition into the month it represents.
+     * @return the month of the partition, or an empty Optional if the month of its expenses is unknown
+     * @throws DataConversionException if the name is not a valid partition name
+     */
+    private static Optional<YearMonth> parsePartitionName(String partitionName) throws DataConversionException {
+        if (UNDATED_PARTITION.equals(partitionName)) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(YearMonth.parse(partitionName));
+        } catch (DateTimeParseException dtpe) {
+            throw new DataConversionException(dtpe);
+        }
+    }
+
+    /**
+     * Returns the data in the xml file at {@code file} as an object of the given type.
+     */
+    private static <T> T loadData(Path file, Class<T> classToConvert) throws DataConversionException,
+            FileNotFoundException {
+        try {
+            return XmlUtil.getDataFromFile(file, classToConvert);
+        } catch (JAXBException e) {
+            throw new DataConversionException(e);
+        }
+    }
+
+    /**
+     * Saves the given data to the xml file at {@code file}, creating it if it is missing.
+     */
+    private static void saveData(Path file, Object data) throws IOException {
+        FileUtil.createIfMissing(file);
+        try {
+            XmlUtil.saveDataToFile(file, data);
+        } catch (JAXBException e) {
+            throw new AssertionError("Unexpected exception " + e.getMessage(), e);
+        }
+    }
+}
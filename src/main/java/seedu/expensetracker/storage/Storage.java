@@ -6,6 +6,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
+import seedu.expensetracker.commons.events.logic.CommandEnteredEvent;
 import seedu.expensetracker.commons.events.model.ExpenseTrackerChangedEvent;
 import seedu.expensetracker.commons.events.storage.DataSavingExceptionEvent;
 import seedu.expensetracker.commons.exceptions.DataConversionException;
@@ -18,7 +19,7 @@ import seedu.expensetracker.model.user.Username;
 /**
  * API of the Storage component
  */
-public interface Storage extends ExpensesStorage, UserPrefsStorage, TipsStorage {
+public interface Storage extends ExpensesStorage, UserPrefsStorage, TipsStorage, CommandHistoryStorage {
 
     @Override
     Optional<UserPrefs> readUserPrefs() throws DataConversionException, IOException;
@@ -54,4 +55,13 @@ public interface Storage extends ExpensesStorage, UserPrefsStorage, TipsStorage
 
     @Override
     Optional<List<Tip>> readTips() throws IOException;
+
+    @Override
+    List<String> readCommandHistory(int limit) throws IOException;
+
+    /**
+     * Appends the entered command to the command history file.
+     *   Creates the file if it is missing.
+     */
+    void handleCommandEnteredEvent(CommandEnteredEvent event);
 }
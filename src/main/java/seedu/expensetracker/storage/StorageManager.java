@@ -2,6 +2,7 @@ package seedu.expensetracker.storage;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.List;
@@ -9,14 +10,23 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.TreeMap;
 import java.util.logging.Logger;
+import java.util.stream.Stream;
 
 import com.google.common.eventbus.Subscribe;
 
 import seedu.expensetracker.commons.core.ComponentManager;
+import seedu.expensetracker.commons.core.EventsCenter;
 import seedu.expensetracker.commons.core.LogsCenter;
+import seedu.expensetracker.commons.events.logic.CommandEnteredEvent;
 import seedu.expensetracker.commons.events.model.ExpenseTrackerChangedEvent;
 import seedu.expensetracker.commons.events.storage.DataSavingExceptionEvent;
 import seedu.expensetracker.commons.exceptions.DataConversionException;
+import seedu.expensetracker.commons.metrics.FlightRecorderEvents;
+import seedu.expensetracker.commons.metrics.Histogram;
+import seedu.expensetracker.commons.metrics.MetricsRegistry;
+import seedu.expensetracker.commons.metrics.Profiler;
+import seedu.expensetracker.commons.metrics.StorageFlightEvent;
+import seedu.expensetracker.commons.util.StringUtil;
 import seedu.expensetracker.model.UserPrefs;
 import seedu.expensetracker.model.encryption.EncryptedExpenseTracker;
 import seedu.expensetracker.model.notification.Tip;
@@ -28,16 +38,24 @@ import seedu.expensetracker.model.user.Username;
 public class StorageManager extends ComponentManager implements Storage {
 
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
+    private static final Histogram SAVE_TIMES =
+            MetricsRegistry.getInstance().histogram("storage.save", Histogram.Unit.NANOSECONDS);
+    private static final Histogram SAVE_SIZES =
+            MetricsRegistry.getInstance().histogram("storage.save.bytes", Histogram.Unit.BYTES);
     private ExpensesStorage expensesStorage;
     private UserPrefsStorage userPrefsStorage;
     private TipsStorage tipsStorage;
+    private CommandHistoryStorage commandHistoryStorage;
 
 
-    public StorageManager(ExpensesStorage expensesStorage, UserPrefsStorage userPrefsStorage, TipsStorage tipsStorage) {
-        super();
+    public StorageManager(ExpensesStorage expensesStorage, UserPrefsStorage userPrefsStorage, TipsStorage tipsStorage,
+                          CommandHistoryStorage commandHistoryStorage) {
+        // data is saved on the I/O thread, so that commands do not wait for it
+        super(EventsCenter.getInstance(), EventsCenter.getInstance().getIoExecutor());
         this.expensesStorage = expensesStorage;
         this.userPrefsStorage = userPrefsStorage;
         this.tipsStorage = tipsStorage;
+        this.commandHistoryStorage = commandHistoryStorage;
     }
 
     // ================ UserPrefs methods ==============================
@@ -73,7 +91,14 @@ public class StorageManager extends ComponentManager implements Storage {
     @Override
     public Optional<EncryptedExpenseTracker> readExpenses(Path filePath) throws DataConversionException, IOException {
         logger.fine("Attempting to read data from file: " + filePath);
-        return expensesStorage.readExpenses(filePath);
+        if (!FlightRecorderEvents.isEnabled()) {
+            return expensesStorage.readExpenses(filePath);
+        }
+        StorageFlightEvent flightEvent =
+                FlightRecorderEvents.newStorageEvent(StorageFlightEvent.OPERATION_LOAD, filePath.toString());
+        Optional<EncryptedExpenseTracker> expenses = expensesStorage.readExpenses(filePath);
+        flightEvent.end(expenses.isPresent() ? getSize(filePath) : 0);
+        return expenses;
     }
 
     @Override
@@ -86,35 +111,67 @@ public class StorageManager extends ComponentManager implements Storage {
             if (directoryListing != null) {
                 for (File child : directoryListing) {
                     readExpenses(Paths.get(child.getPath())).ifPresent(
-                        expenseTracker -> trackers.put(new Username(child.getName().replace(".xml", "")),
-                                expenseTracker));
+                        expenseTracker -> trackers.put(expenseTracker.getUsername(), expenseTracker));
                 }
             }
         }
         return trackers;
     }
 
+    @Override
+    public Path getUserDataPath(Path dirPath, Username username) {
+        return expensesStorage.getUserDataPath(dirPath, username);
+    }
+
     @Override
     public void saveExpenses(EncryptedExpenseTracker expenseTracker) throws IOException {
-        Path path = Paths.get(expensesStorage.getExpensesDirPath().toString(),
-                expenseTracker.getUsername().toString() + ".xml");
+        Path path = getUserDataPath(expensesStorage.getExpensesDirPath(), expenseTracker.getUsername());
         saveExpenses(expenseTracker, path);
     }
 
     @Override
     public void saveExpenses(EncryptedExpenseTracker expenseTracker, Path filePath) throws IOException {
         logger.fine("Attempting to write to data file: " + filePath);
-        expensesStorage.saveExpenses(expenseTracker, filePath);
+        StorageFlightEvent flightEvent = FlightRecorderEvents.isEnabled()
+                ? FlightRecorderEvents.newStorageEvent(StorageFlightEvent.OPERATION_SAVE, filePath.toString()) : null;
+        long start = System.nanoTime();
+        Profiler.enter(Profiler.Phase.PERSISTENCE);
+        try {
+            expensesStorage.saveExpenses(expenseTracker, filePath);
+        } finally {
+            Profiler.exit();
+        }
+        SAVE_TIMES.recordSince(start);
+        long size = getSize(filePath);
+        SAVE_SIZES.record(size);
+        if (flightEvent != null) {
+            flightEvent.end(size);
+        }
+    }
+
+    /**
+     * Returns the number of bytes saved at {@code path}, which is the total size of its files if it is a directory.
+     */
+    private static long getSize(Path path) throws IOException {
+        if (!Files.isDirectory(path)) {
+            return Files.size(path);
+        }
+        try (Stream<Path> files = Files.walk(path)) {
+            return files.filter(Files::isRegularFile).mapToLong(file -> file.toFile().length()).sum();
+        }
     }
 
     @Override
     @Subscribe
     public void handleExpenseTrackerChangedEvent(ExpenseTrackerChangedEvent event) {
         logger.info(LogsCenter.getEventHandlingLogMessage(event, "Local data changed, saving to file"));
-        try {
-            saveExpenses(event.data);
-        } catch (IOException e) {
-            raise(new DataSavingExceptionEvent(e));
+        // the model only changes stored data in place while holding its lock, so it is saved in a consistent state
+        synchronized (event.data) {
+            try {
+                saveExpenses(event.data);
+            } catch (IOException e) {
+                raise(new DataSavingExceptionEvent(e));
+            }
         }
     }
 
@@ -124,5 +181,33 @@ public class StorageManager extends ComponentManager implements Storage {
         return tipsOptional;
     }
 
+    // ================ CommandHistory methods ==============================
+
+    @Override
+    public Path getCommandHistoryFilePath() {
+        return commandHistoryStorage.getCommandHistoryFilePath();
+    }
+
+    @Override
+    public List<String> readCommandHistory(int limit) throws IOException {
+        return commandHistoryStorage.readCommandHistory(limit);
+    }
+
+    @Override
+    public void appendCommand(String command) throws IOException {
+        commandHistoryStorage.appendCommand(command);
+    }
+
+    @Override
+    @Subscribe
+    public void handleCommandEnteredEvent(CommandEnteredEvent event) {
+        try {
+            appendCommand(event.command);
+        } catch (IOException e) {
+            // losing a command from the saved history is not worth interrupting the user for
+            logger.warning("Failed to save the command history: " + StringUtil.getDetails(e));
+        }
+    }
+
 
 }
@@ -0,0 +1,74 @@
+package seedu.expensetracker.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import seedu.expensetracker.commons.util.FileUtil;
+
+/**
+ * A class to access the command history stored in the hard disk as a text file with one command per line.
+ * Commands are only ever appended to the file, so that saving a command does not rewrite the commands before it.
+ * The file is compacted when it is read, by dropping the commands which no longer fit in the history once the file
+ * holds more than {@link #COMPACTION_FACTOR} times as many commands as are read.
+ */
+public class TextCommandHistoryStorage implements CommandHistoryStorage {
+    /** How many times more commands than are read the file may hold before it is compacted. */
+    public static final int COMPACTION_FACTOR = 2;
+
+    private final Path filePath;
+
+    public TextCommandHistoryStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    @Override
+    public Path getCommandHistoryFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public synchronized List<String> readCommandHistory(int limit) throws IOException {
+        if (!FileUtil.isFileExists(filePath)) {
+            return Collections.emptyList();
+        }
+        List<String> commands = Files.readAllLines(filePath, UTF_8);
+        if (commands.size() <= limit) {
+            return commands;
+        }
+        List<String> recentCommands = new ArrayList<>(commands.subList(commands.size() - limit, commands.size()));
+        if (commands.size() > (long) limit * COMPACTION_FACTOR) {
+            compact(recentCommands);
+        }
+        return recentCommands;
+    }
+
+    /**
+     * Replaces the commands in the file with {@code commands}. The commands are written to a temporary file which
+     * then replaces the file, so that the history is not lost if writing fails halfway.
+     */
+    private void compact(List<String> commands) throws IOException {
+        Path tempPath = filePath.resolveSibling(filePath.getFileName() + ".tmp");
+        Files.write(tempPath, commands, UTF_8);
+        Files.move(tempPath, filePath, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    @Override
+    public synchronized void appendCommand(String command) throws IOException {
+        FileUtil.createIfMissing(filePath);
+        try (BufferedWriter writer = Files.newBufferedWriter(filePath, UTF_8, StandardOpenOption.APPEND)) {
+            // a command spanning several lines would be read back as several commands
+            writer.write(command.replaceAll("\\R", " "));
+            writer.newLine();
+        }
+    }
+
+}
@@ -1,6 +1,7 @@
 package seedu.expensetracker.storage;
 
 import java.util.ArrayList;
+import java.util.Base64;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
@@ -28,13 +29,17 @@ public class XmlAdaptedExpense {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Expense's %s field is missing!";
 
-    @XmlElement(required = true)
+    @XmlElement
+    private String record;
+
+    // Fields of expenses saved in the field layout by earlier versions
+    @XmlElement
     private String name;
-    @XmlElement(required = true)
+    @XmlElement
     private String category;
-    @XmlElement(required = true)
+    @XmlElement
     private String cost;
-    @XmlElement(required = true)
+    @XmlElement
     private String date;
 
     @XmlElement
@@ -59,12 +64,23 @@ public class XmlAdaptedExpense {
         }
     }
 
+    /**
+     * Constructs an {@code XmlAdaptedExpense} with the given sealed record, encoded in Base64.
+     */
+    public XmlAdaptedExpense(String record) {
+        this.record = record;
+    }
+
     /**
      * Converts a given Expense into this class for JAXB use.
      *
      * @param source future changes to this will not affect the created XmlAdaptedExpense
      */
     public XmlAdaptedExpense(EncryptedExpense source) {
+        if (source.isSealed()) {
+            record = Base64.getEncoder().encodeToString(source.getRecord());
+            return;
+        }
         name = source.getName().getEncryptedString();
         category = source.getCategory().getEncryptedString();
         cost = source.getCost().getEncryptedString();
@@ -80,6 +96,14 @@ public class XmlAdaptedExpense {
      * @throws IllegalValueException if there were any data constraints violated in the adapted expense
      */
     public EncryptedExpense toModelType() throws IllegalValueException {
+        if (record != null) {
+            try {
+                return new EncryptedExpense(Base64.getDecoder().decode(record), null);
+            } catch (IllegalArgumentException e) {
+                throw new IllegalValueException("Expense's record is not valid Base64", e);
+            }
+        }
+
         final List<EncryptedTag> expenseTags = new ArrayList<>();
         for (XmlAdaptedTag tag : tagged) {
             expenseTags.add(tag.toModelType());
@@ -115,10 +139,17 @@ public class XmlAdaptedExpense {
         }
 
         XmlAdaptedExpense otherExpense = (XmlAdaptedExpense) other;
-        return Objects.equals(name, otherExpense.name)
+        return Objects.equals(record, otherExpense.record)
+                && Objects.equals(name, otherExpense.name)
                 && Objects.equals(category, otherExpense.category)
                 && Objects.equals(cost, otherExpense.cost)
                 && Objects.equals(date, otherExpense.date)
                 && tagged.equals(otherExpense.tagged);
     }
+
+    @Override
+    public int hashCode() {
+        // the adapted tags have no hash code of their own
+        return Objects.hash(record, name, category, cost, date);
+    }
 }
@@ -22,6 +22,8 @@ import seedu.expensetracker.model.user.Username;
  */
 public class XmlExpensesStorage implements ExpensesStorage {
 
+    public static final String XML_FILE_EXTENSION = ".xml";
+
     private static final Logger logger = LogsCenter.getLogger(XmlExpensesStorage.class);
 
     private Path filePath;
@@ -36,6 +38,11 @@ public class XmlExpensesStorage implements ExpensesStorage {
         return filePath;
     }
 
+    @Override
+    public Path getUserDataPath(Path dirPath, Username username) {
+        return dirPath.resolve(username.toString() + XML_FILE_EXTENSION);
+    }
+
     @Override
     public Optional<EncryptedExpenseTracker> readExpenses() throws DataConversionException, IOException {
         return readExpenses(filePath);
@@ -58,7 +65,7 @@ public class XmlExpensesStorage implements ExpensesStorage {
 
         try {
             Optional<EncryptedExpenseTracker> expenseTrackerOptional = Optional.of(xmlExpenseTracker.toModelType());
-            Username fileName = new Username(filePath.getFileName().toString().replace(".xml", ""));
+            Username fileName = new Username(filePath.getFileName().toString().replace(XML_FILE_EXTENSION, ""));
             expenseTrackerOptional.ifPresent(expenseTracker -> {
                 if (!fileName.equals(expenseTracker.getUsername())) {
                     logger.info("File name does not match username. Changing username to \"" + fileName + "\"");
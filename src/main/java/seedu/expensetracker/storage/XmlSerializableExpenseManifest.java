@@ -0,0 +1,117 @@
+package seedu.expensetracker.storage;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlRootElement;
+
+import seedu.expensetracker.commons.exceptions.IllegalValueException;
+import seedu.expensetracker.model.encryption.EncryptedExpenseTracker;
+import seedu.expensetracker.model.notification.Notification;
+import seedu.expensetracker.model.user.Password;
+import seedu.expensetracker.storage.budget.XmlAdaptedTotalBudget;
+
+/**
+ * The data of an ExpenseTracker other than its expenses, together with the names of the partitions its expenses
+ * are stored in, that is serializable to XML format
+ */
+@XmlRootElement(name = "manifest")
+public class XmlSerializableExpenseManifest {
+
+    @XmlElement
+    private XmlAdaptedUsername username;
+    @XmlElement
+    private XmlAdaptedTotalBudget totalBudget;
+    @XmlElement
+    private XmlAdaptedPassword password;
+    @XmlElement
+    private XmlAdaptedNotificationHandler notificationHandler;
+    @XmlElement
+    private List<XmlAdaptedNotification> notifications;
+    @XmlElement
+    private String previousKey;
+    @XmlElement(name = "partition")
+    private List<String> partitions;
+
+    /**
+     * Creates an empty XmlSerializableExpenseManifest.
+     * This empty constructor is required for marshalling.
+     */
+    public XmlSerializableExpenseManifest() {
+        notifications = new ArrayList<>();
+        partitions = new ArrayList<>();
+    }
+
+    /**
+     * Conversion
+     * @param partitions the names of all partitions the expenses of {@code src} are stored in
+     */
+    public XmlSerializableExpenseManifest(EncryptedExpenseTracker src, Collection<String> partitions) {
+        this();
+        this.username = new XmlAdaptedUsername(src.getUsername());
+        this.password = src.getPassword().map(XmlAdaptedPassword::new).orElse(null);
+        this.notificationHandler = new XmlAdaptedNotificationHandler(src.getNotificationHandler());
+        this.notifications.addAll(src.getNotificationList().stream()
+                .map(XmlAdaptedNotification::new).collect(Collectors.toList()));
+        this.totalBudget = new XmlAdaptedTotalBudget(src.getMaximumTotalBudget());
+        this.previousKey = src.getEncryptedPreviousKey().orElse(null);
+        this.partitions.addAll(partitions);
+    }
+
+    /**
+     * Returns the names of the partitions the expenses are stored in.
+     */
+    public List<String> getPartitions() {
+        return new ArrayList<>(partitions);
+    }
+
+    /**
+     * Converts this manifest into the model's {@code EncryptedExpenseTracker} object, without any expenses.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public EncryptedExpenseTracker toModelType() throws IllegalValueException {
+        if (username == null) {
+            throw new IllegalValueException("Manifest's username field is missing!");
+        }
+        Optional<Password> passwordOptional = Optional.ofNullable(password).map(XmlAdaptedPassword::toModelType);
+        EncryptedExpenseTracker expenseTracker;
+        if (totalBudget == null || notificationHandler == null) {
+            expenseTracker = new EncryptedExpenseTracker(username.toModelType(), passwordOptional.orElse(null));
+        } else {
+            expenseTracker = new EncryptedExpenseTracker(username.toModelType(), passwordOptional.orElse(null),
+                    totalBudget.toModelType(), notificationHandler.toModelType());
+        }
+
+        for (XmlAdaptedNotification n : notifications) {
+            Notification notification = n.toModelType();
+            expenseTracker.addNotification(notification);
+        }
+        expenseTracker.setEncryptedPreviousKey(previousKey);
+
+        return expenseTracker;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof XmlSerializableExpenseManifest)) {
+            return false;
+        }
+        return partitions.equals(((XmlSerializableExpenseManifest) other).partitions)
+                && notificationHandler.equals(((XmlSerializableExpenseManifest) other).notificationHandler);
+    }
+
+    @Override
+    public int hashCode() {
+        // the adapted notification handler has no hash code of its own
+        return partitions.hashCode();
+    }
+}
@@ -0,0 +1,64 @@
+package seedu.expensetracker.storage;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlRootElement;
+
+import seedu.expensetracker.commons.exceptions.IllegalValueException;
+import seedu.expensetracker.model.encryption.EncryptedExpense;
+
+/**
+ * The expenses of a single month of an ExpenseTracker that is serializable to XML format
+ */
+@XmlRootElement(name = "partition")
+public class XmlSerializableExpensePartition {
+
+    @XmlElement
+    private List<XmlAdaptedExpense> expenses;
+
+    /**
+     * Creates an empty XmlSerializableExpensePartition.
+     * This empty constructor is required for marshalling.
+     */
+    public XmlSerializableExpensePartition() {
+        expenses = new ArrayList<>();
+    }
+
+    /**
+     * Conversion
+     */
+    public XmlSerializableExpensePartition(List<EncryptedExpense> src) {
+        this();
+        expenses.addAll(src.stream().map(XmlAdaptedExpense::new).collect(Collectors.toList()));
+    }
+
+    /**
+     * Converts this partition into a list of the model's {@code EncryptedExpense} objects.
+     *
+     * @param partition the month the expenses were made in, or null if unknown
+     * @throws IllegalValueException if there were any data constraints violated in the {@code XmlAdaptedExpense}.
+     */
+    public List<EncryptedExpense> toModelType(YearMonth partition) throws IllegalValueException {
+        List<EncryptedExpense> result = new ArrayList<>();
+        for (XmlAdaptedExpense e : expenses) {
+            result.add(e.toModelType().inPartition(partition));
+        }
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof XmlSerializableExpensePartition // instanceof handles nulls
+                && expenses.equals(((XmlSerializableExpensePartition) other).expenses));
+    }
+
+    @Override
+    public int hashCode() {
+        return expenses.hashCode();
+    }
+}
@@ -35,6 +35,8 @@ public class XmlSerializableExpenseTracker {
     private XmlAdaptedNotificationHandler notificationHandler;
     @XmlElement
     private List<XmlAdaptedNotification> notifications;
+    @XmlElement
+    private String previousKey;
 
     /**
      * Creates an empty XmlSerializableExpenseTracker.
@@ -57,6 +59,7 @@ public class XmlSerializableExpenseTracker {
         this.notifications.addAll(src.getNotificationList().stream()
                 .map(XmlAdaptedNotification::new).collect(Collectors.toList()));
         this.totalBudget = new XmlAdaptedTotalBudget(src.getMaximumTotalBudget());
+        this.previousKey = src.getEncryptedPreviousKey().orElse(null);
     }
 
     /**
@@ -83,6 +86,7 @@ public class XmlSerializableExpenseTracker {
             Notification notification = n.toModelType();
             expenseTracker.addNotification(notification);
         }
+        expenseTracker.setEncryptedPreviousKey(previousKey);
 
         return expenseTracker;
     }
@@ -0,0 +1,135 @@
+package seedu.expensetracker.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.expensetracker.storage.XmlExpensesStorage.XML_FILE_EXTENSION;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.expensetracker.commons.core.LogsCenter;
+import seedu.expensetracker.commons.exceptions.DataConversionException;
+import seedu.expensetracker.model.encryption.EncryptedExpenseTracker;
+import seedu.expensetracker.model.user.Username;
+
+/**
+ * Migrates ExpenseTracker data saved as xml, either by {@link XmlExpensesStorage} or by
+ * {@link PartitionedXmlExpensesStorage}, to binary snapshots saved by {@link BinaryExpensesStorage}.
+ * The xml data is left in place so that it can still be used if binary storage is turned off. Xml data which was
+ * changed after the snapshot of its user was written, while binary storage was turned off, is converted again.
+ */
+public class XmlToBinaryConverter {
+
+    private static final Logger logger = LogsCenter.getLogger(XmlToBinaryConverter.class);
+
+    private final PartitionedXmlExpensesStorage xmlStorage;
+    private final BinaryExpensesStorage binaryStorage;
+
+    public XmlToBinaryConverter(Path dirPath) {
+        // every partition is read up front, as a snapshot holds all of a user's expenses
+        this.xmlStorage = new PartitionedXmlExpensesStorage(dirPath, Integer.MAX_VALUE);
+        this.binaryStorage = new BinaryExpensesStorage(dirPath);
+    }
+
+    /**
+     * Converts the xml data of every user in the data directory who does not have an up to date binary snapshot.
+     * @return the number of users whose data was converted
+     * @throws DataConversionException if the xml data of a user is not in the correct format.
+     * @throws IOException if there was any problem when reading or writing the files.
+     */
+    public int convertAll() throws DataConversionException, IOException {
+        Path dirPath = xmlStorage.getExpensesDirPath();
+        if (!Files.isDirectory(dirPath)) {
+            return 0;
+        }
+
+        int convertedCount = 0;
+        try (DirectoryStream<Path> children = Files.newDirectoryStream(dirPath)) {
+            for (Path child : children) {
+                if (isXmlData(child) && convert(child)) {
+                    convertedCount++;
+                }
+            }
+        }
+        logger.info("Converted the data of " + convertedCount + " users to binary snapshots");
+        return convertedCount;
+    }
+
+    /**
+     * Converts the xml data at {@code xmlPath} to a binary snapshot, unless the user already has a snapshot which is
+     * at least as recent as every file of the xml data. The snapshot is checked before the xml data is read, so that
+     * the xml data of users whose snapshots are up to date is not parsed on every start up.
+     * @param xmlPath the xml file or partition directory of a single user
+     * @return true if a snapshot was written
+     * @throws DataConversionException if the xml data is not in the correct format.
+     * @throws IOException if there was any problem when reading or writing the files.
+     */
+    public boolean convert(Path xmlPath) throws DataConversionException, IOException {
+        requireNonNull(xmlPath);
+        Optional<Username> username = getUsername(xmlPath);
+        if (username.isPresent() && isUpToDate(getBinaryPath(username.get()), xmlPath)) {
+            logger.fine("Snapshot of " + username.get() + " is up to date, skipping " + xmlPath);
+            return false;
+        }
+
+        Optional<EncryptedExpenseTracker> expenseTracker = xmlStorage.readExpenses(xmlPath);
+        if (!expenseTracker.isPresent()) {
+            return false;
+        }
+        Path binaryPath = getBinaryPath(expenseTracker.get().getUsername());
+        binaryStorage.saveExpenses(expenseTracker.get(), binaryPath);
+        logger.info("Converted " + xmlPath + " to " + binaryPath);
+        return true;
+    }
+
+    /**
+     * Returns the user whose xml data is at {@code xmlPath}, which the xml storages name the data after, or an empty
+     * optional if the name is not a valid username.
+     */
+    private static Optional<Username> getUsername(Path xmlPath) {
+        String fileName = xmlPath.getFileName().toString();
+        String name = Files.isDirectory(xmlPath) ? fileName : fileName.replace(XML_FILE_EXTENSION, "");
+        return Username.isValidName(name) ? Optional.of(new Username(name)) : Optional.empty();
+    }
+
+    private Path getBinaryPath(Username username) {
+        return binaryStorage.getUserDataPath(binaryStorage.getExpensesDirPath(), username);
+    }
+
+    /**
+     * Returns true if the snapshot at {@code binaryPath} exists and was written no earlier than the last change to the
+     * xml data at {@code xmlPath}.
+     */
+    private static boolean isUpToDate(Path binaryPath, Path xmlPath) throws IOException {
+        return Files.exists(binaryPath)
+                && getLastModifiedTime(xmlPath).compareTo(Files.getLastModifiedTime(binaryPath)) <= 0;
+    }
+
+    /**
+     * Returns the time the xml data at {@code xmlPath} was last changed, which for a partition directory is the time
+     * its most recently changed partition or manifest was written.
+     */
+    private static FileTime getLastModifiedTime(Path xmlPath) throws IOException {
+        if (!Files.isDirectory(xmlPath)) {
+            return Files.getLastModifiedTime(xmlPath);
+        }
+        FileTime lastModified = Files.getLastModifiedTime(xmlPath);
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(xmlPath)) {
+            for (Path file : files) {
+                FileTime fileModified = Files.getLastModifiedTime(file);
+                if (fileModified.compareTo(lastModified) > 0) {
+                    lastModified = fileModified;
+                }
+            }
+        }
+        return lastModified;
+    }
+
+    private static boolean isXmlData(Path path) {
+        return Files.isDirectory(path) || path.getFileName().toString().endsWith(XML_FILE_EXTENSION);
+    }
+}
@@ -49,6 +49,8 @@ public class BudgetPanel extends UiPart<Region> {
 
     private double currentExpenses;
     private double currentBudgetCap;
+    private double targetExpenses = Double.NaN;
+    private double targetBudgetCap = Double.NaN;
 
 
     public BudgetPanel (TotalBudget totalBudget) {
@@ -67,12 +69,18 @@ public class BudgetPanel extends UiPart<Region> {
     }
 
     /**
-     * Update the budgetDisplay, expenseDisplay and budgetBar
+     * Update the budgetDisplay, expenseDisplay and budgetBar, unless they are showing or animating to the same
+     * totalBudget already.
      * @param totalBudget to update from
      */
     public void update(TotalBudget totalBudget) {
         double budgetCap = totalBudget.getBudgetCap();
         double currentExpenses = totalBudget.getCurrentExpenses();
+        if (budgetCap == targetBudgetCap && currentExpenses == targetExpenses) {
+            return;
+        }
+        targetBudgetCap = budgetCap;
+        targetExpenses = currentExpenses;
 
         updateBudgetBar(budgetCap, currentExpenses);
         setBudgetUiColors(budgetCap, currentExpenses);
@@ -120,6 +128,10 @@ public class BudgetPanel extends UiPart<Region> {
      * @param newPercentage to update to.
      */
     public void animateBudgetPanel(double newExpenses, double newBudgetCap, double newPercentage) {
+        if (timeline != null) {
+            // Continue from the values shown so far instead of stacking another animation on top of the running one
+            timeline.stop();
+        }
         timeline = new Timeline(
                 new KeyFrame(
                         Duration.ZERO,
@@ -208,7 +220,7 @@ public class BudgetPanel extends UiPart<Region> {
     @Subscribe
     public void handleUpdateBudgetPanelEvent(UpdateBudgetPanelEvent event) {
         logger.info(LogsCenter.getEventHandlingLogMessage(event));
-        update(event.totalBudget);
+        UiRefreshScheduler.getInstance().markDirty(this, () -> update(event.totalBudget));
     }
 
 }
@@ -1,6 +1,8 @@
 package seedu.expensetracker.ui;
 
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.List;
 
 import javafx.fxml.FXML;
 import javafx.scene.layout.GridPane;
@@ -21,6 +23,8 @@ public class CategoriesPanel extends UiPart<Region> {
     @FXML
     private GridPane categoriesGrid;
 
+    private List<CategoryBudget> displayedBudgets = new ArrayList<>();
+
     /**
      * Create categoriesPanel with a list of categories
      * @param categories to list
@@ -31,12 +35,42 @@ public class CategoriesPanel extends UiPart<Region> {
         setConnection(categories);
     }
 
+    /**
+     * Displays the first categories of {@code budgets}. The grid is only rebuilt if a category, its budget or its
+     * expenses differ from the ones displayed.
+     */
     public void setConnection(Iterator<CategoryBudget> budgets) {
+        List<CategoryBudget> snapshot = new ArrayList<>();
+        while (snapshot.size() < MAX_COL && budgets.hasNext()) {
+            snapshot.add(new CategoryBudget(budgets.next()));
+        }
+        if (isDisplayed(snapshot)) {
+            return;
+        }
+        displayedBudgets = snapshot;
         categoriesGrid.getChildren().clear();
         currentColumn = 0;
-        while (currentColumn < MAX_COL && budgets.hasNext()) {
-            updateCategories(budgets.next());
+        for (CategoryBudget budget : snapshot) {
+            updateCategories(budget);
+        }
+    }
+
+    /**
+     * Returns true if {@code budgets} are the categories displayed, with the same budgets and expenses.
+     */
+    private boolean isDisplayed(List<CategoryBudget> budgets) {
+        if (budgets.size() != displayedBudgets.size()) {
+            return false;
+        }
+        for (int i = 0; i < budgets.size(); i++) {
+            CategoryBudget budget = budgets.get(i);
+            CategoryBudget displayed = displayedBudgets.get(i);
+            if (!budget.equals(displayed) || budget.getBudgetCap() != displayed.getBudgetCap()
+                    || budget.getCurrentExpenses() != displayed.getCurrentExpenses()) {
+                return false;
+            }
         }
+        return true;
     }
 
     /**
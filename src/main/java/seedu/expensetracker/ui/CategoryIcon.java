@@ -2,7 +2,6 @@ package seedu.expensetracker.ui;
 
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
-import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.Region;
 import seedu.expensetracker.model.budget.CategoryBudget;
@@ -30,8 +29,7 @@ public class CategoryIcon extends UiPart<Region> {
         super(FXML);
         categoryPercentage.setText(String.format("%.2f", budget.getBudgetRatio() * 100) + SUFFIX);
         categoryName.setText(budget.toString());
-        Image image = new Image(IMAGE_PATH);
-        categoryIcon.setImage(image);
+        categoryIcon.setImage(ImageCache.getImage(IMAGE_PATH));
     }
 
 }
@@ -1,5 +1,9 @@
 package seedu.expensetracker.ui;
 
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -8,7 +12,9 @@ import javafx.scene.control.TextField;
 import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.Region;
 import seedu.expensetracker.commons.core.LogsCenter;
+import seedu.expensetracker.commons.events.ui.FindPreviewEvent;
 import seedu.expensetracker.commons.events.ui.NewResultAvailableEvent;
+import seedu.expensetracker.logic.FindPreview;
 import seedu.expensetracker.logic.ListElementPointer;
 import seedu.expensetracker.logic.Logic;
 import seedu.expensetracker.logic.commands.CommandResult;
@@ -18,6 +24,7 @@ import seedu.expensetracker.model.exceptions.InvalidDataException;
 import seedu.expensetracker.model.exceptions.NoUserSelectedException;
 import seedu.expensetracker.model.exceptions.NonExistentUserException;
 import seedu.expensetracker.model.exceptions.UserAlreadyExistsException;
+import seedu.expensetracker.model.expense.Expense;
 
 /**
  * The UI component that is responsible for receiving user command inputs.
@@ -29,7 +36,11 @@ public class CommandBox extends UiPart<Region> {
 
     private final Logger logger = LogsCenter.getLogger(CommandBox.class);
     private final Logic logic;
+    private final FindPreview findPreview = new FindPreview(FX_THREAD);
     private ListElementPointer historySnapshot;
+    private List<Expense> previewSnapshot;
+    private List<String> completions = Collections.emptyList();
+    private int completionIndex;
 
     @FXML
     private TextField commandTextField;
@@ -37,8 +48,11 @@ public class CommandBox extends UiPart<Region> {
     public CommandBox(Logic logic) {
         super(FXML);
         this.logic = logic;
-        // calls #setStyleToDefault() whenever there is a change to the text of the command box.
-        commandTextField.textProperty().addListener((unused1, unused2, unused3) -> setStyleToDefault());
+        // calls #setStyleToDefault() and #previewFind() whenever there is a change to the text of the command box.
+        commandTextField.textProperty().addListener((unused1, unused2, newText) -> {
+            setStyleToDefault();
+            previewFind(newText);
+        });
         historySnapshot = logic.getHistorySnapshot();
     }
 
@@ -59,6 +73,11 @@ public class CommandBox extends UiPart<Region> {
             keyEvent.consume();
             navigateToNextInput();
             break;
+        case TAB:
+            // consuming the tab key keeps the focus in the command box
+            keyEvent.consume();
+            completeInput();
+            break;
         default:
             // let JavaFx handle the keypress
         }
@@ -90,6 +109,23 @@ public class CommandBox extends UiPart<Region> {
         replaceText(historySnapshot.next());
     }
 
+    /**
+     * Completes the text field with the most frequently used completion of its text. Pressing tab again right after
+     * a completion replaces it with the next completion.
+     */
+    private void completeInput() {
+        String text = commandTextField.getText();
+        if (completions.isEmpty() || !text.equals(completions.get(completionIndex))) {
+            completions = logic.getCompletions(text);
+            completionIndex = -1;
+        }
+        if (completions.isEmpty()) {
+            return;
+        }
+        completionIndex = (completionIndex + 1) % completions.size();
+        replaceText(completions.get(completionIndex));
+    }
+
     /**
      * Sets {@code CommandBox}'s text field with {@code text} and
      * positions the caret to the end of the {@code text}.
@@ -99,6 +135,39 @@ public class CommandBox extends UiPart<Region> {
         commandTextField.positionCaret(commandTextField.getText().length());
     }
 
+    /**
+     * Previews the expenses found by {@code commandText} in the expense list if it is a valid find command, or ends
+     * the preview otherwise. The expenses are searched on a background thread, against a snapshot of the expenses
+     * taken when the preview begins.
+     */
+    private void previewFind(String commandText) {
+        Optional<Predicate<Expense>> predicate = logic.parseFindPredicate(commandText);
+        if (!predicate.isPresent()) {
+            endPreview();
+            return;
+        }
+        try {
+            if (previewSnapshot == null) {
+                previewSnapshot = logic.getExpenseSnapshot();
+            }
+        } catch (NoUserSelectedException nuse) {
+            // there are no expenses to preview before a user logs in
+            return;
+        }
+        findPreview.update(predicate.get(), previewSnapshot, matches -> raise(new FindPreviewEvent(matches)));
+    }
+
+    /**
+     * Cancels the search of the find command being typed, and shows the expense list again if it was previewed.
+     */
+    private void endPreview() {
+        findPreview.cancel();
+        if (previewSnapshot != null) {
+            previewSnapshot = null;
+            raise(new FindPreviewEvent(null));
+        }
+    }
+
     /**
      * Handles the Enter button pressed event.
      */
@@ -8,7 +8,8 @@ import javafx.scene.layout.Region;
 import seedu.expensetracker.model.expense.Expense;
 
 /**
- * An UI component that displays information of a {@code Expense}.
+ * An UI component that displays information of a {@code Expense}. A card can be rebound to another expense with
+ * {@link #bind(Expense, int)}, so that list cells can reuse their card instead of loading a new one.
  */
 public class ExpenseCard extends UiPart<Region> {
 
@@ -23,7 +24,7 @@ public class ExpenseCard extends UiPart<Region> {
      * @see <a href="https://github.com/se-edu/CS2103-AY1819S1-T12-1/main/issues">The issue on ExpenseTracker</a>
      */
 
-    public final Expense expense;
+    private Expense expense;
     @FXML
     private HBox cardPane;
     @FXML
@@ -41,18 +42,29 @@ public class ExpenseCard extends UiPart<Region> {
 
     public ExpenseCard(Expense expense, int displayedIndex) {
         super(FXML);
+        bind(expense, displayedIndex);
+    }
+
+    public Expense getExpense() {
+        return expense;
+    }
+
+    /**
+     * Displays {@code expense} with the given {@code displayedIndex} in place of the expense shown so far.
+     */
+    public void bind(Expense expense, int displayedIndex) {
         this.expense = expense;
         id.setText(displayedIndex + ". ");
         name.setText(expense.getName().expenseName);
         category.setText(expense.getCategory().categoryName);
         cost.setText(expense.getCost().value);
         date.setText(expense.getDate().toString());
+        tags.getChildren().clear();
         expense.getTags().forEach(tag -> {
             Label tempLabel = new Label(tag.tagName);
             tempLabel.setStyle("-fx-background-color: " + getColorStyleOfTag(tag.tagName));
             tags.getChildren().add(tempLabel);
         });
-
     }
 
     @Override
@@ -5,6 +5,7 @@ import java.util.logging.Logger;
 import com.google.common.eventbus.Subscribe;
 
 import javafx.application.Platform;
+import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.ListCell;
@@ -12,6 +13,7 @@ import javafx.scene.control.ListView;
 import javafx.scene.layout.Region;
 import seedu.expensetracker.commons.core.LogsCenter;
 import seedu.expensetracker.commons.events.ui.ExpensePanelSelectionChangedEvent;
+import seedu.expensetracker.commons.events.ui.FindPreviewEvent;
 import seedu.expensetracker.commons.events.ui.JumpToListRequestEvent;
 import seedu.expensetracker.model.expense.Expense;
 
@@ -25,8 +27,11 @@ public class ExpenseListPanel extends UiPart<Region> {
     @FXML
     private ListView<Expense> expenseListView;
 
+    private final ObservableList<Expense> expenseList;
+
     public ExpenseListPanel(ObservableList<Expense> expenseList) {
         super(FXML);
+        this.expenseList = expenseList;
         setConnections(expenseList);
         registerAsAnEventHandler(this);
     }
@@ -63,10 +68,28 @@ public class ExpenseListPanel extends UiPart<Region> {
         scrollTo(event.targetIndex);
     }
 
+    /**
+     * Shows the expenses found by the find command being typed in place of the expense list, or shows the expense
+     * list again when the preview has ended.
+     */
+    @Subscribe
+    private void handleFindPreviewEvent(FindPreviewEvent event) {
+        logger.fine(LogsCenter.getEventHandlingLogMessage(event));
+        if (event.isPreviewEnded()) {
+            expenseListView.setItems(expenseList);
+        } else {
+            expenseListView.setItems(FXCollections.unmodifiableObservableList(
+                    FXCollections.observableList(event.matches)));
+        }
+    }
+
     /**
      * Custom {@code ListCell} that displays the graphics of a {@code Expense} using a {@code ExpenseCard}.
+     * The card is loaded once for each cell and rebound to the expense of every update.
      */
     class ExpenseListViewCell extends ListCell<Expense> {
+        private ExpenseCard card;
+
         @Override
         protected void updateItem(Expense expense, boolean empty) {
             super.updateItem(expense, empty);
@@ -75,7 +98,12 @@ public class ExpenseListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new ExpenseCard(expense, getIndex() + 1).getRoot());
+                if (card == null) {
+                    card = new ExpenseCard(expense, getIndex() + 1);
+                } else {
+                    card.bind(expense, getIndex() + 1);
+                }
+                setGraphic(card.getRoot());
             }
         }
     }
@@ -0,0 +1,200 @@
+package seedu.expensetracker.ui;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import seedu.expensetracker.commons.core.LogsCenter;
+import seedu.expensetracker.commons.metrics.Counter;
+import seedu.expensetracker.commons.metrics.Histogram;
+import seedu.expensetracker.commons.metrics.MetricsRegistry;
+
+/**
+ * Detects when the JavaFX application thread is blocked, and finds out what it is doing. A background thread
+ * regularly posts a pulse to the JavaFX thread. When a pulse waits longer than the threshold, the JavaFX thread is
+ * stalled, and its stack is sampled until the pulse runs. Each stall is then logged with the frames of the app that
+ * the samples were taken in, e.g. {@code XmlUtil.saveDataToFile}, and counted in the metrics.
+ */
+public class FxThreadWatchdog {
+    public static final String METRIC_STALLS = "ui.fxStalls";
+    public static final String METRIC_STALL_TIMES = "ui.fxStall";
+    public static final long DEFAULT_SAMPLE_INTERVAL_MILLIS = 10;
+
+    private static final Logger logger = LogsCenter.getLogger(FxThreadWatchdog.class);
+    private static final String APP_PACKAGE = "seedu.expensetracker.";
+    private static final String UNKNOWN_FRAME = "unknown";
+    private static final int REPORTED_FRAME_COUNT = 5;
+
+    private final Executor fxThread;
+    private final long thresholdNanos;
+    private final long sampleIntervalMillis;
+    private final Counter stallCount;
+    private final Histogram stallTimes;
+    private final Map<String, Integer> totalSamples = new HashMap<>();
+    private final Map<String, Integer> stallSamples = new HashMap<>();
+    private ScheduledExecutorService sampler;
+    private volatile Thread watchedThread;
+    private volatile long pulsePostedAt;
+    private volatile long lastPulseDelay;
+    private boolean isStalled;
+
+    /**
+     * Creates a watchdog of the thread that runs the tasks of {@code fxThread}, which reports stalls longer than
+     * {@code thresholdMillis} to the metrics of the app.
+     */
+    public FxThreadWatchdog(Executor fxThread, long thresholdMillis) {
+        this(fxThread, thresholdMillis, DEFAULT_SAMPLE_INTERVAL_MILLIS, MetricsRegistry.getInstance());
+    }
+
+    /**
+     * Creates a watchdog which checks the thread that runs the tasks of {@code fxThread} every
+     * {@code sampleIntervalMillis}, and reports stalls longer than {@code thresholdMillis} to {@code metrics}.
+     */
+    public FxThreadWatchdog(Executor fxThread, long thresholdMillis, long sampleIntervalMillis,
+            MetricsRegistry metrics) {
+        requireNonNull(fxThread);
+        assert thresholdMillis > 0 && sampleIntervalMillis > 0;
+        this.fxThread = fxThread;
+        this.thresholdNanos = TimeUnit.MILLISECONDS.toNanos(thresholdMillis);
+        this.sampleIntervalMillis = sampleIntervalMillis;
+        this.stallCount = metrics.counter(METRIC_STALLS);
+        this.stallTimes = metrics.histogram(METRIC_STALL_TIMES, Histogram.Unit.NANOSECONDS);
+    }
+
+    /**
+     * Starts watching the JavaFX thread on a background thread.
+     */
+    public synchronized void start() {
+        if (sampler != null) {
+            return;
+        }
+        sampler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "fx-watchdog");
+            thread.setDaemon(true);
+            return thread;
+        });
+        sampler.scheduleAtFixedRate(this::check, 0, sampleIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stops watching the JavaFX thread, and logs the frames that the JavaFX thread was stalled in the most.
+     */
+    public synchronized void stop() {
+        if (sampler == null) {
+            return;
+        }
+        sampler.shutdownNow();
+        sampler = null;
+        if (stallCount.getCount() > 0) {
+            logger.info(String.format("JavaFX thread stall report: %d stalls, sampled in %s", stallCount.getCount(),
+                    formatSamples(getStallReport())));
+        }
+    }
+
+    /**
+     * Returns the number of times the JavaFX thread was sampled in each frame of the app during any stall, most
+     * sampled first.
+     */
+    public synchronized Map<String, Integer> getStallReport() {
+        return sortByCount(totalSamples);
+    }
+
+    /**
+     * Posts a pulse if the last one has run, or samples the JavaFX thread if the pulse has waited for longer than the
+     * threshold.
+     */
+    private synchronized void check() {
+        long postedAt = pulsePostedAt;
+        long now = System.nanoTime();
+        if (postedAt == 0) {
+            if (isStalled) {
+                endStall(lastPulseDelay);
+            }
+            pulsePostedAt = now;
+            fxThread.execute(() -> {
+                watchedThread = Thread.currentThread();
+                lastPulseDelay = System.nanoTime() - now;
+                pulsePostedAt = 0;
+            });
+        } else if (now - postedAt >= thresholdNanos) {
+            isStalled = true;
+            sample();
+        }
+    }
+
+    /**
+     * Records the frame of the app that the JavaFX thread is running now.
+     */
+    private void sample() {
+        Thread thread = watchedThread;
+        if (thread == null) {
+            return;
+        }
+        stallSamples.merge(getOffendingFrame(thread.getStackTrace()), 1, Integer::sum);
+    }
+
+    /**
+     * Counts and logs the stall which lasted {@code stallNanos}, with the frames it was sampled in.
+     */
+    private void endStall(long stallNanos) {
+        isStalled = false;
+        logger.warning(String.format("JavaFX thread stalled for %.0f ms, sampled in %s", stallNanos / 1e6,
+                stallSamples.isEmpty() ? "no frames" : formatSamples(sortByCount(stallSamples))));
+        stallSamples.forEach((frame, count) -> totalSamples.merge(frame, count, Integer::sum));
+        stallSamples.clear();
+        stallTimes.record(stallNanos);
+        stallCount.increment();
+    }
+
+    /**
+     * Returns the innermost frame of {@code stack} in the code of the app, such as {@code XmlUtil.saveDataToFile},
+     * or the innermost frame if there is none.
+     */
+    static String getOffendingFrame(StackTraceElement[] stack) {
+        if (stack.length == 0) {
+            return UNKNOWN_FRAME;
+        }
+        for (StackTraceElement element : stack) {
+            if (element.getClassName().startsWith(APP_PACKAGE)) {
+                return formatFrame(element);
+            }
+        }
+        return formatFrame(stack[0]);
+    }
+
+    /**
+     * Returns the simple class name and method name of {@code element}.
+     */
+    private static String formatFrame(StackTraceElement element) {
+        String className = element.getClassName();
+        return className.substring(className.lastIndexOf('.') + 1) + "." + element.getMethodName();
+    }
+
+    /**
+     * Returns the first few frames of {@code samples} with their number of samples.
+     */
+    private static String formatSamples(Map<String, Integer> samples) {
+        return samples.entrySet().stream()
+                .limit(REPORTED_FRAME_COUNT)
+                .map(entry -> entry.getKey() + " (" + entry.getValue() + " samples)")
+                .collect(Collectors.joining(", "));
+    }
+
+    /**
+     * Returns a copy of {@code samples} ordered from the most to the least sampled frame.
+     */
+    private static Map<String, Integer> sortByCount(Map<String, Integer> samples) {
+        return samples.entrySet().stream()
+                .sorted(Map.Entry.<String, Integer>comparingByValue(Comparator.reverseOrder()))
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue, (a, b) -> a, LinkedHashMap::new));
+    }
+}
@@ -0,0 +1,26 @@
+package seedu.expensetracker.ui;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javafx.scene.image.Image;
+
+/**
+ * Holds the images loaded by UI components, so that an image used by many components is only read and decoded once
+ * and is shared by all of them.
+ */
+public class ImageCache {
+    private static final Map<String, Image> images = new ConcurrentHashMap<>();
+
+    private ImageCache() {}
+
+    /**
+     * Returns the image at {@code path} on the classpath, loading it the first time it is asked for.
+     */
+    public static Image getImage(String path) {
+        requireNonNull(path);
+        return images.computeIfAbsent(path, Image::new);
+    }
+}
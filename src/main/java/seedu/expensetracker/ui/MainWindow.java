@@ -205,6 +205,9 @@ public class MainWindow extends UiPart<Stage> {
 
         StatusBarFooter statusBarFooter = new StatusBarFooter(prefs.getExpenseTrackerDirPath());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
+        if (!logic.isDataLoaded()) {
+            statusBarFooter.showLoading();
+        }
 
         BudgetPanel budgetpanel = new BudgetPanel(logic.getMaximumBudget());
         budgetPanelPlaceholder.getChildren().add(budgetpanel.getRoot());
@@ -384,6 +387,7 @@ public class MainWindow extends UiPart<Stage> {
     @Subscribe
     public void handleUpdateCategoriesPanelEvent(UpdateCategoriesPanelEvent event) {
         logger.info(LogsCenter.getEventHandlingLogMessage(event));
-        categoriesPanel.setConnection(event.categoryBudgets);
+        UiRefreshScheduler scheduler = UiRefreshScheduler.getInstance();
+        scheduler.markDirty(categoriesPanel, () -> categoriesPanel.setConnection(event.categoryBudgets));
     }
 }
@@ -2,7 +2,6 @@ package seedu.expensetracker.ui;
 
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
-import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.Region;
 
@@ -11,7 +10,8 @@ import seedu.expensetracker.model.notification.Notification.NotificationType;
 
 //@@author Snookerballs
 /**
- * An UI component that displays information of a {@code Expense}.
+ * An UI component that displays information of a {@code Notification}. A card can be rebound to another notification
+ * with {@link #bind(Notification)}, so that list cells can reuse their card.
  */
 public class NotificationCard extends UiPart<Region> {
 
@@ -19,7 +19,7 @@ public class NotificationCard extends UiPart<Region> {
     private static final String WARNING_IMAGE_LOCATION = "/images/notificationIcons/warning.png";
     private static final String TIP_IMAGE_LOCATION = "/images/notificationIcons/tip.png";
 
-    public final Notification notification;
+    private Notification notification;
 
     @FXML
     private Label header;
@@ -30,6 +30,17 @@ public class NotificationCard extends UiPart<Region> {
 
     public NotificationCard(Notification notification) {
         super(FXML);
+        bind(notification);
+    }
+
+    public Notification getNotification() {
+        return notification;
+    }
+
+    /**
+     * Displays {@code notification} in place of the notification shown so far.
+     */
+    public void bind(Notification notification) {
         this.notification = notification;
         header.setText(notification.getHeader());
         body.setText(notification.getBody());
@@ -54,14 +65,14 @@ public class NotificationCard extends UiPart<Region> {
                 && body.getText().equals(card.body.getText());
     }
 
-
+    /**
+     * Shows the icon of the given notification {@code type}.
+     */
     private void setImage(NotificationType type) {
         if (type.equals(NotificationType.TIP)) {
-            Image image = new Image(TIP_IMAGE_LOCATION);
-            notificationImage.setImage(image);
+            notificationImage.setImage(ImageCache.getImage(TIP_IMAGE_LOCATION));
         } else {
-            Image image = new Image(WARNING_IMAGE_LOCATION);
-            notificationImage.setImage(image);
+            notificationImage.setImage(ImageCache.getImage(WARNING_IMAGE_LOCATION));
         }
     }
 
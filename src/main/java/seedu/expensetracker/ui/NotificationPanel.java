@@ -65,9 +65,12 @@ public class NotificationPanel extends UiPart<Region> {
     }
 
     /**
-     * Custom {@code ListCell} that displays the graphics of a {@code Expense} using a {@code ExpenseCard}.
+     * Custom {@code ListCell} that displays the graphics of a {@code Notification} using a {@code NotificationCard}.
+     * The card is loaded once for each cell and rebound to the notification of every update.
      */
     class NotificationListViewCell extends ListCell<Notification> {
+        private NotificationCard card;
+
         @Override
         protected void updateItem(Notification notification, boolean empty) {
             super.updateItem(notification, empty);
@@ -75,7 +78,12 @@ public class NotificationPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                Platform.runLater(() -> setGraphic(new NotificationCard(notification).getRoot()));
+                if (card == null) {
+                    card = new NotificationCard(notification);
+                } else {
+                    card.bind(notification);
+                }
+                setGraphic(card.getRoot());
             }
         }
     }
@@ -1,12 +1,16 @@
 package seedu.expensetracker.ui;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
-import javafx.beans.binding.Bindings;
-
+import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.geometry.Side;
+import javafx.scene.Node;
 import javafx.scene.chart.BarChart;
 import javafx.scene.chart.CategoryAxis;
 import javafx.scene.chart.NumberAxis;
@@ -15,35 +19,56 @@ import javafx.scene.chart.XYChart;
 import javafx.scene.layout.Region;
 import javafx.scene.layout.StackPane;
 import javafx.scene.text.Text;
+import seedu.expensetracker.logic.StatsSeries;
 import seedu.expensetracker.logic.commands.StatsCommand.StatsMode;
 import seedu.expensetracker.logic.commands.StatsCommand.StatsPeriod;
 
 //@@author jonathantjm
 /**
  * Panel containing the statistic information.
+ * The panel keeps a single instance of each chart, and only updates the data points which changed when new statistics
+ * are shown. Time series with more points than a bar chart can show are drawn on a {@code StatsCanvasChart}.
  */
 public class StatisticsPanel extends UiPart<Region> {
     private static final String FXML = "StatisticsPanel.fxml";
+    /** Time series with more points than this are drawn on a canvas instead of with a bar for each point. */
+    private static final int MAX_BAR_CHART_SIZE = 60;
 
     @FXML
     private StackPane chartArea;
 
+    private final Text noExpensesText = new Text();
+    private final BarChart<String, Number> barChart;
+    private final XYChart.Series<String, Number> barSeries = new XYChart.Series<>();
+    private final PieChart pieChart = new PieChart();
+    private final Map<String, PieChart.Data> pieSlices = new LinkedHashMap<>();
+    private final StatsCanvasChart canvasChart = new StatsCanvasChart();
 
     /**
      * Constructs a {@code StatisticsPanel} object with parameters.
      *
-     * @param statsData a map with key and value pairs representing data for the charts.
+     * @param statsData a series with key and value pairs representing data for the charts.
      * @param statsPeriod a {@code StatsPeriod} enum representing the statistics period
      * @param statsMode a {@code StatsMode} enum representing the statistics mode.
      * @param periodAmount an int representing the period amount
      */
     public StatisticsPanel(
-            LinkedHashMap<String, Double> statsData,
+            StatsSeries statsData,
             StatsPeriod statsPeriod,
             StatsMode statsMode,
             int periodAmount
     ) {
         super(FXML);
+        CategoryAxis xAxis = new CategoryAxis();
+        xAxis.setLabel("Date");
+        NumberAxis yAxis = new NumberAxis();
+        yAxis.setLabel("Amount");
+        barChart = new BarChart<>(xAxis, yAxis);
+        barChart.setAnimated(false);
+        barSeries.setName("Day Amounts");
+        barChart.getData().add(barSeries);
+        pieChart.setAnimated(false);
+        pieChart.setLegendSide(Side.BOTTOM);
         setData(statsData, statsPeriod, statsMode, periodAmount);
     }
 
@@ -52,34 +77,33 @@ public class StatisticsPanel extends UiPart<Region> {
      * If {@code statsData} is empty, {@code chartArea} will be a message
      * saying that there are no expenditures. Otherwise, helper methods will be called based on the {@code statsMode}.
      *
-     * @param statsData a map with key and value pairs representing data for the charts.
+     * @param statsData a series with key and value pairs representing data for the charts.
      * @param statsPeriod a {@code StatsPeriod} enum representing the statistics period
      * @param statsMode a {@code StatsMode} enum representing the statistics mode.
      * @param periodAmount an int representing the period amount
      */
     public void setData(
-        LinkedHashMap<String, Double> statsData,
+        StatsSeries statsData,
         StatsPeriod statsPeriod,
         StatsMode statsMode,
         int periodAmount
     ) {
-        chartArea.getChildren().clear();
-        if (statsData.size() == 0) {
-            Text text = new Text();
+        if (statsData.isEmpty()) {
             if (statsPeriod == StatsPeriod.DAY) {
                 if (periodAmount == 1) {
-                    text.setText("There are no recorded expenditures in the past day");
+                    noExpensesText.setText("There are no recorded expenditures in the past day");
                 } else {
-                    text.setText("There are no recorded expenditures in the past " + periodAmount + " days");
+                    noExpensesText.setText("There are no recorded expenditures in the past " + periodAmount + " days");
                 }
             } else {
                 if (periodAmount == 1) {
-                    text.setText("There are no recorded expenditures in the past month");
+                    noExpensesText.setText("There are no recorded expenditures in the past month");
                 } else {
-                    text.setText("There are no recorded expenditures in the past " + periodAmount + " months");
+                    noExpensesText.setText(
+                            "There are no recorded expenditures in the past " + periodAmount + " months");
                 }
             }
-            chartArea.getChildren().add(text);
+            showChart(noExpensesText);
         } else if (statsMode == StatsMode.TIME) {
             setTimeBasedData(statsData, statsPeriod, periodAmount);
         } else {
@@ -88,71 +112,115 @@ public class StatisticsPanel extends UiPart<Region> {
     }
 
     /**
-     * Populates {@code chartArea} according to the parameters. {@code chartArea} will be a bar chart.
+     * Populates {@code chartArea} according to the parameters. {@code chartArea} will be a bar chart, or a line drawn
+     * on a canvas if {@code statsData} has too many points for a bar chart.
      *
-     * @param statsData a map with key and value pairs representing data for the charts.
+     * @param statsData a series with key and value pairs representing data for the charts.
      * @param statsPeriod a {@code StatsPeriod} enum representing the statistics period
      * @param periodAmount an int representing the period amount
      */
-    public void setTimeBasedData(LinkedHashMap<String, Double> statsData, StatsPeriod statsPeriod, int periodAmount) {
-        CategoryAxis xAxis = new CategoryAxis();
-        xAxis.setLabel("Date");
-        NumberAxis yAxis = new NumberAxis();
-        yAxis.setLabel("Amount");
-        BarChart stats = new BarChart(xAxis, yAxis);
+    public void setTimeBasedData(StatsSeries statsData, StatsPeriod statsPeriod, int periodAmount) {
+        String title;
         if (statsPeriod == StatsPeriod.DAY) {
             if (periodAmount == 1) {
-                stats.setTitle("Expenditure over the past " + periodAmount + " Day");
+                title = "Expenditure over the past " + periodAmount + " Day";
             } else {
-                stats.setTitle("Expenditure over the past " + periodAmount + " Days");
+                title = "Expenditure over the past " + periodAmount + " Days";
             }
         } else {
             if (periodAmount == 1) {
-                stats.setTitle("Expenditure over the past " + periodAmount + " Month");
+                title = "Expenditure over the past " + periodAmount + " Month";
             } else {
-                stats.setTitle("Expenditure over the past " + periodAmount + " Months");
+                title = "Expenditure over the past " + periodAmount + " Months";
             }
         }
 
-        XYChart.Series series = new XYChart.Series();
-        series.setName("Day Amounts");
-        Set<String> keySet = statsData.keySet();
-        for (String s : keySet) {
-            series.getData().add(
-                    new XYChart.Data<>(
-                            s + "\n$" + String.format("%.2f", statsData.get(s)), statsData.get(s)
-                    )
-            );
+        if (statsData.size() > MAX_BAR_CHART_SIZE) {
+            canvasChart.setData(title, statsData);
+            showChart(canvasChart);
+            return;
         }
+        barChart.setTitle(title);
+        updateBars(statsData);
+        showChart(barChart);
+    }
 
-        stats.getData().add(series);
+    /**
+     * Updates the bars of the bar chart to {@code statsData}. Only the bars whose key or amount changed are updated,
+     * and bars are only added or removed at the end.
+     */
+    private void updateBars(StatsSeries statsData) {
+        ObservableList<XYChart.Data<String, Number>> bars = barSeries.getData();
+        List<XYChart.Data<String, Number>> newBars = new ArrayList<>();
+        for (int i = 0; i < statsData.size(); i++) {
+            String key = statsData.getLabel(i);
+            double amount = statsData.getValue(i);
+            if (i >= bars.size()) {
+                XYChart.Data<String, Number> bar = new XYChart.Data<>(getBarLabel(key, amount), amount);
+                bar.setExtraValue(key);
+                newBars.add(bar);
+                continue;
+            }
+            XYChart.Data<String, Number> bar = bars.get(i);
+            if (!key.equals(bar.getExtraValue()) || bar.getYValue().doubleValue() != amount) {
+                bar.setExtraValue(key);
+                bar.setXValue(getBarLabel(key, amount));
+                bar.setYValue(amount);
+            }
+        }
+        if (bars.size() > statsData.size()) {
+            bars.remove(statsData.size(), bars.size());
+        }
+        bars.addAll(newBars);
+    }
 
-        chartArea.getChildren().add(stats);
+    private static String getBarLabel(String key, double amount) {
+        return key + "\n$" + String.format("%.2f", amount);
     }
 
     /**
      * Populates {@code chartArea} according to the parameters. {@code chartArea} will be a pie chart.
+     * Only the slices whose amount changed are updated.
      *
-     * @param statsData a map with key and value pairs representing data for the charts.
+     * @param statsData a series with key and value pairs representing data for the charts.
      */
-    public void setCategoryBasedData(LinkedHashMap<String, Double> statsData) {
-        PieChart pieChart = new PieChart();
-
-        Set<String> keySet = statsData.keySet();
-        for (String s : keySet) {
-            pieChart.getData().add(new PieChart.Data(s, statsData.get(s)));
+    public void setCategoryBasedData(StatsSeries statsData) {
+        Set<String> keys = new HashSet<>();
+        for (int i = 0; i < statsData.size(); i++) {
+            String key = statsData.getLabel(i);
+            double amount = statsData.getValue(i);
+            keys.add(key);
+            PieChart.Data slice = pieSlices.get(key);
+            if (slice == null) {
+                slice = new PieChart.Data(getSliceLabel(key, amount), amount);
+                pieSlices.put(key, slice);
+                pieChart.getData().add(slice);
+            } else if (slice.getPieValue() != amount) {
+                slice.setName(getSliceLabel(key, amount));
+                slice.setPieValue(amount);
+            }
         }
+        pieSlices.entrySet().removeIf(entry -> {
+            if (keys.contains(entry.getKey())) {
+                return false;
+            }
+            pieChart.getData().remove(entry.getValue());
+            return true;
+        });
 
-        pieChart.getData().forEach(data ->
-            data.nameProperty().bind(
-                    Bindings.concat(
-                            data.getName(), " - $", String.format("%.2f", data.getPieValue())
-                    )
-            )
-        );
+        showChart(pieChart);
+    }
 
-        pieChart.setLegendSide(Side.BOTTOM);
+    private static String getSliceLabel(String key, double amount) {
+        return key + " - $" + String.format("%.2f", amount);
+    }
 
-        chartArea.getChildren().add(pieChart);
+    /**
+     * Shows {@code chart} in {@code chartArea}, unless it is shown already.
+     */
+    private void showChart(Node chart) {
+        if (chartArea.getChildren().size() != 1 || chartArea.getChildren().get(0) != chart) {
+            chartArea.getChildren().setAll(chart);
+        }
     }
 }
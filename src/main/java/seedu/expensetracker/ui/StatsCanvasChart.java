@@ -0,0 +1,100 @@
+package seedu.expensetracker.ui;
+
+import static java.util.Objects.requireNonNull;
+
+import javafx.geometry.VPos;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.layout.Region;
+import javafx.scene.paint.Color;
+import javafx.scene.text.TextAlignment;
+import seedu.expensetracker.logic.StatsSeries;
+
+/**
+ * A chart which draws a long series of amounts as a line on a single {@code Canvas}, instead of creating a node for
+ * every point. The series is downsampled to about one point for every {@link #PIXELS_PER_POINT} pixels of width
+ * whenever it is drawn.
+ */
+public class StatsCanvasChart extends Region {
+    private static final double PIXELS_PER_POINT = 3;
+    private static final double TITLE_HEIGHT = 24;
+    private static final double LABEL_HEIGHT = 18;
+    private static final double LEFT_MARGIN = 50;
+    private static final double RIGHT_MARGIN = 10;
+    private static final Color LINE_COLOR = Color.web("#3e7b91");
+    private static final Color TEXT_COLOR = Color.web("#333333");
+
+    private final Canvas canvas = new Canvas();
+    private String title = "";
+    private StatsSeries series = new StatsSeries();
+
+    public StatsCanvasChart() {
+        getChildren().add(canvas);
+    }
+
+    /**
+     * Draws {@code series} with the given {@code title} in place of the series drawn so far.
+     */
+    public void setData(String title, StatsSeries series) {
+        this.title = requireNonNull(title);
+        this.series = requireNonNull(series);
+        draw();
+    }
+
+    public StatsSeries getSeries() {
+        return series;
+    }
+
+    @Override
+    protected void layoutChildren() {
+        if (canvas.getWidth() != getWidth() || canvas.getHeight() != getHeight()) {
+            canvas.setWidth(getWidth());
+            canvas.setHeight(getHeight());
+            draw();
+        }
+    }
+
+    /**
+     * Draws the title, the downsampled series, the largest amount and the labels of the first and last points.
+     */
+    private void draw() {
+        GraphicsContext graphics = canvas.getGraphicsContext2D();
+        double width = canvas.getWidth();
+        double height = canvas.getHeight();
+        graphics.clearRect(0, 0, width, height);
+        double plotWidth = width - LEFT_MARGIN - RIGHT_MARGIN;
+        double plotHeight = height - TITLE_HEIGHT - LABEL_HEIGHT;
+        if (series.isEmpty() || plotWidth <= 0 || plotHeight <= 0) {
+            return;
+        }
+
+        graphics.setFill(TEXT_COLOR);
+        graphics.setTextBaseline(VPos.TOP);
+        graphics.setTextAlign(TextAlignment.CENTER);
+        graphics.fillText(title, width / 2, 0);
+
+        double maxValue = Math.max(series.getMaxValue(), 1);
+        double lastIndex = Math.max(series.size() - 1, 1);
+        int[] indices = series.getDownsampledIndices((int) (plotWidth / PIXELS_PER_POINT));
+        graphics.setStroke(LINE_COLOR);
+        graphics.setLineWidth(1.5);
+        graphics.beginPath();
+        for (int i = 0; i < indices.length; i++) {
+            double x = LEFT_MARGIN + plotWidth * indices[i] / lastIndex;
+            double y = TITLE_HEIGHT + plotHeight * (1 - series.getValue(indices[i]) / maxValue);
+            if (i == 0) {
+                graphics.moveTo(x, y);
+            } else {
+                graphics.lineTo(x, y);
+            }
+        }
+        graphics.stroke();
+
+        graphics.setTextAlign(TextAlignment.RIGHT);
+        graphics.fillText(String.format("$%.2f", series.getMaxValue()), LEFT_MARGIN - 4, TITLE_HEIGHT);
+        graphics.fillText("$0", LEFT_MARGIN - 4, TITLE_HEIGHT + plotHeight - LABEL_HEIGHT);
+        graphics.fillText(series.getLabel(series.size() - 1), width - RIGHT_MARGIN, TITLE_HEIGHT + plotHeight);
+        graphics.setTextAlign(TextAlignment.LEFT);
+        graphics.fillText(series.getLabel(0), LEFT_MARGIN, TITLE_HEIGHT + plotHeight);
+    }
+}
@@ -15,6 +15,8 @@ import javafx.fxml.FXML;
 import javafx.scene.layout.Region;
 import seedu.expensetracker.commons.core.LogsCenter;
 import seedu.expensetracker.commons.events.model.ExpenseTrackerChangedEvent;
+import seedu.expensetracker.commons.events.model.RekeyProgressEvent;
+import seedu.expensetracker.commons.events.storage.DataLoadedEvent;
 
 /**
  * A ui for the status bar that is displayed at the footer of the application.
@@ -23,6 +25,9 @@ public class StatusBarFooter extends UiPart<Region> {
 
     public static final String SYNC_STATUS_INITIAL = "Not updated yet in this session";
     public static final String SYNC_STATUS_UPDATED = "Last Updated: %s";
+    public static final String REKEY_STATUS_IN_PROGRESS = "Re-encrypting expenses: %d of %d";
+    public static final String REKEY_STATUS_DONE = "Re-encrypted all %d expenses";
+    public static final String LOADING_STATUS = "Loading expense data...";
 
     /**
      * Used to generate time stamps.
@@ -43,6 +48,9 @@ public class StatusBarFooter extends UiPart<Region> {
     @FXML
     private StatusBar saveLocationStatus;
 
+    private long lastUpdatedMillis;
+    private boolean isLoading;
+
 
     public StatusBarFooter(Path saveLocation) {
         super(FXML);
@@ -73,11 +81,54 @@ public class StatusBarFooter extends UiPart<Region> {
         Platform.runLater(() -> syncStatus.setText(status));
     }
 
+    /**
+     * Shows the time the expense tracker was last changed. The time is only formatted once per pulse, however many
+     * changes were made in it.
+     */
+    private void showLastUpdated() {
+        String lastUpdated = new Date(lastUpdatedMillis).toString();
+        logger.fine("Setting last updated status to " + lastUpdated);
+        syncStatus.setText(String.format(SYNC_STATUS_UPDATED, lastUpdated));
+    }
+
+    /**
+     * Shows that the expense data is still being loaded, until a {@code DataLoadedEvent} is handled.
+     */
+    public void showLoading() {
+        isLoading = true;
+        setSyncStatus(LOADING_STATUS);
+        // a negative progress shows an indeterminate progress bar
+        Platform.runLater(() -> syncStatus.setProgress(-1));
+    }
+
+    @Subscribe
+    public void handleDataLoadedEvent(DataLoadedEvent event) {
+        logger.fine(LogsCenter.getEventHandlingLogMessage(event));
+        if (!isLoading) {
+            return;
+        }
+        isLoading = false;
+        setSyncStatus(SYNC_STATUS_INITIAL);
+        Platform.runLater(() -> syncStatus.setProgress(0));
+    }
+
     @Subscribe
     public void handleExpenseTrackerChangedEvent(ExpenseTrackerChangedEvent abce) {
-        long now = clock.millis();
-        String lastUpdated = new Date(now).toString();
-        logger.info(LogsCenter.getEventHandlingLogMessage(abce, "Setting last updated status to " + lastUpdated));
-        setSyncStatus(String.format(SYNC_STATUS_UPDATED, lastUpdated));
+        logger.info(LogsCenter.getEventHandlingLogMessage(abce));
+        lastUpdatedMillis = clock.millis();
+        UiRefreshScheduler.getInstance().markDirty(this, this::showLastUpdated);
+    }
+
+    @Subscribe
+    public void handleRekeyProgressEvent(RekeyProgressEvent event) {
+        logger.fine(LogsCenter.getEventHandlingLogMessage(event));
+        if (event.isFinished()) {
+            setSyncStatus(String.format(REKEY_STATUS_DONE, event.totalCount));
+            Platform.runLater(() -> syncStatus.setProgress(0));
+        } else {
+            setSyncStatus(String.format(REKEY_STATUS_IN_PROGRESS, event.rekeyedCount, event.totalCount));
+            double progress = (double) event.rekeyedCount / event.totalCount;
+            Platform.runLater(() -> syncStatus.setProgress(progress));
+        }
     }
 }
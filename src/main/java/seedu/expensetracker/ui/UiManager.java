@@ -12,6 +12,7 @@ import javafx.stage.Stage;
 import seedu.expensetracker.MainApp;
 import seedu.expensetracker.commons.core.ComponentManager;
 import seedu.expensetracker.commons.core.Config;
+import seedu.expensetracker.commons.core.EventsCenter;
 import seedu.expensetracker.commons.core.LogsCenter;
 import seedu.expensetracker.commons.events.storage.DataSavingExceptionEvent;
 import seedu.expensetracker.commons.util.StringUtil;
@@ -36,9 +37,10 @@ public class UiManager extends ComponentManager implements Ui {
     private Config config;
     private UserPrefs prefs;
     private MainWindow mainWindow;
+    private FxThreadWatchdog fxThreadWatchdog;
 
     public UiManager(Logic logic, Config config, UserPrefs prefs) {
-        super();
+        super(EventsCenter.getInstance(), UiPart.FX_THREAD);
         this.logic = logic;
         this.config = config;
         this.prefs = prefs;
@@ -56,6 +58,10 @@ public class UiManager extends ComponentManager implements Ui {
             mainWindow.show(); //This should be called before creating other UI parts
             mainWindow.fillInnerParts();
 
+            if (config.getFxStallThresholdMillis() > 0) {
+                fxThreadWatchdog = new FxThreadWatchdog(UiPart.FX_THREAD, config.getFxStallThresholdMillis());
+                fxThreadWatchdog.start();
+            }
         } catch (Throwable e) {
             logger.severe(StringUtil.getDetails(e));
             showFatalErrorDialogAndShutdown("Fatal error during initializing", e);
@@ -64,6 +70,9 @@ public class UiManager extends ComponentManager implements Ui {
 
     @Override
     public void stop() {
+        if (fxThreadWatchdog != null) {
+            fxThreadWatchdog.stop();
+        }
         prefs.updateLastUsedGuiSetting(mainWindow.getCurrentGuiSetting());
         mainWindow.hide();
     }
@@ -4,7 +4,9 @@ import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
 import java.net.URL;
+import java.util.concurrent.Executor;
 
+import javafx.application.Platform;
 import javafx.fxml.FXMLLoader;
 import seedu.expensetracker.MainApp;
 import seedu.expensetracker.commons.core.EventsCenter;
@@ -16,6 +18,9 @@ import seedu.expensetracker.commons.events.BaseEvent;
  */
 public abstract class UiPart<T> {
 
+    /** Runs event handlers on the JavaFX application thread, which is the only thread allowed to change the UI. */
+    public static final Executor FX_THREAD = Platform::runLater;
+
     /** Resource folder where FXML files are stored. */
     public static final String FXML_FILE_FOLDER = "/view/";
 
@@ -73,7 +78,7 @@ public abstract class UiPart<T> {
      * @param handler usually {@code this}
      */
     protected void registerAsAnEventHandler(Object handler) {
-        EventsCenter.getInstance().registerHandler(handler);
+        EventsCenter.getInstance().registerHandler(handler, FX_THREAD);
     }
 
     /**
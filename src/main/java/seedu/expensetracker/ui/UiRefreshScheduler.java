@@ -0,0 +1,80 @@
+package seedu.expensetracker.ui;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+
+import javafx.animation.AnimationTimer;
+
+/**
+ * Redraws each UI part at most once per JavaFX pulse. Event handlers mark a part as dirty with the refresh that
+ * redraws it from the latest model snapshot, and the pending refreshes are run together at the start of the next
+ * pulse. A part marked dirty again before that only keeps its latest refresh, so that a command which posts several
+ * updates for the same part only has it redrawn once.
+ * Must only be used from the JavaFX application thread.
+ */
+public class UiRefreshScheduler {
+    /** Runs a task on the JavaFX thread at the start of the next pulse, before the scene is laid out and drawn. */
+    public static final Executor NEXT_PULSE = task -> new AnimationTimer() {
+        @Override
+        public void handle(long now) {
+            stop();
+            task.run();
+        }
+    }.start();
+
+    private static UiRefreshScheduler instance;
+
+    private final Executor pulseExecutor;
+    private final Map<Object, Runnable> pendingRefreshes = new LinkedHashMap<>();
+    private boolean isFlushScheduled;
+
+    /**
+     * Creates a scheduler which runs the pending refreshes with {@code pulseExecutor}.
+     */
+    UiRefreshScheduler(Executor pulseExecutor) {
+        this.pulseExecutor = requireNonNull(pulseExecutor);
+    }
+
+    public static UiRefreshScheduler getInstance() {
+        if (instance == null) {
+            instance = new UiRefreshScheduler(NEXT_PULSE);
+        }
+        return instance;
+    }
+
+    /**
+     * Marks {@code part} as dirty, to be redrawn by {@code refresh} at the next pulse. The refresh replaces the one
+     * waiting for {@code part}, if there is one.
+     */
+    public void markDirty(Object part, Runnable refresh) {
+        requireNonNull(part);
+        requireNonNull(refresh);
+        pendingRefreshes.put(part, refresh);
+        if (!isFlushScheduled) {
+            isFlushScheduled = true;
+            pulseExecutor.execute(this::flush);
+        }
+    }
+
+    /**
+     * Returns true if {@code part} is waiting to be redrawn.
+     */
+    public boolean isDirty(Object part) {
+        return pendingRefreshes.containsKey(part);
+    }
+
+    /**
+     * Runs the pending refreshes at once, in the order their parts were first marked dirty.
+     */
+    public void flush() {
+        isFlushScheduled = false;
+        List<Runnable> refreshes = new ArrayList<>(pendingRefreshes.values());
+        pendingRefreshes.clear();
+        refreshes.forEach(Runnable::run);
+    }
+}
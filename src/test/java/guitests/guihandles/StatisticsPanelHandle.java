@@ -1,10 +1,12 @@
 package guitests.guihandles;
 
+import javafx.scene.Node;
 import javafx.scene.chart.BarChart;
 import javafx.scene.chart.PieChart;
 import javafx.scene.layout.Region;
 import javafx.scene.layout.StackPane;
 import javafx.scene.text.Text;
+import seedu.expensetracker.ui.StatsCanvasChart;
 
 /**
  * A handle to the {@code StatisticsPanel} in the GUI.
@@ -39,11 +41,27 @@ public class StatisticsPanelHandle extends NodeHandle<Region> {
     }
 
     /**
-     * Checks if child is a BarChart
-     * @return true if child is an instance of BarChart
+     * Checks if child is a BarChart, or a StatsCanvasChart for long time series
+     * @return true if child is an instance of BarChart or StatsCanvasChart
      */
     public boolean isTimeChart() {
-        return chartArea.getChildren().get(0) instanceof BarChart;
+        Node chart = chartArea.getChildren().get(0);
+        return chart instanceof BarChart || chart instanceof StatsCanvasChart;
+    }
+
+    /**
+     * Checks if child is a StatsCanvasChart
+     * @return true if child is an instance of StatsCanvasChart
+     */
+    public boolean isCanvasChart() {
+        return chartArea.getChildren().get(0) instanceof StatsCanvasChart;
+    }
+
+    /**
+     * Returns the chart shown in the chart area
+     */
+    public Node getChart() {
+        return chartArea.getChildren().get(0);
     }
 
     /**
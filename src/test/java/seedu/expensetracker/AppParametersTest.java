@@ -3,6 +3,7 @@ package seedu.expensetracker;
 import static org.junit.Assert.assertEquals;
 
 import java.nio.file.Paths;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -37,6 +38,49 @@ public class AppParametersTest {
         assertEquals(expected, AppParameters.parse(parametersStub));
     }
 
+    @Test
+    public void parse_batchArguments_success() {
+        expected.setConfigPath(Paths.get("config.json"));
+        expected.setBatchScriptPath(Paths.get("script.txt"));
+        assertEquals(expected, AppParameters.parse(Arrays.asList("--config=config.json", "--batch", "script.txt")));
+    }
+
+    @Test
+    public void parse_batchWithoutScript_noScriptPath() {
+        assertEquals(expected, AppParameters.parse(Arrays.asList("unknown", "--batch")));
+    }
+
+    @Test
+    public void parse_invalidBatchScriptPath_noScriptPath() {
+        assertEquals(expected, AppParameters.parse(Arrays.asList("--batch", "a\0")));
+    }
+
+    @Test
+    public void parse_serverPort_success() {
+        expected.setServerPort(8080);
+        assertEquals(expected, AppParameters.parse(Arrays.asList("--server", "8080")));
+    }
+
+    @Test
+    public void parse_invalidServerPort_noServerPort() {
+        assertEquals(expected, AppParameters.parse(Arrays.asList("--server", "http")));
+        assertEquals(expected, AppParameters.parse(Arrays.asList("--server", "65536")));
+    }
+
+    @Test
+    public void parse_serverHost_success() {
+        expected.setServerPort(8080);
+        expected.setServerHost("0.0.0.0");
+        assertEquals(expected, AppParameters.parse(Arrays.asList("--server", "8080", "--host", "0.0.0.0")));
+    }
+
+    @Test
+    public void parse_blankServerHost_noServerHost() {
+        assertEquals(expected, AppParameters.parse(Arrays.asList("--host", " ")));
+        // the host needs a value
+        assertEquals(expected, AppParameters.parse(Arrays.asList("--host")));
+    }
+
     private static class ParametersStub extends Application.Parameters {
         private Map<String, String> namedParameters = new HashMap<>();
 
@@ -0,0 +1,71 @@
+package seedu.expensetracker;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.util.Arrays;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+import seedu.expensetracker.logic.LogicManager;
+import seedu.expensetracker.model.Model;
+import seedu.expensetracker.model.exceptions.NoUserSelectedException;
+import seedu.expensetracker.testutil.ModelUtil;
+import seedu.expensetracker.ui.testutil.EventsCollectorRule;
+
+public class BatchRunnerTest {
+
+    @Rule
+    public final EventsCollectorRule eventsCollectorRule = new EventsCollectorRule();
+
+    private final ByteArrayOutputStream errors = new ByteArrayOutputStream();
+
+    @Test
+    public void run_validCommands_allRun() throws Exception {
+        Model model = ModelUtil.modelWithTestUser();
+        int expenseCount = model.getFilteredExpenseList().size();
+        BatchRunner.Statistics statistics = createRunner(model).run(Arrays.asList(
+                "add n/Lunch c/Food $/5.50", "# a comment", "", "  list  "));
+
+        assertEquals(2, statistics.getCommandCount());
+        assertEquals(0, statistics.getFailedCount());
+        assertTrue(statistics.getCommandsPerSecond() > 0);
+        assertEquals(expenseCount + 1, model.getFilteredExpenseList().size());
+        assertEquals("", errors.toString());
+    }
+
+    @Test
+    public void run_invalidCommand_reportedAndRestRun() throws Exception {
+        Model model = ModelUtil.modelWithTestUser();
+        int expenseCount = model.getFilteredExpenseList().size();
+        BatchRunner.Statistics statistics = createRunner(model).run(Arrays.asList(
+                "unknowncommand", "setPassword o/wrong n/newpassword", "add n/Lunch c/Food $/5.50"));
+
+        assertEquals(3, statistics.getCommandCount());
+        assertEquals(2, statistics.getFailedCount());
+        assertEquals(expenseCount + 1, model.getFilteredExpenseList().size());
+        String report = errors.toString();
+        assertTrue(report.contains("Line 1: unknowncommand"));
+        assertTrue(report.contains("Line 2: setPassword o/****"));
+        assertFalse(report.contains("wrong"));
+    }
+
+    @Test
+    public void run_exitCommand_stopsScript() throws Exception {
+        Model model = ModelUtil.modelWithTestUser();
+        int expenseCount = model.getFilteredExpenseList().size();
+        BatchRunner.Statistics statistics = createRunner(model).run(Arrays.asList(
+                "exit", "add n/Lunch c/Food $/5.50"));
+
+        assertEquals(1, statistics.getCommandCount());
+        assertEquals(expenseCount, model.getFilteredExpenseList().size());
+    }
+
+    private BatchRunner createRunner(Model model) throws NoUserSelectedException {
+        return new BatchRunner(new LogicManager(model), new PrintStream(errors, true));
+    }
+}
@@ -38,6 +38,8 @@ public class TestApp extends MainApp {
 
     protected static final Path DEFAULT_PREF_FILE_LOCATION_FOR_TESTING =
             TestUtil.getFilePathInSandboxFolder("pref_testing.json");
+    protected static final Path COMMAND_HISTORY_FILE_LOCATION_FOR_TESTING =
+            TestUtil.getFilePathInSandboxFolder("commandHistory_testing.txt");
     protected Supplier<ReadOnlyExpenseTracker> initialDataSupplier = () -> null;
     protected Path saveFileLocation = SAVE_LOCATION_FOR_TESTING;
 
@@ -58,22 +60,8 @@ public class TestApp extends MainApp {
     }
 
     @Override
-    protected Config initConfig(Path configFilePath) {
-        Config config = super.initConfig(configFilePath);
-        config.setAppTitle(APP_TITLE);
-        config.setUserPrefsFilePath(DEFAULT_PREF_FILE_LOCATION_FOR_TESTING);
-        return config;
-    }
-
-    @Override
-    protected UserPrefs initPrefs(UserPrefsStorage storage) {
-        UserPrefs userPrefs = super.initPrefs(storage);
-        userPrefs.setExpenseTrackerDirPath(
-                TestUtil.getFilePathInSandboxFolder(userPrefs.getExpenseTrackerDirPath().toString()));
-        double x = Screen.getPrimary().getVisualBounds().getMinX();
-        double y = Screen.getPrimary().getVisualBounds().getMinY();
-        userPrefs.updateLastUsedGuiSetting(new GuiSettings(800.0, 800.0, (int) x, (int) y));
-        return userPrefs;
+    protected AppComponents createComponents() {
+        return new TestComponents();
     }
 
     /**
@@ -137,4 +125,29 @@ public class TestApp extends MainApp {
             throw new RuntimeException(e);
         }
     }
+
+    /**
+     * The components of the app with the config and preferences suited for testing.
+     */
+    private static class TestComponents extends AppComponents {
+        @Override
+        protected Config initConfig(Path configFilePath) {
+            Config config = super.initConfig(configFilePath);
+            config.setAppTitle(APP_TITLE);
+            config.setUserPrefsFilePath(DEFAULT_PREF_FILE_LOCATION_FOR_TESTING);
+            config.setCommandHistoryFilePath(COMMAND_HISTORY_FILE_LOCATION_FOR_TESTING);
+            return config;
+        }
+
+        @Override
+        protected UserPrefs initPrefs(UserPrefsStorage storage) {
+            UserPrefs userPrefs = super.initPrefs(storage);
+            userPrefs.setExpenseTrackerDirPath(
+                    TestUtil.getFilePathInSandboxFolder(userPrefs.getExpenseTrackerDirPath().toString()));
+            double x = Screen.getPrimary().getVisualBounds().getMinX();
+            double y = Screen.getPrimary().getVisualBounds().getMinY();
+            userPrefs.updateLastUsedGuiSetting(new GuiSettings(800.0, 800.0, (int) x, (int) y));
+            return userPrefs;
+        }
+    }
 }
@@ -0,0 +1,128 @@
+package seedu.expensetracker.commons.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+import org.junit.After;
+import org.junit.Test;
+
+public class AsyncLogHandlerTest {
+    private final RecordingHandler recorder = new RecordingHandler();
+    private AsyncLogHandler handler;
+
+    @After
+    public void tearDown() {
+        if (handler != null) {
+            handler.close();
+        }
+    }
+
+    @Test
+    public void publish_recordsBelowCapacity_allWrittenInOrder() {
+        handler = new AsyncLogHandler(16, Collections.singletonList(recorder));
+        for (int i = 0; i < 10; i++) {
+            handler.publish(new LogRecord(Level.INFO, "message " + i));
+        }
+        handler.flush();
+        assertEquals(10, recorder.getMessages().size());
+        assertEquals("message 9", recorder.getMessages().get(9));
+        assertEquals(0, handler.getDroppedCount());
+        assertTrue(recorder.isFlushed);
+    }
+
+    @Test
+    public void publish_bufferFull_recordsDroppedAndReported() throws InterruptedException {
+        recorder.blockUntil(new CountDownLatch(1));
+        handler = new AsyncLogHandler(2, Collections.singletonList(recorder));
+        handler.publish(new LogRecord(Level.INFO, "taken by the writer"));
+        while (handler.getBufferedCount() > 0) {
+            Thread.sleep(1);
+        }
+        handler.publish(new LogRecord(Level.INFO, "buffered 1"));
+        handler.publish(new LogRecord(Level.INFO, "buffered 2"));
+        handler.publish(new LogRecord(Level.INFO, "dropped 1"));
+        handler.publish(new LogRecord(Level.INFO, "dropped 2"));
+        assertEquals(2, handler.getDroppedCount());
+
+        recorder.unblock();
+        handler.flush();
+        List<String> messages = recorder.getMessages();
+        assertEquals(4, messages.size());
+        assertEquals("buffered 2", messages.get(2));
+        assertEquals(String.format(AsyncLogHandler.MESSAGE_RECORDS_DROPPED, 2), messages.get(3));
+    }
+
+    @Test
+    public void publish_recordBelowLevel_notWritten() {
+        handler = new AsyncLogHandler(16, Collections.singletonList(recorder));
+        handler.setLevel(Level.INFO);
+        handler.publish(new LogRecord(Level.FINE, "hidden"));
+        handler.flush();
+        assertTrue(recorder.getMessages().isEmpty());
+    }
+
+    @Test
+    public void close_recordsBuffered_allWritten() {
+        handler = new AsyncLogHandler(16, Collections.singletonList(recorder));
+        handler.publish(new LogRecord(Level.INFO, "last words"));
+        handler.close();
+        assertEquals(Collections.singletonList("last words"), recorder.getMessages());
+        assertTrue(recorder.isClosed);
+
+        // records published after closing are ignored
+        handler.publish(new LogRecord(Level.INFO, "too late"));
+        assertEquals(1, recorder.getMessages().size());
+    }
+
+    /**
+     * A handler which keeps the messages it is given, and can be made to wait before taking them.
+     */
+    private static class RecordingHandler extends Handler {
+        private final List<String> messages = new ArrayList<>();
+        private CountDownLatch latch = new CountDownLatch(0);
+        private volatile boolean isFlushed;
+        private volatile boolean isClosed;
+
+        void blockUntil(CountDownLatch latch) {
+            this.latch = latch;
+        }
+
+        void unblock() {
+            latch.countDown();
+        }
+
+        synchronized List<String> getMessages() {
+            return new ArrayList<>(messages);
+        }
+
+        @Override
+        public void publish(LogRecord record) {
+            try {
+                latch.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            synchronized (this) {
+                messages.add(record.getMessage());
+            }
+        }
+
+        @Override
+        public void flush() {
+            isFlushed = true;
+        }
+
+        @Override
+        public void close() {
+            isClosed = true;
+        }
+    }
+}
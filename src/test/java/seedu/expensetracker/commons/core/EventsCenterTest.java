@@ -0,0 +1,122 @@
+package seedu.expensetracker.commons.core;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import com.google.common.eventbus.Subscribe;
+
+import seedu.expensetracker.commons.events.BaseEvent;
+import seedu.expensetracker.commons.events.model.RekeyProgressEvent;
+import seedu.expensetracker.commons.events.ui.ExitAppRequestEvent;
+import seedu.expensetracker.commons.events.ui.ShowHelpRequestEvent;
+
+public class EventsCenterTest {
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final EventsCenter eventsCenter = EventsCenter.getInstance();
+
+    @After
+    public void tearDown() {
+        EventsCenter.clearSubscribers();
+    }
+
+    @Test
+    public void post_handlerOnPostingThread_handledImmediately() {
+        Collector collector = new Collector();
+        eventsCenter.registerHandler(collector);
+        ShowHelpRequestEvent event = new ShowHelpRequestEvent();
+        eventsCenter.post(event);
+        assertEquals(1, collector.events.size());
+        assertEquals(event, collector.events.get(0));
+        assertEquals(1, eventsCenter.getDispatchLatencies().get(ShowHelpRequestEvent.class).getCount());
+    }
+
+    @Test
+    public void post_eventPostedByHandler_handledAfterCurrentEvent() {
+        Collector collector = new Collector();
+        eventsCenter.registerHandler(new Object() {
+            @Subscribe
+            private void handleShowHelpRequestEvent(ShowHelpRequestEvent event) {
+                eventsCenter.post(new ExitAppRequestEvent());
+            }
+        });
+        eventsCenter.registerHandler(collector);
+        eventsCenter.post(new ShowHelpRequestEvent());
+        assertEquals(2, collector.events.size());
+        assertEquals(ShowHelpRequestEvent.class, collector.events.get(0).getClass());
+        assertEquals(ExitAppRequestEvent.class, collector.events.get(1).getClass());
+    }
+
+    @Test
+    public void post_coalescingEventsWaiting_onlyLatestHandled() {
+        List<Runnable> tasks = new ArrayList<>();
+        Collector collector = new Collector();
+        eventsCenter.registerHandler(collector, tasks::add);
+        RekeyProgressEvent latest = new RekeyProgressEvent(2, 3);
+        eventsCenter.post(new RekeyProgressEvent(1, 3));
+        eventsCenter.post(new ShowHelpRequestEvent());
+        eventsCenter.post(latest);
+        assertEquals(2, tasks.size());
+
+        tasks.forEach(Runnable::run);
+        assertEquals(2, collector.events.size());
+        assertEquals(latest, collector.events.get(0));
+        assertEquals(1, eventsCenter.getDispatchLatencies().get(RekeyProgressEvent.class).getCoalescedCount());
+    }
+
+    @Test
+    public void post_handlerThrowsException_otherHandlersStillCalled() {
+        Collector collector = new Collector();
+        eventsCenter.registerHandler(new Object() {
+            @Subscribe
+            private void handleShowHelpRequestEvent(ShowHelpRequestEvent event) {
+                throw new IllegalStateException();
+            }
+        });
+        eventsCenter.registerHandler(collector);
+        eventsCenter.post(new ShowHelpRequestEvent());
+        assertEquals(1, collector.events.size());
+    }
+
+    @Test
+    public void registerHandler_handlerWithoutEvent_throwsIllegalArgumentException() {
+        thrown.expect(IllegalArgumentException.class);
+        eventsCenter.registerHandler(new Object() {
+            @Subscribe
+            private void handleNothing(String notAnEvent) {}
+        });
+    }
+
+    @Test
+    public void shutdown_eventsQueuedForIoThread_allHandled() {
+        Collector collector = new Collector();
+        eventsCenter.registerHandler(collector, eventsCenter.getIoExecutor());
+        for (int i = 0; i < 10; i++) {
+            eventsCenter.post(new ShowHelpRequestEvent());
+        }
+        eventsCenter.shutdown();
+        assertEquals(10, collector.events.size());
+    }
+
+    /**
+     * Collects every event it receives, in order.
+     */
+    private static class Collector {
+        private final List<BaseEvent> events = new ArrayList<>();
+
+        @Subscribe
+        private void collect(BaseEvent event) {
+            synchronized (events) {
+                events.add(event);
+            }
+        }
+    }
+}
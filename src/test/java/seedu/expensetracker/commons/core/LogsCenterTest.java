@@ -0,0 +1,18 @@
+package seedu.expensetracker.commons.core;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+import seedu.expensetracker.commons.metrics.Gauge;
+import seedu.expensetracker.commons.metrics.MetricsRegistry;
+
+public class LogsCenterTest {
+
+    @Test
+    public void init_config_droppedLogsGaugeRegistered() {
+        LogsCenter.init(new Config());
+        Gauge gauge = (Gauge) MetricsRegistry.getInstance().getMetrics().get(LogsCenter.METRIC_DROPPED_LOGS);
+        assertEquals(LogsCenter.getDroppedLogCount(), gauge.getValue(), 0);
+    }
+}
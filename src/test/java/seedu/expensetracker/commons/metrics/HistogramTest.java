@@ -0,0 +1,73 @@
+package seedu.expensetracker.commons.metrics;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class HistogramTest {
+
+    @Test
+    public void getBucketIndex_smallValues_exact() {
+        for (int i = 0; i < 16; i++) {
+            assertEquals(i, Histogram.getBucketIndex(i));
+            assertEquals(i, Histogram.getBucketUpperBound(i));
+        }
+    }
+
+    @Test
+    public void getBucketIndex_anyValue_withinBucketBounds() {
+        long[] values = {16, 17, 31, 32, 33, 1000, 123456789, Long.MAX_VALUE};
+        for (long value : values) {
+            int index = Histogram.getBucketIndex(value);
+            assertTrue(value <= Histogram.getBucketUpperBound(index));
+            assertTrue(index == 0 || value > Histogram.getBucketUpperBound(index - 1));
+        }
+    }
+
+    @Test
+    public void getValueAtPercentile_noValues_returnsZero() {
+        Histogram histogram = new Histogram(Histogram.Unit.NANOSECONDS);
+        assertEquals(0, histogram.getP50());
+        assertEquals(0, histogram.getMax());
+        assertEquals(0, histogram.getMean(), 0);
+    }
+
+    @Test
+    public void getValueAtPercentile_uniformValues_withinRelativeError() {
+        Histogram histogram = new Histogram(Histogram.Unit.NANOSECONDS);
+        for (long i = 1; i <= 10000; i++) {
+            histogram.record(i * 1000);
+        }
+        assertEquals(10000, histogram.getCount());
+        assertEquals(10_000_000, histogram.getMax());
+        assertEquals(5_000_500, histogram.getMean(), 0.001);
+        assertWithinRelativeError(5_000_000, histogram.getP50());
+        assertWithinRelativeError(9_000_000, histogram.getP90());
+        assertWithinRelativeError(9_900_000, histogram.getP99());
+        assertEquals(10_000_000, histogram.getValueAtPercentile(100));
+    }
+
+    @Test
+    public void record_negativeValue_recordedAsZero() {
+        Histogram histogram = new Histogram(Histogram.Unit.BYTES);
+        histogram.record(-5);
+        assertEquals(1, histogram.getCount());
+        assertEquals(0, histogram.getMax());
+        assertEquals(0, histogram.getP99());
+    }
+
+    @Test
+    public void unitFormat() {
+        assertEquals("1.500 ms", Histogram.Unit.NANOSECONDS.format(1_500_000));
+        assertEquals("2048 B", Histogram.Unit.BYTES.format(2048));
+    }
+
+    /**
+     * Asserts that {@code actual} is not less than {@code expected}, and not more than 1/16 greater.
+     */
+    private static void assertWithinRelativeError(long expected, long actual) {
+        assertTrue(actual + " < " + expected, actual >= expected);
+        assertTrue(actual + " is too far above " + expected, actual <= expected + expected / 16);
+    }
+}
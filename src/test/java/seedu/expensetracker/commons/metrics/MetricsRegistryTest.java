@@ -0,0 +1,83 @@
+package seedu.expensetracker.commons.metrics;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.management.ManagementFactory;
+import java.nio.file.Path;
+import java.util.Map;
+
+import javax.management.ObjectName;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.expensetracker.commons.util.FileUtil;
+
+public class MetricsRegistryTest {
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private final MetricsRegistry registry = new MetricsRegistry(false);
+
+    @Test
+    public void counter_sameName_returnsSameCounter() {
+        Counter counter = registry.counter("test.counter");
+        counter.increment();
+        counter.add(2);
+        assertSame(counter, registry.counter("test.counter"));
+        assertEquals(3, registry.counter("test.counter").getCount());
+    }
+
+    @Test
+    public void histogram_nameOfCounter_throwsIllegalArgumentException() {
+        registry.counter("test.metric");
+        thrown.expect(IllegalArgumentException.class);
+        registry.histogram("test.metric", Histogram.Unit.NANOSECONDS);
+    }
+
+    @Test
+    public void gauge_sameName_replacesGauge() {
+        registry.gauge("test.gauge", () -> 1);
+        registry.gauge("test.gauge", () -> 2);
+        assertEquals(2, ((Gauge) registry.getMetrics().get("test.gauge")).getValue(), 0);
+    }
+
+    @Test
+    public void getSnapshot_metricsOfEachKind_valuesByName() {
+        registry.counter("b.counter").increment();
+        registry.gauge("c.gauge", () -> 0.5);
+        registry.histogram("a.histogram", Histogram.Unit.BYTES).record(10);
+
+        Map<String, Map<String, Object>> snapshot = registry.getSnapshot();
+        assertEquals("[a.histogram, b.counter, c.gauge]", snapshot.keySet().toString());
+        assertEquals(1L, snapshot.get("b.counter").get("count"));
+        assertEquals(0.5, snapshot.get("c.gauge").get("value"));
+        assertEquals(10L, snapshot.get("a.histogram").get("p50"));
+        assertEquals("BYTES", snapshot.get("a.histogram").get("unit"));
+    }
+
+    @Test
+    public void saveSnapshot_validPath_writesJson() throws Exception {
+        registry.counter("test.counter").add(7);
+        Path filePath = testFolder.getRoot().toPath().resolve("metrics.json");
+        registry.saveSnapshot(filePath);
+        String json = FileUtil.readFromFile(filePath);
+        assertTrue(json.contains("\"test.counter\""));
+        assertTrue(json.contains("\"count\" : 7"));
+    }
+
+    @Test
+    public void histogram_jmxEnabled_registeredAsMBean() throws Exception {
+        MetricsRegistry.getInstance().histogram("test.jmx", Histogram.Unit.NANOSECONDS).record(42);
+        ObjectName name = new ObjectName(MetricsRegistry.JMX_DOMAIN + ":type=Histogram,name="
+                + ObjectName.quote("test.jmx"));
+        assertEquals(42L, ManagementFactory.getPlatformMBeanServer().getAttribute(name, "Max"));
+    }
+}
@@ -0,0 +1,87 @@
+package seedu.expensetracker.commons.metrics;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import seedu.expensetracker.commons.metrics.Profiler.Phase;
+import seedu.expensetracker.commons.metrics.Profiler.Profile;
+
+public class ProfilerTest {
+    private static final long PAUSE_MILLIS = 20;
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @After
+    public void tearDown() {
+        Profiler.stop();
+    }
+
+    @Test
+    public void enter_nestedPhase_chargedInsteadOfOuterPhase() throws Exception {
+        Profile profile = Profiler.start();
+        Profiler.enter(Phase.MODEL);
+        Profiler.enter(Phase.ENCRYPTION);
+        Thread.sleep(PAUSE_MILLIS);
+        Profiler.exit();
+        Profiler.exit();
+        Profiler.stop();
+
+        assertTrue(profile.getNanos(Phase.ENCRYPTION) >= PAUSE_MILLIS * 1_000_000);
+        assertTrue(profile.getNanos(Phase.MODEL) < profile.getNanos(Phase.ENCRYPTION));
+        assertTrue(profile.getTotalNanos() >= profile.getNanos(Phase.MODEL) + profile.getNanos(Phase.ENCRYPTION));
+    }
+
+    @Test
+    public void enter_allocationInPhase_bytesCharged() {
+        Profile profile = Profiler.start();
+        Profiler.enter(Phase.PARSE);
+        byte[][] allocated = new byte[16][];
+        for (int i = 0; i < allocated.length; i++) {
+            allocated[i] = new byte[64 * 1024];
+        }
+        Profiler.exit();
+        Profiler.stop();
+        assertTrue(allocated[15].length > 0);
+        assertTrue(profile.getAllocatedBytes(Phase.PARSE) >= 16 * 64 * 1024);
+    }
+
+    @Test
+    public void enter_notProfiling_nothingCharged() {
+        Profiler.enter(Phase.MODEL);
+        Profiler.exit();
+        Profile profile = Profiler.start();
+        Profiler.stop();
+        assertEquals(0, profile.getNanos(Phase.MODEL));
+    }
+
+    @Test
+    public void propagate_taskOnOtherThread_chargedToProfile() throws Exception {
+        Profile profile = Profiler.start();
+        Thread thread = new Thread(Profiler.propagate(() -> {
+            Profiler.enter(Phase.PERSISTENCE);
+            try {
+                Thread.sleep(PAUSE_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            Profiler.exit();
+        }));
+        thread.start();
+        thread.join();
+        Profiler.stop();
+        assertTrue(profile.getNanos(Phase.PERSISTENCE) >= PAUSE_MILLIS * 1_000_000);
+    }
+
+    @Test
+    public void start_alreadyProfiling_throwsIllegalStateException() {
+        Profiler.start();
+        thrown.expect(IllegalStateException.class);
+        Profiler.start();
+    }
+}
@@ -0,0 +1,46 @@
+package seedu.expensetracker.commons.metrics;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.Test;
+
+public class StartupTimelineTest {
+
+    @Test
+    public void getReport_stagesOnSeveralThreads_listedInStartOrder() throws Exception {
+        StartupTimeline timeline = new StartupTimeline();
+        ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, "stage-thread"));
+        try {
+            assertEquals("config", timeline.time("config", () -> "config"));
+            CompletableFuture<String> data = timeline.timeAsync("data", () -> "data", executor);
+            assertEquals("data", data.get());
+            timeline.mark("first frame");
+        } finally {
+            executor.shutdown();
+        }
+
+        String report = timeline.getReport();
+        assertTrue(report.indexOf("config") < report.indexOf("data"));
+        assertTrue(report.indexOf("data") < report.indexOf("first frame"));
+        assertTrue(report.contains("stage-thread"));
+        assertTrue(report.contains("since JVM start"));
+    }
+
+    @Test
+    public void time_stageThrows_stageStillRecorded() {
+        StartupTimeline timeline = new StartupTimeline();
+        try {
+            timeline.time("failing stage", () -> {
+                throw new IllegalStateException();
+            });
+        } catch (IllegalStateException e) {
+            // expected
+        }
+        assertTrue(timeline.getReport().contains("failing stage"));
+    }
+}
@@ -0,0 +1,66 @@
+package seedu.expensetracker.logic;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.expensetracker.model.expense.Expense;
+import seedu.expensetracker.testutil.ExpenseBuilder;
+
+public class AutocompleterTest {
+    private static final Expense LUNCH = new ExpenseBuilder().withName("Lunch").withCategory("Food")
+            .withTags("work").build();
+    private static final Expense LATTE = new ExpenseBuilder().withName("Latte").withCategory("Food")
+            .withTags("weekend").build();
+    private static final Expense FERRY = new ExpenseBuilder().withName("Ferry").withCategory("Fare")
+            .withTags("work").build();
+
+    private final Autocompleter autocompleter = new Autocompleter();
+    private final ObservableList<Expense> expenses = FXCollections.observableArrayList(LUNCH, LATTE, FERRY);
+
+    @Test
+    public void getCompletions_commandWord_completedWithCommandWords() {
+        assertEquals(Arrays.asList("  select", "  setBudget", "  setCategoryBudget", "  setPassword",
+                "  setRecurrenceFrequency"), autocompleter.getCompletions("  se"));
+        autocompleter.recordCommand("setPassword o/old n/new");
+        assertEquals("setPassword", autocompleter.getCompletions("setP").get(0));
+        assertEquals("setPassword", autocompleter.getCompletions("se").get(0));
+    }
+
+    @Test
+    public void getCompletions_prefix_completedWithPrefixes() {
+        assertEquals(Collections.singletonList("add n/Lunch hrs/"), autocompleter.getCompletions("add n/Lunch h"));
+        assertEquals(Collections.singletonList("find c/"), autocompleter.getCompletions("find c"));
+        assertTrue(autocompleter.getCompletions("find ").isEmpty());
+    }
+
+    @Test
+    public void getCompletions_values_completedWithMostFrequentFirst() {
+        autocompleter.setExpenses(expenses);
+        assertEquals(Arrays.asList("find c/Food", "find c/Fare"), autocompleter.getCompletions("find c/"));
+        assertEquals(Arrays.asList("find n/Latte", "find n/Lunch"), autocompleter.getCompletions("find n/l"));
+        assertEquals(Arrays.asList("add n/Tea t/work", "add n/Tea t/weekend"),
+                autocompleter.getCompletions("add n/Tea t/w"));
+        assertEquals(Collections.singletonList("add c/Food t/"), autocompleter.getCompletions("add c/Food t"));
+    }
+
+    @Test
+    public void setExpenses_listChanged_vocabulariesUpdated() {
+        autocompleter.setExpenses(expenses);
+        expenses.remove(LUNCH);
+        expenses.remove(LATTE);
+        expenses.add(new ExpenseBuilder().withName("Lemonade").withCategory("Drinks").build());
+        assertEquals(Collections.singletonList("find n/Lemonade"), autocompleter.getCompletions("find n/L"));
+        assertEquals(Arrays.asList("find c/Drinks"), autocompleter.getCompletions("find c/D"));
+        assertTrue(autocompleter.getCompletions("find c/Fo").isEmpty());
+
+        autocompleter.setExpenses(null);
+        assertTrue(autocompleter.getCompletions("find n/L").isEmpty());
+    }
+}
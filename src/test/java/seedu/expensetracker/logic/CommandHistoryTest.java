@@ -6,11 +6,19 @@ import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertTrue;
 
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.ConcurrentModificationException;
+import java.util.List;
 
 import org.junit.Before;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.ExpectedException;
 
 public class CommandHistoryTest {
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
     private CommandHistory history;
 
     @Before
@@ -36,6 +44,57 @@ public class CommandHistoryTest {
         assertEquals(Arrays.asList(validCommand, invalidCommand), history.getHistory());
     }
 
+    @Test
+    public void add_historyFull_oldestCommandDropped() {
+        CommandHistory smallHistory = new CommandHistory(2);
+        smallHistory.add("a");
+        smallHistory.add("b");
+        smallHistory.add("c");
+        assertEquals(Arrays.asList("b", "c"), smallHistory.getHistory());
+        assertEquals(2, smallHistory.size());
+    }
+
+    @Test
+    public void constructor_nonPositiveCapacity_throwsIllegalArgumentException() {
+        thrown.expect(IllegalArgumentException.class);
+        new CommandHistory(0);
+    }
+
+    @Test
+    public void getSnapshot_laterCommandsNotShown() {
+        history.add("a");
+        List<String> snapshot = history.getSnapshot();
+        history.add("b");
+        assertEquals(Collections.singletonList("a"), snapshot);
+    }
+
+    @Test
+    public void getSnapshot_commandOverwritten_throwsConcurrentModificationException() {
+        CommandHistory smallHistory = new CommandHistory(2);
+        smallHistory.add("a");
+        smallHistory.add("b");
+        List<String> snapshot = smallHistory.getSnapshot();
+        smallHistory.add("c");
+        assertEquals("b", snapshot.get(1));
+        thrown.expect(ConcurrentModificationException.class);
+        snapshot.get(0);
+    }
+
+    @Test
+    public void redactPasswords() {
+        // commands with passwords -> passwords redacted
+        assertEquals("login u/alice p/" + CommandHistory.REDACTED,
+                CommandHistory.redactPasswords("login u/alice p/secret123"));
+        assertEquals("  su u/alice p/" + CommandHistory.REDACTED,
+                CommandHistory.redactPasswords("  su u/alice p/secret123"));
+        assertEquals("setPassword o/" + CommandHistory.REDACTED + " n/" + CommandHistory.REDACTED,
+                CommandHistory.redactPasswords("setPassword o/oldpass1 n/newpass1"));
+
+        // other commands -> unchanged
+        assertEquals("find n/p/lunch", CommandHistory.redactPasswords("find n/p/lunch"));
+        assertEquals("stats n/7 p/d", CommandHistory.redactPasswords("stats n/7 p/d"));
+    }
+
     @Test
     public void equals() {
         final CommandHistory commandHistoryWithA = new CommandHistory();
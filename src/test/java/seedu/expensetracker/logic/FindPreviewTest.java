@@ -0,0 +1,96 @@
+package seedu.expensetracker.logic;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.junit.Test;
+
+import seedu.expensetracker.model.expense.Expense;
+import seedu.expensetracker.testutil.ExpenseBuilder;
+
+public class FindPreviewTest {
+    private static final Expense FOOD = new ExpenseBuilder().withName("Lunch").withCategory("Food").build();
+    private static final Expense TRANSPORT = new ExpenseBuilder().withName("Taxi").withCategory("Transport").build();
+    private static final Predicate<Expense> IS_FOOD = expense -> expense.getCategory().categoryName.equals("Food");
+
+    private final List<Runnable> evaluations = new ArrayList<>();
+    private final List<Runnable> publications = new ArrayList<>();
+    private final List<List<Expense>> published = new ArrayList<>();
+    private final FindPreview preview = new FindPreview(evaluations::add, publications::add);
+    private final List<Expense> snapshot = List.of(FOOD, TRANSPORT, FOOD);
+
+    @Test
+    public void update_singleQuery_matchesPublished() {
+        preview.update(IS_FOOD, snapshot, published::add);
+        assertTrue(published.isEmpty());
+
+        runAll(evaluations);
+        assertTrue(published.isEmpty());
+        runAll(publications);
+        assertEquals(List.of(List.of(FOOD, FOOD)), published);
+    }
+
+    @Test
+    public void update_newerQueryBeforeEvaluation_onlyLatestPublished() {
+        preview.update(IS_FOOD, snapshot, published::add);
+        preview.update(IS_FOOD.negate(), snapshot, published::add);
+
+        runAll(evaluations);
+        assertEquals(1, publications.size());
+        runAll(publications);
+        assertEquals(List.of(List.of(TRANSPORT)), published);
+    }
+
+    @Test
+    public void update_newerQueryBeforePublication_stalePublicationDropped() {
+        preview.update(IS_FOOD, snapshot, published::add);
+        runAll(evaluations);
+        preview.update(IS_FOOD.negate(), snapshot, published::add);
+
+        runAll(evaluations);
+        runAll(publications);
+        assertEquals(List.of(List.of(TRANSPORT)), published);
+    }
+
+    @Test
+    public void update_newerQueryDuringEvaluation_evaluationStopped() {
+        List<Expense> largeSnapshot = Collections.nCopies(FindPreview.CANCELLATION_CHECK_INTERVAL * 4, FOOD);
+        int[] testCount = new int[1];
+        Predicate<Expense> interrupted = expense -> {
+            if (testCount[0]++ == 0) {
+                preview.update(IS_FOOD.negate(), snapshot, published::add);
+            }
+            return true;
+        };
+        preview.update(interrupted, largeSnapshot, published::add);
+
+        runAll(evaluations);
+        assertEquals(FindPreview.CANCELLATION_CHECK_INTERVAL, testCount[0]);
+        runAll(publications);
+        assertEquals(List.of(List.of(TRANSPORT)), published);
+    }
+
+    @Test
+    public void cancel_queryEvaluating_nothingPublished() {
+        preview.update(IS_FOOD, snapshot, published::add);
+        preview.cancel();
+
+        runAll(evaluations);
+        runAll(publications);
+        assertTrue(published.isEmpty());
+    }
+
+    /**
+     * Runs the tasks in {@code tasks}, including those added while running them, until there are none left.
+     */
+    private static void runAll(List<Runnable> tasks) {
+        while (!tasks.isEmpty()) {
+            tasks.remove(0).run();
+        }
+    }
+}
@@ -35,6 +35,22 @@ public class ListElementPointerTest {
         assertEquals(emptyPointer, pointer);
     }
 
+    @Test
+    public void over_add_backingListUnmodified() {
+        List<String> list = Collections.unmodifiableList(pointerElements);
+        pointer = ListElementPointer.over(list);
+        pointer.add("");
+
+        assertEquals(2, list.size());
+        assertEquals(SECOND_ELEMENT, pointer.current());
+        assertEquals("", pointer.next());
+        assertEquals(SECOND_ELEMENT, pointer.previous());
+
+        ListElementPointer copyingPointer = new ListElementPointer(pointerElements);
+        copyingPointer.add("");
+        assertEquals(copyingPointer, pointer);
+    }
+
     @Test
     public void emptyList() {
         pointer = new ListElementPointer(new ArrayList<>());
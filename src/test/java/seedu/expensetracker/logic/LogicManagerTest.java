@@ -1,22 +1,29 @@
 package seedu.expensetracker.logic;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static seedu.expensetracker.commons.core.Messages.MESSAGE_INVALID_EXPENSE_DISPLAYED_INDEX;
 import static seedu.expensetracker.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.expensetracker.model.budget.TotalBudgetTest.VALID_BUDGET;
+import static seedu.expensetracker.model.expense.CategoryTest.VALID_CATEGORY;
 
 import java.time.format.DateTimeFormatter;
-import java.util.LinkedHashMap;
+import java.util.List;
 
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.rules.ExpectedException;
 
+import seedu.expensetracker.commons.events.logic.CommandEnteredEvent;
+import seedu.expensetracker.commons.metrics.Histogram;
+import seedu.expensetracker.commons.metrics.MetricsRegistry;
 import seedu.expensetracker.logic.commands.CommandResult;
 import seedu.expensetracker.logic.commands.HistoryCommand;
 import seedu.expensetracker.logic.commands.ListCommand;
+import seedu.expensetracker.logic.commands.SetCategoryBudgetCommand;
 import seedu.expensetracker.logic.commands.StatsCommand;
 import seedu.expensetracker.logic.commands.StatsCommand.StatsMode;
 import seedu.expensetracker.logic.commands.StatsCommand.StatsPeriod;
@@ -25,6 +32,7 @@ import seedu.expensetracker.logic.parser.exceptions.ParseException;
 import seedu.expensetracker.model.Model;
 import seedu.expensetracker.model.ModelManager;
 import seedu.expensetracker.model.UserPrefs;
+import seedu.expensetracker.model.budget.CategoryBudget;
 import seedu.expensetracker.model.exceptions.InvalidDataException;
 import seedu.expensetracker.model.exceptions.NoUserSelectedException;
 import seedu.expensetracker.model.exceptions.NonExistentUserException;
@@ -32,11 +40,14 @@ import seedu.expensetracker.model.exceptions.UserAlreadyExistsException;
 import seedu.expensetracker.model.expense.Expense;
 import seedu.expensetracker.testutil.ExpenseBuilder;
 import seedu.expensetracker.testutil.ModelUtil;
+import seedu.expensetracker.ui.testutil.EventsCollectorRule;
 
 public class LogicManagerTest {
 
     @Rule
     public ExpectedException thrown = ExpectedException.none();
+    @Rule
+    public final EventsCollectorRule eventsCollectorRule = new EventsCollectorRule();
 
     private Model model = ModelUtil.modelWithTestUser();
 
@@ -73,12 +84,73 @@ public class LogicManagerTest {
         assertHistoryCorrect(listCommand);
     }
 
+    @Test
+    public void execute_historyNotSaved_noCommandEnteredEvent() throws Exception {
+        Logic unsavedLogic = new LogicManager(model, false);
+        unsavedLogic.execute(ListCommand.COMMAND_WORD);
+        // the event would be raised after every other event of the command
+        assertFalse(eventsCollectorRule.eventsCollector.getMostRecent() instanceof CommandEnteredEvent);
+    }
+
+    @Test
+    public void execute_passwordCommand_redactedCommandEntered() {
+        String setPasswordCommand = "setPassword o/wrongpassword n/newpassword";
+        try {
+            logic.execute(setPasswordCommand);
+        } catch (Exception e) {
+            // the command is added to the history whether or not it succeeds
+        }
+        CommandEnteredEvent event = (CommandEnteredEvent) eventsCollectorRule.eventsCollector.getMostRecent();
+        assertEquals(CommandHistory.redactPasswords(setPasswordCommand), event.command);
+        assertFalse(event.command.contains("newpassword"));
+    }
+
+    @Test
+    public void execute_validCommand_latencyRecorded() throws Exception {
+        Histogram latencies = MetricsRegistry.getInstance().histogram("command.list", Histogram.Unit.NANOSECONDS);
+        long count = latencies.getCount();
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertEquals(count + 1, latencies.getCount());
+    }
+
+    @Test
+    public void getMetricName_commandClass_namedAfterCommand() throws Exception {
+        assertEquals("command.list", LogicManager.getMetricName(new ListCommand()));
+        assertEquals("command.setCategoryBudget", LogicManager.getMetricName(
+                new SetCategoryBudgetCommand(new CategoryBudget(VALID_CATEGORY, VALID_BUDGET))));
+    }
+
     @Test
     public void getFilteredExpenseList_modifyList_throwsUnsupportedOperationException() throws NoUserSelectedException {
         thrown.expect(UnsupportedOperationException.class);
         logic.getFilteredExpenseList().remove(0);
     }
 
+    @Test
+    public void parseFindPredicate_validFindCommand_returnsPredicate() throws NoUserSelectedException {
+        Expense validExpense = new ExpenseBuilder().build();
+        String findCommand = "f n/" + validExpense.getName().expenseName;
+        assertTrue(logic.parseFindPredicate(findCommand).get().test(validExpense));
+    }
+
+    @Test
+    public void parseFindPredicate_otherCommands_returnsEmpty() {
+        assertFalse(logic.parseFindPredicate("f n/").isPresent());
+        assertFalse(logic.parseFindPredicate("f").isPresent());
+        assertFalse(logic.parseFindPredicate(ListCommand.COMMAND_WORD).isPresent());
+    }
+
+    @Test
+    public void getExpenseSnapshot_expenseAddedLater_snapshotUnchanged() throws NoUserSelectedException {
+        int size = logic.getExpenseSnapshot().size();
+        List<Expense> snapshot = logic.getExpenseSnapshot();
+        model.addExpense(new ExpenseBuilder().build());
+        assertEquals(size, snapshot.size());
+        assertEquals(size + 1, logic.getExpenseSnapshot().size());
+        thrown.expect(UnsupportedOperationException.class);
+        snapshot.clear();
+    }
+
     @Test
     public void getExpenseStats_returnsEmptyMapWhenNoEntries() throws NoUserSelectedException {
         assertTrue(logic.getExpenseStats().size() == 0);
@@ -92,23 +164,23 @@ public class LogicManagerTest {
         model.updateStatsPeriod(StatsPeriod.DAY);
 
         //Check
-        LinkedHashMap<String, Double> map = logic.getExpenseStats();
-        assertTrue(map.size() > 0);
-        assertTrue(map.containsKey(validExpense.getDate().toString()));
-        assertTrue(map.get(validExpense.getDate().toString()) == validExpense.getCost().getCostValue());
+        StatsSeries stats = logic.getExpenseStats();
+        assertTrue(stats.size() > 0);
+        assertTrue(stats.containsLabel(validExpense.getDate().toString()));
+        assertTrue(stats.getValue(validExpense.getDate().toString()) == validExpense.getCost().getCostValue());
 
         model.updateStatsPeriod(StatsCommand.StatsPeriod.MONTH);
-        map = logic.getExpenseStats();
+        stats = logic.getExpenseStats();
         String month = validExpense.getDate().getFullDate().format(DateTimeFormatter.ofPattern("dd-MM-yyyy"));
-        assertTrue(map.size() > 0);
-        assertTrue(map.containsKey(month));
-        assertTrue(map.get(month) == validExpense.getCost().getCostValue());
+        assertTrue(stats.size() > 0);
+        assertTrue(stats.containsLabel(month));
+        assertTrue(stats.getValue(month) == validExpense.getCost().getCostValue());
 
         model.updateStatsMode(StatsMode.CATEGORY);
-        map = logic.getExpenseStats();
-        assertTrue(map.size() > 0);
-        assertTrue(map.containsKey(validExpense.getCategory().categoryName));
-        assertTrue(map.get(validExpense.getCategory().categoryName) == validExpense.getCost().getCostValue());
+        stats = logic.getExpenseStats();
+        assertTrue(stats.size() > 0);
+        assertTrue(stats.containsLabel(validExpense.getCategory().categoryName));
+        assertTrue(stats.getValue(validExpense.getCategory().categoryName) == validExpense.getCost().getCostValue());
     }
 
     @Test
@@ -120,23 +192,24 @@ public class LogicManagerTest {
         model.updateStatsMode(StatsMode.TIME);
         model.updateStatsPeriod(StatsPeriod.DAY);
 
-        LinkedHashMap<String, Double> map = logic.getExpenseStats();
-        assertTrue(map.size() > 0);
-        assertTrue(map.containsKey(validExpense.getDate().toString()));
-        assertTrue(map.get(validExpense.getDate().toString()) == (validExpense.getCost().getCostValue() * 2));
+        StatsSeries stats = logic.getExpenseStats();
+        assertTrue(stats.size() > 0);
+        assertTrue(stats.containsLabel(validExpense.getDate().toString()));
+        assertTrue(stats.getValue(validExpense.getDate().toString()) == (validExpense.getCost().getCostValue() * 2));
 
         model.updateStatsPeriod(StatsCommand.StatsPeriod.MONTH);
-        map = logic.getExpenseStats();
+        stats = logic.getExpenseStats();
         String month = validExpense.getDate().getFullDate().format(DateTimeFormatter.ofPattern("dd-MM-yyyy"));
-        assertTrue(map.size() > 0);
-        assertTrue(map.containsKey(month));
-        assertTrue(map.get(month) == (validExpense.getCost().getCostValue() * 2));
+        assertTrue(stats.size() > 0);
+        assertTrue(stats.containsLabel(month));
+        assertTrue(stats.getValue(month) == (validExpense.getCost().getCostValue() * 2));
 
         model.updateStatsMode(StatsMode.CATEGORY);
-        map = logic.getExpenseStats();
-        assertTrue(map.size() > 0);
-        assertTrue(map.containsKey(validExpense.getCategory().categoryName));
-        assertTrue(map.get(validExpense.getCategory().categoryName) == (validExpense.getCost().getCostValue() * 2));
+        stats = logic.getExpenseStats();
+        assertTrue(stats.size() > 0);
+        assertTrue(stats.containsLabel(validExpense.getCategory().categoryName));
+        assertTrue(stats.getValue(validExpense.getCategory().categoryName)
+                == (validExpense.getCost().getCostValue() * 2));
     }
 
     @Test
@@ -196,7 +269,8 @@ public class LogicManagerTest {
      */
     private void assertCommandFailure(String inputCommand, Class<?> expectedException, String expectedMessage)
             throws NoUserSelectedException {
-        Model expectedModel = new ModelManager(model.getExpenseTracker(), new UserPrefs(), null);
+        // a copy, as logging in to a new model would send it a tip which the model was not sent
+        Model expectedModel = ((ModelManager) model).copy(new UserPrefs());
         assertCommandBehavior(expectedException, inputCommand, expectedMessage, expectedModel);
     }
 
@@ -0,0 +1,64 @@
+package seedu.expensetracker.logic;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+
+public class PrefixTrieTest {
+    private final PrefixTrie trie = new PrefixTrie();
+
+    @Test
+    public void getCompletions_mostFrequentFirst() {
+        trie.add("Food");
+        trie.add("Fuel", 3);
+        trie.add("Fees", 2);
+        trie.add("Transport", 5);
+        assertEquals(Arrays.asList("Fuel", "Fees", "Food"), trie.getCompletions("f", 10));
+        assertEquals(Arrays.asList("Fuel", "Fees"), trie.getCompletions("F", 2));
+        assertEquals(Collections.singletonList("Food"), trie.getCompletions("FOO", 10));
+        assertTrue(trie.getCompletions("x", 10).isEmpty());
+    }
+
+    @Test
+    public void getCompletions_sameCount_alphabeticalOrder() {
+        trie.add("ab");
+        trie.add("a");
+        trie.add("abc");
+        trie.add("b");
+        assertEquals(Arrays.asList("a", "ab", "abc", "b"), trie.getCompletions("", 10));
+    }
+
+    @Test
+    public void remove_lastOccurrence_wordRemoved() {
+        trie.add("Lunch", 2);
+        trie.add("Lunchbox");
+        trie.remove("Lunch");
+        assertEquals(1, trie.getCount("lunch"));
+        assertEquals(2, trie.size());
+        assertEquals(Arrays.asList("Lunch", "Lunchbox"), trie.getCompletions("lu", 10));
+
+        trie.remove("Lunch");
+        trie.remove("Dinner");
+        assertEquals(0, trie.getCount("Lunch"));
+        assertEquals(1, trie.size());
+        assertEquals(Collections.singletonList("Lunchbox"), trie.getCompletions("lu", 10));
+
+        trie.remove("Lunchbox");
+        assertTrue(trie.getCompletions("", 10).isEmpty());
+    }
+
+    @Test
+    public void getCompletions_largeVocabulary_findsMostFrequent() {
+        for (int i = 0; i < 100_000; i++) {
+            trie.add("word" + i, 1 + i % 100);
+        }
+        assertEquals(100_000, trie.size());
+        List<String> completions = trie.getCompletions("word1", 3);
+        assertEquals(Arrays.asList("word10099", "word10199", "word10299"), completions);
+    }
+}
@@ -0,0 +1,91 @@
+package seedu.expensetracker.logic;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class StatsSeriesTest {
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final StatsSeries series = new StatsSeries();
+
+    @Test
+    public void add_existingLabel_addsToValue() {
+        series.add("Food", 2.5);
+        series.add("Transport", 1);
+        series.add("Food", 3);
+        assertEquals(2, series.size());
+        assertEquals("Food", series.getLabel(0));
+        assertEquals(5.5, series.getValue(0), 0);
+        assertEquals(5.5, series.getValue("Food"), 0);
+        assertTrue(series.containsLabel("Transport"));
+        assertFalse(series.containsLabel("Rent"));
+        assertEquals(0, series.getValue("Rent"), 0);
+        assertEquals(5.5, series.getMaxValue(), 0);
+    }
+
+    @Test
+    public void add_manyLabels_keepsOrder() {
+        for (int i = 0; i < 100; i++) {
+            series.add("day " + i, i);
+        }
+        assertEquals(100, series.size());
+        assertEquals("day 99", series.getLabel(99));
+        assertEquals(99, series.getValue(99), 0);
+    }
+
+    @Test
+    public void getValue_indexOutOfBounds_throwsIndexOutOfBoundsException() {
+        series.add("Food", 1);
+        thrown.expect(IndexOutOfBoundsException.class);
+        series.getValue(1);
+    }
+
+    @Test
+    public void getDownsampledIndices_thresholdAtLeastSize_returnsEveryIndex() {
+        series.add("a", 1);
+        series.add("b", 2);
+        series.add("c", 3);
+        assertArrayEquals(new int[] {0, 1, 2}, series.getDownsampledIndices(3));
+        assertArrayEquals(new int[] {0, 1, 2}, series.getDownsampledIndices(2));
+    }
+
+    @Test
+    public void getDownsampledIndices_longSeries_keepsEndsAndSpikes() {
+        for (int i = 0; i < 365; i++) {
+            series.add("day " + i, i == 100 || i == 250 ? 500 : 10);
+        }
+        int[] indices = series.getDownsampledIndices(20);
+        assertEquals(20, indices.length);
+        assertEquals(0, indices[0]);
+        assertEquals(364, indices[19]);
+        assertTrue(Arrays.stream(indices).anyMatch(index -> index == 100));
+        assertTrue(Arrays.stream(indices).anyMatch(index -> index == 250));
+        for (int i = 1; i < indices.length; i++) {
+            assertTrue(indices[i] > indices[i - 1]);
+        }
+    }
+
+    @Test
+    public void equals() {
+        series.add("Food", 1);
+        StatsSeries same = new StatsSeries();
+        same.add("Food", 1);
+        StatsSeries different = new StatsSeries();
+        different.add("Food", 2);
+
+        assertEquals(series, same);
+        assertEquals(series.hashCode(), same.hashCode());
+        assertNotEquals(series, different);
+        assertNotEquals(series, null);
+    }
+}
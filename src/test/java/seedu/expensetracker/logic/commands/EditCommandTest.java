@@ -47,6 +47,7 @@ public class EditCommandTest {
         String expectedMessage = String.format(EditCommand.MESSAGE_EDIT_EXPENSE_SUCCESS, editedExpense);
         Model expectedModel = new ModelManager(new ExpenseTracker(model.getExpenseTracker()), new UserPrefs(), null);
         expectedModel.updateExpense(model.getFilteredExpenseList().get(0), editedExpense);
+        expectedModel.addWarningNotification();
         expectedModel.commitExpenseTracker();
 
         assertCommandSuccess(editCommand, model, commandHistory, expectedMessage, expectedModel);
@@ -172,6 +173,7 @@ public class EditCommandTest {
         EditCommand editCommand = new EditCommand(INDEX_FIRST_EXPENSE, descriptor);
         Model expectedModel = new ModelManager(new ExpenseTracker(model.getExpenseTracker()), new UserPrefs(), null);
         expectedModel.updateExpense(expenseToEdit, editedExpense);
+        expectedModel.addWarningNotification();
         expectedModel.commitExpenseTracker();
 
         // edit -> first expense edited
@@ -218,6 +220,7 @@ public class EditCommandTest {
         showExpenseAtIndex(model, INDEX_SECOND_EXPENSE);
         Expense expenseToEdit = model.getFilteredExpenseList().get(INDEX_FIRST_EXPENSE.getZeroBased());
         expectedModel.updateExpense(expenseToEdit, editedExpense);
+        expectedModel.addWarningNotification();
         expectedModel.commitExpenseTracker();
 
         // edit -> edits second expense in unfiltered expense list / first expense in filtered expense list
@@ -0,0 +1,32 @@
+package seedu.expensetracker.logic.commands;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+import seedu.expensetracker.commons.metrics.Histogram;
+import seedu.expensetracker.commons.metrics.MetricsRegistry;
+import seedu.expensetracker.logic.CommandHistory;
+import seedu.expensetracker.model.ModelManager;
+
+public class MetricsCommandTest {
+    private final MetricsRegistry registry = new MetricsRegistry(false);
+
+    @Test
+    public void execute_noMetrics_showsNoMetricsMessage() {
+        CommandResult result = new MetricsCommand(registry).execute(new ModelManager(), new CommandHistory());
+        assertEquals(MetricsCommand.MESSAGE_NO_METRICS, result.feedbackToUser);
+    }
+
+    @Test
+    public void execute_metricsCollected_showsEachMetric() {
+        Histogram histogram = registry.histogram("command.add", Histogram.Unit.NANOSECONDS);
+        histogram.record(2_000_000);
+        registry.counter("command.failed").increment();
+
+        CommandResult result = new MetricsCommand(registry).execute(new ModelManager(), new CommandHistory());
+        String expected = String.format(MetricsCommand.MESSAGE_SUCCESS,
+                "command.add: " + histogram + "\ncommand.failed: count 1");
+        assertEquals(expected, result.feedbackToUser);
+    }
+}
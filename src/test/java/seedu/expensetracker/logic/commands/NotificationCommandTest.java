@@ -90,7 +90,7 @@ public class NotificationCommandTest {
 
         // Toggle on test
         expectedMessage = String.format(NotificationCommand.MESSAGE_SUCCESS, NotificationCommand.OPTION_ON);
-        expectedModel.toggleTipNotification(false);
+        expectedModel.toggleTipNotification(true);
         expectedModel.commitExpenseTracker();
 
         descriptor.setToggle(NotificationCommand.OPTION_ON);
@@ -129,7 +129,7 @@ public class NotificationCommandTest {
 
         // Toggle on test
         expectedMessage = String.format(NotificationCommand.MESSAGE_SUCCESS, NotificationCommand.OPTION_ON);
-        expectedModel.toggleWarningNotification(false);
+        expectedModel.toggleWarningNotification(true);
         expectedModel.commitExpenseTracker();
 
         descriptor.setToggle(NotificationCommand.OPTION_ON);
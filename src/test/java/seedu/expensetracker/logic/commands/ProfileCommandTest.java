@@ -0,0 +1,82 @@
+package seedu.expensetracker.logic.commands;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static seedu.expensetracker.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
+
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import seedu.expensetracker.commons.events.logic.CommandEnteredEvent;
+import seedu.expensetracker.commons.metrics.Histogram;
+import seedu.expensetracker.commons.metrics.MetricsRegistry;
+import seedu.expensetracker.commons.metrics.Profiler;
+import seedu.expensetracker.logic.CommandHistory;
+import seedu.expensetracker.logic.LogicManager;
+import seedu.expensetracker.logic.commands.exceptions.CommandException;
+import seedu.expensetracker.logic.parser.exceptions.ParseException;
+import seedu.expensetracker.model.Model;
+import seedu.expensetracker.testutil.ModelUtil;
+import seedu.expensetracker.ui.testutil.EventsCollectorRule;
+
+public class ProfileCommandTest {
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public final EventsCollectorRule eventsCollectorRule = new EventsCollectorRule();
+
+    @Test
+    public void profile_validCommand_showsResultAndEachPhase() throws Exception {
+        Model model = ModelUtil.modelWithTestUser();
+        int expenseCount = model.getFilteredExpenseList().size();
+        CommandResult result = new LogicManager(model).execute("profile add n/Lunch $/4.50 c/Food");
+
+        assertEquals(expenseCount + 1, model.getFilteredExpenseList().size());
+        assertTrue(result.feedbackToUser.startsWith(String.format(AddCommand.MESSAGE_SUCCESS, "").trim()));
+        for (Profiler.Phase phase : Profiler.Phase.values()) {
+            assertTrue(result.feedbackToUser.contains(phase.getLabel() + ": "));
+        }
+    }
+
+    @Test
+    public void profile_validCommand_recordedAsEntered() throws Exception {
+        CommandHistory history = new CommandHistory();
+        String profileText = "profile add n/Lunch $/4.50 c/Food";
+        long addCount = MetricsRegistry.getInstance().histogram("command.add", Histogram.Unit.NANOSECONDS)
+                .getCount();
+        new LogicManager(ModelUtil.modelWithTestUser(), history).execute(profileText);
+
+        // the profiled command is recorded once, with the text entered
+        assertEquals(List.of(profileText), history.getSnapshot());
+        assertEquals(profileText, ((CommandEnteredEvent) eventsCollectorRule.eventsCollector.getMostRecent()).command);
+        assertEquals(addCount + 1, MetricsRegistry.getInstance().histogram("command.add", Histogram.Unit.NANOSECONDS)
+                .getCount());
+    }
+
+    @Test
+    public void profile_invalidCommand_throwsParseException() throws Exception {
+        thrown.expect(ParseException.class);
+        thrown.expectMessage(MESSAGE_UNKNOWN_COMMAND);
+        new LogicManager(ModelUtil.modelWithTestUser()).execute("profile unknown");
+    }
+
+    @Test
+    public void execute_withoutLogic_throwsCommandException() throws Exception {
+        thrown.expect(CommandException.class);
+        thrown.expectMessage(ProfileCommand.MESSAGE_NO_LOGIC);
+        new ProfileCommand("list").execute(ModelUtil.modelWithTestUser(), new CommandHistory());
+    }
+
+    @Test
+    public void equals() {
+        ProfileCommand profileList = new ProfileCommand("list");
+        assertTrue(profileList.equals(profileList));
+        assertTrue(profileList.equals(new ProfileCommand("list")));
+        assertTrue(!profileList.equals(new ProfileCommand("history")));
+        assertTrue(!profileList.equals(null));
+    }
+}
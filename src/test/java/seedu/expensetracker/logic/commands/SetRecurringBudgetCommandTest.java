@@ -33,7 +33,8 @@ public class SetRecurringBudgetCommandTest {
     public void execute_setRecurrence_successful() throws NoUserSelectedException {
         ExpenseTracker emptyBook = new ExpenseTrackerBuilder().build();
         model = new ModelManager(emptyBook, new UserPrefs(), null);
-        ModelManager expectedModel = new ModelManager(model.getExpenseTracker(), new UserPrefs(), null);
+        // a copy, as logging in to a new model would notify it again that no recurrence is set
+        Model expectedModel = ((ModelManager) model).copy(new UserPrefs());
         expectedModel.setRecurrenceFrequency(this.newRecurrenceFrequency);
         expectedModel.commitExpenseTracker();
         SetRecurringBudgetCommand setRecurrenceFrequencyCommand = new SetRecurringBudgetCommand(newRecurrenceFrequency);
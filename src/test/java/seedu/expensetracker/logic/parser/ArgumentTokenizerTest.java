@@ -136,6 +136,16 @@ public class ArgumentTokenizerTest {
         assertArgumentAbsent(argMultimap, hatQ);
     }
 
+    @Test
+    public void tokenize_prefixStartingAnotherPrefix_longestPrefixTaken() {
+        Prefix pSlashQ = new Prefix("p/q/");
+        String argsString = "SomePreambleString p/q/ pSlashQ value p/ pSlash value";
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString, pSlash, pSlashQ);
+        assertPreamblePresent(argMultimap, "SomePreambleString");
+        assertArgumentPresent(argMultimap, pSlashQ, "pSlashQ value");
+        assertArgumentPresent(argMultimap, pSlash, "pSlash value");
+    }
+
     @Test
     public void equalsMethod() {
         Prefix aaa = new Prefix("aaa");
@@ -27,7 +27,9 @@ import seedu.expensetracker.logic.commands.HelpCommand;
 import seedu.expensetracker.logic.commands.HistoryCommand;
 import seedu.expensetracker.logic.commands.ListCommand;
 import seedu.expensetracker.logic.commands.LoginCommand;
+import seedu.expensetracker.logic.commands.MetricsCommand;
 import seedu.expensetracker.logic.commands.NotificationCommand;
+import seedu.expensetracker.logic.commands.ProfileCommand;
 import seedu.expensetracker.logic.commands.RedoCommand;
 import seedu.expensetracker.logic.commands.SelectCommand;
 import seedu.expensetracker.logic.commands.SetPasswordCommand;
@@ -65,6 +67,13 @@ public class ExpenseTrackerParserTest {
         assertTrue(parser.parseCommand(ClearCommand.COMMAND_ALIAS + " 3") instanceof ClearCommand);
     }
 
+    @Test
+    public void parseCommand_commandWordFollowedByTab() throws Exception {
+        DeleteCommand command = (DeleteCommand) parser.parseCommand(
+                "  " + DeleteCommand.COMMAND_WORD + "\t" + INDEX_FIRST_EXPENSE.getOneBased() + " ");
+        assertEquals(new DeleteCommand(INDEX_FIRST_EXPENSE), command);
+    }
+
     @Test
     public void parseCommand_delete() throws Exception {
         DeleteCommand command = (DeleteCommand) parser.parseCommand(
@@ -112,6 +121,18 @@ public class ExpenseTrackerParserTest {
         assertTrue(parser.parseCommand(HelpCommand.COMMAND_WORD + " 3") instanceof HelpCommand);
     }
 
+    @Test
+    public void parseCommand_metrics() throws Exception {
+        assertTrue(parser.parseCommand(MetricsCommand.COMMAND_WORD) instanceof MetricsCommand);
+        assertTrue(parser.parseCommand(MetricsCommand.COMMAND_WORD + " 3") instanceof MetricsCommand);
+    }
+
+    @Test
+    public void parseCommand_profile() throws Exception {
+        ProfileCommand command = (ProfileCommand) parser.parseCommand(ProfileCommand.COMMAND_WORD + " list");
+        assertEquals(new ProfileCommand(ListCommand.COMMAND_WORD), command);
+    }
+
     @Test
     public void parseCommand_history() throws Exception {
         assertTrue(parser.parseCommand(HistoryCommand.COMMAND_WORD) instanceof HistoryCommand);
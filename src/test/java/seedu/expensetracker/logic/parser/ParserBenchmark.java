@@ -0,0 +1,77 @@
+package seedu.expensetracker.logic.parser;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.expensetracker.logic.commands.AddCommand;
+import seedu.expensetracker.logic.commands.EditCommand;
+import seedu.expensetracker.logic.commands.FindCommand;
+import seedu.expensetracker.logic.parser.exceptions.ParseException;
+
+/**
+ * Measures how many commands {@link ExpenseTrackerParser} parses per second, for a stream of commands of the size of
+ * an import, made mostly of add commands with some edit and find commands.
+ * Run with {@code gradlew parserBenchmark}, optionally passing the number of commands as the only argument.
+ */
+public class ParserBenchmark {
+    private static final String[] CATEGORIES = {"Food", "Transport", "School", "Entertainment", "Bills"};
+    private static final int DEFAULT_COMMAND_COUNT = 100000;
+    private static final int WARMUP_ROUNDS = 5;
+    private static final int MEASURED_ROUNDS = 10;
+
+    /**
+     * Runs the benchmark with the number of commands given in {@code args}, if any.
+     */
+    public static void main(String[] args) throws ParseException {
+        int commandCount = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_COMMAND_COUNT;
+        List<String> commands = createCommands(commandCount);
+        ExpenseTrackerParser parser = new ExpenseTrackerParser();
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            parseAll(parser, commands);
+        }
+
+        long nanos = 0;
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            long start = System.nanoTime();
+            parseAll(parser, commands);
+            nanos += System.nanoTime() - start;
+        }
+        double secondsPerRound = nanos / 1e9 / MEASURED_ROUNDS;
+        System.out.println(String.format("%d commands, average of %d rounds", commandCount, MEASURED_ROUNDS));
+        System.out.println(String.format("%10.1f ms per round, %12.0f commands per second",
+                secondsPerRound * 1e3, commandCount / secondsPerRound));
+    }
+
+    /**
+     * Parses every command of {@code commands}, and returns a value depending on the results so that the parsing is
+     * not optimised away.
+     */
+    private static int parseAll(ExpenseTrackerParser parser, List<String> commands) throws ParseException {
+        int hash = 0;
+        for (String command : commands) {
+            hash += parser.parseCommand(command).hashCode();
+        }
+        return hash;
+    }
+
+    /**
+     * Returns {@code commandCount} varied valid commands.
+     */
+    private static List<String> createCommands(int commandCount) {
+        List<String> commands = new ArrayList<>(commandCount);
+        for (int i = 0; i < commandCount; i++) {
+            String category = CATEGORIES[i % CATEGORIES.length];
+            String cost = String.format("%d.%02d", i % 100 + 1, i % 97);
+            String date = String.format("%02d-%02d-%d", i % 28 + 1, i % 12 + 1, 2000 + i % 19);
+            if (i % 10 == 8) {
+                commands.add(EditCommand.COMMAND_WORD + " " + (i % 50 + 1) + " $/" + cost + " c/" + category);
+            } else if (i % 10 == 9) {
+                commands.add(FindCommand.COMMAND_WORD + " c/" + category + " $/1.00:" + cost);
+            } else {
+                commands.add(AddCommand.COMMAND_WORD + " n/Expense " + i + " c/" + category + " $/" + cost
+                        + " d/" + date + (i % 3 == 0 ? " t/friends t/weekly" : ""));
+            }
+        }
+        return commands;
+    }
+}
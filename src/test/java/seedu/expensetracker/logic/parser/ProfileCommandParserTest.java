@@ -0,0 +1,30 @@
+package seedu.expensetracker.logic.parser;
+
+import static seedu.expensetracker.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.expensetracker.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.expensetracker.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.Test;
+
+import seedu.expensetracker.logic.commands.ProfileCommand;
+
+public class ProfileCommandParserTest {
+
+    private ProfileCommandParser parser = new ProfileCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsProfileCommand() {
+        assertParseSuccess(parser, "  delete 1 ", new ProfileCommand("delete 1"));
+    }
+
+    @Test
+    public void parse_noCommand_throwsParseException() {
+        assertParseFailure(parser, "   ", String.format(MESSAGE_INVALID_COMMAND_FORMAT, ProfileCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_profileCommand_throwsParseException() {
+        assertParseFailure(parser, "profile list",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, ProfileCommand.MESSAGE_USAGE));
+    }
+}
@@ -1,32 +1,52 @@
 package seedu.expensetracker.model;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static seedu.expensetracker.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.expensetracker.model.Model.PREDICATE_SHOW_ALL_EXPENSES;
 import static seedu.expensetracker.testutil.TypicalExpenses.ICECREAM;
 import static seedu.expensetracker.testutil.TypicalExpenses.SCHOOLFEE;
+import static seedu.expensetracker.testutil.TypicalExpenses.getTypicalExpenseTracker;
 
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import seedu.expensetracker.commons.exceptions.IllegalValueException;
+import seedu.expensetracker.logic.LoginCredentials;
 import seedu.expensetracker.logic.commands.StatsCommand.StatsMode;
 import seedu.expensetracker.logic.commands.StatsCommand.StatsPeriod;
 import seedu.expensetracker.logic.parser.ArgumentMultimap;
 import seedu.expensetracker.logic.parser.ArgumentTokenizer;
 import seedu.expensetracker.logic.parser.exceptions.ParseException;
+import seedu.expensetracker.model.encryption.EncryptedExpense;
+import seedu.expensetracker.model.encryption.EncryptedExpenseTracker;
+import seedu.expensetracker.model.encryption.EncryptionUtil;
 import seedu.expensetracker.model.exceptions.InvalidDataException;
 import seedu.expensetracker.model.exceptions.NoUserSelectedException;
 import seedu.expensetracker.model.exceptions.NonExistentUserException;
 import seedu.expensetracker.model.exceptions.UserAlreadyExistsException;
 import seedu.expensetracker.model.expense.ExpenseContainsKeywordsPredicate;
+import seedu.expensetracker.model.notification.Tips;
+import seedu.expensetracker.model.user.Password;
+import seedu.expensetracker.model.user.PasswordTest;
+import seedu.expensetracker.model.user.Username;
 import seedu.expensetracker.testutil.ExpenseTrackerBuilder;
 import seedu.expensetracker.testutil.ModelUtil;
+import seedu.expensetracker.testutil.TypicalExpenses;
 
 public class ModelManagerTest {
+    private static final String OTHER_PASSWORD_STRING = "bbbbbb";
+
     @Rule
     public ExpectedException thrown = ExpectedException.none();
 
@@ -214,6 +234,81 @@ public class ModelManagerTest {
         modelManagerLoggedOut.indicateUserLoggedIn();
     }
 
+    @Test
+    public void setPassword_newPassword_expensesRekeyed() throws Exception {
+        Map<Username, EncryptedExpenseTracker> expenseTrackers = getTypicalExpenseTrackers();
+        ModelManager model = new ModelManager(expenseTrackers, new UserPrefs(), new Tips());
+        model.setRekeyExecutor(Runnable::run);
+        model.loadUserData(new LoginCredentials(TypicalExpenses.SAMPLE_USERNAME, null));
+        model.setPassword(PasswordTest.VALID_PASSWORD, PasswordTest.VALID_PASSWORD_STRING);
+
+        assertRekeyed(expenseTrackers.get(TypicalExpenses.SAMPLE_USERNAME));
+    }
+
+    @Test
+    public void loadUserData_rekeyingInterrupted_rekeyingResumed() throws Exception {
+        Map<Username, EncryptedExpenseTracker> expenseTrackers = getTypicalExpenseTrackers();
+        ModelManager model = new ModelManager(expenseTrackers, new UserPrefs(), new Tips());
+        // the job is never run, as if the application was closed before it started
+        model.setRekeyExecutor(job -> { });
+        model.loadUserData(new LoginCredentials(TypicalExpenses.SAMPLE_USERNAME, null));
+        model.setPassword(PasswordTest.VALID_PASSWORD, PasswordTest.VALID_PASSWORD_STRING);
+        model.unloadUserData();
+        EncryptedExpenseTracker storedTracker = expenseTrackers.get(TypicalExpenses.SAMPLE_USERNAME);
+        assertEquals(Collections.singletonList(EncryptionUtil.DEFAULT_ENCRYPTION_KEY),
+                storedTracker.getPreviousKeys(EncryptionUtil.createEncryptionKey(PasswordTest.VALID_PASSWORD_STRING)));
+
+        ModelManager restartedModel = new ModelManager(expenseTrackers, new UserPrefs(), new Tips());
+        restartedModel.setRekeyExecutor(Runnable::run);
+        restartedModel.loadUserData(new LoginCredentials(TypicalExpenses.SAMPLE_USERNAME,
+                PasswordTest.VALID_PASSWORD_STRING));
+
+        assertEquals(getTypicalExpenseTracker().getExpenseList(), restartedModel.getExpenseTracker().getExpenseList());
+        assertRekeyed(expenseTrackers.get(TypicalExpenses.SAMPLE_USERNAME));
+    }
+
+    @Test
+    public void setPassword_rekeyingUnfinished_expensesRekeyedFromEachPreviousKey() throws Exception {
+        Map<Username, EncryptedExpenseTracker> expenseTrackers = getTypicalExpenseTrackers();
+        ModelManager model = new ModelManager(expenseTrackers, new UserPrefs(), new Tips());
+        List<Runnable> jobs = new ArrayList<>();
+        model.setRekeyExecutor(jobs::add);
+        model.loadUserData(new LoginCredentials(TypicalExpenses.SAMPLE_USERNAME, null));
+        model.setPassword(new Password(OTHER_PASSWORD_STRING, true), OTHER_PASSWORD_STRING);
+        // the password is changed again before the first job has run
+        model.setPassword(PasswordTest.VALID_PASSWORD, PasswordTest.VALID_PASSWORD_STRING);
+        EncryptedExpenseTracker storedTracker = expenseTrackers.get(TypicalExpenses.SAMPLE_USERNAME);
+        assertEquals(Arrays.asList(EncryptionUtil.createEncryptionKey(OTHER_PASSWORD_STRING),
+                EncryptionUtil.DEFAULT_ENCRYPTION_KEY),
+                storedTracker.getPreviousKeys(EncryptionUtil.createEncryptionKey(PasswordTest.VALID_PASSWORD_STRING)));
+
+        jobs.forEach(Runnable::run);
+        assertRekeyed(storedTracker);
+    }
+
+    /**
+     * Returns the typical expense tracker, encrypted and keyed by its username.
+     */
+    private static Map<Username, EncryptedExpenseTracker> getTypicalExpenseTrackers() throws IllegalValueException {
+        Map<Username, EncryptedExpenseTracker> expenseTrackers = new HashMap<>();
+        expenseTrackers.put(TypicalExpenses.SAMPLE_USERNAME, EncryptionUtil.encryptTracker(getTypicalExpenseTracker()));
+        return expenseTrackers;
+    }
+
+    /**
+     * Asserts that every expense in {@code storedTracker} can be decrypted with the key of the valid password, and
+     * that the expenses are no longer marked as being re-encrypted.
+     */
+    private static void assertRekeyed(EncryptedExpenseTracker storedTracker) throws IllegalValueException {
+        String key = EncryptionUtil.createEncryptionKey(PasswordTest.VALID_PASSWORD_STRING);
+        assertEquals(Collections.emptyList(), storedTracker.getPreviousKeys(key));
+        assertEquals(getTypicalExpenseTracker().getExpenseList().size(), storedTracker.getEncryptedExpenses().size());
+        for (EncryptedExpense expense : storedTracker.getEncryptedExpenses()) {
+            // a copy of the record is decrypted, so that no earlier decryption is reused
+            new EncryptedExpense(expense.getRecord(), null).getDecryptedExpense(key);
+        }
+    }
+
     @Test
     public void equals() throws NoUserSelectedException {
         ExpenseTracker expenseTracker =
@@ -0,0 +1,194 @@
+package seedu.expensetracker.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+public class PagedFilteredListTest {
+    private static final Predicate<Integer> IS_EVEN = number -> number % 2 == 0;
+
+    private final ObservableList<Integer> source = FXCollections.observableArrayList(range(0, 20));
+    private final List<Runnable> scanTasks = new ArrayList<>();
+    private int evaluationCount;
+
+    @Test
+    public void setPredicate_noScanExecutor_filtersCompletely() {
+        PagedFilteredList<Integer> filtered = new PagedFilteredList<>(source);
+        assertEquals(source, filtered);
+
+        filtered.setPredicate(IS_EVEN);
+        assertTrue(filtered.isComplete());
+        assertEquals(expected(IS_EVEN), filtered);
+        assertEquals(2, filtered.getSourceIndex(1));
+        assertEquals(2, filtered.getViewIndex(4));
+        assertEquals(-1, filtered.getViewIndex(5));
+    }
+
+    @Test
+    public void setPredicate_samePredicate_notEvaluatedAgain() {
+        PagedFilteredList<Integer> filtered = new PagedFilteredList<>(source);
+        Predicate<Integer> predicate = counting(IS_EVEN);
+        filtered.setPredicate(predicate);
+        evaluationCount = 0;
+
+        filtered.setPredicate(predicate);
+        assertEquals(0, evaluationCount);
+    }
+
+    @Test
+    public void setPredicate_withScanExecutor_firstPageThenRestInChunks() {
+        source.setAll(range(0, PagedFilteredList.SCAN_CHUNK_SIZE * 2));
+        PagedFilteredList<Integer> filtered = new PagedFilteredList<>(source, 5, scanTasks::add);
+        runScanTasks();
+        List<Integer> mirror = mirror(filtered);
+
+        filtered.setPredicate(counting(IS_EVEN));
+        assertEquals(Arrays.asList(0, 2, 4, 6, 8), filtered);
+        assertEquals(9, evaluationCount);
+        assertFalse(filtered.isComplete());
+        assertEquals(1, scanTasks.size());
+
+        runScanTasks();
+        assertTrue(filtered.isComplete());
+        assertEquals(expected(IS_EVEN), filtered);
+        assertEquals(filtered, mirror);
+    }
+
+    @Test
+    public void setPredicate_whileScanning_earlierScanStops() {
+        source.setAll(range(0, PagedFilteredList.SCAN_CHUNK_SIZE * 2));
+        PagedFilteredList<Integer> filtered = new PagedFilteredList<>(source, 5, scanTasks::add);
+        runScanTasks();
+        filtered.setPredicate(IS_EVEN);
+        Predicate<Integer> isOdd = IS_EVEN.negate();
+        filtered.setPredicate(isOdd);
+
+        runScanTasks();
+        assertEquals(expected(isOdd), filtered);
+    }
+
+    @Test
+    public void finishScan_scanIncomplete_scansRest() {
+        source.setAll(range(0, 100));
+        PagedFilteredList<Integer> filtered = new PagedFilteredList<>(source, 5, scanTasks::add);
+        filtered.setPredicate(IS_EVEN);
+        filtered.finishScan();
+        assertTrue(filtered.isComplete());
+        assertEquals(expected(IS_EVEN), filtered);
+    }
+
+    @Test
+    public void sourceChanged_singleElement_onlyChangedElementEvaluated() {
+        PagedFilteredList<Integer> filtered = new PagedFilteredList<>(source);
+        filtered.setPredicate(counting(IS_EVEN));
+        List<Integer> mirror = mirror(filtered);
+        evaluationCount = 0;
+
+        source.add(5, 100);
+        source.remove(Integer.valueOf(8));
+        source.set(0, 3);
+        source.add(42);
+        assertEquals(3, evaluationCount);
+        assertEquals(expected(IS_EVEN), filtered);
+        assertEquals(filtered, mirror);
+    }
+
+    @Test
+    public void sourceChanged_rangesAndPermutation_matchesFilteredSource() {
+        PagedFilteredList<Integer> filtered = new PagedFilteredList<>(source);
+        filtered.setPredicate(IS_EVEN);
+        List<Integer> mirror = mirror(filtered);
+
+        source.addAll(3, range(50, 60));
+        source.remove(10, 18);
+        source.setAll(range(30, 45));
+        FXCollections.reverse(source);
+        FXCollections.sort(source);
+        assertEquals(expected(IS_EVEN), filtered);
+        assertEquals(filtered, mirror);
+    }
+
+    @Test
+    public void sourceChanged_whileScanning_matchesFilteredSourceAfterScan() {
+        source.setAll(range(0, PagedFilteredList.SCAN_CHUNK_SIZE + 100));
+        PagedFilteredList<Integer> filtered = new PagedFilteredList<>(source, 5, scanTasks::add);
+        runScanTasks();
+        filtered.setPredicate(IS_EVEN);
+        List<Integer> mirror = mirror(filtered);
+
+        source.add(0, -2);
+        source.remove(3);
+        source.add(1000);
+        source.remove(500, 600);
+        FXCollections.sort(source, (first, second) -> second - first);
+        runScanTasks();
+        assertEquals(expected(IS_EVEN), filtered);
+        assertEquals(filtered, mirror);
+    }
+
+    /**
+     * Runs the scan tasks until there are none left.
+     */
+    private void runScanTasks() {
+        while (!scanTasks.isEmpty()) {
+            scanTasks.remove(0).run();
+        }
+    }
+
+    /**
+     * Returns {@code predicate} counting its evaluations in {@code evaluationCount}.
+     */
+    private Predicate<Integer> counting(Predicate<Integer> predicate) {
+        return number -> {
+            evaluationCount++;
+            return predicate.test(number);
+        };
+    }
+
+    /**
+     * Returns the elements of the source list matching {@code predicate}.
+     */
+    private List<Integer> expected(Predicate<Integer> predicate) {
+        return source.stream().filter(predicate).collect(Collectors.toList());
+    }
+
+    /**
+     * Returns a copy of {@code list} which is kept up to date by applying the changes fired by {@code list}.
+     */
+    private static List<Integer> mirror(ObservableList<Integer> list) {
+        List<Integer> mirror = new ArrayList<>(list);
+        list.addListener((ListChangeListener<Integer>) c -> {
+            while (c.next()) {
+                if (c.wasPermutated()) {
+                    List<Integer> permuted = new ArrayList<>(mirror);
+                    for (int i = c.getFrom(); i < c.getTo(); i++) {
+                        permuted.set(c.getPermutation(i), mirror.get(i));
+                    }
+                    mirror.clear();
+                    mirror.addAll(permuted);
+                } else {
+                    mirror.subList(c.getFrom(), c.getFrom() + c.getRemovedSize()).clear();
+                    mirror.addAll(c.getFrom(), c.getAddedSubList());
+                }
+            }
+        });
+        return mirror;
+    }
+
+    private static List<Integer> range(int from, int to) {
+        return IntStream.range(from, to).boxed().collect(Collectors.toList());
+    }
+}
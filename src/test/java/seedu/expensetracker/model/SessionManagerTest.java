@@ -0,0 +1,177 @@
+package seedu.expensetracker.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static seedu.expensetracker.testutil.TypicalExpenses.ICECREAM;
+import static seedu.expensetracker.testutil.TypicalExpenses.SCHOOLFEE;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import seedu.expensetracker.logic.LoginCredentials;
+import seedu.expensetracker.model.exceptions.NoUserSelectedException;
+import seedu.expensetracker.model.exceptions.NonExistentUserException;
+import seedu.expensetracker.model.expense.Expense;
+import seedu.expensetracker.model.user.Password;
+import seedu.expensetracker.model.user.Username;
+import seedu.expensetracker.testutil.ExpenseBuilder;
+import seedu.expensetracker.ui.testutil.EventsCollectorRule;
+
+public class SessionManagerTest {
+    private static final Username ALICE = new Username("alice");
+    private static final Username BOB = new Username("bob");
+    private static final String BOB_PASSWORD = "password123";
+
+    @Rule
+    public final EventsCollectorRule eventsCollectorRule = new EventsCollectorRule();
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private SessionManager sessionManager;
+
+    @Before
+    public void setUp() throws Exception {
+        ModelManager model = new ModelManager();
+        model.setRekeyExecutor(Runnable::run);
+        model.addUser(ALICE);
+        model.addUser(BOB);
+        model.loadUserData(new LoginCredentials(BOB, null));
+        model.setPassword(new Password(BOB_PASSWORD, true), BOB_PASSWORD);
+        model.unloadUserData();
+        sessionManager = new SessionManager(model);
+    }
+
+    @Test
+    public void logIn_sameUserTwice_sameSession() throws Exception {
+        Session session = sessionManager.logIn(new LoginCredentials(ALICE, null)).get();
+        assertEquals(ALICE, session.getUsername());
+        assertSame(session, sessionManager.logIn(new LoginCredentials(ALICE, null)).get());
+        assertEquals(1, sessionManager.getSessionCount());
+    }
+
+    @Test
+    public void logIn_wrongPassword_empty() throws Exception {
+        assertFalse(sessionManager.logIn(new LoginCredentials(BOB, "wrongpassword")).isPresent());
+        assertEquals(0, sessionManager.getSessionCount());
+
+        // the password is also checked once the user has a session
+        assertTrue(sessionManager.logIn(new LoginCredentials(BOB, BOB_PASSWORD)).isPresent());
+        assertFalse(sessionManager.logIn(new LoginCredentials(BOB, "wrongpassword")).isPresent());
+    }
+
+    @Test
+    public void logIn_nonExistentUser_throwsNonExistentUserException() throws Exception {
+        thrown.expect(NonExistentUserException.class);
+        sessionManager.logIn(new LoginCredentials(new Username("nobody"), null));
+    }
+
+    @Test
+    public void write_differentUsers_separateModels() throws Exception {
+        Session alice = sessionManager.logIn(new LoginCredentials(ALICE, null)).get();
+        Session bob = sessionManager.logIn(new LoginCredentials(BOB, BOB_PASSWORD)).get();
+
+        alice.write(model -> addAndCommit(model, SCHOOLFEE));
+        bob.write(model -> addAndCommit(model, ICECREAM));
+        assertEquals(List.of(SCHOOLFEE), alice.getExpenses());
+        assertEquals(List.of(ICECREAM), bob.getExpenses());
+
+        // each user undoes their own changes only
+        alice.write(SessionManagerTest::undo);
+        assertTrue(alice.getExpenses().isEmpty());
+        assertEquals(List.of(ICECREAM), bob.getExpenses());
+        assertFalse(alice.read(Model::canUndoExpenseTracker));
+        assertTrue(bob.read(Model::canUndoExpenseTracker));
+    }
+
+    @Test
+    public void getExpenses_afterWrite_earlierSnapshotUnchanged() throws Exception {
+        Session alice = sessionManager.logIn(new LoginCredentials(ALICE, null)).get();
+        List<Expense> before = alice.getExpenses();
+        alice.write(model -> model.addExpense(SCHOOLFEE));
+
+        assertTrue(before.isEmpty());
+        assertNotSame(before, alice.getExpenses());
+        thrown.expect(UnsupportedOperationException.class);
+        alice.getExpenses().clear();
+    }
+
+    @Test
+    public void logOut_loggedInUser_sessionClosed() throws Exception {
+        Session alice = sessionManager.logIn(new LoginCredentials(ALICE, null)).get();
+        alice.write(model -> model.addExpense(SCHOOLFEE));
+        sessionManager.logOut(ALICE);
+
+        assertFalse(sessionManager.getSession(ALICE).isPresent());
+        assertFalse(alice.read(Model::hasSelectedUser));
+        // the changes of the closed session are kept for the next session of the user
+        Session reopened = sessionManager.logIn(new LoginCredentials(ALICE, null)).get();
+        assertNotSame(alice, reopened);
+        assertEquals(List.of(SCHOOLFEE), reopened.getExpenses());
+    }
+
+    @Test
+    public void logOutIdle_idleAndUsedSessions_onlyIdleSessionsClosed() throws Exception {
+        Session alice = sessionManager.logIn(new LoginCredentials(ALICE, null)).get();
+        Session bob = sessionManager.logIn(new LoginCredentials(BOB, BOB_PASSWORD)).get();
+
+        assertTrue(sessionManager.logOutIdle(Duration.ofHours(1)).isEmpty());
+        assertEquals(2, sessionManager.getSessionCount());
+
+        List<Session> closed = sessionManager.logOutIdle(Duration.ZERO);
+        assertEquals(2, closed.size());
+        assertTrue(closed.containsAll(List.of(alice, bob)));
+        assertEquals(0, sessionManager.getSessionCount());
+        assertFalse(alice.read(Model::hasSelectedUser));
+        assertFalse(bob.read(Model::hasSelectedUser));
+    }
+
+    @Test
+    public void logOut_notLoggedIn_empty() {
+        assertFalse(sessionManager.logOut(ALICE).isPresent());
+    }
+
+    @Test
+    public void write_concurrentWrites_everyChangeKept() throws Exception {
+        int writesPerUser = 50;
+        Session alice = sessionManager.logIn(new LoginCredentials(ALICE, null)).get();
+        Session bob = sessionManager.logIn(new LoginCredentials(BOB, BOB_PASSWORD)).get();
+        ExecutorService writers = Executors.newFixedThreadPool(4);
+        List<Future<?>> writes = new ArrayList<>();
+        for (int i = 0; i < writesPerUser; i++) {
+            Expense expense = new ExpenseBuilder().withName("Lunch " + i).build();
+            writes.add(writers.submit(() -> alice.write(model -> model.addExpense(expense))));
+            writes.add(writers.submit(() -> bob.write(model -> model.addExpense(expense))));
+        }
+        for (Future<?> write : writes) {
+            write.get();
+        }
+        writers.shutdown();
+
+        assertEquals(writesPerUser, alice.getExpenses().size());
+        assertEquals(writesPerUser, bob.getExpenses().size());
+    }
+
+    private static Void addAndCommit(Model model, Expense expense) throws NoUserSelectedException {
+        model.addExpense(expense);
+        model.commitExpenseTracker();
+        return null;
+    }
+
+    private static Void undo(Model model) throws NoUserSelectedException {
+        model.undoExpenseTracker();
+        return null;
+    }
+}
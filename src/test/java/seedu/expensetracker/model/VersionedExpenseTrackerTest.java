@@ -8,12 +8,15 @@ import static seedu.expensetracker.testutil.TypicalExpenses.GAME;
 import static seedu.expensetracker.testutil.TypicalExpenses.IPHONE;
 import static seedu.expensetracker.testutil.TypicalExpenses.TOY;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
 import org.junit.Test;
 
+import javafx.collections.ListChangeListener;
+import seedu.expensetracker.model.expense.Expense;
 import seedu.expensetracker.testutil.ExpenseTrackerBuilder;
 
 public class VersionedExpenseTrackerTest {
@@ -151,6 +154,24 @@ public class VersionedExpenseTrackerTest {
                 Arrays.asList(expenseTrackerWithGame, expenseTrackerWithiPhone));
     }
 
+    @Test
+    public void undo_expenseAdded_onlyAddedExpenseRemoved() {
+        VersionedExpenseTracker versionedExpenseTracker = new VersionedExpenseTracker(expenseTrackerWithGame);
+        versionedExpenseTracker.addExpense(IPHONE);
+        versionedExpenseTracker.commit();
+        List<Expense> removed = new ArrayList<>();
+        versionedExpenseTracker.getExpenseList().addListener((ListChangeListener<Expense>) c -> {
+            while (c.next()) {
+                assertFalse(c.wasAdded());
+                removed.addAll(c.getRemoved());
+            }
+        });
+
+        versionedExpenseTracker.undo();
+        assertEquals(Collections.singletonList(IPHONE), removed);
+        assertEquals(expenseTrackerWithGame, versionedExpenseTracker);
+    }
+
     @Test
     public void undo_singleExpenseTracker_throwsNoUndoableStateException() {
         VersionedExpenseTracker versionedExpenseTracker = prepareExpenseTrackerList(emptyExpenseTracker);
@@ -6,6 +6,7 @@ import static seedu.expensetracker.logic.commands.CommandTestUtil.VALID_COST_IPH
 import static seedu.expensetracker.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.expensetracker.model.encryption.EncryptionUtil.DEFAULT_ENCRYPTION_KEY;
 import static seedu.expensetracker.model.encryption.EncryptionUtil.encryptExpense;
+import static seedu.expensetracker.model.encryption.EncryptionUtil.encryptExpenseFields;
 import static seedu.expensetracker.testutil.TypicalExpenses.SCHOOLFEE;
 
 import org.junit.Rule;
@@ -46,10 +47,10 @@ public class EncryptedExpenseListTest {
 
     @Test
     public void contains_expenseWithSameIdentityFieldsInList_returnsTrue() throws IllegalValueException {
-        expenseList.add(encryptedSchoolFee);
+        expenseList.add(encryptExpenseFields(SCHOOLFEE, DEFAULT_ENCRYPTION_KEY));
         EncryptedExpense editedAlice =
                 new ExpenseBuilder(SCHOOLFEE).withCost(VALID_COST_IPHONE).withTags(VALID_TAG_HUSBAND)
-                .buildEncrypted();
+                .buildEncryptedFields();
         assertTrue(expenseList.contains(editedAlice));
     }
 
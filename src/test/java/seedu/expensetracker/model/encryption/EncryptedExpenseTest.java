@@ -3,21 +3,30 @@ package seedu.expensetracker.model.encryption;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static seedu.expensetracker.logic.commands.CommandTestUtil.VALID_CATEGORY_IPHONE;
 import static seedu.expensetracker.logic.commands.CommandTestUtil.VALID_COST_IPHONE;
 import static seedu.expensetracker.logic.commands.CommandTestUtil.VALID_NAME_IPHONE;
 import static seedu.expensetracker.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.expensetracker.model.encryption.EncryptionUtil.DEFAULT_ENCRYPTION_KEY;
+import static seedu.expensetracker.model.encryption.EncryptionUtil.createEncryptionKey;
 import static seedu.expensetracker.model.encryption.EncryptionUtil.encryptExpense;
+import static seedu.expensetracker.model.encryption.EncryptionUtil.encryptExpenseFields;
 import static seedu.expensetracker.testutil.TypicalExpenses.IPHONE;
 import static seedu.expensetracker.testutil.TypicalExpenses.SCHOOLFEE;
 
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.time.YearMonth;
+
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
 import seedu.expensetracker.commons.exceptions.IllegalValueException;
+import seedu.expensetracker.model.expense.Expense;
+import seedu.expensetracker.model.tag.Tag;
 import seedu.expensetracker.testutil.ExpenseBuilder;
 
 //@@author JasonChong96
@@ -30,8 +39,8 @@ public class EncryptedExpenseTest {
     private final EncryptedExpense encryptedIphone;
 
     public EncryptedExpenseTest() throws IllegalValueException {
-        encryptedSchoolFee = encryptExpense(SCHOOLFEE, DEFAULT_ENCRYPTION_KEY);
-        encryptedIphone = encryptExpense(IPHONE, DEFAULT_ENCRYPTION_KEY);
+        encryptedSchoolFee = encryptExpenseFields(SCHOOLFEE, DEFAULT_ENCRYPTION_KEY);
+        encryptedIphone = encryptExpenseFields(IPHONE, DEFAULT_ENCRYPTION_KEY);
     }
 
     @Test
@@ -44,8 +53,8 @@ public class EncryptedExpenseTest {
     @Test
     public void expenseHashCode() throws IllegalValueException {
         // same expense -> returns true
-        assertEquals(new ExpenseBuilder(SCHOOLFEE).buildEncrypted().hashCode(),
-                new ExpenseBuilder(SCHOOLFEE).buildEncrypted().hashCode());
+        assertEquals(new ExpenseBuilder(SCHOOLFEE).buildEncryptedFields().hashCode(),
+                new ExpenseBuilder(SCHOOLFEE).buildEncryptedFields().hashCode());
         // different expenses are not tested as hash function is not guaranteed distinct hashes for different expenses
     }
 
@@ -61,34 +70,34 @@ public class EncryptedExpenseTest {
         EncryptedExpense editedAlice = new ExpenseBuilder(SCHOOLFEE)
                 .withCategory(VALID_CATEGORY_IPHONE)
                 .withCost(VALID_COST_IPHONE)
-                .buildEncrypted();
+                .buildEncryptedFields();
         assertFalse(encryptedSchoolFee.isSameExpense(editedAlice));
 
         // different name -> returns false
         editedAlice = new ExpenseBuilder(SCHOOLFEE)
                 .withName(VALID_NAME_IPHONE)
-                .buildEncrypted();
+                .buildEncryptedFields();
         assertFalse(encryptedSchoolFee.isSameExpense(editedAlice));
 
         // same name, same category, different attributes -> returns true
         editedAlice = new ExpenseBuilder(SCHOOLFEE)
                 .withCost(VALID_COST_IPHONE)
                 .withTags(VALID_TAG_HUSBAND)
-                .buildEncrypted();
+                .buildEncryptedFields();
         assertTrue(encryptedSchoolFee.isSameExpense(editedAlice));
 
         // same name, same category, different attributes -> returns true
         editedAlice = new ExpenseBuilder(SCHOOLFEE)
                 .withCost(VALID_COST_IPHONE)
                 .withTags(VALID_TAG_HUSBAND)
-                .buildEncrypted();
+                .buildEncryptedFields();
         assertTrue(encryptedSchoolFee.isSameExpense(editedAlice));
     }
 
     @Test
     public void equals() throws IllegalValueException {
         // same values -> returns true
-        EncryptedExpense aliceCopy = new ExpenseBuilder(SCHOOLFEE).buildEncrypted();
+        EncryptedExpense aliceCopy = new ExpenseBuilder(SCHOOLFEE).buildEncryptedFields();
         assertEquals(encryptedSchoolFee, aliceCopy);
 
         // same object -> returns true
@@ -106,25 +115,119 @@ public class EncryptedExpenseTest {
         // different name -> returns false
         EncryptedExpense editedAlice = new ExpenseBuilder(SCHOOLFEE)
                 .withName(VALID_NAME_IPHONE)
-                .buildEncrypted();
+                .buildEncryptedFields();
         assertNotEquals(encryptedSchoolFee, editedAlice);
 
         // different category -> returns false
         editedAlice = new ExpenseBuilder(SCHOOLFEE)
                 .withCategory(VALID_CATEGORY_IPHONE)
-                .buildEncrypted();
+                .buildEncryptedFields();
         assertNotEquals(encryptedSchoolFee, editedAlice);
 
         // different expensetracker -> returns false
         editedAlice = new ExpenseBuilder(SCHOOLFEE)
                 .withCost(VALID_COST_IPHONE)
-                .buildEncrypted();
+                .buildEncryptedFields();
         assertNotEquals(encryptedSchoolFee, editedAlice);
 
         // different tags -> returns false
         editedAlice = new ExpenseBuilder(SCHOOLFEE)
                 .withTags(VALID_TAG_HUSBAND)
-                .buildEncrypted();
+                .buildEncryptedFields();
         assertNotEquals(encryptedSchoolFee, editedAlice);
     }
+
+    @Test
+    public void sealedExpense_sameExpenseSealedTwice_differentRecords() throws IllegalValueException {
+        EncryptedExpense first = encryptExpense(SCHOOLFEE, DEFAULT_ENCRYPTION_KEY);
+        EncryptedExpense second = encryptExpense(SCHOOLFEE, DEFAULT_ENCRYPTION_KEY);
+        assertTrue(first.isSealed());
+        assertNotEquals(first, second);
+        assertFalse(first.isSameExpense(second));
+
+        // same record -> returns true
+        EncryptedExpense copy = new EncryptedExpense(first.getRecord(), null);
+        assertEquals(first, copy);
+        assertEquals(first.hashCode(), copy.hashCode());
+        assertTrue(first.isSameExpense(copy));
+    }
+
+    @Test
+    public void getDecryptedExpense_sealedRecord_success() throws IllegalValueException {
+        EncryptedExpense sealed = encryptExpense(SCHOOLFEE, DEFAULT_ENCRYPTION_KEY);
+        assertEquals(YearMonth.from(SCHOOLFEE.getDate().getFullDate()), sealed.getPartition().get());
+        assertEquals(SCHOOLFEE, new EncryptedExpense(sealed.getRecord(), null)
+                .getDecryptedExpense(DEFAULT_ENCRYPTION_KEY));
+    }
+
+    @Test
+    public void getDecryptedExpense_manyTags_allTagsKept() throws IllegalValueException {
+        // the tag count of version 1 records was a single byte
+        for (int tagCount : new int[] {255, 256, 300}) {
+            String[] tags = new String[tagCount];
+            for (int i = 0; i < tagCount; i++) {
+                tags[i] = "tag" + i;
+            }
+            Expense expense = new ExpenseBuilder(SCHOOLFEE).withTags(tags).build();
+            EncryptedExpense sealed = new EncryptedExpense(
+                    encryptExpense(expense, DEFAULT_ENCRYPTION_KEY).getRecord(), null);
+            assertEquals(expense, sealed.getDecryptedExpense(DEFAULT_ENCRYPTION_KEY));
+        }
+    }
+
+    @Test
+    public void getDecryptedExpense_version1Record_success() throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(1);
+            out.writeUTF(SCHOOLFEE.getName().toString());
+            out.writeUTF(SCHOOLFEE.getCategory().toString());
+            out.writeUTF(SCHOOLFEE.getCost().toString());
+            out.writeUTF(SCHOOLFEE.getDate().toString());
+            out.writeByte(SCHOOLFEE.getTags().size());
+            for (Tag tag : SCHOOLFEE.getTags()) {
+                out.writeUTF(tag.tagName);
+            }
+        }
+        byte[] record = EncryptionUtil.encryptBytes(bytes.toByteArray(), DEFAULT_ENCRYPTION_KEY);
+        assertEquals(SCHOOLFEE, new EncryptedExpense(record, null).getDecryptedExpense(DEFAULT_ENCRYPTION_KEY));
+    }
+
+    @Test
+    public void getDecryptedExpense_fieldLayout_success() throws IllegalValueException {
+        assertEquals(SCHOOLFEE, encryptedSchoolFee.getDecryptedExpense(DEFAULT_ENCRYPTION_KEY));
+    }
+
+    @Test
+    public void getDecryptedExpense_calledTwice_decryptedOnce() throws IllegalValueException {
+        EncryptedExpense sealed = new EncryptedExpense(
+                encryptExpense(SCHOOLFEE, DEFAULT_ENCRYPTION_KEY).getRecord(), null);
+        assertEquals(null, sealed.getDecryptedExpenseIfPresent(DEFAULT_ENCRYPTION_KEY));
+        assertSame(sealed.getDecryptedExpense(DEFAULT_ENCRYPTION_KEY),
+                sealed.getDecryptedExpense(DEFAULT_ENCRYPTION_KEY));
+        assertSame(sealed.getDecryptedExpense(DEFAULT_ENCRYPTION_KEY),
+                sealed.getDecryptedExpenseIfPresent(DEFAULT_ENCRYPTION_KEY));
+    }
+
+    @Test
+    public void getDecryptedExpense_wrongKey_throwsIllegalValueException() throws IllegalValueException {
+        EncryptedExpense sealed = new EncryptedExpense(
+                encryptExpense(SCHOOLFEE, DEFAULT_ENCRYPTION_KEY).getRecord(), null);
+        thrown.expect(IllegalValueException.class);
+        sealed.getDecryptedExpense(createEncryptionKey("wrong password"));
+    }
+
+    @Test
+    public void getDecryptedExpense_tamperedRecord_throwsIllegalValueException() throws IllegalValueException {
+        byte[] record = encryptExpense(SCHOOLFEE, DEFAULT_ENCRYPTION_KEY).getRecord();
+        record[record.length / 2] ^= 1;
+        thrown.expect(IllegalValueException.class);
+        new EncryptedExpense(record, null).getDecryptedExpense(DEFAULT_ENCRYPTION_KEY);
+    }
+
+    @Test
+    public void getRecord_fieldLayout_throwsIllegalStateException() {
+        thrown.expect(IllegalStateException.class);
+        encryptedSchoolFee.getRecord();
+    }
 }
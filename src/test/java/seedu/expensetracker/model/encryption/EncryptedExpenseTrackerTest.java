@@ -7,18 +7,30 @@ import static seedu.expensetracker.logic.commands.CommandTestUtil.VALID_COST_IPH
 import static seedu.expensetracker.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.expensetracker.model.encryption.EncryptionUtil.DEFAULT_ENCRYPTION_KEY;
 import static seedu.expensetracker.model.encryption.EncryptionUtil.encryptExpense;
+import static seedu.expensetracker.model.encryption.EncryptionUtil.encryptExpenseFields;
+import static seedu.expensetracker.testutil.TypicalExpenses.BOOKS;
+import static seedu.expensetracker.testutil.TypicalExpenses.ICECREAM;
 import static seedu.expensetracker.testutil.TypicalExpenses.SCHOOLFEE;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
 import seedu.expensetracker.commons.exceptions.IllegalValueException;
+import seedu.expensetracker.model.ExpenseTracker;
 import seedu.expensetracker.testutil.ExpenseBuilder;
 import seedu.expensetracker.testutil.ModelUtil;
 
 //@@author JasonChong96
 public class EncryptedExpenseTrackerTest {
+    private static final String NEW_KEY = EncryptionUtil.createEncryptionKey("password");
+    private static final String OLDER_KEY = EncryptionUtil.createEncryptionKey("older password");
 
     @Rule
     public ExpectedException thrown = ExpectedException.none();
@@ -55,9 +67,91 @@ public class EncryptedExpenseTrackerTest {
 
     @Test
     public void hasExpense_expenseWithSameIdentityFieldsInExpenseTracker_returnsTrue() throws IllegalValueException {
-        expenseTracker.addExpense(encryptedSchoolFee);
-        EncryptedExpense editedAlice =
-                new ExpenseBuilder(SCHOOLFEE).withCost(VALID_COST_IPHONE).withTags(VALID_TAG_HUSBAND).buildEncrypted();
+        expenseTracker.addExpense(encryptExpenseFields(SCHOOLFEE, DEFAULT_ENCRYPTION_KEY));
+        EncryptedExpense editedAlice = new ExpenseBuilder(SCHOOLFEE).withCost(VALID_COST_IPHONE)
+                .withTags(VALID_TAG_HUSBAND).buildEncryptedFields();
         assertTrue(expenseTracker.hasExpense(editedAlice));
     }
+
+    @Test
+    public void getPreviousKeys_previousKeysSet_returnsPreviousKeys() throws IllegalValueException {
+        assertEquals(Collections.emptyList(), expenseTracker.getPreviousKeys(NEW_KEY));
+        expenseTracker.setPreviousKeys(Collections.singletonList(DEFAULT_ENCRYPTION_KEY), NEW_KEY);
+        assertEquals(Collections.singletonList(DEFAULT_ENCRYPTION_KEY), expenseTracker.getPreviousKeys(NEW_KEY));
+
+        // more than one previous key
+        expenseTracker.setPreviousKeys(Arrays.asList(OLDER_KEY, DEFAULT_ENCRYPTION_KEY), NEW_KEY);
+        assertEquals(Arrays.asList(OLDER_KEY, DEFAULT_ENCRYPTION_KEY), expenseTracker.getPreviousKeys(NEW_KEY));
+
+        expenseTracker.clearPreviousKey();
+        assertEquals(Collections.emptyList(), expenseTracker.getPreviousKeys(NEW_KEY));
+    }
+
+    @Test
+    public void getPreviousKeys_wrongKey_throwsIllegalValueException() throws IllegalValueException {
+        expenseTracker.setPreviousKeys(Collections.singletonList(DEFAULT_ENCRYPTION_KEY), NEW_KEY);
+        thrown.expect(IllegalValueException.class);
+        expenseTracker.getPreviousKeys(DEFAULT_ENCRYPTION_KEY);
+    }
+
+    @Test
+    public void decryptTracker_expensesWithBothKeys_allDecrypted() throws IllegalValueException {
+        expenseTracker.addExpense(encryptExpenseFields(SCHOOLFEE, DEFAULT_ENCRYPTION_KEY));
+        expenseTracker.addExpense(encryptExpense(ICECREAM, NEW_KEY));
+        expenseTracker.setPreviousKeys(Collections.singletonList(DEFAULT_ENCRYPTION_KEY), NEW_KEY);
+
+        ExpenseTracker decrypted = expenseTracker.decryptTracker(NEW_KEY);
+        assertEquals(2, decrypted.getExpenseList().size());
+        assertTrue(decrypted.hasExpense(SCHOOLFEE));
+        assertTrue(decrypted.hasExpense(ICECREAM));
+    }
+
+    @Test
+    public void decryptTracker_expensesWithEachPreviousKey_allDecrypted() throws IllegalValueException {
+        expenseTracker.addExpense(encryptExpenseFields(SCHOOLFEE, DEFAULT_ENCRYPTION_KEY));
+        expenseTracker.addExpense(encryptExpense(ICECREAM, OLDER_KEY));
+        expenseTracker.addExpense(encryptExpense(BOOKS, NEW_KEY));
+        expenseTracker.setPreviousKeys(Arrays.asList(OLDER_KEY, DEFAULT_ENCRYPTION_KEY), NEW_KEY);
+
+        // copies of the records are decrypted, so that no earlier decryption is reused
+        EncryptedExpenseTracker copy = new EncryptedExpenseTracker(ModelUtil.TEST_USERNAME, null);
+        for (EncryptedExpense expense : expenseTracker.getEncryptedExpenses()) {
+            copy.addExpense(expense.isSealed() ? new EncryptedExpense(expense.getRecord(), null) : expense);
+        }
+        copy.setEncryptedPreviousKey(expenseTracker.getEncryptedPreviousKey().get());
+        ExpenseTracker decrypted = copy.decryptTracker(NEW_KEY);
+        assertEquals(3, decrypted.getExpenseList().size());
+        assertTrue(decrypted.hasExpense(SCHOOLFEE));
+        assertTrue(decrypted.hasExpense(ICECREAM));
+        assertTrue(decrypted.hasExpense(BOOKS));
+    }
+
+    @Test
+    public void getExpensesToRekey_expensesWithBothKeys_returnsExpensesWithPreviousKey() throws IllegalValueException {
+        EncryptedExpense encryptedIceCream = encryptExpense(ICECREAM, NEW_KEY);
+        expenseTracker.addExpense(encryptedSchoolFee);
+        expenseTracker.addExpense(encryptedIceCream);
+
+        List<EncryptedExpense> toRekey = expenseTracker.getExpensesToRekey(NEW_KEY, 10);
+        assertEquals(1, toRekey.size());
+        assertTrue(toRekey.get(0) == encryptedSchoolFee);
+
+        // limit is respected
+        assertEquals(1, expenseTracker.getExpensesToRekey(DEFAULT_ENCRYPTION_KEY, 1).size());
+    }
+
+    @Test
+    public void replaceExpenses_rekeyedExpense_replacedInPlace() throws IllegalValueException {
+        expenseTracker.addExpense(encryptedSchoolFee);
+        EncryptedExpense rekeyed = encryptExpense(SCHOOLFEE, NEW_KEY);
+        Map<EncryptedExpense, EncryptedExpense> replacements = new IdentityHashMap<>();
+        replacements.put(encryptedSchoolFee, rekeyed);
+        // a different record of the same expense is not replaced
+        replacements.put(encryptExpense(SCHOOLFEE, DEFAULT_ENCRYPTION_KEY), rekeyed);
+
+        assertEquals(1, expenseTracker.replaceExpenses(replacements));
+        assertEquals(1, expenseTracker.getEncryptedExpenses().size());
+        assertTrue(expenseTracker.getEncryptedExpenses().iterator().next() == rekeyed);
+        assertTrue(expenseTracker.getExpensesToRekey(NEW_KEY, 10).isEmpty());
+    }
 }
@@ -1,15 +1,27 @@
 package seedu.expensetracker.model.encryption;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 import static seedu.expensetracker.model.encryption.EncryptionUtil.DEFAULT_ENCRYPTION_KEY;
 import static seedu.expensetracker.testutil.Assert.assertThrows;
+import static seedu.expensetracker.testutil.TypicalExpenses.GAME;
+import static seedu.expensetracker.testutil.TypicalExpenses.SCHOOLFEE;
+import static seedu.expensetracker.testutil.TypicalExpenses.getTypicalExpenseTracker;
+
+import java.util.Arrays;
+import java.util.Iterator;
 
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
 import seedu.expensetracker.commons.exceptions.IllegalValueException;
+import seedu.expensetracker.model.ExpenseTracker;
+import seedu.expensetracker.model.expense.Expense;
 
 //@@author JasonChong96
 public class EncryptionUtilTest {
@@ -67,6 +79,79 @@ public class EncryptionUtilTest {
         EncryptionUtil.decryptString(createStringOfLength(1), null);
     }
 
+    @Test
+    public void encryptBytes_sameInput_differentOutput() throws IllegalValueException {
+        byte[] bytes = createStringOfLength(32).getBytes();
+        byte[] first = EncryptionUtil.encryptBytes(bytes, DEFAULT_ENCRYPTION_KEY);
+        byte[] second = EncryptionUtil.encryptBytes(bytes, DEFAULT_ENCRYPTION_KEY);
+        assertFalse(Arrays.equals(first, second));
+        assertArrayEquals(bytes, EncryptionUtil.decryptBytes(first, DEFAULT_ENCRYPTION_KEY));
+        assertArrayEquals(bytes, EncryptionUtil.decryptBytes(second, DEFAULT_ENCRYPTION_KEY));
+    }
+
+    @Test
+    public void decryptBytes_wrongKey_throwsIllegalValueException() throws IllegalValueException {
+        byte[] encrypted = EncryptionUtil.encryptBytes(createStringOfLength(1).getBytes(), DEFAULT_ENCRYPTION_KEY);
+        thrown.expect(IllegalValueException.class);
+        EncryptionUtil.decryptBytes(encrypted, EncryptionUtil.createEncryptionKey("password"));
+    }
+
+    @Test
+    public void decryptBytes_tooShort_throwsIllegalValueException() throws IllegalValueException {
+        thrown.expect(IllegalValueException.class);
+        EncryptionUtil.decryptBytes(new byte[4], DEFAULT_ENCRYPTION_KEY);
+    }
+
+    @Test
+    public void encryptTracker_withPrevious_unchangedRecordsReused() throws IllegalValueException {
+        ExpenseTracker tracker = getTypicalExpenseTracker();
+        EncryptedExpenseTracker previous = EncryptionUtil.encryptTracker(tracker);
+
+        tracker.removeExpense(SCHOOLFEE);
+        tracker.addExpense(GAME);
+        EncryptedExpenseTracker encrypted = EncryptionUtil.encryptTracker(tracker, previous);
+
+        int reused = 0;
+        for (EncryptedExpense expense : encrypted.getEncryptedExpenses()) {
+            if (previous.getEncryptedExpenses().stream().anyMatch(old -> old == expense)) {
+                reused++;
+            }
+        }
+        assertEquals(tracker.getExpenseList().size() - 1, reused);
+        assertEquals(tracker, new ExpenseTracker(encrypted.decryptTracker(DEFAULT_ENCRYPTION_KEY)));
+    }
+
+    @Test
+    public void encryptTracker_previousWithOtherKey_nothingReused() throws IllegalValueException {
+        ExpenseTracker tracker = getTypicalExpenseTracker();
+        EncryptedExpenseTracker previous = EncryptionUtil.encryptTracker(tracker);
+        tracker.setEncryptionKey(EncryptionUtil.createEncryptionKey("password"));
+
+        EncryptedExpenseTracker encrypted = EncryptionUtil.encryptTracker(tracker, previous);
+        Iterator<EncryptedExpense> previousExpenses = previous.getEncryptedExpenses().iterator();
+        for (EncryptedExpense expense : encrypted.getEncryptedExpenses()) {
+            assertFalse(expense.equals(previousExpenses.next()));
+        }
+    }
+
+    @Test
+    public void encryptTracker_fieldLayoutExpenses_migratedToSealedRecords() throws IllegalValueException {
+        ExpenseTracker tracker = getTypicalExpenseTracker();
+        EncryptedExpenseTracker legacy = new EncryptedExpenseTracker(tracker.getUsername(), null);
+        for (Expense expense : tracker.getExpenseList()) {
+            legacy.addExpense(EncryptionUtil.encryptExpenseFields(expense, DEFAULT_ENCRYPTION_KEY));
+        }
+        ExpenseTracker decrypted = new ExpenseTracker(legacy.decryptTracker(DEFAULT_ENCRYPTION_KEY));
+        assertEquals(tracker.getExpenseList(), decrypted.getExpenseList());
+
+        EncryptedExpenseTracker migrated = EncryptionUtil.encryptTracker(decrypted, legacy);
+        assertTrue(migrated.getEncryptedExpenses().stream().allMatch(EncryptedExpense::isSealed));
+        assertEquals(decrypted, new ExpenseTracker(migrated.decryptTracker(DEFAULT_ENCRYPTION_KEY)));
+        EncryptedExpense first = migrated.getEncryptedExpenses().iterator().next();
+        assertSame(first.getDecryptedExpense(DEFAULT_ENCRYPTION_KEY),
+                first.getDecryptedExpense(DEFAULT_ENCRYPTION_KEY));
+    }
+
     /**
      * Creates a string with length matching to input.
      * @param length the length of the output string
@@ -0,0 +1,83 @@
+package seedu.expensetracker.model.encryption;
+
+import static org.junit.Assert.assertEquals;
+import static seedu.expensetracker.model.encryption.EncryptionUtil.DEFAULT_ENCRYPTION_KEY;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import seedu.expensetracker.commons.exceptions.IllegalValueException;
+
+public class FieldCipherCacheTest {
+    private static final String OTHER_KEY = EncryptionUtil.createEncryptionKey("password");
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final FieldCipherCache cache = new FieldCipherCache(2);
+
+    @Test
+    public void encrypt_sameValueTwice_encryptedOnce() throws IllegalValueException {
+        String ciphertext = cache.encrypt("Food", DEFAULT_ENCRYPTION_KEY);
+        assertEquals(EncryptionUtil.encryptString("Food", DEFAULT_ENCRYPTION_KEY), ciphertext);
+        assertEquals(ciphertext, cache.encrypt("Food", DEFAULT_ENCRYPTION_KEY));
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+        assertEquals(0.5, cache.getHitRate(), 0);
+    }
+
+    @Test
+    public void decrypt_encryptedValue_cacheHit() throws IllegalValueException {
+        String ciphertext = cache.encrypt("Food", DEFAULT_ENCRYPTION_KEY);
+        assertEquals("Food", cache.decrypt(ciphertext, DEFAULT_ENCRYPTION_KEY));
+        assertEquals(1, cache.getHitCount());
+    }
+
+    @Test
+    public void encrypt_otherKey_cacheEmptied() throws IllegalValueException {
+        cache.encrypt("Food", DEFAULT_ENCRYPTION_KEY);
+        String ciphertext = cache.encrypt("Food", OTHER_KEY);
+        assertEquals(EncryptionUtil.encryptString("Food", OTHER_KEY), ciphertext);
+        assertEquals(0, cache.getHitCount());
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    public void encrypt_overCapacity_leastRecentlyUsedDropped() throws IllegalValueException {
+        cache.encrypt("Food", DEFAULT_ENCRYPTION_KEY);
+        cache.encrypt("Transport", DEFAULT_ENCRYPTION_KEY);
+        cache.encrypt("Food", DEFAULT_ENCRYPTION_KEY);
+        cache.encrypt("School", DEFAULT_ENCRYPTION_KEY);
+        assertEquals(2, cache.size());
+
+        // "Transport" was dropped, "Food" was kept
+        cache.encrypt("Food", DEFAULT_ENCRYPTION_KEY);
+        assertEquals(2, cache.getHitCount());
+        cache.encrypt("Transport", DEFAULT_ENCRYPTION_KEY);
+        assertEquals(2, cache.getHitCount());
+    }
+
+    @Test
+    public void clear_cachedValues_allRemoved() throws IllegalValueException {
+        cache.encrypt("Food", DEFAULT_ENCRYPTION_KEY);
+        cache.clear();
+        assertEquals(0, cache.size());
+        cache.encrypt("Food", DEFAULT_ENCRYPTION_KEY);
+        assertEquals(0, cache.getHitCount());
+        assertEquals(2, cache.getMissCount());
+    }
+
+    @Test
+    public void decrypt_wrongKey_throwsIllegalValueException() throws IllegalValueException {
+        String ciphertext = cache.encrypt("Food", DEFAULT_ENCRYPTION_KEY);
+        thrown.expect(IllegalValueException.class);
+        cache.decrypt(ciphertext, OTHER_KEY);
+    }
+
+    @Test
+    public void encrypt_nullValue_throwsNullPointerException() throws IllegalValueException {
+        thrown.expect(NullPointerException.class);
+        cache.encrypt(null, DEFAULT_ENCRYPTION_KEY);
+    }
+}
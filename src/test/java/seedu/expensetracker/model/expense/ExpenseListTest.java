@@ -5,9 +5,17 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static seedu.expensetracker.logic.commands.CommandTestUtil.VALID_COST_IPHONE;
 import static seedu.expensetracker.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
+import static seedu.expensetracker.testutil.TypicalExpenses.BOOKS;
+import static seedu.expensetracker.testutil.TypicalExpenses.CLOTHES;
+import static seedu.expensetracker.testutil.TypicalExpenses.ICECREAM;
 import static seedu.expensetracker.testutil.TypicalExpenses.IPHONE;
+import static seedu.expensetracker.testutil.TypicalExpenses.LUNCH;
 import static seedu.expensetracker.testutil.TypicalExpenses.SCHOOLFEE;
+import static seedu.expensetracker.testutil.TypicalExpenses.TAX;
+import static seedu.expensetracker.testutil.TypicalExpenses.TOY;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
@@ -15,6 +23,7 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import javafx.collections.ListChangeListener;
 import seedu.expensetracker.model.expense.exceptions.ExpenseNotFoundException;
 import seedu.expensetracker.testutil.ExpenseBuilder;
 
@@ -153,6 +162,58 @@ public class ExpenseListTest {
         assertEquals(expectedExpenseList, this.expenseList);
     }
 
+    @Test
+    public void setExpensesIncrementally_singleExpenseChanged_onlyChangedExpenseUpdated() {
+        expenseList.setExpenses(Arrays.asList(SCHOOLFEE, ICECREAM, TOY));
+        List<String> changes = recordChanges();
+
+        expenseList.setExpensesIncrementally(Arrays.asList(SCHOOLFEE, ICECREAM, TOY, IPHONE));
+        expenseList.setExpensesIncrementally(Arrays.asList(SCHOOLFEE, TOY, IPHONE));
+        expenseList.setExpensesIncrementally(Arrays.asList(SCHOOLFEE, CLOTHES, IPHONE));
+        assertEquals(Arrays.asList("add 3-4", "remove 1-2", "replace 1-2"), changes);
+        assertEquals(Arrays.asList(SCHOOLFEE, CLOTHES, IPHONE), expenseList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setExpensesIncrementally_scatteredChanges_runsOfChangesApplied() {
+        expenseList.setExpenses(Arrays.asList(SCHOOLFEE, ICECREAM, TOY, CLOTHES, TAX));
+        List<String> changes = recordChanges();
+
+        expenseList.setExpensesIncrementally(Arrays.asList(SCHOOLFEE, IPHONE, TOY, TAX, BOOKS, LUNCH));
+        assertEquals(Arrays.asList("remove 3-4", "remove 1-2", "add 1-2", "add 4-6"), changes);
+        assertEquals(Arrays.asList(SCHOOLFEE, IPHONE, TOY, TAX, BOOKS, LUNCH),
+                expenseList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setExpensesIncrementally_reordered_replacesReorderedRange() {
+        expenseList.setExpenses(Arrays.asList(SCHOOLFEE, ICECREAM, TOY, CLOTHES));
+        expenseList.setExpensesIncrementally(Arrays.asList(SCHOOLFEE, TOY, ICECREAM, CLOTHES));
+        assertEquals(Arrays.asList(SCHOOLFEE, TOY, ICECREAM, CLOTHES), expenseList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setExpensesIncrementally_nullList_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        expenseList.setExpensesIncrementally(null);
+    }
+
+    /**
+     * Returns the changes made to {@code expenseList} from now on, described as the kind of change and its range
+     * of indices, excluding the end.
+     */
+    private List<String> recordChanges() {
+        List<String> changes = new ArrayList<>();
+        expenseList.asUnmodifiableObservableList().addListener((ListChangeListener<Expense>) c -> {
+            while (c.next()) {
+                String kind = c.wasReplaced() ? "replace" : c.wasAdded() ? "add" : "remove";
+                int to = c.wasAdded() ? c.getTo() : c.getFrom() + c.getRemovedSize();
+                changes.add(kind + " " + c.getFrom() + "-" + to);
+            }
+        });
+        return changes;
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         thrown.expect(UnsupportedOperationException.class);
@@ -54,6 +54,17 @@ public class NotificationHandlerTest {
         assertEquals(handler.isTipEnabled(), defaultHandler.isTipEnabled());
     }
 
+    @Test
+    public void constructor_copy_independentOfOriginal() {
+        handler = new NotificationHandler(list);
+        NotificationHandler copy = new NotificationHandler(handler);
+        assertEquals(handler, copy);
+
+        handler.add(TIP);
+        assertNotEquals(handler, copy);
+        assertEquals(list.size(), copy.size());
+    }
+
     @Test
     public void isEmpty() {
         assertTrue(handler.isEmpty());
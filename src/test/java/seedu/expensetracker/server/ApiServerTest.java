@@ -0,0 +1,249 @@
+package seedu.expensetracker.server;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.expensetracker.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import com.google.common.io.ByteStreams;
+
+import seedu.expensetracker.commons.util.JsonUtil;
+import seedu.expensetracker.logic.LoginCredentials;
+import seedu.expensetracker.model.ModelManager;
+import seedu.expensetracker.model.SessionManager;
+import seedu.expensetracker.model.user.Password;
+import seedu.expensetracker.model.user.Username;
+import seedu.expensetracker.ui.testutil.EventsCollectorRule;
+
+public class ApiServerTest {
+    private static final Username ALICE = new Username("alice");
+    private static final Username BOB = new Username("bob");
+    private static final String BOB_PASSWORD = "password123";
+    private static final String ADD_LUNCH = "{\"command\": \"add n/Lunch c/Food $/5.50\"}";
+
+    @Rule
+    public final EventsCollectorRule eventsCollectorRule = new EventsCollectorRule();
+
+    private SessionManager sessions;
+    private ApiServer server;
+
+    @Before
+    public void setUp() throws Exception {
+        ModelManager model = new ModelManager();
+        model.setRekeyExecutor(Runnable::run);
+        model.addUser(ALICE);
+        model.addUser(BOB);
+        model.loadUserData(new LoginCredentials(BOB, null));
+        model.setPassword(new Password(BOB_PASSWORD, true), BOB_PASSWORD);
+        model.unloadUserData();
+        sessions = new SessionManager(model);
+        server = startServer(ApiServer.DEFAULT_SESSION_TIMEOUT);
+    }
+
+    @After
+    public void tearDown() {
+        server.stop(0);
+    }
+
+    /**
+     * Starts a server on any free port of the loopback address, with the users of {@code sessions}.
+     */
+    private ApiServer startServer(Duration sessionTimeout) throws IOException {
+        ApiServer started = new ApiServer(sessions, new InetSocketAddress(InetAddress.getLoopbackAddress(), 0),
+                RequestExecutors.newRequestExecutor(4), sessionTimeout);
+        started.start();
+        return started;
+    }
+
+    @Test
+    public void runCommand_validCommand_addsExpenseOfUser() throws Exception {
+        Response response = send("POST", ApiServer.COMMANDS_PATH, auth("alice", ""), ADD_LUNCH);
+        assertEquals(HttpURLConnection.HTTP_OK, response.status);
+        assertTrue(response.json().get("feedback").toString().contains("Lunch"));
+
+        List<?> aliceExpenses = (List<?>) send("GET", ApiServer.EXPENSES_PATH, auth("alice", ""), null).json()
+                .get("expenses");
+        assertEquals(1, aliceExpenses.size());
+        assertEquals("Lunch", ((Map<?, ?>) aliceExpenses.get(0)).get("name"));
+
+        Response bobResponse = send("GET", ApiServer.EXPENSES_PATH, auth("bob", BOB_PASSWORD), null);
+        assertEquals(HttpURLConnection.HTTP_OK, bobResponse.status);
+        assertTrue(((List<?>) bobResponse.json().get("expenses")).isEmpty());
+    }
+
+    @Test
+    public void listExpenses_wrongPassword_unauthorized() throws Exception {
+        // the session opened with the right password must not answer other passwords
+        send("GET", ApiServer.EXPENSES_PATH, auth("bob", BOB_PASSWORD), null);
+        Response response = send("GET", ApiServer.EXPENSES_PATH, auth("bob", "wrongpassword"), null);
+        assertEquals(HttpURLConnection.HTTP_UNAUTHORIZED, response.status);
+        assertTrue(response.challenge.startsWith("Basic"));
+        assertEquals(ApiServer.MESSAGE_UNAUTHORIZED, response.json().get("error"));
+    }
+
+    @Test
+    public void runCommand_missingCredentials_unauthorized() throws Exception {
+        assertEquals(HttpURLConnection.HTTP_UNAUTHORIZED,
+                send("POST", ApiServer.COMMANDS_PATH, null, ADD_LUNCH).status);
+        assertEquals(HttpURLConnection.HTTP_UNAUTHORIZED,
+                send("POST", ApiServer.COMMANDS_PATH, auth("nobody", ""), ADD_LUNCH).status);
+    }
+
+    @Test
+    public void runCommand_unsupportedCommand_badRequest() throws Exception {
+        Response response = send("POST", ApiServer.COMMANDS_PATH, auth("alice", ""), "{\"command\": \"li u/bob\"}");
+        assertEquals(HttpURLConnection.HTTP_BAD_REQUEST, response.status);
+        assertEquals(String.format(ApiServer.MESSAGE_UNSUPPORTED_COMMAND, "li"), response.json().get("error"));
+    }
+
+    @Test
+    public void runCommand_invalidCommand_badRequest() throws Exception {
+        Response response = send("POST", ApiServer.COMMANDS_PATH, auth("alice", ""), "{\"command\": \"unknown\"}");
+        assertEquals(HttpURLConnection.HTTP_BAD_REQUEST, response.status);
+        assertEquals(MESSAGE_UNKNOWN_COMMAND, response.json().get("error"));
+
+        response = send("POST", ApiServer.COMMANDS_PATH, auth("alice", ""), "not json");
+        assertEquals(HttpURLConnection.HTTP_BAD_REQUEST, response.status);
+    }
+
+    @Test
+    public void handle_wrongMethodOrPath_error() throws Exception {
+        assertEquals(HttpURLConnection.HTTP_BAD_METHOD,
+                send("GET", ApiServer.COMMANDS_PATH, auth("alice", ""), null).status);
+        assertEquals(HttpURLConnection.HTTP_NOT_FOUND,
+                send("GET", ApiServer.EXPENSES_PATH + "/1", auth("alice", ""), null).status);
+    }
+
+    @Test
+    public void logOut_loggedInUser_sessionClosed() throws Exception {
+        send("POST", ApiServer.COMMANDS_PATH, auth("alice", ""), ADD_LUNCH);
+        assertTrue(sessions.getSession(ALICE).isPresent());
+
+        Response response = send("POST", ApiServer.LOGOUT_PATH, auth("alice", ""), null);
+        assertEquals(HttpURLConnection.HTTP_OK, response.status);
+        assertEquals(String.format(ApiServer.MESSAGE_LOGGED_OUT, ALICE), response.json().get("feedback"));
+        assertFalse(sessions.getSession(ALICE).isPresent());
+
+        // the next request opens a new session with the saved expenses
+        assertEquals(HttpURLConnection.HTTP_OK, send("POST", ApiServer.COMMANDS_PATH, auth("alice", ""),
+                ADD_LUNCH).status);
+        assertEquals(2, ((List<?>) send("GET", ApiServer.EXPENSES_PATH, auth("alice", ""), null).json()
+                .get("expenses")).size());
+    }
+
+    @Test
+    public void logOut_wrongPassword_sessionKept() throws Exception {
+        send("GET", ApiServer.EXPENSES_PATH, auth("bob", BOB_PASSWORD), null);
+        assertEquals(HttpURLConnection.HTTP_UNAUTHORIZED,
+                send("POST", ApiServer.LOGOUT_PATH, auth("bob", "wrongpassword"), null).status);
+        assertTrue(sessions.getSession(BOB).isPresent());
+    }
+
+    @Test
+    public void idleSession_afterTimeout_sessionClosed() throws Exception {
+        server.stop(0);
+        server = startServer(Duration.ofMillis(50));
+        send("GET", ApiServer.EXPENSES_PATH, auth("alice", ""), null);
+
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (sessions.getSessionCount() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(0, sessions.getSessionCount());
+        assertEquals(HttpURLConnection.HTTP_OK, send("POST", ApiServer.COMMANDS_PATH, auth("alice", ""),
+                ADD_LUNCH).status);
+    }
+
+    @Test
+    public void runCommand_concurrentClients_everyCommandRuns() throws Exception {
+        int commandsPerUser = 20;
+        ExecutorService clients = Executors.newFixedThreadPool(4);
+        List<Future<Response>> responses = new ArrayList<>();
+        for (int i = 0; i < commandsPerUser; i++) {
+            responses.add(clients.submit(() -> send("POST", ApiServer.COMMANDS_PATH, auth("alice", ""), ADD_LUNCH)));
+            responses.add(clients.submit(() -> send("POST", ApiServer.COMMANDS_PATH, auth("bob", BOB_PASSWORD),
+                    ADD_LUNCH)));
+            responses.add(clients.submit(() -> send("GET", ApiServer.EXPENSES_PATH, auth("alice", ""), null)));
+        }
+        for (Future<Response> response : responses) {
+            assertEquals(HttpURLConnection.HTTP_OK, response.get().status);
+        }
+        clients.shutdown();
+
+        assertEquals(commandsPerUser, ((List<?>) send("GET", ApiServer.EXPENSES_PATH, auth("alice", ""), null)
+                .json().get("expenses")).size());
+        assertEquals(commandsPerUser, ((List<?>) send("GET", ApiServer.EXPENSES_PATH, auth("bob", BOB_PASSWORD), null)
+                .json().get("expenses")).size());
+    }
+
+    private static String auth(String username, String password) {
+        String userPass = username + ":" + password;
+        return "Basic " + Base64.getEncoder().encodeToString(userPass.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Sends a request to the server, with the {@code authorization} header and {@code body} if they are not null.
+     */
+    private Response send(String method, String path, String authorization, String body) throws IOException {
+        URL url = new URL("http", server.getAddress().getHostString(), server.getAddress().getPort(), path);
+        HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+        connection.setRequestMethod(method);
+        if (authorization != null) {
+            connection.setRequestProperty("Authorization", authorization);
+        }
+        if (body != null) {
+            connection.setDoOutput(true);
+            try (OutputStream out = connection.getOutputStream()) {
+                out.write(body.getBytes(StandardCharsets.UTF_8));
+            }
+        }
+        int status = connection.getResponseCode();
+        try (InputStream in = status < 400 ? connection.getInputStream() : connection.getErrorStream()) {
+            String responseBody = new String(ByteStreams.toByteArray(in), StandardCharsets.UTF_8);
+            return new Response(status, responseBody, connection.getHeaderField("WWW-Authenticate"));
+        } finally {
+            connection.disconnect();
+        }
+    }
+
+    /**
+     * A response from the server.
+     */
+    private static class Response {
+        private final int status;
+        private final String body;
+        private final String challenge;
+
+        private Response(int status, String body, String challenge) {
+            this.status = status;
+            this.body = body;
+            this.challenge = challenge;
+        }
+
+        private Map<?, ?> json() throws IOException {
+            return JsonUtil.fromJsonString(body, Map.class);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package seedu.expensetracker.server;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.concurrent.ExecutorService;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class RequestExecutorsTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Test
+    public void newRequestExecutor_nonPositiveThreads_throwsIllegalArgumentException() {
+        thrown.expect(IllegalArgumentException.class);
+        RequestExecutors.newRequestExecutor(0);
+    }
+
+    @Test
+    public void newRequestExecutor_runsTasks() throws Exception {
+        ExecutorService executor = RequestExecutors.newRequestExecutor(1);
+        assertEquals("done", executor.submit(() -> "done").get());
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,236 @@
+package seedu.expensetracker.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.expensetracker.model.encryption.EncryptionUtil.DEFAULT_ENCRYPTION_KEY;
+import static seedu.expensetracker.testutil.TypicalExpenses.GAMBLE;
+import static seedu.expensetracker.testutil.TypicalExpenses.SCHOOLFEE;
+import static seedu.expensetracker.testutil.TypicalExpenses.STOCK;
+import static seedu.expensetracker.testutil.TypicalExpenses.getTypicalExpenseTracker;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Locale;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.expensetracker.commons.exceptions.DataConversionException;
+import seedu.expensetracker.model.ExpenseTracker;
+import seedu.expensetracker.model.budget.CategoryBudget;
+import seedu.expensetracker.model.encryption.EncryptedExpense;
+import seedu.expensetracker.model.encryption.EncryptedExpenseTracker;
+import seedu.expensetracker.model.encryption.EncryptionUtil;
+import seedu.expensetracker.model.expense.Expense;
+import seedu.expensetracker.model.notification.TipNotification;
+import seedu.expensetracker.model.notification.WarningNotification;
+import seedu.expensetracker.model.user.Password;
+import seedu.expensetracker.model.user.Username;
+
+public class BinaryExpensesStorageTest {
+    private static final Username USERNAME = new Username("BinaryUser");
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void readExpenses_nullFilePath_throwsNullPointerException() throws Exception {
+        thrown.expect(NullPointerException.class);
+        getStorage().readExpenses(null);
+    }
+
+    @Test
+    public void readExpenses_missingFile_emptyResult() throws Exception {
+        assertFalse(getStorage().readExpenses(getDirPath().resolve("NonExistentFile.bin")).isPresent());
+    }
+
+    @Test
+    public void readExpenses_notSnapshotFile_emptyResult() throws Exception {
+        Path xmlPath = getDirPath().resolve("XmlUser.xml");
+        Files.write(xmlPath, new byte[] {1, 2, 3});
+        assertFalse(getStorage().readExpenses(xmlPath).isPresent());
+    }
+
+    @Test
+    public void readExpenses_notSnapshotFormat_throwsDataConversionException() throws Exception {
+        Path filePath = getDirPath().resolve("NotSnapshot.bin");
+        Files.write(filePath, "<expensetracker/>".getBytes());
+        thrown.expect(DataConversionException.class);
+        getStorage().readExpenses(filePath);
+    }
+
+    @Test
+    public void readExpenses_unsupportedVersion_throwsDataConversionException() throws Exception {
+        byte[] snapshot = BinarySnapshot.toBytes(EncryptionUtil.encryptTracker(getTypicalTracker()));
+        ByteBuffer.wrap(snapshot).putShort(Integer.BYTES, (short) (BinarySnapshot.FORMAT_VERSION + 1));
+        Path filePath = getDirPath().resolve("NewerVersion.bin");
+        Files.write(filePath, snapshot);
+        thrown.expect(DataConversionException.class);
+        getStorage().readExpenses(filePath);
+    }
+
+    @Test
+    public void readExpenses_truncatedSnapshot_throwsDataConversionException() throws Exception {
+        byte[] snapshot = BinarySnapshot.toBytes(EncryptionUtil.encryptTracker(getTypicalTracker()));
+        Path filePath = getDirPath().resolve("Truncated.bin");
+        Files.write(filePath, Arrays.copyOf(snapshot, snapshot.length - 10));
+        thrown.expect(DataConversionException.class);
+        getStorage().readExpenses(filePath);
+    }
+
+    @Test
+    public void readAndSaveExpenses_allInOrder_success() throws Exception {
+        BinaryExpensesStorage storage = getStorage();
+        ExpenseTracker original = getTypicalTracker();
+        Path filePath = storage.getUserDataPath(getDirPath(), USERNAME);
+
+        // save in new file and read back
+        storage.saveExpenses(EncryptionUtil.encryptTracker(original), filePath);
+        assertEquals(original, readBack(storage, filePath));
+
+        // modify data, overwrite existing file, and read back
+        original.addExpense(STOCK);
+        original.removeExpense(SCHOOLFEE);
+        storage.saveExpenses(EncryptionUtil.encryptTracker(original), filePath);
+        assertEquals(original, readBack(storage, filePath));
+
+        // save without specifying file path
+        original.addExpense(GAMBLE);
+        storage.saveExpenses(EncryptionUtil.encryptTracker(original));
+        assertEquals(original, readBack(storage, filePath));
+        assertFalse(Files.exists(getDirPath().resolve(filePath.getFileName() + ".tmp")));
+    }
+
+    @Test
+    public void readAndSaveExpenses_allUserData_success() throws Exception {
+        ExpenseTracker original = new ExpenseTracker(USERNAME, new Password("password", true), DEFAULT_ENCRYPTION_KEY);
+        original.setExpenses(getTypicalExpenseTracker().getExpenseList());
+        original.modifyMaximumBudget(getTypicalExpenseTracker().getMaximumTotalBudget());
+        original.setCategoryBudget(new CategoryBudget("School", "1.00"));
+        original.addNotificationToTop(new TipNotification("Tip", "Save money"));
+        original.addNotificationToTop(new WarningNotification("Warning", "Over budget"));
+        EncryptedExpenseTracker encrypted = EncryptionUtil.encryptTracker(original);
+
+        BinaryExpensesStorage storage = getStorage();
+        storage.saveExpenses(encrypted);
+        EncryptedExpenseTracker readBack = storage.readExpenses(storage.getUserDataPath(getDirPath(), USERNAME)).get();
+
+        assertEquals(original, new ExpenseTracker(readBack.decryptTracker(DEFAULT_ENCRYPTION_KEY)));
+        assertEquals(encrypted.getPassword(), readBack.getPassword());
+        assertEquals(encrypted.getNotificationHandler(), readBack.getNotificationHandler());
+        assertEquals(encrypted.getMaximumTotalBudget().getCategoryBudgets(),
+                readBack.getMaximumTotalBudget().getCategoryBudgets());
+    }
+
+    @Test
+    public void readExpenses_decimalCommaLocale_categoryBudgetsRead() throws Exception {
+        ExpenseTracker original = getTypicalExpenseTracker();
+        original.setCategoryBudget(new CategoryBudget("School", "12.50"));
+        EncryptedExpenseTracker encrypted = EncryptionUtil.encryptTracker(original);
+        BinaryExpensesStorage storage = getStorage();
+        storage.saveExpenses(encrypted);
+
+        Locale defaultLocale = Locale.getDefault();
+        Locale.setDefault(Locale.GERMANY);
+        try {
+            EncryptedExpenseTracker readBack = storage.readExpenses(
+                    storage.getUserDataPath(getDirPath(), original.getUsername())).get();
+            assertEquals(encrypted.getMaximumTotalBudget().getCategoryBudgets(),
+                    readBack.getMaximumTotalBudget().getCategoryBudgets());
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
+
+    @Test
+    public void readAndSaveExpenses_fieldLayoutAndSealedExpenses_success() throws Exception {
+        ExpenseTracker original = getTypicalTracker();
+        EncryptedExpenseTracker encrypted = new EncryptedExpenseTracker(USERNAME, null);
+        boolean sealed = false;
+        for (Expense expense : original.getExpenseList()) {
+            encrypted.addExpense(sealed
+                    ? EncryptionUtil.encryptExpense(expense, DEFAULT_ENCRYPTION_KEY)
+                    : EncryptionUtil.encryptExpenseFields(expense, DEFAULT_ENCRYPTION_KEY));
+            sealed = !sealed;
+        }
+
+        BinaryExpensesStorage storage = getStorage();
+        Path filePath = storage.getUserDataPath(getDirPath(), USERNAME);
+        storage.saveExpenses(encrypted, filePath);
+        EncryptedExpenseTracker readBack = storage.readExpenses(filePath).get();
+        assertEquals(original.getExpenseList(),
+                new ExpenseTracker(readBack.decryptTracker(DEFAULT_ENCRYPTION_KEY)).getExpenseList());
+        Iterator<EncryptedExpense> expected = encrypted.getEncryptedExpenses().iterator();
+        for (EncryptedExpense expense : readBack.getEncryptedExpenses()) {
+            EncryptedExpense expectedExpense = expected.next();
+            assertEquals(expectedExpense, expense);
+            assertEquals(expectedExpense.getPartition(), expense.getPartition());
+        }
+    }
+
+    @Test
+    public void readAndSaveExpenses_previousKey_success() throws Exception {
+        String key = EncryptionUtil.createEncryptionKey("password");
+        EncryptedExpenseTracker encrypted = EncryptionUtil.encryptTracker(getTypicalTracker());
+        encrypted.setPreviousKeys(Collections.singletonList(DEFAULT_ENCRYPTION_KEY), key);
+
+        BinaryExpensesStorage storage = getStorage();
+        Path filePath = storage.getUserDataPath(getDirPath(), USERNAME);
+        storage.saveExpenses(encrypted, filePath);
+        EncryptedExpenseTracker readBack = storage.readExpenses(filePath).get();
+        assertEquals(encrypted.getEncryptedPreviousKey(), readBack.getEncryptedPreviousKey());
+        assertEquals(Collections.singletonList(DEFAULT_ENCRYPTION_KEY), readBack.getPreviousKeys(key));
+        assertEquals(getTypicalTracker().getExpenseList(),
+                new ExpenseTracker(readBack.decryptTracker(key)).getExpenseList());
+    }
+
+    @Test
+    public void saveExpenses_typicalTracker_smallerThanXml() throws Exception {
+        EncryptedExpenseTracker encrypted = EncryptionUtil.encryptTracker(getTypicalTracker());
+        Path xmlPath = getDirPath().resolve("XmlUser.xml");
+        Path binaryPath = getDirPath().resolve("BinaryUser.bin");
+        new XmlExpensesStorage(xmlPath).saveExpenses(encrypted, xmlPath);
+        getStorage().saveExpenses(encrypted, binaryPath);
+        assertTrue(Files.size(binaryPath) < Files.size(xmlPath) / 2);
+    }
+
+    @Test
+    public void saveExpenses_nullExpenseTracker_throwsNullPointerException() throws Exception {
+        thrown.expect(NullPointerException.class);
+        getStorage().saveExpenses(null, getDirPath().resolve("SomeFile.bin"));
+    }
+
+    @Test
+    public void saveExpenses_nullFilePath_throwsNullPointerException() throws Exception {
+        thrown.expect(NullPointerException.class);
+        getStorage().saveExpenses(EncryptionUtil.encryptTracker(getTypicalTracker()), null);
+    }
+
+    private ExpenseTracker readBack(BinaryExpensesStorage storage, Path filePath) throws Exception {
+        return new ExpenseTracker(storage.readExpenses(filePath).get().decryptTracker(DEFAULT_ENCRYPTION_KEY));
+    }
+
+    private BinaryExpensesStorage getStorage() {
+        return new BinaryExpensesStorage(getDirPath());
+    }
+
+    private Path getDirPath() {
+        return testFolder.getRoot().toPath();
+    }
+
+    private ExpenseTracker getTypicalTracker() {
+        ExpenseTracker tracker = getTypicalExpenseTracker();
+        tracker.setUsername(USERNAME);
+        return tracker;
+    }
+}
@@ -0,0 +1,113 @@
+package seedu.expensetracker.storage;
+
+import static seedu.expensetracker.model.encryption.EncryptionUtil.DEFAULT_ENCRYPTION_KEY;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+import seedu.expensetracker.model.ExpenseTracker;
+import seedu.expensetracker.model.encryption.EncryptedExpenseTracker;
+import seedu.expensetracker.model.encryption.EncryptionUtil;
+import seedu.expensetracker.model.user.Username;
+import seedu.expensetracker.testutil.ExpenseBuilder;
+
+/**
+ * Compares the save time, load time and file size of {@link XmlExpensesStorage},
+ * {@link PartitionedXmlExpensesStorage} and {@link BinaryExpensesStorage} for an expense tracker with many expenses.
+ * Run with {@code gradlew storageBenchmark}, optionally passing the number of expenses as the only argument.
+ */
+public class ExpensesStorageBenchmark {
+    private static final Username USERNAME = new Username("BenchmarkUser");
+    private static final String[] CATEGORIES = {"Food", "Transport", "School", "Entertainment", "Bills"};
+    private static final int DEFAULT_EXPENSE_COUNT = 10000;
+    private static final int WARMUP_ROUNDS = 3;
+    private static final int MEASURED_ROUNDS = 10;
+
+    /**
+     * Runs the benchmark with the number of expenses given in {@code args}, if any.
+     */
+    public static void main(String[] args) throws Exception {
+        int expenseCount = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_EXPENSE_COUNT;
+        EncryptedExpenseTracker tracker = EncryptionUtil.encryptTracker(createTracker(expenseCount));
+        System.out.println(String.format("%d expenses, average of %d rounds", expenseCount, MEASURED_ROUNDS));
+        System.out.println(String.format("%-16s %10s %10s %12s", "Storage", "Save (ms)", "Load (ms)", "Size (bytes)"));
+
+        Path dirPath = Files.createTempDirectory("storageBenchmark");
+        try {
+            run("Xml", new XmlExpensesStorage(dirPath.resolve("xml")),
+                    dirPath.resolve("xml").resolve(USERNAME + XmlExpensesStorage.XML_FILE_EXTENSION), tracker);
+            run("PartitionedXml", new PartitionedXmlExpensesStorage(dirPath.resolve("partitioned"),
+                    Integer.MAX_VALUE), dirPath.resolve("partitioned").resolve(USERNAME.toString()), tracker);
+            run("Binary", new BinaryExpensesStorage(dirPath.resolve("binary")),
+                    dirPath.resolve("binary").resolve(USERNAME + BinaryExpensesStorage.BINARY_FILE_EXTENSION),
+                    tracker);
+        } finally {
+            delete(dirPath);
+        }
+    }
+
+    /**
+     * Saves and loads {@code tracker} with the given {@code storage} and prints the average times taken.
+     */
+    private static void run(String name, ExpensesStorage storage, Path dataPath, EncryptedExpenseTracker tracker)
+            throws Exception {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            storage.saveExpenses(tracker, dataPath);
+            storage.readExpenses(dataPath);
+        }
+
+        long saveNanos = 0;
+        long loadNanos = 0;
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            // save to a new location each round, so that unchanged partitions are not skipped
+            delete(dataPath);
+            long start = System.nanoTime();
+            storage.saveExpenses(tracker, dataPath);
+            saveNanos += System.nanoTime() - start;
+
+            start = System.nanoTime();
+            storage.readExpenses(dataPath).get().decryptTracker(DEFAULT_ENCRYPTION_KEY);
+            loadNanos += System.nanoTime() - start;
+        }
+        System.out.println(String.format("%-16s %10.1f %10.1f %12d", name, saveNanos / 1e6 / MEASURED_ROUNDS,
+                loadNanos / 1e6 / MEASURED_ROUNDS, size(dataPath)));
+    }
+
+    /**
+     * Returns an expense tracker with {@code expenseCount} varied expenses.
+     */
+    private static ExpenseTracker createTracker(int expenseCount) {
+        ExpenseTracker tracker = new ExpenseTracker(USERNAME, null, DEFAULT_ENCRYPTION_KEY);
+        for (int i = 0; i < expenseCount; i++) {
+            tracker.addExpense(new ExpenseBuilder()
+                    .withName("Expense " + i)
+                    .withCategory(CATEGORIES[i % CATEGORIES.length])
+                    .withCost(String.format("%d.%02d", i % 100, i % 97))
+                    .withDate(String.format("%02d-%02d-%d", i % 28 + 1, i % 12 + 1, 2000 + i % 19))
+                    .withTags(i % 3 == 0 ? new String[] {"friends"} : new String[0])
+                    .build());
+        }
+        return tracker;
+    }
+
+    private static long size(Path path) throws IOException {
+        try (Stream<Path> files = Files.walk(path)) {
+            return files.filter(Files::isRegularFile).mapToLong(file -> file.toFile().length()).sum();
+        }
+    }
+
+    /**
+     * Deletes the file or directory at {@code path}, along with everything in it.
+     */
+    private static void delete(Path path) throws IOException {
+        if (!Files.exists(path)) {
+            return;
+        }
+        try (Stream<Path> files = Files.walk(path)) {
+            files.sorted(Comparator.reverseOrder()).forEach(file -> file.toFile().delete());
+        }
+    }
+}
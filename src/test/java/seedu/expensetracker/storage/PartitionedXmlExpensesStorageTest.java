@@ -0,0 +1,161 @@
+package seedu.expensetracker.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.expensetracker.model.encryption.EncryptionUtil.DEFAULT_ENCRYPTION_KEY;
+import static seedu.expensetracker.testutil.TypicalExpenses.GAME;
+import static seedu.expensetracker.testutil.TypicalExpenses.SCHOOLFEE;
+import static seedu.expensetracker.testutil.TypicalExpenses.getTypicalExpenseTracker;
+import static seedu.expensetracker.testutil.TypicalExpenses.getTypicalExpenses;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.expensetracker.model.ExpenseTracker;
+import seedu.expensetracker.model.encryption.EncryptedExpenseTracker;
+import seedu.expensetracker.model.encryption.EncryptionUtil;
+import seedu.expensetracker.model.expense.Expense;
+import seedu.expensetracker.model.user.Username;
+
+public class PartitionedXmlExpensesStorageTest {
+    private static final int ALL_MONTHS = 10000;
+    private static final Username USERNAME = new Username("PartitionedUser");
+    private static final YearMonth PARTITION_1990 = YearMonth.of(1990, 1);
+    private static final FileTime OLD_FILE_TIME = FileTime.fromMillis(0);
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void readExpenses_nullFilePath_throwsNullPointerException() throws Exception {
+        thrown.expect(NullPointerException.class);
+        new PartitionedXmlExpensesStorage(testFolder.getRoot().toPath(), ALL_MONTHS).readExpenses(null);
+    }
+
+    @Test
+    public void readExpenses_missingManifest_emptyResult() throws Exception {
+        Path userPath = testFolder.newFolder("NoManifest").toPath();
+        assertFalse(new PartitionedXmlExpensesStorage(testFolder.getRoot().toPath(), ALL_MONTHS)
+                .readExpenses(userPath).isPresent());
+    }
+
+    @Test
+    public void readAndSaveExpenses_allInOrder_success() throws Exception {
+        PartitionedXmlExpensesStorage storage = new PartitionedXmlExpensesStorage(getDirPath(), ALL_MONTHS);
+        ExpenseTracker original = getTypicalTrackerWithGame();
+
+        storage.saveExpenses(EncryptionUtil.encryptTracker(original));
+        Path userPath = storage.getUserDataPath(getDirPath(), USERNAME);
+        assertTrue(Files.exists(userPath.resolve(PartitionedXmlExpensesStorage.MANIFEST_FILE_NAME)));
+        assertTrue(Files.exists(userPath.resolve("1990-01.xml")));
+        assertTrue(Files.exists(userPath.resolve("2018-10.xml")));
+
+        EncryptedExpenseTracker readBack = storage.readExpenses(userPath).get();
+        assertTrue(readBack.getUnloadedPartitions().isEmpty());
+        assertEquals(original, new ExpenseTracker(readBack.decryptTracker(DEFAULT_ENCRYPTION_KEY)));
+
+        // removing the only expense of a month deletes its partition
+        original.removeExpense(GAME);
+        storage.saveExpenses(EncryptionUtil.encryptTracker(original));
+        assertFalse(Files.exists(userPath.resolve("1990-01.xml")));
+        readBack = storage.readExpenses(userPath).get();
+        assertEquals(original, new ExpenseTracker(readBack.decryptTracker(DEFAULT_ENCRYPTION_KEY)));
+    }
+
+    @Test
+    public void saveExpenses_unchangedPartition_notRewritten() throws Exception {
+        PartitionedXmlExpensesStorage storage = new PartitionedXmlExpensesStorage(getDirPath(), ALL_MONTHS);
+        ExpenseTracker original = getTypicalTrackerWithGame();
+        EncryptedExpenseTracker encrypted = EncryptionUtil.encryptTracker(original);
+        storage.saveExpenses(encrypted);
+
+        Path userPath = storage.getUserDataPath(getDirPath(), USERNAME);
+        Path partition1990 = userPath.resolve("1990-01.xml");
+        Path partition2018 = userPath.resolve("2018-10.xml");
+        Files.setLastModifiedTime(partition1990, OLD_FILE_TIME);
+        Files.setLastModifiedTime(partition2018, OLD_FILE_TIME);
+
+        // records of unchanged expenses are reused, as they are by the model
+        original.removeExpense(SCHOOLFEE);
+        storage.saveExpenses(EncryptionUtil.encryptTracker(original, encrypted));
+        assertEquals(OLD_FILE_TIME, Files.getLastModifiedTime(partition1990));
+        assertFalse(OLD_FILE_TIME.equals(Files.getLastModifiedTime(partition2018)));
+    }
+
+    @Test
+    public void readExpenses_partitionsBeforeHorizon_loadedOnDemand() throws Exception {
+        ExpenseTracker original = getTypicalTrackerWithGame();
+        new PartitionedXmlExpensesStorage(getDirPath(), ALL_MONTHS)
+                .saveExpenses(EncryptionUtil.encryptTracker(original));
+
+        // only the current month is read on load
+        PartitionedXmlExpensesStorage storage = new PartitionedXmlExpensesStorage(getDirPath(), 1);
+        Path userPath = storage.getUserDataPath(getDirPath(), USERNAME);
+        EncryptedExpenseTracker readBack = storage.readExpenses(userPath).get();
+        assertEquals(0, readBack.getEncryptedExpenses().size());
+        assertEquals(2, readBack.getUnloadedPartitions().size());
+        assertEquals(1, readBack.getUnloadedPartitionsSince(YearMonth.of(2000, 1)).size());
+
+        assertEquals(1, readBack.readPartition(PARTITION_1990).size());
+        assertEquals(GAME, readBack.readPartition(PARTITION_1990).get(0).getDecryptedExpense(DEFAULT_ENCRYPTION_KEY));
+
+        // unloaded partitions are kept when saving
+        storage.saveExpenses(readBack);
+        assertTrue(Files.exists(userPath.resolve("1990-01.xml")));
+        assertTrue(Files.exists(userPath.resolve("2018-10.xml")));
+        readBack = new PartitionedXmlExpensesStorage(getDirPath(), ALL_MONTHS).readExpenses(userPath).get();
+        assertEquals(original, new ExpenseTracker(readBack.decryptTracker(DEFAULT_ENCRYPTION_KEY)));
+    }
+
+    @Test
+    public void saveExpenses_singleFileData_migrated() throws Exception {
+        ExpenseTracker original = getTypicalTracker();
+        XmlExpensesStorage singleFileStorage = new XmlExpensesStorage(getDirPath());
+        Path singleFilePath = singleFileStorage.getUserDataPath(getDirPath(), USERNAME);
+        singleFileStorage.saveExpenses(EncryptionUtil.encryptTracker(original), singleFilePath);
+
+        PartitionedXmlExpensesStorage storage = new PartitionedXmlExpensesStorage(getDirPath(), ALL_MONTHS);
+        EncryptedExpenseTracker readBack = storage.readExpenses(singleFilePath).get();
+        assertEquals(original, new ExpenseTracker(readBack.decryptTracker(DEFAULT_ENCRYPTION_KEY)));
+
+        storage.saveExpenses(EncryptionUtil.encryptTracker(original));
+        assertFalse(Files.exists(singleFilePath));
+        readBack = storage.readExpenses(storage.getUserDataPath(getDirPath(), USERNAME)).get();
+        assertEquals(original, new ExpenseTracker(readBack.decryptTracker(DEFAULT_ENCRYPTION_KEY)));
+    }
+
+    private Path getDirPath() {
+        return testFolder.getRoot().toPath();
+    }
+
+    private ExpenseTracker getTypicalTracker() {
+        ExpenseTracker tracker = getTypicalExpenseTracker();
+        tracker.setUsername(USERNAME);
+        return tracker;
+    }
+
+    /**
+     * Returns the typical expense tracker with an expense from 1990 added before the others, so that its expenses
+     * are in the same order as when read from their partitions.
+     */
+    private ExpenseTracker getTypicalTrackerWithGame() {
+        ExpenseTracker tracker = getTypicalTracker();
+        List<Expense> expenses = new ArrayList<>(getTypicalExpenses());
+        expenses.add(0, GAME);
+        tracker.setExpenses(expenses);
+        return tracker;
+    }
+}
@@ -9,12 +9,14 @@ import static seedu.expensetracker.testutil.TypicalExpenses.getTypicalExpenseTra
 import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Arrays;
 
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.TemporaryFolder;
 
+import seedu.expensetracker.commons.events.logic.CommandEnteredEvent;
 import seedu.expensetracker.commons.events.model.ExpenseTrackerChangedEvent;
 import seedu.expensetracker.commons.events.storage.DataSavingExceptionEvent;
 import seedu.expensetracker.commons.exceptions.IllegalValueException;
@@ -40,7 +42,9 @@ public class StorageManagerTest {
         XmlExpensesStorage expenseTrackerStorage = new XmlExpensesStorage(getTempFilePath("ab"));
         JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(getTempFilePath("prefs"));
         JsonTipsStorage tipsStorage = new JsonTipsStorage();
-        storageManager = new StorageManager(expenseTrackerStorage, userPrefsStorage, tipsStorage);
+        TextCommandHistoryStorage commandHistoryStorage = new TextCommandHistoryStorage(getTempFilePath("history"));
+        storageManager = new StorageManager(expenseTrackerStorage, userPrefsStorage, tipsStorage,
+                commandHistoryStorage);
     }
 
     private Path getTempFilePath(String fileName) {
@@ -76,6 +80,13 @@ public class StorageManagerTest {
         assertEquals(original, new ExpenseTracker(retrieved));
     }
 
+    @Test
+    public void handleCommandEnteredEvent_commandAppended() throws Exception {
+        storageManager.handleCommandEnteredEvent(new CommandEnteredEvent("list"));
+        storageManager.handleCommandEnteredEvent(new CommandEnteredEvent("history"));
+        assertEquals(Arrays.asList("list", "history"), storageManager.readCommandHistory(10));
+    }
+
     @Test
     public void getExpenseTrackerDirPath() {
         assertNotNull(storageManager.getExpensesDirPath());
@@ -86,7 +97,8 @@ public class StorageManagerTest {
         // Create a StorageManager while injecting a stub that  throws an exception when the save method is called
         Storage storage = new StorageManager(new XmlExpensesStorageExceptionThrowingStub(Paths.get("dummy")),
                                              new JsonUserPrefsStorage(Paths.get("dummy")),
-                                             new JsonTipsStorage());
+                                             new JsonTipsStorage(),
+                                             new TextCommandHistoryStorage(Paths.get("dummy")));
         storage.handleExpenseTrackerChangedEvent(
                 new ExpenseTrackerChangedEvent(EncryptionUtil.encryptTracker(
                         new ExpenseTracker(ModelUtil.TEST_USERNAME, null,
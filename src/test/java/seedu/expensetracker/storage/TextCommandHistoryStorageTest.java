@@ -0,0 +1,64 @@
+package seedu.expensetracker.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class TextCommandHistoryStorageTest {
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private Path filePath;
+    private TextCommandHistoryStorage storage;
+
+    @Before
+    public void setUp() {
+        filePath = testFolder.getRoot().toPath().resolve("history").resolve("commandHistory.txt");
+        storage = new TextCommandHistoryStorage(filePath);
+    }
+
+    @Test
+    public void readCommandHistory_missingFile_emptyResult() throws Exception {
+        assertTrue(storage.readCommandHistory(10).isEmpty());
+    }
+
+    @Test
+    public void appendCommand_thenRead_commandsInOrder() throws Exception {
+        storage.appendCommand("list");
+        storage.appendCommand("add n/Lunch\nc/Food");
+        storage.appendCommand("history");
+
+        assertEquals(Arrays.asList("list", "add n/Lunch c/Food", "history"), storage.readCommandHistory(10));
+        assertEquals(Arrays.asList("add n/Lunch c/Food", "history"), storage.readCommandHistory(2));
+    }
+
+    @Test
+    public void readCommandHistory_fileTooLong_compacted() throws Exception {
+        for (int i = 0; i < 5; i++) {
+            storage.appendCommand("command" + i);
+        }
+
+        // at most twice as many commands as are read -> file kept
+        storage.readCommandHistory(3);
+        assertEquals(5, Files.readAllLines(filePath, StandardCharsets.UTF_8).size());
+
+        // more than twice as many commands as are read -> only the commands read are kept
+        List<String> expected = Arrays.asList("command3", "command4");
+        assertEquals(expected, storage.readCommandHistory(2));
+        assertEquals(expected, Files.readAllLines(filePath, StandardCharsets.UTF_8));
+
+        storage.appendCommand("command5");
+        assertEquals(Arrays.asList("command3", "command4", "command5"), storage.readCommandHistory(10));
+    }
+}
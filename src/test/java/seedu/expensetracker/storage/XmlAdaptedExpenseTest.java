@@ -43,6 +43,19 @@ public class XmlAdaptedExpenseTest {
         assertEquals(ICECREAM, expense.toModelType().getDecryptedExpense(DEFAULT_ENCRYPTION_KEY));
     }
 
+    @Test
+    public void toModelType_fieldLayoutExpense_returnsExpense() throws Exception {
+        XmlAdaptedExpense expense =
+                new XmlAdaptedExpense(EncryptionUtil.encryptExpenseFields(ICECREAM, DEFAULT_ENCRYPTION_KEY));
+        assertEquals(ICECREAM, expense.toModelType().getDecryptedExpense(DEFAULT_ENCRYPTION_KEY));
+    }
+
+    @Test
+    public void toModelType_invalidRecord_throwsIllegalValueException() {
+        XmlAdaptedExpense expense = new XmlAdaptedExpense("not base64!");
+        Assert.assertThrows(IllegalValueException.class, expense::toModelType);
+    }
+
     @Test
     public void toModelType_nullName_throwsIllegalValueException() {
         XmlAdaptedExpense expense = new XmlAdaptedExpense(null, VALID_CATEGORY, VALID_COST, VALID_DATE, VALID_TAGS);
@@ -0,0 +1,133 @@
+package seedu.expensetracker.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.expensetracker.model.encryption.EncryptionUtil.DEFAULT_ENCRYPTION_KEY;
+import static seedu.expensetracker.testutil.TypicalExpenses.GAME;
+import static seedu.expensetracker.testutil.TypicalExpenses.SCHOOLFEE;
+import static seedu.expensetracker.testutil.TypicalExpenses.getTypicalExpenseTracker;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.expensetracker.model.ExpenseTracker;
+import seedu.expensetracker.model.encryption.EncryptionUtil;
+import seedu.expensetracker.model.user.Username;
+
+public class XmlToBinaryConverterTest {
+    private static final Username SINGLE_FILE_USER = new Username("SingleFileUser");
+    private static final Username PARTITIONED_USER = new Username("PartitionedUser");
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void convertAll_missingDirectory_nothingConverted() throws Exception {
+        assertEquals(0, new XmlToBinaryConverter(getDirPath().resolve("missing")).convertAll());
+    }
+
+    @Test
+    public void convertAll_xmlData_allUsersConverted() throws Exception {
+        ExpenseTracker singleFileTracker = getTypicalTracker(SINGLE_FILE_USER);
+        XmlExpensesStorage singleFileStorage = new XmlExpensesStorage(getDirPath());
+        singleFileStorage.saveExpenses(EncryptionUtil.encryptTracker(singleFileTracker),
+                singleFileStorage.getUserDataPath(getDirPath(), SINGLE_FILE_USER));
+
+        // the old partition is not read on load by the partitioned storage, but must still be converted
+        ExpenseTracker partitionedTracker = getTypicalTracker(PARTITIONED_USER);
+        partitionedTracker.removeExpense(SCHOOLFEE);
+        partitionedTracker.addExpense(GAME);
+        new PartitionedXmlExpensesStorage(getDirPath(), 1).saveExpenses(
+                EncryptionUtil.encryptTracker(partitionedTracker));
+
+        assertEquals(2, new XmlToBinaryConverter(getDirPath()).convertAll());
+
+        BinaryExpensesStorage binaryStorage = new BinaryExpensesStorage(getDirPath());
+        assertEquals(singleFileTracker, readBinary(binaryStorage, SINGLE_FILE_USER));
+        ExpenseTracker convertedPartitionedTracker = readBinary(binaryStorage, PARTITIONED_USER);
+        assertEquals(partitionedTracker.getExpenseList().size(), convertedPartitionedTracker.getExpenseList().size());
+        assertTrue(convertedPartitionedTracker.hasExpense(GAME));
+
+        // xml data is kept
+        assertTrue(Files.exists(singleFileStorage.getUserDataPath(getDirPath(), SINGLE_FILE_USER)));
+    }
+
+    @Test
+    public void convertAll_snapshotExists_notOverwritten() throws Exception {
+        ExpenseTracker xmlTracker = getTypicalTracker(SINGLE_FILE_USER);
+        XmlExpensesStorage xmlStorage = new XmlExpensesStorage(getDirPath());
+        xmlStorage.saveExpenses(EncryptionUtil.encryptTracker(xmlTracker),
+                xmlStorage.getUserDataPath(getDirPath(), SINGLE_FILE_USER));
+
+        ExpenseTracker binaryTracker = getTypicalTracker(SINGLE_FILE_USER);
+        binaryTracker.removeExpense(SCHOOLFEE);
+        BinaryExpensesStorage binaryStorage = new BinaryExpensesStorage(getDirPath());
+        binaryStorage.saveExpenses(EncryptionUtil.encryptTracker(binaryTracker));
+
+        XmlToBinaryConverter converter = new XmlToBinaryConverter(getDirPath());
+        assertFalse(converter.convert(xmlStorage.getUserDataPath(getDirPath(), SINGLE_FILE_USER)));
+        assertEquals(0, converter.convertAll());
+        assertEquals(binaryTracker, readBinary(binaryStorage, SINGLE_FILE_USER));
+    }
+
+    @Test
+    public void convert_snapshotUpToDate_xmlNotRead() throws Exception {
+        BinaryExpensesStorage binaryStorage = new BinaryExpensesStorage(getDirPath());
+        binaryStorage.saveExpenses(EncryptionUtil.encryptTracker(getTypicalTracker(SINGLE_FILE_USER)));
+        XmlExpensesStorage xmlStorage = new XmlExpensesStorage(getDirPath());
+        Path xmlPath = xmlStorage.getUserDataPath(getDirPath(), SINGLE_FILE_USER);
+        Files.write(xmlPath, "not xml".getBytes());
+        Files.setLastModifiedTime(xmlPath, FileTime.from(Instant.now().minusSeconds(60)));
+
+        // reading the invalid xml data would throw a DataConversionException
+        assertFalse(new XmlToBinaryConverter(getDirPath()).convert(xmlPath));
+    }
+
+    @Test
+    public void convertAll_xmlChangedAfterSnapshot_convertedAgain() throws Exception {
+        PartitionedXmlExpensesStorage xmlStorage = new PartitionedXmlExpensesStorage(getDirPath(), 1);
+        xmlStorage.saveExpenses(EncryptionUtil.encryptTracker(getTypicalTracker(PARTITIONED_USER)));
+        XmlToBinaryConverter converter = new XmlToBinaryConverter(getDirPath());
+        assertEquals(1, converter.convertAll());
+        BinaryExpensesStorage binaryStorage = new BinaryExpensesStorage(getDirPath());
+        Path binaryPath = binaryStorage.getUserDataPath(getDirPath(), PARTITIONED_USER);
+        Files.setLastModifiedTime(binaryPath, FileTime.from(Instant.now().minusSeconds(60)));
+
+        // binary storage is turned off, and the xml data is changed
+        ExpenseTracker editedTracker = getTypicalTracker(PARTITIONED_USER);
+        editedTracker.removeExpense(SCHOOLFEE);
+        editedTracker.addExpense(GAME);
+        xmlStorage.saveExpenses(EncryptionUtil.encryptTracker(editedTracker));
+
+        // binary storage is turned on again
+        assertEquals(1, converter.convertAll());
+        ExpenseTracker convertedTracker = readBinary(binaryStorage, PARTITIONED_USER);
+        assertTrue(convertedTracker.hasExpense(GAME));
+        assertFalse(convertedTracker.hasExpense(SCHOOLFEE));
+
+        // the snapshot is now up to date
+        assertEquals(0, converter.convertAll());
+    }
+
+    private ExpenseTracker readBinary(BinaryExpensesStorage storage, Username username) throws Exception {
+        return new ExpenseTracker(storage.readExpenses(storage.getUserDataPath(getDirPath(), username)).get()
+                .decryptTracker(DEFAULT_ENCRYPTION_KEY));
+    }
+
+    private Path getDirPath() {
+        return testFolder.getRoot().toPath();
+    }
+
+    private ExpenseTracker getTypicalTracker(Username username) {
+        ExpenseTracker tracker = getTypicalExpenseTracker();
+        tracker.setUsername(username);
+        return tracker;
+    }
+}
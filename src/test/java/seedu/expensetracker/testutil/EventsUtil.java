@@ -4,6 +4,7 @@ import guitests.GuiRobot;
 import javafx.application.Platform;
 import seedu.expensetracker.commons.core.EventsCenter;
 import seedu.expensetracker.commons.events.BaseEvent;
+import seedu.expensetracker.ui.UiRefreshScheduler;
 
 /**
  * Helper methods related to events.
@@ -11,10 +12,12 @@ import seedu.expensetracker.commons.events.BaseEvent;
 public class EventsUtil {
     /**
      * Posts {@code event} to all registered subscribers. This method will return successfully after the {@code event}
-     * has been posted to all subscribers.
+     * has been posted to all subscribers, and the UI parts it marked as dirty have been redrawn.
      */
     public static void postNow(BaseEvent event) {
-        new GuiRobot().interact(() -> EventsCenter.getInstance().post(event));
+        GuiRobot guiRobot = new GuiRobot();
+        guiRobot.interact(() -> EventsCenter.getInstance().post(event));
+        guiRobot.interact(() -> UiRefreshScheduler.getInstance().flush());
     }
 
     /**
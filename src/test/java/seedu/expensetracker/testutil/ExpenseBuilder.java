@@ -2,6 +2,7 @@ package seedu.expensetracker.testutil;
 
 import static seedu.expensetracker.model.encryption.EncryptionUtil.DEFAULT_ENCRYPTION_KEY;
 import static seedu.expensetracker.model.encryption.EncryptionUtil.encryptExpense;
+import static seedu.expensetracker.model.encryption.EncryptionUtil.encryptExpenseFields;
 
 import java.util.HashSet;
 import java.util.Set;
@@ -98,4 +99,11 @@ public class ExpenseBuilder {
         return encryptExpense(build(), DEFAULT_ENCRYPTION_KEY);
     }
 
+    /**
+     * Builds the expense in the field layout used by data saved with earlier versions.
+     */
+    public EncryptedExpense buildEncryptedFields() throws IllegalValueException {
+        return encryptExpenseFields(build(), DEFAULT_ENCRYPTION_KEY);
+    }
+
 }
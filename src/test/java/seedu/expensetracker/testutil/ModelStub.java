@@ -86,6 +86,21 @@ public class ModelStub implements Model {
         throw new AssertionError("updateFilteredExpenseList method should not be called.");
     }
 
+    @Override
+    public boolean isFilteredExpenseListComplete() throws NoUserSelectedException {
+        throw new AssertionError("isFilteredExpenseListComplete method should not be called.");
+    }
+
+    @Override
+    public void loadExpensesSince(LocalDateTime since) throws NoUserSelectedException {
+        throw new AssertionError("loadExpensesSince method should not be called.");
+    }
+
+    @Override
+    public void loadAllExpenses() throws NoUserSelectedException {
+        throw new AssertionError("loadAllExpenses method should not be called.");
+    }
+
     @Override
     public ObservableList<Expense> getExpenseStats() throws NoUserSelectedException {
         throw new AssertionError("This method should not be called.");
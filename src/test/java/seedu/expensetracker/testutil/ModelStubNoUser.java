@@ -76,6 +76,21 @@ public class ModelStubNoUser extends ModelStub {
         throw new NoUserSelectedException();
     }
 
+    @Override
+    public boolean isFilteredExpenseListComplete() throws NoUserSelectedException {
+        throw new NoUserSelectedException();
+    }
+
+    @Override
+    public void loadExpensesSince(LocalDateTime since) throws NoUserSelectedException {
+        throw new NoUserSelectedException();
+    }
+
+    @Override
+    public void loadAllExpenses() throws NoUserSelectedException {
+        throw new NoUserSelectedException();
+    }
+
     @Override
     public ObservableList<Expense> getExpenseStats() throws NoUserSelectedException {
         throw new NoUserSelectedException();
@@ -38,7 +38,9 @@ public class ModelUtil {
      */
     public static Model modelWithTestUser() throws NonExistentUserException, UserAlreadyExistsException,
             NoUserSelectedException, InvalidDataException, ParseException {
-        Model model = new ModelManager();
+        ModelManager model = new ModelManager();
+        // password changes are re-encrypted before the command returns, so no job outlives the test
+        model.setRekeyExecutor(Runnable::run);
         model.addUser(TypicalExpenses.SAMPLE_USERNAME);
         model.loadUserData(new LoginCredentials(TypicalExpenses.SAMPLE_USERNAME, null));
         model.clearNotifications();
@@ -53,7 +55,9 @@ public class ModelUtil {
      * @return a ModelManager with the typical expense tracker loaded
      */
     public static ModelManager getTypicalModel() {
-        return new ModelManager(getTypicalExpenseTracker(), new UserPrefs(), null);
+        ModelManager model = new ModelManager(getTypicalExpenseTracker(), new UserPrefs(), null);
+        model.setRekeyExecutor(Runnable::run);
+        return model;
     }
 }
 
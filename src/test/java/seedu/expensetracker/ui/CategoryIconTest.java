@@ -1,6 +1,7 @@
 package seedu.expensetracker.ui;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 
 import java.text.DecimalFormat;
 
@@ -25,4 +26,10 @@ public class CategoryIconTest extends GuiUnitTest {
         assertEquals(categoryIconHandle.getCategoryName(), budget.toString());
     }
 
+    @Test
+    public void getImage_samePath_returnsSameImage() {
+        String path = "/images/categoryIcons/categoryIcon.png";
+        assertSame(ImageCache.getImage(path), ImageCache.getImage(path));
+    }
+
 }
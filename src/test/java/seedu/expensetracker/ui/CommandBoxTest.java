@@ -131,6 +131,20 @@ public class CommandBoxTest extends GuiUnitTest {
         assertInputHistory(KeyCode.UP, thirdCommand);
     }
 
+    @Test
+    public void handleKeyPress_tab_cyclesThroughCompletions() {
+        commandBoxHandle.enterText("setC");
+        assertInputHistory(KeyCode.TAB, "setCategoryBudget");
+        assertInputHistory(KeyCode.TAB, "setCategoryBudget");
+
+        commandBoxHandle.enterText("find c");
+        assertInputHistory(KeyCode.TAB, "find c/");
+
+        commandBoxHandle.enterText("un");
+        assertInputHistory(KeyCode.TAB, "undo");
+        assertInputHistory(KeyCode.TAB, "undo");
+    }
+
     /**
      * Runs a command that fails, then verifies that <br>
      *      - the text remains <br>
@@ -28,6 +28,18 @@ public class ExpenseCardTest extends GuiUnitTest {
         assertCardDisplay(expenseCard, expenseWithTags, 2);
     }
 
+    @Test
+    public void bind_differentExpense_displaysNewExpense() {
+        Expense expenseWithTags = new ExpenseBuilder().build();
+        ExpenseCard expenseCard = new ExpenseCard(expenseWithTags, 1);
+        uiPartRule.setUiPart(expenseCard);
+
+        Expense expenseWithNoTags = new ExpenseBuilder().withName("differentName").withTags(new String[0]).build();
+        guiRobot.interact(() -> expenseCard.bind(expenseWithNoTags, 2));
+        assertCardDisplay(expenseCard, expenseWithNoTags, 2);
+        assertEquals(new ExpenseCard(expenseWithNoTags, 2), expenseCard);
+    }
+
     @Test
     public void equals() {
         Expense expense = new ExpenseBuilder().build();
@@ -0,0 +1,84 @@
+package seedu.expensetracker.ui;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.After;
+import org.junit.Test;
+
+import seedu.expensetracker.commons.metrics.Histogram;
+import seedu.expensetracker.commons.metrics.MetricsRegistry;
+
+public class FxThreadWatchdogTest {
+    private static final long THRESHOLD_MILLIS = 50;
+    private static final long STALL_MILLIS = 300;
+    private static final long TIMEOUT_MILLIS = 5000;
+
+    private final ExecutorService fakeFxThread = Executors.newSingleThreadExecutor();
+    private final MetricsRegistry metrics = new MetricsRegistry(false);
+    private final FxThreadWatchdog watchdog = new FxThreadWatchdog(fakeFxThread, THRESHOLD_MILLIS, 5, metrics);
+
+    @After
+    public void tearDown() {
+        watchdog.stop();
+        fakeFxThread.shutdownNow();
+    }
+
+    @Test
+    public void start_threadStalled_stallCountedWithOffendingFrame() throws Exception {
+        watchdog.start();
+        // lets the first pulse run, so that the watchdog knows which thread to sample
+        Thread.sleep(THRESHOLD_MILLIS);
+        fakeFxThread.submit(FxThreadWatchdogTest::stall).get();
+        waitForStalls(1);
+
+        assertEquals(1, metrics.counter(FxThreadWatchdog.METRIC_STALLS).getCount());
+        Histogram stallTimes = metrics.histogram(FxThreadWatchdog.METRIC_STALL_TIMES, Histogram.Unit.NANOSECONDS);
+        assertTrue(stallTimes.getMax() >= (STALL_MILLIS - THRESHOLD_MILLIS) * 1_000_000);
+        assertTrue(watchdog.getStallReport().containsKey("FxThreadWatchdogTest.stall"));
+    }
+
+    @Test
+    public void start_threadResponsive_noStallCounted() throws Exception {
+        watchdog.start();
+        Thread.sleep(STALL_MILLIS);
+        assertEquals(0, metrics.counter(FxThreadWatchdog.METRIC_STALLS).getCount());
+        assertTrue(watchdog.getStallReport().isEmpty());
+    }
+
+    @Test
+    public void getOffendingFrame() {
+        StackTraceElement jdkFrame = new StackTraceElement("java.lang.Thread", "sleep", "Thread.java", 1);
+        StackTraceElement appFrame = new StackTraceElement("seedu.expensetracker.storage.XmlFileStorage",
+                "saveDataToFile", "XmlFileStorage.java", 1);
+        assertEquals("XmlFileStorage.saveDataToFile",
+                FxThreadWatchdog.getOffendingFrame(new StackTraceElement[] {jdkFrame, appFrame}));
+        assertEquals("Thread.sleep", FxThreadWatchdog.getOffendingFrame(new StackTraceElement[] {jdkFrame}));
+        assertEquals("unknown", FxThreadWatchdog.getOffendingFrame(new StackTraceElement[0]));
+    }
+
+    /**
+     * Blocks the calling thread for longer than the threshold.
+     */
+    private static void stall() {
+        try {
+            Thread.sleep(STALL_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Waits until at least {@code count} stalls have been counted, or the timeout has passed.
+     */
+    private void waitForStalls(long count) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        while (metrics.counter(FxThreadWatchdog.METRIC_STALLS).getCount() < count
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+}
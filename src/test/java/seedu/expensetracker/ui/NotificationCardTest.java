@@ -32,6 +32,16 @@ public class NotificationCardTest extends GuiUnitTest {
         assertCardDisplay(notificationCard, warningNotification);
     }
 
+    @Test
+    public void bind_differentNotification_displaysNewNotification() {
+        NotificationCard notificationCard = new NotificationCard(new TipNotification(VALID_HEADER, VALID_BODY));
+        uiPartRule.setUiPart(notificationCard);
+
+        Notification warningNotification = new WarningNotification("DIFFERENT", "DIFFERENT");
+        guiRobot.interact(() -> notificationCard.bind(warningNotification));
+        assertCardDisplay(notificationCard, warningNotification);
+    }
+
     @Test
     public void equals() {
         Notification notification = new WarningNotification(VALID_HEADER, VALID_BODY);
@@ -1,13 +1,14 @@
 package seedu.expensetracker.ui;
 
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
-import java.util.LinkedHashMap;
-
 import org.junit.Before;
 import org.junit.Test;
 
 import guitests.guihandles.StatisticsPanelHandle;
+import javafx.scene.Node;
+import seedu.expensetracker.logic.StatsSeries;
 import seedu.expensetracker.logic.commands.StatsCommand.StatsMode;
 import seedu.expensetracker.logic.commands.StatsCommand.StatsPeriod;
 
@@ -18,7 +19,7 @@ public class StatisticsPanelTest extends GuiUnitTest {
     @Before
     public void setUp() throws InterruptedException {
         StatisticsPanel statisticsPanel = new StatisticsPanel(
-                new LinkedHashMap<>(),
+                new StatsSeries(),
                 StatsPeriod.DAY,
                 StatsMode.TIME,
                 7
@@ -35,37 +36,60 @@ public class StatisticsPanelTest extends GuiUnitTest {
 
     @Test
     public void correctNoExpensesTextAppearsWhenNoExpenses() {
-        setChartData(new LinkedHashMap<>(), StatsPeriod.DAY, StatsMode.CATEGORY, 1);
+        setChartData(new StatsSeries(), StatsPeriod.DAY, StatsMode.CATEGORY, 1);
         assertTrue(statisticsPanelHandle.isMatchingText("There are no recorded expenditures in the past day"));
 
-        setChartData(new LinkedHashMap<>(), StatsPeriod.DAY, StatsMode.CATEGORY, 7);
+        setChartData(new StatsSeries(), StatsPeriod.DAY, StatsMode.CATEGORY, 7);
         assertTrue(statisticsPanelHandle.isMatchingText("There are no recorded expenditures in the past 7 days"));
 
-        setChartData(new LinkedHashMap<>(), StatsPeriod.MONTH, StatsMode.CATEGORY, 1);
+        setChartData(new StatsSeries(), StatsPeriod.MONTH, StatsMode.CATEGORY, 1);
         assertTrue(statisticsPanelHandle.isMatchingText("There are no recorded expenditures in the past month"));
 
-        setChartData(new LinkedHashMap<>(), StatsPeriod.MONTH, StatsMode.CATEGORY, 7);
+        setChartData(new StatsSeries(), StatsPeriod.MONTH, StatsMode.CATEGORY, 7);
         assertTrue(statisticsPanelHandle.isMatchingText("There are no recorded expenditures in the past 7 months"));
     }
 
     @Test
     public void categoryChartAppearsWhenStatsModeIsCategory() {
-        LinkedHashMap<String, Double> mockData = new LinkedHashMap<>();
-        mockData.put("Food", 6.00);
+        StatsSeries mockData = new StatsSeries();
+        mockData.add("Food", 6.00);
         setChartData(mockData, StatsPeriod.DAY, StatsMode.CATEGORY, 7);
         assertTrue(statisticsPanelHandle.isCategoryChart());
     }
 
     @Test
     public void timeChartAppearsWhenStatsModeIsTime() {
-        LinkedHashMap<String, Double> mockData = new LinkedHashMap<>();
-        mockData.put("26-10-18", 6.00);
+        StatsSeries mockData = new StatsSeries();
+        mockData.add("26-10-18", 6.00);
         setChartData(mockData, StatsPeriod.DAY, StatsMode.TIME, 7);
         assertTrue(statisticsPanelHandle.isTimeChart());
     }
 
+    @Test
+    public void canvasChartAppearsWhenTimeSeriesIsLong() {
+        StatsSeries mockData = new StatsSeries();
+        for (int day = 1; day <= 365; day++) {
+            mockData.add("day " + day, day % 7);
+        }
+        setChartData(mockData, StatsPeriod.DAY, StatsMode.TIME, 365);
+        assertTrue(statisticsPanelHandle.isCanvasChart());
+    }
+
+    @Test
+    public void sameChartReusedWhenDataChanges() {
+        StatsSeries mockData = new StatsSeries();
+        mockData.add("26-10-18", 6.00);
+        StatisticsPanel statisticsPanel = new StatisticsPanel(mockData, StatsPeriod.DAY, StatsMode.TIME, 7);
+        statisticsPanelHandle = new StatisticsPanelHandle(statisticsPanel.getRoot());
+        Node chart = statisticsPanelHandle.getChart();
+
+        mockData.add("27-10-18", 3.00);
+        statisticsPanel.setData(mockData, StatsPeriod.DAY, StatsMode.TIME, 7);
+        assertSame(chart, statisticsPanelHandle.getChart());
+    }
+
     private void setChartData(
-            LinkedHashMap<String, Double> mockData,
+            StatsSeries mockData,
             StatsPeriod statsPeriod,
             StatsMode statsMode,
             int periodAmount
@@ -0,0 +1,76 @@
+package seedu.expensetracker.ui;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+public class UiRefreshSchedulerTest {
+    private final List<Runnable> pulseTasks = new ArrayList<>();
+    private final List<String> refreshed = new ArrayList<>();
+    private final UiRefreshScheduler scheduler = new UiRefreshScheduler(pulseTasks::add);
+
+    @Test
+    public void markDirty_samePartTwice_refreshedOnceWithLatestRefresh() {
+        Object budgetPanel = new Object();
+        scheduler.markDirty(budgetPanel, () -> refreshed.add("budget 1"));
+        scheduler.markDirty(budgetPanel, () -> refreshed.add("budget 2"));
+        assertTrue(scheduler.isDirty(budgetPanel));
+        assertEquals(1, pulseTasks.size());
+        assertTrue(refreshed.isEmpty());
+
+        runPulse();
+        assertEquals(Arrays.asList("budget 2"), refreshed);
+        assertFalse(scheduler.isDirty(budgetPanel));
+    }
+
+    @Test
+    public void markDirty_differentParts_refreshedInOrderMarked() {
+        Object budgetPanel = new Object();
+        Object categoriesPanel = new Object();
+        scheduler.markDirty(categoriesPanel, () -> refreshed.add("categories"));
+        scheduler.markDirty(budgetPanel, () -> refreshed.add("budget"));
+        scheduler.markDirty(categoriesPanel, () -> refreshed.add("categories again"));
+        assertEquals(1, pulseTasks.size());
+
+        runPulse();
+        assertEquals(Arrays.asList("categories again", "budget"), refreshed);
+    }
+
+    @Test
+    public void markDirty_afterPulse_refreshedAtNextPulse() {
+        Object budgetPanel = new Object();
+        scheduler.markDirty(budgetPanel, () -> refreshed.add("budget 1"));
+        runPulse();
+        scheduler.markDirty(budgetPanel, () -> refreshed.add("budget 2"));
+        assertEquals(1, pulseTasks.size());
+
+        runPulse();
+        assertEquals(Arrays.asList("budget 1", "budget 2"), refreshed);
+    }
+
+    @Test
+    public void flush_partsDirty_refreshedAtOnce() {
+        Object budgetPanel = new Object();
+        scheduler.markDirty(budgetPanel, () -> refreshed.add("budget"));
+        scheduler.flush();
+        assertEquals(Arrays.asList("budget"), refreshed);
+
+        runPulse();
+        assertEquals(Arrays.asList("budget"), refreshed);
+    }
+
+    /**
+     * Runs the tasks scheduled for the next pulse.
+     */
+    private void runPulse() {
+        List<Runnable> tasks = new ArrayList<>(pulseTasks);
+        pulseTasks.clear();
+        tasks.forEach(Runnable::run);
+    }
+}